@@ -118,6 +118,7 @@ export class Table extends Widget implements TableModel {
   viewRangeRendered: Range;
   virtual: boolean;
   textFilterEnabled: boolean;
+  viewportEnabled: boolean;
   filterSupport: FilterSupport<TableRow>;
   filteredElementsDirty: boolean;
   defaultMenuTypes: string[];
@@ -151,6 +152,8 @@ export class Table extends Widget implements TableModel {
   protected _menuInheritAccessibilityChangeHandler: EventHandler<PropertyChangeEvent<boolean, Menu>>;
   protected _imageLoadListener: (event: ErrorEvent) => void;
   protected _insertedRows: TableRow[];
+  protected _viewportRowsRequested: Range;
+  protected _placeholderCells: Cell[];
   protected _$mouseDownRow: JQuery;
   protected _mouseDownRowId: string;
   protected _mouseDownColumn: Column<any>;
@@ -230,6 +233,7 @@ export class Table extends Widget implements TableModel {
     this.viewRangeRendered = new Range(0, 0);
     this.virtual = true;
     this.textFilterEnabled = true;
+    this.viewportEnabled = false;
     this.filterSupport = this._createFilterSupport();
     this.filteredElementsDirty = false;
     this.defaultMenuTypes = [Table.MenuType.EmptySpace];
@@ -241,6 +245,8 @@ export class Table extends Widget implements TableModel {
     this._popupOpenHandler = this._onDesktopPopupOpen.bind(this);
     this._rerenderViewPortAfterAttach = false;
     this._renderViewPortAfterAttach = false;
+    this._viewportRowsRequested = null;
+    this._placeholderCells = null;
     this._postAttachActions = [];
     this._desktopPropertyChangeHandler = this._onDesktopPropertyChange.bind(this);
     this._menuInheritAccessibilityChangeHandler = this._updateMenusEnabled.bind(this);
@@ -406,6 +412,7 @@ export class Table extends Widget implements TableModel {
   }
 
   protected _initColumns() {
+    this._placeholderCells = null;
     let cols = this.columns as ObjectOrChildModel<Column<any>>[];
     this.columns = cols.map((colModel, index) => {
       let column: Column<any>;
@@ -1403,7 +1410,7 @@ export class Table extends Widget implements TableModel {
   isGroupingPossible(column: Column<any>): boolean {
     let possible = true;
 
-    if (this.hierarchical) {
+    if (this.hierarchical || this.viewportEnabled) {
       return false;
     }
 
@@ -1444,6 +1451,11 @@ export class Table extends Widget implements TableModel {
       return false;
     }
 
+    if (this.viewportEnabled) {
+      // Aggregation is not possible if not all rows are known
+      return false;
+    }
+
     if (column.grouped) {
       // Aggregation is not possible if column is grouped
       return false;
@@ -4096,7 +4108,7 @@ export class Table extends Widget implements TableModel {
   }
 
   isTextFilterFieldVisible(): boolean {
-    return this.textFilterEnabled && !this.footerVisible;
+    return this.textFilterEnabled && !this.footerVisible && !this.viewportEnabled;
   }
 
   protected _renderTextFilterEnabled() {
@@ -5381,6 +5393,130 @@ export class Table extends Widget implements TableModel {
     this._renderBackgroundEffect();
     this._renderSelection();
     this.viewRangeDirty = false;
+    this._requestViewportRows();
+  }
+
+  /**
+   * Triggers a 'viewportRowsRequested' event if placeholder rows are rendered, see {@link TableModel.viewportEnabled}.
+   */
+  protected _requestViewportRows() {
+    if (!this.viewportEnabled) {
+      return;
+    }
+    let from = -1,
+      to = -1;
+    for (let i = this.viewRangeRendered.from; i < this.viewRangeRendered.to; i++) {
+      if (this.visibleRows[i].placeholder) {
+        if (from < 0) {
+          from = i;
+        }
+        to = i + 1;
+      }
+    }
+    if (from < 0) {
+      return;
+    }
+    let range = new Range(from, to);
+    if (this._viewportRowsRequested && range.equals(this._viewportRowsRequested)) {
+      // Already requested, wait for the rows
+      return;
+    }
+    this._viewportRowsRequested = range;
+    this.trigger('viewportRowsRequested', {
+      from: from,
+      to: to
+    });
+  }
+
+  /**
+   * @returns the empty cells shared by all placeholder rows, see {@link TableRow.placeholder}.
+   */
+  placeholderCells(): Cell[] {
+    if (!this._placeholderCells) {
+      let cells: Cell[] = [];
+      this.columns.forEach(column => {
+        if (!column.guiOnly) {
+          cells[column.index] = column.initCell(null);
+        }
+      });
+      this._placeholderCells = cells;
+    }
+    return this._placeholderCells;
+  }
+
+  /**
+   * Replaces the placeholder rows at the given indexes by the given rows, see {@link TableModel.viewportEnabled}.
+   * Rows whose index does not point to a placeholder row are ignored.
+   *
+   * Only the replaced rows are updated, the row structure and the other rendered rows stay untouched.
+   *
+   * @param rows the rows to insert
+   * @param rowIndexes the index of each row in {@link rows}
+   */
+  replacePlaceholderRows(rows: ObjectOrModel<TableRow>[], rowIndexes: number[]) {
+    this._viewportRowsRequested = null;
+    let oldRowsMap: Record<string, TableRow> = {};
+    let replacedRows: TableRow[] = [];
+    let filterChanged = false;
+    rows.forEach((rowOrModel, i) => {
+      let index = rowIndexes[i];
+      let oldRow = this.rows[index];
+      if (!oldRow || !oldRow.placeholder) {
+        return;
+      }
+      let row = this._initRow(rowOrModel);
+      delete this.rowsMap[oldRow.id];
+      oldRowsMap[row.id] = oldRow;
+      // The table is not hierarchical in viewport mode, hence rootRows is the same array as rows
+      this.rows[index] = row;
+      row.filterAccepted = oldRow.filterAccepted;
+      if (this.filterCount() > 0) {
+        filterChanged = this._applyFiltersForRow(row) || filterChanged;
+      }
+      this._replaceRowAt(this._filteredRows, index, oldRow, row);
+      if (this.visibleRowsMap[oldRow.id]) {
+        this._replaceRowAt(this.visibleRows, index, oldRow, row);
+        delete this.visibleRowsMap[oldRow.id];
+        this.visibleRowsMap[row.id] = row;
+      }
+      if (this.selectionHandler.lastActionRow === oldRow) {
+        this.selectionHandler.lastActionRow = row;
+      }
+      arrays.replace(this.selectedRows, oldRow, row);
+      replacedRows.push(row);
+    });
+    if (replacedRows.length === 0) {
+      return;
+    }
+    if (filterChanged) {
+      this._updateRowStructure({
+        filteredRows: true,
+        applyFilters: false
+      });
+    }
+    this._markAutoOptimizeWidthColumnsAsDirty();
+
+    // Update HTML, only the rendered placeholder rows are replaced
+    if (this._isDataRendered()) {
+      this._renderUpdateRows(replacedRows, oldRowsMap);
+      if (filterChanged) {
+        this._renderRowDelta();
+      }
+      this.invalidateLayoutTree();
+      this._requestViewportRows();
+    }
+  }
+
+  /**
+   * Replaces the old row by the new row in the given array. The given index is used if it points to the old row, which is the case as long as
+   * no rows are filtered, otherwise the old row is searched.
+   */
+  protected _replaceRowAt(rows: TableRow[], index: number, oldRow: TableRow, row: TableRow) {
+    if (rows[index] === oldRow) {
+      rows[index] = row;
+    } else {
+      arrays.replace(rows, oldRow, row);
+    }
   }
 
   protected _renderLastRowAtBottomMarker() {
@@ -5497,6 +5633,11 @@ export class Table extends Widget implements TableModel {
     this._destroyColumns();
     this.columns = columns;
     this._initColumns();
+    if (this.viewportEnabled) {
+      this.rows.filter(row => row.placeholder).forEach(row => {
+        row.cells = this.placeholderCells();
+      });
+    }
     this.trigger('columnStructureChanged');
     if (this._isDataRendered()) {
       this._updateRowWidth();
@@ -11,7 +11,7 @@ import {
   AdapterData, App, arrays, BooleanColumn, Cell, ChildModelOf, Column, ColumnModel, ColumnUserFilter, defaultValues, Event, Filter, ModelAdapter, NumberColumn, ObjectOrModel, objects, RemoteEvent, scout, Table,
   TableAggregationFunctionChangedEvent, TableAppLinkActionEvent, TableCancelCellEditEvent, TableColumnBackgroundEffectChangedEvent, TableColumnMovedEvent, TableColumnOrganizeActionEvent, TableColumnResizedEvent, TableCompleteCellEditEvent,
   TableDropEvent, TableFilterAddedEvent, TableFilterRemovedEvent, TableGroupEvent, TableModel, TablePrepareCellEditEvent, TableReloadEvent, TableRow, TableRowActionEvent, TableRowClickEvent, TableRowModel, TableRowsCheckedEvent,
-  TableRowsExpandedEvent, TableRowsSelectedEvent, TableSortEvent, TableUserFilter, ValueField
+  TableRowsExpandedEvent, TableRowsSelectedEvent, TableSortEvent, TableUserFilter, TableViewportRowsRequestedEvent, ValueField
 } from '../index';
 import $ from 'jquery';
 
@@ -26,9 +26,15 @@ export class TableAdapter extends ModelAdapter {
     this._addRemoteProperties(['contextColumn']);
   }
 
-  protected override _initProperties(model: TableModel) {
+  protected override _initProperties(model: TableModel & { viewportRowCount?: number; viewportRowIndexes?: number[] }) {
     super._initProperties(model);
     model.compactHandler = null; // Disable Scout JS compact handling, will be done on the server
+    if (model.viewportEnabled) {
+      // The server only sends some rows, the others are represented by placeholders
+      model.rows = this._createViewportRowModels(model.viewportRowCount, model.rows as TableRowModel[], model.viewportRowIndexes);
+      delete model.viewportRowCount;
+      delete model.viewportRowIndexes;
+    }
   }
 
   /** @internal */
@@ -65,11 +71,15 @@ export class TableAdapter extends ModelAdapter {
   }
 
   protected _onWidgetRowsSelected(event: TableRowsSelectedEvent) {
-    let rowIds = this.widget.rowsToIds(this.widget.selectedRows);
+    let rowIds = this.widget.rowsToIds(this.widget.selectedRows.filter(row => !row.placeholder));
     this._sendRowsSelected(rowIds, event.debounce);
   }
 
   protected _onWidgetRowClick(event: TableRowClickEvent) {
+    if (event.row.placeholder) {
+      // The server does not know the row yet
+      return;
+    }
     let columnId: string;
     if (event.column !== undefined) {
       columnId = event.column.id;
@@ -247,6 +257,20 @@ export class TableAdapter extends ModelAdapter {
     this._send('rowsExpanded', data);
   }
 
+  protected _onWidgetViewportRowsRequested(event: TableViewportRowsRequestedEvent) {
+    // coalesce: only request the rows of the latest view range
+    this._send('viewportRowsRequested', {
+      from: event.from,
+      to: event.to
+    }, {
+      delay: 100,
+      coalesce: function(previous) {
+        return this.target === previous.target && this.type === previous.type;
+      },
+      showBusyIndicator: false
+    });
+  }
+
   protected _onWidgetFilter() {
     let rowIds = this.widget.rowsToIds(this.widget.filteredRows());
     this._sendFilter(rowIds);
@@ -394,6 +418,8 @@ export class TableAdapter extends ModelAdapter {
       this._onWidgetColumnOrganizeAction(event as TableColumnOrganizeActionEvent);
     } else if (event.type === 'aggregationFunctionChanged') {
       this._onWidgetAggregationFunctionChanged(event as TableAggregationFunctionChangedEvent);
+    } else if (event.type === 'viewportRowsRequested') {
+      this._onWidgetViewportRowsRequested(event as TableViewportRowsRequestedEvent);
     } else if (event.type === 'drop' && this.widget.dragAndDropHandler) {
       this.widget.dragAndDropHandler.uploadFiles(event as TableDropEvent);
     } else {
@@ -469,6 +495,43 @@ export class TableAdapter extends ModelAdapter {
     this.widget.collapseRows(collapsedRows);
   }
 
+  protected _onViewportRowsLoaded(rows: TableRowModel[], rowIndexes: number[]) {
+    this.widget.replacePlaceholderRows(rows, rowIndexes);
+  }
+
+  /**
+   * Replaces all rows because the row structure changed on the server (rows inserted, deleted, sorted or filtered).
+   */
+  protected _onViewportReset(event: RemoteEvent) {
+    let scrollTop = this.widget.$data ? this.widget.$data[0].scrollTop : null;
+    this.addFilterForWidgetEventType('rowsSelected');
+    this.widget.deleteAllRows();
+    this.widget.insertRows(this._createViewportRowModels(event.viewportRowCount, event.rows, event.viewportRowIndexes));
+    this._onRowsSelected(event.selectedRows);
+    if (scrollTop !== null) {
+      this.widget.setScrollTop(scrollTop);
+    }
+    this._rebuildingTable = false;
+  }
+
+  /**
+   * @returns an array of the given length containing the given rows at their indexes and placeholder rows for the others.
+   */
+  protected _createViewportRowModels(rowCount: number, rows: TableRowModel[], rowIndexes: number[]): TableRowModel[] {
+    let rowModels: TableRowModel[] = [];
+    for (let i = 0; i < rowCount; i++) {
+      rowModels.push({
+        id: 'placeholder-' + i,
+        enabled: false,
+        placeholder: true
+      });
+    }
+    arrays.ensure(rows).forEach((row, i) => {
+      rowModels[rowIndexes[i]] = row;
+    });
+    return rowModels;
+  }
+
   protected _onRowOrderChanged(rowIds: string[]) {
     let rows = this.widget.rowsByIds(rowIds);
     this.widget.updateRowOrder(rows);
@@ -586,6 +649,10 @@ export class TableAdapter extends ModelAdapter {
       this._onRowOrderChanged(event.rowIds);
     } else if (event.type === 'rowsUpdated') {
       this._onRowsUpdated(event.rows);
+    } else if (event.type === 'viewportRowsLoaded') {
+      this._onViewportRowsLoaded(event.rows, event.viewportRowIndexes);
+    } else if (event.type === 'viewportReset') {
+      this._onViewportReset(event);
     } else if (event.type === 'filtersChanged') {
       this._onFiltersChanged(event.filters);
     } else if (event.type === 'rowsChecked') {
@@ -690,7 +757,8 @@ export class TableAdapter extends ModelAdapter {
         // In a JS only app the flag 'uiSortPossible' is never set and thus defaults to true. Additionally, we check if each column can install
         // its comparator used to sort. If installation failed for some reason, sorting is not possible. In a remote app the server sets the
         // 'uiSortPossible' flag, which decides if the column must be sorted by the server or can be sorted by the client.
-        let uiSortPossible = scout.nvl(this.uiSortPossible, true);
+        // In viewport mode, the client does not know all rows and therefore always delegates sorting to the server.
+        let uiSortPossible = scout.nvl(this.uiSortPossible, true) && !this.viewportEnabled;
         return uiSortPossible && this._isSortingPossibleOrig(sortColumns);
       }
       return this._isSortingPossibleOrig(sortColumns);
@@ -155,6 +155,11 @@ export interface TableColumnOrganizeActionEvent<TValue = any, T = Table> extends
   column: Column<TValue>;
 }
 
+export interface TableViewportRowsRequestedEvent<T = Table> extends Event<T> {
+  from: number;
+  to: number;
+}
+
 export interface TableEventMap extends WidgetEventMap {
   'aggregationFunctionChanged': TableAggregationFunctionChangedEvent;
   'allRowsDeleted': TableAllRowsDeletedEvent;
@@ -188,6 +193,7 @@ export interface TableEventMap extends WidgetEventMap {
   'sort': TableSortEvent;
   'startCellEdit': TableStartCellEditEvent;
   'statusChanged': Event;
+  'viewportRowsRequested': TableViewportRowsRequestedEvent;
   'columnBackgroundEffectChanged': TableColumnBackgroundEffectChangedEvent;
   'columnOrganizeAction': TableColumnOrganizeActionEvent;
   'propertyChange:autoResizeColumns': PropertyChangeEvent<boolean>;
@@ -226,5 +232,6 @@ export interface TableEventMap extends WidgetEventMap {
   'propertyChange:tileTableHeader': PropertyChangeEvent<TileTableHeaderBox>;
   'propertyChange:truncatedCellTooltipEnabled': PropertyChangeEvent<boolean>;
   'propertyChange:viewRangeSize': PropertyChangeEvent<number>;
+  'propertyChange:viewportEnabled': PropertyChangeEvent<boolean>;
   'propertyChange:virtual': PropertyChangeEvent<boolean>;
 }
@@ -125,6 +125,8 @@ export class TableFooter extends Widget implements TableFooterModel {
     }
     this.$clearIcon = $filter.appendSpan('clear-icon unfocusable action text-field-icon')
       .on('mousedown', this._onDeleteFilterMouseDown.bind(this));
+    // Filtering is not possible if not all rows are known
+    $filter.setVisible(!this.table.viewportEnabled);
 
     // load info ("X rows loaded, click to reload")
     this._$infoLoad = this._$info
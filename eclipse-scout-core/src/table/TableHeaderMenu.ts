@@ -162,8 +162,9 @@ export class TableHeaderMenu extends Popup implements TableHeaderMenuModel {
     this.filter.on('filterFieldsChanged', this._updateFilterTable.bind(this));
     this._updateFilterTableCheckedMode();
 
-    this.hasFilterTable = this.filter.availableValues.length > 0;
-    this.hasFilterFields = this.filter.hasFilterFields;
+    // Filters would only consider the loaded rows
+    this.hasFilterTable = !this.table.viewportEnabled && this.filter.availableValues.length > 0;
+    this.hasFilterFields = !this.table.viewportEnabled && this.filter.hasFilterFields;
 
     if (this.hasFilterTable) {
       this._tableFilterHandler = this._onFilterTableChanged.bind(this);
@@ -273,5 +273,16 @@ export interface TableModel extends WidgetModel {
    * Default is true.
    */
   textFilterEnabled?: boolean;
+  /**
+   * If enabled, the table does not hold all rows but only the ones that have been visible so far. The other rows are represented by placeholder rows
+   * (see {@link TableRow.placeholder}), and the event 'viewportRowsRequested' is triggered as soon as placeholder rows are rendered.
+   * The requested rows are then inserted using {@link Table.replacePlaceholderRows}.
+   *
+   * Because not all rows are known, grouping, aggregation and filtering by the user are not available and sorting has to be done by the owner of the rows.
+   * The viewport mode is used by Scout Classic for large tables and is not supported for hierarchical tables.
+   *
+   * Default is false.
+   */
+  viewportEnabled?: boolean;
   defaultMenuTypes?: string[];
 }
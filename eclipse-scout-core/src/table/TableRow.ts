@@ -41,6 +41,7 @@ export class TableRow implements TableRowModel, ObjectWithType {
   $row: JQuery;
   page: Page;
   expandable: boolean;
+  placeholder: boolean;
 
   constructor() {
     this.$row = null;
@@ -60,6 +61,7 @@ export class TableRow implements TableRowModel, ObjectWithType {
     this.expanded = false;
     this.status = TableRow.Status.NON_CHANGED;
     this.hierarchyLevel = 0;
+    this.placeholder = false;
   }
 
   static Status = {
@@ -82,6 +84,11 @@ export class TableRow implements TableRowModel, ObjectWithType {
   }
 
   protected _initCells() {
+    if (this.placeholder) {
+      // Placeholder rows have no content, they all share the same empty cells
+      this.cells = this.getTable().placeholderCells();
+      return;
+    }
     this.getTable().columns.forEach(column => {
       if (!column.guiOnly) {
         let cell = this.cells[column.index];
@@ -22,6 +22,10 @@ export interface TableRowModel extends ObjectModel<TableRow> {
   parentRow?: string | ObjectOrModel<TableRow>;
   expanded?: boolean;
   lookupRow?: LookupRow<any>;
+  /**
+   * True if the row only reserves the space of a row that has not been loaded yet. See {@link TableModel.viewportEnabled}.
+   */
+  placeholder?: boolean;
 
   [property: string]: any; // allow custom properties
 }
@@ -608,6 +608,80 @@ describe('TableAdapter', () => {
         expect(table.updateColumnHeaders).toHaveBeenCalledWith([column1, column2]);
       });
     });
+
+    describe('viewport events', () => {
+      let model, table, adapter, rows;
+
+      beforeEach(() => {
+        model = helper.createModelFixture(2);
+        rows = helper.createModelRows(2, 2);
+        model.viewportEnabled = true;
+        model.viewportRowCount = 5;
+        model.rows = rows;
+        model.viewportRowIndexes = [0, 1];
+        adapter = helper.createTableAdapter(model);
+        table = adapter.createWidget(model, session.desktop);
+      });
+
+      it('creates placeholder rows for the rows not sent', () => {
+        expect(table.rows.length).toBe(5);
+        expect(table.rows[0].id).toBe(rows[0].id);
+        expect(table.rows[1].id).toBe(rows[1].id);
+        expect(table.rows[2].placeholder).toBe(true);
+        expect(table.rows[4].placeholder).toBe(true);
+        // placeholder rows share their cells
+        expect(table.rows[2].cells).toBe(table.rows[4].cells);
+        expect(table.rows[2].cells.length).toBe(2);
+      });
+
+      it('replaces placeholder rows on viewportRowsLoaded', () => {
+        let loadedRows = helper.createModelRows(2, 2);
+        adapter.onModelAction({
+          target: model.id,
+          type: 'viewportRowsLoaded',
+          rows: loadedRows,
+          viewportRowIndexes: [2, 4]
+        });
+        expect(table.rows.length).toBe(5);
+        expect(table.rows[2].id).toBe(loadedRows[0].id);
+        expect(table.rows[3].placeholder).toBe(true);
+        expect(table.rows[4].id).toBe(loadedRows[1].id);
+        expect(table.visibleRows[2]).toBe(table.rows[2]);
+        expect(table.rowsMap[loadedRows[0].id]).toBe(table.rows[2]);
+        expect(table.rowsMap['placeholder-2']).toBeUndefined();
+      });
+
+      it('replaces only the rendered placeholder rows on viewportRowsLoaded', () => {
+        table.render();
+        let $firstRow = table.rows[0].$row;
+        let loadedRows = helper.createModelRows(2, 1);
+        adapter.onModelAction({
+          target: model.id,
+          type: 'viewportRowsLoaded',
+          rows: loadedRows,
+          viewportRowIndexes: [2]
+        });
+        expect(table.rows[0].$row).toBe($firstRow);
+        expect(table.rows[2].$row).toBeTruthy();
+        expect(table.rows[2].$row.hasClass('disabled')).toBe(false);
+      });
+
+      it('replaces all rows on viewportReset', () => {
+        let newRows = helper.createModelRows(2, 1);
+        adapter.onModelAction({
+          target: model.id,
+          type: 'viewportReset',
+          viewportRowCount: 3,
+          rows: newRows,
+          viewportRowIndexes: [1],
+          selectedRows: [newRows[0].id]
+        });
+        expect(table.rows.length).toBe(3);
+        expect(table.rows[0].placeholder).toBe(true);
+        expect(table.rows[1].id).toBe(newRows[0].id);
+        expect(table.selectedRows).toEqual([table.rows[1]]);
+      });
+    });
   });
 
   describe('onModelPropertyChange', () => {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,6 +37,7 @@ import org.json.JSONStringer.Scope;
  * -----------------------------
  * - Applied Scout code formatting rules
  * - equals() method changed to be symmetric
+ * - Added write(Writer, int) for streaming serialization
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -606,6 +610,22 @@ public class JSONArray {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this array as a compact JSON string and writes it to the given writer while encoding, so that the whole
+   * string is never held in memory. Only about {@code bufferSize} characters are buffered before they are written.
+   * The writer is flushed but not closed.
+   */
+  public void write(Writer writer, int bufferSize) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer, bufferSize);
+    try {
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.array();
     for (Object value : m_values) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -40,6 +43,7 @@ import org.json.JSONStringer.Scope;
  * - Changed getString()/optString() to return null for JSON values "null" instead of the string "null".
  * - Replaced task markers from the original source code with 'TO.DO'.
  * - Suppress sonar warnings where necessary
+ * - Added write(Writer, int) for streaming serialization
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -709,6 +713,22 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this object as a compact JSON string and writes it to the given writer while encoding, so that the whole
+   * string is never held in memory. Only about {@code bufferSize} characters are buffered before they are written.
+   * The writer is flushed but not closed.
+   */
+  public void write(Writer writer, int bufferSize) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer, bufferSize);
+    try {
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
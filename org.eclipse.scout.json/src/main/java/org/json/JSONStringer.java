@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +33,7 @@ import java.util.List;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Streaming mode (see JSONStringer(Writer, int))
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -119,14 +123,52 @@ public class JSONStringer {
    */
   private final String m_indent;
 
+  /**
+   * Target of the streaming mode, null if the output is only kept in {@link #out}.
+   */
+  private final Writer m_writer;
+
+  /**
+   * In streaming mode, {@link #out} is written to {@link #m_writer} and cleared as soon as it reaches this length.
+   */
+  private final int m_flushThreshold;
+
+  /**
+   * In streaming mode, true once some output was written to {@link #m_writer}.
+   */
+  private boolean m_flushed;
+
+  /**
+   * In streaming mode, reusable buffer to transfer the content of {@link #out} to {@link #m_writer}.
+   */
+  private char[] m_chars;
+
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
+    m_flushThreshold = 0;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
+    m_flushThreshold = 0;
+  }
+
+  /**
+   * Creates a stringer which writes the encoded JSON to the given writer while encoding, instead of keeping it in
+   * memory. Only up to approximately {@code bufferSize} characters are kept in memory (plus the length of the largest
+   * single string value). {@link #toString()} returns null for such a stringer. Call {@link #flush()} when done.
+   * <p>
+   * An {@link IOException} of the writer is thrown as {@link UncheckedIOException}.
+   */
+  JSONStringer(Writer writer, int bufferSize) {
+    m_indent = null;
+    m_writer = writer;
+    m_flushThreshold = Math.max(1, bufferSize);
+    out.ensureCapacity(m_flushThreshold + 16);
   }
 
   /**
@@ -169,12 +211,13 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_flushed)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
     m_stack.add(empty);
     out.append(openBracket);
+    flushIfNecessary();
     return this;
   }
 
@@ -192,6 +235,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
+    flushIfNecessary();
     return this;
   }
 
@@ -251,6 +295,7 @@ public class JSONStringer {
       string(value.toString());
     }
 
+    flushIfNecessary();
     return this;
   }
 
@@ -374,6 +419,7 @@ public class JSONStringer {
     }
     beforeKey();
     string(name);
+    flushIfNecessary();
     return this;
   }
 
@@ -419,16 +465,62 @@ public class JSONStringer {
     }
   }
 
+  /**
+   * In streaming mode, writes the buffered output to the writer once the buffer is full.
+   */
+  private void flushIfNecessary() {
+    if (m_writer != null && out.length() >= m_flushThreshold) {
+      try {
+        writeBuffer();
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * In streaming mode, writes the buffered output to the writer and flushes the writer. Does nothing otherwise.
+   * <p>
+   * Must only be called once the JSON is complete. While encoding, the buffered output is only handed to the writer,
+   * which is not flushed, so that the buffering (and compression) of the underlying stream is retained.
+   */
+  void flush() {
+    if (m_writer == null) {
+      return;
+    }
+    try {
+      writeBuffer();
+      m_writer.flush();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeBuffer() throws IOException {
+    int length = out.length();
+    if (length > 0) {
+      if (m_chars == null || m_chars.length < length) {
+        m_chars = new char[Math.max(length, m_flushThreshold)];
+      }
+      out.getChars(0, length, m_chars, 0);
+      m_writer.write(m_chars, 0, length);
+      out.setLength(0);
+      m_flushed = true;
+    }
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
    * If invoked with unterminated arrays or unclosed objects, this method's return value is undefined.
    * <p>
    * <strong>Warning:</strong> although it contradicts the general contract of {@link Object#toString}, this method
-   * returns null if the stringer contains no data.
+   * returns null if the stringer contains no data. This is also the case for a stringer in streaming mode.
    */
   @Override
   public String toString() {
-    return out.length() == 0 ? null : out.toString();
+    return m_writer != null || out.length() == 0 ? null : out.toString();
   }
 }
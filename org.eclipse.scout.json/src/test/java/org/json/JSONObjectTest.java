@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -41,6 +44,7 @@ import junit.framework.TestCase;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Added tests for write(Writer, int)
  * - Adjusted last check in "test_wrap()". The original intention of the test is not quite clear and may
  *   be system dependent. Instead of a java.nio.channels.Selector object, we use a simpler BigDecimal.
  * - Adjusted "testNullCoercionToString()" according to changed optString/getString implementation in JSONObject.
@@ -1133,4 +1137,69 @@ public class JSONObjectTest extends TestCase {
     catch (JSONException expected) {
     }
   }
+
+  public void testWriteStreaming() throws IOException {
+    JSONObject object = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 100; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", i);
+      row.put("text", "row \"" + i + "\"\n\u00e4\u20ac");
+      row.put("values", new JSONArray(Arrays.asList(1.5, true, JSONObject.NULL)));
+      rows.put(row);
+    }
+    object.put("rows", rows);
+    object.put("empty", new JSONObject());
+
+    for (int bufferSize : new int[]{1, 16, 8192}) {
+      StringWriter writer = new StringWriter();
+      object.write(writer, bufferSize);
+      assertEquals(object.toString(), writer.toString());
+    }
+  }
+
+  public void testWriteStreamingIOException() {
+    JSONObject object = new JSONObject();
+    object.put("a", "b");
+    Writer failingWriter = new Writer() {
+      @Override
+      public void write(char[] cbuf, int off, int len) throws IOException {
+        throw new IOException("expected");
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    try {
+      object.write(failingWriter, 1);
+      fail();
+    }
+    catch (IOException expected) {
+      assertEquals("expected", expected.getMessage());
+    }
+  }
+
+  public void testWriteStreamingFlushesOnce() throws IOException {
+    JSONObject object = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 1000; i++) {
+      rows.put("row " + i);
+    }
+    object.put("rows", rows);
+    int[] flushCount = new int[1];
+    StringWriter writer = new StringWriter() {
+      @Override
+      public void flush() {
+        flushCount[0]++;
+      }
+    };
+    object.write(writer, 16);
+    assertEquals(object.toString(), writer.toString());
+    assertEquals(1, flushCount[0]);
+  }
 }
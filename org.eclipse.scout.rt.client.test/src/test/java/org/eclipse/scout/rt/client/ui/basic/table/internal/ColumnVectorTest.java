@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnVector.BooleanVector;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnVector.DictionaryVector;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnVector.DoubleVector;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnVector.LongVector;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnVector.ObjectVector;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ColumnVector}
+ */
+public class ColumnVectorTest {
+
+  @Test
+  public void testCreate() {
+    assertTrue(ColumnVector.create(1L) instanceof LongVector);
+    assertTrue(ColumnVector.create(1) instanceof LongVector);
+    assertTrue(ColumnVector.create(new Date()) instanceof ObjectVector);
+    assertTrue(ColumnVector.create(1.5d) instanceof DoubleVector);
+    assertTrue(ColumnVector.create(1.5f) instanceof DoubleVector);
+    assertTrue(ColumnVector.create(Boolean.TRUE) instanceof BooleanVector);
+    assertTrue(ColumnVector.create("a") instanceof DictionaryVector);
+    assertTrue(ColumnVector.create(BigDecimal.ONE) instanceof ObjectVector);
+  }
+
+  @Test
+  public void testLongVector() {
+    ColumnVector v = ColumnVector.create(1);
+    assertSame(v, v.set(0, 42));
+    assertSame(v, v.set(100, -7));
+    assertEquals(Integer.valueOf(42), v.get(0));
+    assertEquals(Integer.valueOf(-7), v.get(100));
+    assertNull(v.get(1));
+    assertNull(v.get(1000));
+
+    v.set(0, null);
+    assertNull(v.get(0));
+  }
+
+  @Test
+  public void testDatesKeepIdentity() {
+    Date date = new Date(1234567890L);
+    ColumnVector v = ColumnVector.create(date);
+    v.set(3, date);
+    assertSame(date, v.get(3));
+    assertSame(v.get(3), v.get(3));
+  }
+
+  @Test
+  public void testDoubleVector() {
+    ColumnVector v = ColumnVector.create(1f);
+    v.set(0, 0.25f);
+    assertEquals(Float.valueOf(0.25f), v.get(0));
+    assertNull(v.get(1));
+  }
+
+  @Test
+  public void testBooleanVector() {
+    ColumnVector v = ColumnVector.create(true);
+    v.set(0, true);
+    v.set(1, false);
+    assertEquals(Boolean.TRUE, v.get(0));
+    assertEquals(Boolean.FALSE, v.get(1));
+    assertNull(v.get(2));
+  }
+
+  @Test
+  public void testFallbackToObjectVector() {
+    ColumnVector v = ColumnVector.create(1L);
+    v.set(0, 1L);
+    v.set(1, 2L);
+    ColumnVector v2 = v.set(2, "text");
+    assertTrue(v2 instanceof ObjectVector);
+    assertEquals(1L, v2.get(0));
+    assertEquals(2L, v2.get(1));
+    assertEquals("text", v2.get(2));
+  }
+
+  @Test
+  public void testDictionaryVector() {
+    DictionaryVector v = new DictionaryVector(String.class);
+    for (int i = 0; i < 1000; i++) {
+      assertSame(v, v.set(i, "value" + (i % 3)));
+    }
+    assertEquals(3, v.getDictionarySize());
+    assertEquals("value1", v.get(4));
+    v.set(4, null);
+    assertNull(v.get(4));
+  }
+
+  @Test
+  public void testDictionaryVectorFallbackForDistinctValues() {
+    ColumnVector v = new DictionaryVector(String.class);
+    for (int i = 0; i < 1000; i++) {
+      v = v.set(i, "value" + i);
+    }
+    assertTrue(v instanceof ObjectVector);
+    for (int i = 0; i < 1000; i++) {
+      assertEquals("value" + i, v.get(i));
+    }
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.TableEvent;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractBooleanColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ColumnarTableRow} and {@link ColumnarRowStore}
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class ColumnarTableRowTest {
+
+  @Test
+  public void testSameCellsAsInternalTableRow() {
+    P_Table table = createTable(true, 10);
+    P_Table referenceTable = createTable(false, 10);
+    for (int r = 0; r < table.getRowCount(); r++) {
+      ITableRow row = table.getRow(r);
+      ITableRow referenceRow = referenceTable.getRow(r);
+      assertTrue(row instanceof ColumnarTableRow);
+      assertFalse(referenceRow instanceof ColumnarTableRow);
+      for (int c = 0; c < table.getColumnCount(); c++) {
+        assertEquals(referenceRow.getCellValue(c), row.getCellValue(c));
+        assertEquals(referenceRow.getCell(c).getValue(), row.getCell(c).getValue());
+        assertEquals(referenceRow.getCell(c).getText(), row.getCell(c).getText());
+        assertEquals(referenceRow.getCell(c).getHorizontalAlignment(), row.getCell(c).getHorizontalAlignment());
+        assertEquals(referenceRow.getCell(c).isEditable(), row.getCell(c).isEditable());
+      }
+      assertEquals(referenceRow.getKeyValues(), row.getKeyValues());
+    }
+  }
+
+  @Test
+  public void testSortAndFilter() {
+    P_Table table = createTable(true, 10);
+    table.getColumnSet().setSortColumn(table.getNameColumn(), false);
+    table.sort();
+    assertEquals("Name 9", table.getNameColumn().getValue(0));
+    assertEquals("Name 0", table.getNameColumn().getValue(9));
+
+    table.addRowFilter(row -> Boolean.TRUE.equals(table.getActiveColumn().getValue(row)));
+    assertEquals(5, table.getFilteredRowCount());
+    for (ITableRow row : table.getFilteredRows()) {
+      assertEquals(0, table.getIdColumn().getValue(row) % 2);
+    }
+  }
+
+  @Test
+  public void testGetRowByKey() {
+    P_Table table = createTable(true, 10);
+    ITableRow row = table.getRowByKey(Arrays.asList(7L));
+    assertNotNull(row);
+    assertEquals("Name 7", table.getNameColumn().getValue(row));
+  }
+
+  @Test
+  public void testUpdateCell() {
+    P_Table table = createTable(true, 3);
+    List<TableEvent> events = new ArrayList<>();
+    table.addTableListener(events::add, TableEvent.TYPE_ROWS_UPDATED);
+
+    ITableRow row = table.getRow(1);
+    Cell view1 = row.getCellForUpdate(table.getNameColumn());
+    Cell view2 = row.getCellForUpdate(table.getNameColumn());
+    assertEquals(view1, view2);
+
+    table.getNameColumn().setValue(row, "Changed");
+    assertEquals("Changed", view1.getValue());
+    assertEquals("Changed", view2.getText());
+    assertTrue(row.isStatusUpdated());
+
+    view2.setCssClass("changed");
+    assertEquals("changed", row.getCell(table.getNameColumn()).getCssClass());
+    assertEquals("Changed", row.getCell(table.getNameColumn()).getText());
+
+    assertFalse(events.isEmpty());
+    assertTrue(events.get(0).getUpdatedColumns(row).contains(table.getNameColumn()));
+  }
+
+  @Test
+  public void testRowUpdatesThroughViewsAreCoalesced() {
+    P_Table table = createTable(true, 3);
+    List<TableEvent> events = new ArrayList<>();
+    table.addTableListener(events::add, TableEvent.TYPE_ROWS_UPDATED);
+
+    ITableRow row0 = table.getRow(0);
+    ITableRow row1 = table.getRow(1);
+    table.setTableChanging(true);
+    try {
+      table.getNameColumn().setValue(row0, "Changed 0");
+      row0.getCellForUpdate(table.getNameColumn()).setCssClass("changed");
+      table.getActiveColumn().setValue(row0, false);
+      table.getNameColumn().setValue(row1, "Changed 1");
+      row1.getCellForUpdate(table.getNameColumn()).setTooltipText("Tooltip 1");
+    }
+    finally {
+      table.setTableChanging(false);
+    }
+
+    assertEquals(1, events.size());
+    TableEvent event = events.get(0);
+    assertEquals(2, event.getRowCount());
+    assertTrue(event.getUpdatedColumns(row0).contains(table.getNameColumn()));
+    assertTrue(event.getUpdatedColumns(row0).contains(table.getActiveColumn()));
+    assertTrue(event.getUpdatedColumns(row1).contains(table.getNameColumn()));
+    assertEquals("changed", row0.getCell(table.getNameColumn()).getCssClass());
+    assertEquals("Tooltip 1", row1.getCell(table.getNameColumn()).getTooltipText());
+  }
+
+  @Test
+  public void testDeletedRowsRemainReadable() {
+    P_Table table = createTable(true, 200);
+    List<ITableRow> rows = table.getRows();
+    ColumnarRowStore.Segment segment = ((ColumnarTableRow) rows.get(0)).getCellList().getSegment();
+    List<ITableRow> deletedRows = new ArrayList<>(rows.subList(0, 150));
+    table.deleteRows(deletedRows);
+
+    // most slots were dead, the live rows were moved to a new segment
+    ColumnarRowStore.Segment newSegment = ((ColumnarTableRow) table.getRow(0)).getCellList().getSegment();
+    assertNotSame(segment, newSegment);
+    assertEquals(50, newSegment.getLiveCount());
+
+    for (int i = 0; i < 150; i++) {
+      ITableRow deletedRow = deletedRows.get(i);
+      assertTrue(deletedRow.isStatusDeleted());
+      assertEquals("Name " + i, deletedRow.getCellValue(1));
+    }
+    for (int i = 0; i < 50; i++) {
+      assertEquals("Name " + (150 + i), table.getNameColumn().getValue(i));
+    }
+    assertEquals(150, table.getDeletedRowCount());
+
+    // new rows are added to the new segment
+    table.addRowsByMatrix(new Object[][]{{500L, "Name 500", true}});
+    assertEquals(51, table.getRowCount());
+    assertEquals("Name 500", table.getNameColumn().getValue(50));
+  }
+
+  @Test
+  public void testDeleteAllRows() {
+    P_Table table = createTable(true, 10);
+    ColumnarRowStore.Segment segment = ((ColumnarTableRow) table.getRow(0)).getCellList().getSegment();
+    table.deleteAllRows();
+    table.addRowsByMatrix(new Object[][]{{1L, "Name 1", true}});
+    assertNotSame(segment, ((ColumnarTableRow) table.getRow(0)).getCellList().getSegment());
+    assertEquals("Name 1", table.getNameColumn().getValue(0));
+  }
+
+  protected P_Table createTable(boolean columnar, int rowCount) {
+    P_Table table = new P_Table(columnar);
+    table.init();
+    Object[][] data = new Object[rowCount][];
+    for (int i = 0; i < rowCount; i++) {
+      data[i] = new Object[]{(long) i, "Name " + i, i % 2 == 0};
+    }
+    table.addRowsByMatrix(data, ITableRow.STATUS_NON_CHANGED);
+    return table;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    private final boolean m_columnar;
+
+    public P_Table(boolean columnar) {
+      super(false);
+      m_columnar = columnar;
+      callInitializer();
+    }
+
+    @Override
+    protected boolean getConfiguredColumnarRowStore() {
+      return m_columnar;
+    }
+
+    public IdColumn getIdColumn() {
+      return getColumnSet().getColumnByClass(IdColumn.class);
+    }
+
+    public NameColumn getNameColumn() {
+      return getColumnSet().getColumnByClass(NameColumn.class);
+    }
+
+    public ActiveColumn getActiveColumn() {
+      return getColumnSet().getColumnByClass(ActiveColumn.class);
+    }
+
+    @Order(10)
+    public class IdColumn extends AbstractLongColumn {
+      @Override
+      protected boolean getConfiguredPrimaryKey() {
+        return true;
+      }
+    }
+
+    @Order(20)
+    public class NameColumn extends AbstractStringColumn {
+      @Override
+      protected boolean getConfiguredEditable() {
+        return true;
+      }
+    }
+
+    @Order(30)
+    public class ActiveColumn extends AbstractBooleanColumn {
+    }
+  }
+}
@@ -379,7 +379,31 @@ public class Cell implements ICell, IStyleable, IHtmlCapable {
     m_errorStatus = status;
   }
 
-  private void notifyObserver(int changedBit) {
+  /**
+   * do not use this internal method
+   *
+   * @return the style and rarely used properties of this cell, never <code>null</code>. The returned object must not be
+   *         modified, it may be shared with other cells.
+   * @since 23.2
+   */
+  public ICellSpecialization getCellSpecializationInternal() {
+    return m_cellSpecialization;
+  }
+
+  /**
+   * do not use this internal method
+   * <p>
+   * Replaces the style and rarely used properties of this cell without notifying the observer.
+   *
+   * @param cellSpecialization
+   *          an object obtained by {@link #getCellSpecializationInternal()} or <code>null</code> for the default style
+   * @since 23.2
+   */
+  public void setCellSpecializationInternal(ICellSpecialization cellSpecialization) {
+    m_cellSpecialization = cellSpecialization != null ? cellSpecialization : DEFAULT_CELL_STYLE;
+  }
+
+  protected void notifyObserver(int changedBit) {
     if (getObserver() != null) {
       getObserver().cellChanged(this, changedBit);
     }
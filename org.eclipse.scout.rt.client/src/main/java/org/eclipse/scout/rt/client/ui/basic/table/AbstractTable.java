@@ -77,6 +77,8 @@ import org.eclipse.scout.rt.client.ui.basic.table.controls.ITableControl;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.ITableCustomizer;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.ITableCustomizerProvider;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.NullTableCustomizerProvider;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnarRowStore;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnarTableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.internal.InternalTableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.menus.OrganizeColumnsMenu;
 import org.eclipse.scout.rt.client.ui.basic.table.organizer.ITableOrganizer;
@@ -200,6 +202,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private ISummaryCellBuilder m_summaryCellBuilder;
   private int m_valueChangeTriggerEnabled = 1;// >=1 is true
   private boolean m_treeStructureDirty;
+  private ColumnarRowStore m_columnarRowStore;
 
   public AbstractTable() {
     this(true);
@@ -1029,6 +1032,10 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     setScrollToSelection(getConfiguredScrollToSelection());
     setTableStatusVisible(getConfiguredTableStatusVisible());
     setTextFilterEnabled(getConfiguredTextFilterEnabled());
+    setViewportEnabled(getConfiguredViewportEnabled());
+    if (getConfiguredColumnarRowStore()) {
+      m_columnarRowStore = new ColumnarRowStore();
+    }
     setTruncatedCellTooltipEnabled(getConfiguredTruncatedCellTooltipEnabled());
     setClientUiPreferencesEnabled(getConfiguredClientUiPreferencesEnabled());
     if (getTableCustomizer() == null) {
@@ -3213,11 +3220,18 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     // make sure rows InternalTableRows are in the same order as the given ITableRows, addRows(...) relies on this
     List<InternalTableRow> newIRows = new ArrayList<>(newRows.size());
     for (ITableRow newRow : newRows) {
-      newIRows.add(new InternalTableRow(this, newRow));
+      newIRows.add(createInternalRow(newRow));
     }
     return newIRows;
   }
 
+  private InternalTableRow createInternalRow(ITableRow newRow) {
+    if (m_columnarRowStore != null) {
+      return new ColumnarTableRow(this, newRow, m_columnarRowStore);
+    }
+    return new InternalTableRow(this, newRow);
+  }
+
   private ITableRow addInternalRow(InternalTableRow newIRow) {
     synchronized (m_cachedRowsLock) {
       m_cachedRows = null;
@@ -3491,6 +3505,10 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       return;
     }
     InternalTableRow internalRow = (InternalTableRow) row;
+    if (internalRow instanceof ColumnarTableRow) {
+      // the cells of deleted rows remain readable
+      ((ColumnarTableRow) internalRow).releaseCellsInternal();
+    }
     if (isAutoDiscardOnDelete()) {
       internalRow.setTableInternal(null);
       // don't manage deleted rows any further
@@ -4239,6 +4257,16 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     propertySupport.setPropertyBool(PROP_TEXT_FILTER_ENABLED, textFilterEnabled);
   }
 
+  @Override
+  public boolean isViewportEnabled() {
+    return propertySupport.getPropertyBool(PROP_VIEWPORT_ENABLED);
+  }
+
+  @Override
+  public void setViewportEnabled(boolean viewportEnabled) {
+    propertySupport.setPropertyBool(PROP_VIEWPORT_ENABLED, viewportEnabled);
+  }
+
   @Override
   public final void decorateCell(ITableRow row, IColumn<?> col) {
     Cell cell = row.getCellForUpdate(col.getColumnIndex());
@@ -4563,6 +4591,46 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return true;
   }
 
+  /**
+   * Configures whether the UI only receives the rows in its visible range (viewport) instead of all rows. Rows outside
+   * the viewport are requested by the UI while scrolling, so the amount of transferred data depends on the screen
+   * height rather than on the number of rows. Use it for large, flat tables.
+   * <p>
+   * The viewport mode is not supported for hierarchical tables. Sorting is always done by the model, grouping,
+   * aggregation and UI-side row filters are not available.
+   * <p>
+   * Subclasses can override this method. Default is {@code false}.
+   *
+   * @return {@code true} to enable the viewport mode, {@code false} otherwise.
+   * @since 23.2
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(215)
+  protected boolean getConfiguredViewportEnabled() {
+    return false;
+  }
+
+  /**
+   * Configures whether the cells of the rows are stored per column instead of per row. Values are kept in primitive
+   * arrays (e.g. <code>long[]</code> for {@link Long} values, bit sets for {@link Boolean} values), repeating strings,
+   * texts and cell styles are stored once per column. The {@link Cell} objects returned by the rows are views created
+   * on demand. This considerably reduces the memory footprint of tables with many rows and columns, but makes cell
+   * access slightly slower.
+   * <p>
+   * Cells obtained by {@link ITableRow#getCellForUpdate(int)} remain valid, but should not be held longer than
+   * necessary.
+   * <p>
+   * Subclasses can override this method. Default is {@code false}.
+   *
+   * @return {@code true} to use the columnar row store, {@code false} otherwise.
+   * @since 23.2
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(217)
+  protected boolean getConfiguredColumnarRowStore() {
+    return false;
+  }
+
   @Override
   public boolean isTableStatusVisible() {
     return propertySupport.getPropertyBool(PROP_TABLE_STATUS_VISIBLE);
@@ -277,6 +277,13 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   String PROP_TEXT_FILTER_ENABLED = "textFilterEnabled";
 
+  /**
+   * type boolean
+   *
+   * @since 23.2
+   */
+  String PROP_VIEWPORT_ENABLED = "viewportEnabled";
+
   /**
    * Alternative loading style. Adds a decent loading animation at the top of the table. To enable it, add this css
    * class and then activate the loading using {@link #setLoading(boolean)}.
@@ -565,6 +572,21 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
 
   void setTextFilterEnabled(boolean textFilterEnabled);
 
+  /**
+   * @return {@code true} if the UI only receives the rows in its visible range (viewport) instead of all rows of the
+   *         table. The rows remain in the model, the UI requests them by index while scrolling.
+   * @since 23.2
+   */
+  boolean isViewportEnabled();
+
+  /**
+   * Enables or disables the viewport mode, see {@link #isViewportEnabled()}. The mode has to be set before the table
+   * is displayed. It is not supported for hierarchical tables and disables UI-side sorting, grouping and filtering.
+   *
+   * @since 23.2
+   */
+  void setViewportEnabled(boolean viewportEnabled);
+
   boolean isMultilineText();
 
   void setMultilineText(boolean on);
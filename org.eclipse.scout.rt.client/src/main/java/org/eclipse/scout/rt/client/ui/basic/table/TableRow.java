@@ -72,14 +72,24 @@ public class TableRow implements ITableRow {
   }
 
   public TableRow(ColumnSet columnSet, ITableRow row) {
+    this(columnSet, row, new ArrayList<>(columnSet != null ? columnSet.getColumnCount() : 0));
+  }
+
+  /**
+   * Creates a copy of the given row whose cells are held by the given list.
+   *
+   * @param cells
+   *          empty list the cells of the given row are added to
+   * @since 23.2
+   */
+  protected TableRow(ColumnSet columnSet, ITableRow row, List<Cell> cells) {
     m_childRowListLock = new Object();
     m_childRowList = new ArrayList<>();
     m_columnSet = columnSet;
     m_customValues = new HashMap<>(row.getCustomValues());
     m_compactValue = row.getCompactValue();
 
-    int colCount = columnSet != null ? columnSet.getColumnCount() : 0;
-    m_cells = new ArrayList<>(colCount);
+    m_cells = cells;
     setEnabled(true);
     copyCells(row);
   }
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds one property (e.g. the value or the text) of all cells of a column in a {@link ColumnarRowStore}. The cells are
+ * addressed by their slot, slots that were never set are <code>null</code>.
+ * <p>
+ * Use {@link #create(Object)} to get the most compact vector for a value. If a vector cannot hold a value,
+ * {@link #set(int, Object)} returns a more general vector containing all values instead.
+ *
+ * @since 23.2
+ */
+public abstract class ColumnVector {
+
+  protected static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * @return a new empty vector able to hold the given value
+   */
+  public static ColumnVector create(Object value) {
+    if (value == null) {
+      return new ObjectVector();
+    }
+    Class<?> type = value.getClass();
+    if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) {
+      return new LongVector(type);
+    }
+    if (type == Double.class || type == Float.class) {
+      return new DoubleVector(type);
+    }
+    if (type == Boolean.class) {
+      return new BooleanVector();
+    }
+    if (type == String.class) {
+      return new DictionaryVector(String.class);
+    }
+    // Dates are mutable and compared by identity in some places, hence the instances are kept (ObjectVector)
+    return new ObjectVector();
+  }
+
+  /**
+   * @return the value of the given slot or <code>null</code>
+   */
+  public abstract Object get(int slot);
+
+  /**
+   * Sets the value of the given slot.
+   *
+   * @return this vector or, if it cannot hold the given value, a new vector containing all values of this vector and
+   *         the given value. In this case the caller must use the returned vector from now on.
+   */
+  public abstract ColumnVector set(int slot, Object value);
+
+  /**
+   * @return the number of slots this vector has storage for
+   */
+  public abstract int capacity();
+
+  protected static int grow(int capacity, int slot) {
+    return Math.max(slot + 1, Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1)));
+  }
+
+  /**
+   * @return a vector holding the values of this vector and able to hold any value
+   */
+  protected ColumnVector toObjectVector() {
+    ObjectVector v = new ObjectVector();
+    for (int i = 0; i < capacity(); i++) {
+      Object value = get(i);
+      if (value != null) {
+        v.set(i, value);
+      }
+    }
+    return v;
+  }
+
+  /**
+   * Stores integral numbers as <code>long</code> values.
+   */
+  public static class LongVector extends ColumnVector {
+    private final Class<?> m_type;
+    private final BitSet m_present = new BitSet();
+    private long[] m_values = new long[0];
+
+    public LongVector(Class<?> type) {
+      m_type = type;
+    }
+
+    @Override
+    public Object get(int slot) {
+      if (!m_present.get(slot)) {
+        return null;
+      }
+      long v = m_values[slot];
+      if (m_type == Long.class) {
+        return v;
+      }
+      if (m_type == Integer.class) {
+        return (int) v;
+      }
+      if (m_type == Short.class) {
+        return (short) v;
+      }
+      return (byte) v;
+    }
+
+    @Override
+    public ColumnVector set(int slot, Object value) {
+      if (value == null) {
+        m_present.clear(slot);
+        return this;
+      }
+      if (value.getClass() != m_type) {
+        return toObjectVector().set(slot, value);
+      }
+      if (slot >= m_values.length) {
+        m_values = Arrays.copyOf(m_values, grow(m_values.length, slot));
+      }
+      m_values[slot] = ((Number) value).longValue();
+      m_present.set(slot);
+      return this;
+    }
+
+    @Override
+    public int capacity() {
+      return m_values.length;
+    }
+  }
+
+  /**
+   * Stores floating point numbers as <code>double</code> values.
+   */
+  public static class DoubleVector extends ColumnVector {
+    private final Class<?> m_type;
+    private final BitSet m_present = new BitSet();
+    private double[] m_values = new double[0];
+
+    public DoubleVector(Class<?> type) {
+      m_type = type;
+    }
+
+    @Override
+    public Object get(int slot) {
+      if (!m_present.get(slot)) {
+        return null;
+      }
+      double v = m_values[slot];
+      if (m_type == Float.class) {
+        return (float) v;
+      }
+      return v;
+    }
+
+    @Override
+    public ColumnVector set(int slot, Object value) {
+      if (value == null) {
+        m_present.clear(slot);
+        return this;
+      }
+      if (value.getClass() != m_type) {
+        return toObjectVector().set(slot, value);
+      }
+      if (slot >= m_values.length) {
+        m_values = Arrays.copyOf(m_values, grow(m_values.length, slot));
+      }
+      m_values[slot] = ((Number) value).doubleValue();
+      m_present.set(slot);
+      return this;
+    }
+
+    @Override
+    public int capacity() {
+      return m_values.length;
+    }
+  }
+
+  /**
+   * Stores booleans in a bit set.
+   */
+  public static class BooleanVector extends ColumnVector {
+    private final BitSet m_present = new BitSet();
+    private final BitSet m_values = new BitSet();
+
+    @Override
+    public Object get(int slot) {
+      if (!m_present.get(slot)) {
+        return null;
+      }
+      return m_values.get(slot);
+    }
+
+    @Override
+    public ColumnVector set(int slot, Object value) {
+      if (value == null) {
+        m_present.clear(slot);
+        return this;
+      }
+      if (!(value instanceof Boolean)) {
+        return toObjectVector().set(slot, value);
+      }
+      m_values.set(slot, (Boolean) value);
+      m_present.set(slot);
+      return this;
+    }
+
+    @Override
+    public int capacity() {
+      return m_present.length();
+    }
+  }
+
+  /**
+   * Stores each distinct value once and an <code>int</code> code per slot. Used for values repeating across rows like
+   * strings, display texts and cell styles. Values must implement {@link Object#equals(Object)} and
+   * {@link Object#hashCode()} or be shared instances.
+   * <p>
+   * If most of the values are distinct, the dictionary does not pay off and the vector is replaced by an
+   * {@link ObjectVector}.
+   */
+  public static class DictionaryVector extends ColumnVector {
+    protected static final int MIN_DICTIONARY_SIZE_FOR_FALLBACK = 256;
+
+    private final Class<?> m_type;
+    private final Map<Object, Integer> m_codes = new HashMap<>();
+    private final List<Object> m_dictionary = new ArrayList<>();
+    private int[] m_slots = new int[0]; // 0 is null, otherwise index in dictionary + 1
+    private int m_usedSlotCount;
+
+    /**
+     * @param type
+     *          the exact type of the values or <code>null</code> to accept any value
+     */
+    public DictionaryVector(Class<?> type) {
+      m_type = type;
+    }
+
+    @Override
+    public Object get(int slot) {
+      if (slot >= m_slots.length || m_slots[slot] == 0) {
+        return null;
+      }
+      return m_dictionary.get(m_slots[slot] - 1);
+    }
+
+    @Override
+    public ColumnVector set(int slot, Object value) {
+      if (value != null && m_type != null && value.getClass() != m_type) {
+        return toObjectVector().set(slot, value);
+      }
+      if (slot >= m_slots.length) {
+        if (value == null) {
+          return this;
+        }
+        m_slots = Arrays.copyOf(m_slots, grow(m_slots.length, slot));
+      }
+      m_usedSlotCount = Math.max(m_usedSlotCount, slot + 1);
+      if (value == null) {
+        m_slots[slot] = 0;
+        return this;
+      }
+      Integer code = m_codes.get(value);
+      if (code == null) {
+        if (m_dictionary.size() >= MIN_DICTIONARY_SIZE_FOR_FALLBACK && m_dictionary.size() * 2 >= m_usedSlotCount) {
+          return toObjectVector().set(slot, value);
+        }
+        m_dictionary.add(value);
+        code = m_dictionary.size();
+        m_codes.put(value, code);
+      }
+      m_slots[slot] = code;
+      return this;
+    }
+
+    @Override
+    public int capacity() {
+      return m_slots.length;
+    }
+
+    /**
+     * @return the number of distinct values ever stored in this vector
+     */
+    public int getDictionarySize() {
+      return m_dictionary.size();
+    }
+  }
+
+  /**
+   * Stores references to arbitrary values.
+   */
+  public static class ObjectVector extends ColumnVector {
+    private Object[] m_values = new Object[0];
+
+    @Override
+    public Object get(int slot) {
+      return slot < m_values.length ? m_values[slot] : null;
+    }
+
+    @Override
+    public ColumnVector set(int slot, Object value) {
+      if (slot >= m_values.length) {
+        if (value == null) {
+          return this;
+        }
+        m_values = Arrays.copyOf(m_values, grow(m_values.length, slot));
+      }
+      m_values[slot] = value;
+      return this;
+    }
+
+    @Override
+    public int capacity() {
+      return m_values.length;
+    }
+
+    @Override
+    protected ColumnVector toObjectVector() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.cell.ICellObserver;
+import org.eclipse.scout.rt.client.ui.basic.cell.ICellSpecialization;
+import org.eclipse.scout.rt.platform.status.IMultiStatus;
+import org.eclipse.scout.rt.platform.status.IStatus;
+import org.eclipse.scout.rt.shared.data.basic.FontSpec;
+
+/**
+ * View on a cell of a {@link ColumnarCellList}. The state is loaded from the store when the view is created and
+ * reloaded whenever the cell was changed by another view. Changes are written to the store before the observer is
+ * notified.
+ * <p>
+ * Two views are equal if they represent the same cell.
+ *
+ * @since 23.2
+ */
+public class ColumnarCell extends Cell {
+
+  private final ColumnarCellList m_cells;
+  private final int m_columnIndex;
+  private int m_loadedModCount;
+  private boolean m_stale = true;
+  private boolean m_loading;
+
+  public ColumnarCell(ColumnarCellList cells, int columnIndex) {
+    m_cells = cells;
+    m_columnIndex = columnIndex;
+    sync();
+  }
+
+  public ColumnarCellList getCellList() {
+    return m_cells;
+  }
+
+  public int getColumnIndex() {
+    return m_columnIndex;
+  }
+
+  /**
+   * Reloads the state of this view if the cell was changed by another view.
+   */
+  protected void sync() {
+    if (m_loading || (!m_stale && m_loadedModCount == m_cells.getCellModCount())) {
+      return;
+    }
+    m_loading = true;
+    try {
+      super.setObserver(null); // no validation while loading
+      super.setValue(m_cells.getValue(m_columnIndex));
+      super.setText(m_cells.getText(m_columnIndex));
+      super.setCellSpecializationInternal(m_cells.getCellSpecialization(m_columnIndex));
+      super.setErrorStatusInternal(m_cells.getErrorStatus(m_columnIndex));
+      super.setObserver(m_cells.getObserver());
+    }
+    finally {
+      m_loading = false;
+    }
+    m_loadedModCount = m_cells.getCellModCount();
+    m_stale = false;
+  }
+
+  @Override
+  protected void notifyObserver(int changedBit) {
+    if (m_loading) {
+      return;
+    }
+    // a validation of the value may have changed the cell by another view
+    boolean synced = !m_stale && m_loadedModCount == m_cells.getCellModCount();
+    switch (changedBit) {
+      case VALUE_BIT:
+        m_cells.setValue(m_columnIndex, super.getValue());
+        break;
+      case TEXT_BIT:
+        m_cells.setText(m_columnIndex, super.getText());
+        break;
+      case ERROR_STATUS_BIT:
+        m_cells.setErrorStatus(m_columnIndex, super.getErrorStatus());
+        break;
+      default:
+        m_cells.setCellSpecialization(m_columnIndex, super.getCellSpecializationInternal());
+    }
+    m_loadedModCount = m_cells.getCellModCount();
+    m_stale = !synced;
+    super.notifyObserver(changedBit);
+  }
+
+  @Override
+  public void setErrorStatusInternal(IMultiStatus status) {
+    sync();
+    super.setErrorStatusInternal(status);
+    if (!m_loading) {
+      m_cells.setErrorStatus(m_columnIndex, status);
+      m_loadedModCount = m_cells.getCellModCount();
+    }
+  }
+
+  @Override
+  public void setObserver(ICellObserver observer) {
+    sync();
+    super.setObserver(observer);
+    m_cells.setObserver(observer);
+    m_loadedModCount = m_cells.getCellModCount();
+  }
+
+  @Override
+  public ICellObserver getObserver() {
+    sync();
+    return super.getObserver();
+  }
+
+  @Override
+  public ICellSpecialization getCellSpecializationInternal() {
+    sync();
+    return super.getCellSpecializationInternal();
+  }
+
+  @Override
+  public void setCellSpecializationInternal(ICellSpecialization cellSpecialization) {
+    sync();
+    super.setCellSpecializationInternal(cellSpecialization);
+    m_cells.setCellSpecialization(m_columnIndex, super.getCellSpecializationInternal());
+    m_loadedModCount = m_cells.getCellModCount();
+  }
+
+  @Override
+  public Object getValue() {
+    sync();
+    return super.getValue();
+  }
+
+  @Override
+  public boolean setValue(Object value) {
+    sync();
+    return super.setValue(value);
+  }
+
+  @Override
+  public String getText() {
+    sync();
+    return super.getText();
+  }
+
+  @Override
+  public void setText(String s) {
+    sync();
+    super.setText(s);
+  }
+
+  @Override
+  public String getCssClass() {
+    sync();
+    return super.getCssClass();
+  }
+
+  @Override
+  public void setCssClass(String cssClass) {
+    sync();
+    super.setCssClass(cssClass);
+  }
+
+  @Override
+  public String getIconId() {
+    sync();
+    return super.getIconId();
+  }
+
+  @Override
+  public void setIconId(String s) {
+    sync();
+    super.setIconId(s);
+  }
+
+  @Override
+  public String getTooltipText() {
+    sync();
+    return super.getTooltipText();
+  }
+
+  @Override
+  public void setTooltipText(String s) {
+    sync();
+    super.setTooltipText(s);
+  }
+
+  @Override
+  public boolean isMandatory() {
+    sync();
+    return super.isMandatory();
+  }
+
+  @Override
+  public void setMandatory(boolean mandatory) {
+    sync();
+    super.setMandatory(mandatory);
+  }
+
+  @Override
+  public int getHorizontalAlignment() {
+    sync();
+    return super.getHorizontalAlignment();
+  }
+
+  @Override
+  public void setHorizontalAlignment(int a) {
+    sync();
+    super.setHorizontalAlignment(a);
+  }
+
+  @Override
+  public String getBackgroundColor() {
+    sync();
+    return super.getBackgroundColor();
+  }
+
+  @Override
+  public void setBackgroundColor(String c) {
+    sync();
+    super.setBackgroundColor(c);
+  }
+
+  @Override
+  public String getForegroundColor() {
+    sync();
+    return super.getForegroundColor();
+  }
+
+  @Override
+  public void setForegroundColor(String c) {
+    sync();
+    super.setForegroundColor(c);
+  }
+
+  @Override
+  public FontSpec getFont() {
+    sync();
+    return super.getFont();
+  }
+
+  @Override
+  public void setFont(FontSpec f) {
+    sync();
+    super.setFont(f);
+  }
+
+  @Override
+  public boolean isEditable() {
+    sync();
+    return super.isEditable();
+  }
+
+  @Override
+  public void setEditable(boolean b) {
+    sync();
+    super.setEditable(b);
+  }
+
+  @Override
+  public boolean isHtmlEnabled() {
+    sync();
+    return super.isHtmlEnabled();
+  }
+
+  @Override
+  public void setHtmlEnabled(boolean b) {
+    sync();
+    super.setHtmlEnabled(b);
+  }
+
+  @Override
+  public IMultiStatus getErrorStatus() {
+    sync();
+    return super.getErrorStatus();
+  }
+
+  @Override
+  public void addErrorStatus(IStatus newStatus) {
+    sync();
+    super.addErrorStatus(newStatus);
+  }
+
+  @Override
+  public void addErrorStatuses(List<IStatus> newStatus) {
+    sync();
+    super.addErrorStatuses(newStatus);
+  }
+
+  @Override
+  public void removeErrorStatus(Class<? extends IStatus> statusClazz) {
+    sync();
+    super.removeErrorStatus(statusClazz);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    ColumnarCell other = (ColumnarCell) obj;
+    return m_cells == other.m_cells && m_columnIndex == other.m_columnIndex;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * System.identityHashCode(m_cells) + m_columnIndex;
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.util.AbstractList;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.cell.ICellObserver;
+import org.eclipse.scout.rt.client.ui.basic.cell.ICellSpecialization;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnarRowStore.Segment;
+import org.eclipse.scout.rt.platform.status.IMultiStatus;
+
+/**
+ * The cells of a {@link ColumnarTableRow}. The cells are stored in a slot of a {@link ColumnarRowStore}, {@link #get(int)}
+ * returns a new {@link ColumnarCell} view for each call. Changes made to such a view are written to the store
+ * immediately.
+ * <p>
+ * Cells can only be appended ({@link #add(Cell)}) or replaced ({@link #set(int, Cell)}), in both cases the state of the
+ * given cell is copied to the store.
+ *
+ * @since 23.2
+ */
+public class ColumnarCellList extends AbstractList<Cell> {
+
+  private final ColumnarRowStore m_store;
+  private Segment m_segment;
+  private int m_slot;
+  private int m_columnCount;
+  private ICellObserver m_observer;
+  private int m_cellModCount;
+
+  public ColumnarCellList(ColumnarRowStore store, Segment segment) {
+    m_store = store;
+    m_segment = segment;
+    m_slot = segment.allocate(this);
+  }
+
+  public ColumnarRowStore getStore() {
+    return m_store;
+  }
+
+  public Segment getSegment() {
+    return m_segment;
+  }
+
+  public int getSlot() {
+    return m_slot;
+  }
+
+  /**
+   * Called by the store when the cells are moved to another slot.
+   */
+  protected void rebind(Segment segment, int slot) {
+    m_segment = segment;
+    m_slot = slot;
+  }
+
+  /**
+   * @return a counter incremented whenever the state of a cell or the observer changes. Used by {@link ColumnarCell} to
+   *         detect stale views.
+   */
+  public int getCellModCount() {
+    return m_cellModCount;
+  }
+
+  public ICellObserver getObserver() {
+    return m_observer;
+  }
+
+  /**
+   * Sets the observer of all cells.
+   */
+  public void setObserver(ICellObserver observer) {
+    if (m_observer != observer) {
+      m_observer = observer;
+      m_cellModCount++;
+    }
+  }
+
+  @Override
+  public int size() {
+    return m_columnCount;
+  }
+
+  @Override
+  public Cell get(int index) {
+    checkIndex(index);
+    return new ColumnarCell(this, index);
+  }
+
+  @Override
+  public Cell set(int index, Cell cell) {
+    checkIndex(index);
+    Cell previous = new Cell(get(index));
+    writeCell(index, cell);
+    return previous;
+  }
+
+  @Override
+  public void add(int index, Cell cell) {
+    if (index != m_columnCount) {
+      throw new UnsupportedOperationException("Cells can only be appended");
+    }
+    m_columnCount++;
+    writeCell(index, cell);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    if (o instanceof ColumnarCell && ((ColumnarCell) o).getCellList() == this) {
+      return ((ColumnarCell) o).getColumnIndex();
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return indexOf(o);
+  }
+
+  protected void checkIndex(int index) {
+    if (index < 0 || index >= m_columnCount) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + m_columnCount);
+    }
+  }
+
+  protected void writeCell(int index, Cell cell) {
+    m_segment.setValue(m_slot, index, cell.getValue());
+    m_segment.setText(m_slot, index, cell.getText());
+    m_segment.setCellSpecialization(m_slot, index, cell.getCellSpecializationInternal());
+    m_segment.setErrorStatus(m_slot, index, cell.getErrorStatus());
+    m_cellModCount++;
+  }
+
+  /**
+   * @return the value of the given column without creating a cell view
+   */
+  public Object getValue(int columnIndex) {
+    return m_segment.getValue(m_slot, columnIndex);
+  }
+
+  public void setValue(int columnIndex, Object value) {
+    m_segment.setValue(m_slot, columnIndex, value);
+    m_cellModCount++;
+  }
+
+  public String getText(int columnIndex) {
+    return m_segment.getText(m_slot, columnIndex);
+  }
+
+  public void setText(int columnIndex, String text) {
+    m_segment.setText(m_slot, columnIndex, text);
+    m_cellModCount++;
+  }
+
+  public ICellSpecialization getCellSpecialization(int columnIndex) {
+    return m_segment.getCellSpecialization(m_slot, columnIndex);
+  }
+
+  public void setCellSpecialization(int columnIndex, ICellSpecialization cellSpecialization) {
+    m_segment.setCellSpecialization(m_slot, columnIndex, cellSpecialization);
+    m_cellModCount++;
+  }
+
+  public IMultiStatus getErrorStatus(int columnIndex) {
+    return m_segment.getErrorStatus(m_slot, columnIndex);
+  }
+
+  public void setErrorStatus(int columnIndex, IMultiStatus errorStatus) {
+    m_segment.setErrorStatus(m_slot, columnIndex, errorStatus);
+    m_cellModCount++;
+  }
+
+  /**
+   * Marks the slot of these cells as dead, see {@link ColumnarRowStore#release(ColumnarCellList)}.
+   */
+  public void release() {
+    m_store.release(this);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o;
+  }
+
+  @Override
+  public int hashCode() {
+    return System.identityHashCode(this);
+  }
+}
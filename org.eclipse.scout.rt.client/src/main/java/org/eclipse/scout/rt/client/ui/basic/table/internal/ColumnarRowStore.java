@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.util.Arrays;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.ICellSpecialization;
+import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
+import org.eclipse.scout.rt.platform.status.IMultiStatus;
+
+/**
+ * Column oriented storage for the cells of the rows of a table. Instead of a {@link org.eclipse.scout.rt.client.ui.basic.cell.Cell
+ * Cell} object per cell, the value, text, style and error status of all cells of a column are kept in
+ * {@link ColumnVector}s, e.g. a <code>long[]</code> for a column with {@link Long} values or a dictionary for texts.
+ * Each row occupies a slot in these vectors and accesses its cells by a {@link ColumnarCellList}, see
+ * {@link ColumnarTableRow}.
+ * <p>
+ * Slots are never reused: a deleted row may still be accessed (e.g. by a pending table event or as deleted row of the
+ * table). Therefore, the slots of the live rows are moved to a new {@link Segment} once more than half of the slots are
+ * dead. The old segment is garbage collected as soon as the deleted rows referencing it are gone.
+ * <p>
+ * Like the rest of the table, the store is accessed by the model thread only.
+ *
+ * @see AbstractTable#getConfiguredColumnarRowStore()
+ * @since 23.2
+ */
+public class ColumnarRowStore {
+
+  /**
+   * Minimal number of dead slots before a segment is compacted.
+   */
+  protected static final int MIN_DEAD_SLOTS_FOR_COMPACTION = 64;
+
+  private Segment m_segment = new Segment();
+
+  /**
+   * @return a new cell list occupying a new slot of this store
+   */
+  public ColumnarCellList createCellList() {
+    return new ColumnarCellList(this, m_segment);
+  }
+
+  /**
+   * Marks the slot of the given cell list as dead. The cells remain accessible, but are not moved to a new segment
+   * anymore.
+   */
+  public void release(ColumnarCellList cells) {
+    Segment segment = cells.getSegment();
+    if (!segment.release(cells.getSlot(), cells) || segment != m_segment) {
+      return;
+    }
+    if (segment.getLiveCount() == 0) {
+      m_segment = new Segment();
+    }
+    else if (segment.getDeadCount() >= MIN_DEAD_SLOTS_FOR_COMPACTION && segment.getDeadCount() > segment.getLiveCount()) {
+      compact();
+    }
+  }
+
+  /**
+   * Moves all live slots to a new segment.
+   */
+  protected void compact() {
+    Segment oldSegment = m_segment;
+    Segment newSegment = new Segment();
+    for (int slot = 0; slot < oldSegment.getSlotCount(); slot++) {
+      ColumnarCellList owner = oldSegment.getOwner(slot);
+      if (owner != null) {
+        int newSlot = newSegment.allocate(owner);
+        newSegment.copyFrom(oldSegment, slot, newSlot);
+        owner.rebind(newSegment, newSlot);
+      }
+    }
+    m_segment = newSegment;
+  }
+
+  /**
+   * @return the segment new rows are allocated in
+   */
+  public Segment getSegment() {
+    return m_segment;
+  }
+
+  /**
+   * A set of column vectors. Slots are allocated in ascending order and never reused.
+   */
+  public static class Segment {
+    private ColumnarCellList[] m_owners = new ColumnarCellList[0];
+    private int m_slotCount;
+    private int m_deadCount;
+    private ColumnVector[] m_values = new ColumnVector[0];
+    private ColumnVector[] m_texts = new ColumnVector[0];
+    private ColumnVector[] m_cellSpecializations = new ColumnVector[0];
+    private ColumnVector[] m_errorStatus = new ColumnVector[0];
+
+    /**
+     * @return the allocated slot
+     */
+    public int allocate(ColumnarCellList owner) {
+      if (m_slotCount == m_owners.length) {
+        m_owners = Arrays.copyOf(m_owners, ColumnVector.grow(m_owners.length, m_slotCount));
+      }
+      m_owners[m_slotCount] = owner;
+      return m_slotCount++;
+    }
+
+    /**
+     * @return <code>true</code> if the slot was owned by the given cell list and is dead now
+     */
+    protected boolean release(int slot, ColumnarCellList owner) {
+      if (m_owners[slot] != owner) {
+        return false;
+      }
+      m_owners[slot] = null;
+      m_deadCount++;
+      return true;
+    }
+
+    protected ColumnarCellList getOwner(int slot) {
+      return m_owners[slot];
+    }
+
+    public int getSlotCount() {
+      return m_slotCount;
+    }
+
+    public int getDeadCount() {
+      return m_deadCount;
+    }
+
+    public int getLiveCount() {
+      return m_slotCount - m_deadCount;
+    }
+
+    public Object getValue(int slot, int columnIndex) {
+      return get(m_values, slot, columnIndex);
+    }
+
+    public void setValue(int slot, int columnIndex, Object value) {
+      m_values = set(m_values, slot, columnIndex, value, false);
+    }
+
+    public String getText(int slot, int columnIndex) {
+      return (String) get(m_texts, slot, columnIndex);
+    }
+
+    public void setText(int slot, int columnIndex, String text) {
+      m_texts = set(m_texts, slot, columnIndex, text, true);
+    }
+
+    public ICellSpecialization getCellSpecialization(int slot, int columnIndex) {
+      return (ICellSpecialization) get(m_cellSpecializations, slot, columnIndex);
+    }
+
+    public void setCellSpecialization(int slot, int columnIndex, ICellSpecialization cellSpecialization) {
+      m_cellSpecializations = set(m_cellSpecializations, slot, columnIndex, cellSpecialization, true);
+    }
+
+    public IMultiStatus getErrorStatus(int slot, int columnIndex) {
+      return (IMultiStatus) get(m_errorStatus, slot, columnIndex);
+    }
+
+    public void setErrorStatus(int slot, int columnIndex, IMultiStatus errorStatus) {
+      m_errorStatus = set(m_errorStatus, slot, columnIndex, errorStatus, false);
+    }
+
+    protected void copyFrom(Segment source, int sourceSlot, int slot) {
+      for (int col = 0; col < source.m_values.length; col++) {
+        setValue(slot, col, source.getValue(sourceSlot, col));
+      }
+      for (int col = 0; col < source.m_texts.length; col++) {
+        setText(slot, col, source.getText(sourceSlot, col));
+      }
+      for (int col = 0; col < source.m_cellSpecializations.length; col++) {
+        setCellSpecialization(slot, col, source.getCellSpecialization(sourceSlot, col));
+      }
+      for (int col = 0; col < source.m_errorStatus.length; col++) {
+        setErrorStatus(slot, col, source.getErrorStatus(sourceSlot, col));
+      }
+    }
+
+    protected Object get(ColumnVector[] vectors, int slot, int columnIndex) {
+      if (columnIndex >= vectors.length || vectors[columnIndex] == null) {
+        return null;
+      }
+      return vectors[columnIndex].get(slot);
+    }
+
+    /**
+     * Vectors are created when the first non-null value is set.
+     *
+     * @param dictionary
+     *          <code>true</code> to create a {@link ColumnVector.DictionaryVector} accepting any value,
+     *          <code>false</code> to create the vector according to the type of the value
+     */
+    protected ColumnVector[] set(ColumnVector[] vectors, int slot, int columnIndex, Object value, boolean dictionary) {
+      if (columnIndex >= vectors.length || vectors[columnIndex] == null) {
+        if (value == null) {
+          return vectors;
+        }
+        if (columnIndex >= vectors.length) {
+          vectors = Arrays.copyOf(vectors, columnIndex + 1);
+        }
+        vectors[columnIndex] = dictionary ? new ColumnVector.DictionaryVector(null) : ColumnVector.create(value);
+      }
+      vectors[columnIndex] = vectors[columnIndex].set(slot, value);
+      return vectors;
+    }
+
+    /**
+     * @return the vector holding the values of the given column or <code>null</code> if no value was set yet
+     */
+    public ColumnVector getValueVector(int columnIndex) {
+      return columnIndex < m_values.length ? m_values[columnIndex] : null;
+    }
+
+    /**
+     * @return the vector holding the texts of the given column or <code>null</code> if no text was set yet
+     */
+    public ColumnVector getTextVector(int columnIndex) {
+      return columnIndex < m_texts.length ? m_texts[columnIndex] : null;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+
+/**
+ * Internal table row whose cells are stored in a {@link ColumnarRowStore} instead of a list of
+ * {@link org.eclipse.scout.rt.client.ui.basic.cell.Cell Cell} objects. The cells returned by {@link #getCell(int)} and
+ * {@link #getCellForUpdate(int)} are views created on demand, see {@link ColumnarCell}.
+ *
+ * @since 23.2
+ */
+public class ColumnarTableRow extends InternalTableRow {
+
+  public ColumnarTableRow(ITable table, ITableRow row, ColumnarRowStore store) {
+    super(table, row, store.createCellList());
+  }
+
+  protected ColumnarCellList getCellList() {
+    return (ColumnarCellList) m_cells;
+  }
+
+  @Override
+  public Object getCellValue(int columnIndex) {
+    if (columnIndex < 0 || columnIndex >= getCellCount()) {
+      return null;
+    }
+    // read from the store without creating a cell view, used by sorting, filtering and key lookups
+    return getCellList().getValue(columnIndex);
+  }
+
+  @Override
+  protected int getColumnIndex(ICell cell) {
+    return getCellList().indexOf(cell);
+  }
+
+  /**
+   * do not use this internal method
+   * <p>
+   * Marks the storage of the cells as no longer used by the table. The cells remain readable.
+   */
+  public void releaseCellsInternal() {
+    getCellList().release();
+  }
+}
@@ -49,7 +49,18 @@ public class InternalTableRow extends TableRow implements ICellObserver {
   }
 
   public InternalTableRow(ITable table, ITableRow row) {
-    super(table.getColumnSet(), row);
+    this(table, row, new ArrayList<>(table.getColumnSet().getColumnCount()));
+  }
+
+  /**
+   * Creates an internal row for the given row whose cells are held by the given list.
+   *
+   * @param cells
+   *          empty list the cells of the given row are added to
+   * @since 23.2
+   */
+  protected InternalTableRow(ITable table, ITableRow row, List<Cell> cells) {
+    super(table.getColumnSet(), row, cells);
     m_updatedCells = new HashMap<>(table.getColumnSet().getColumnCount());
     setFilterAcceptedInternal(true);
     setEnabled(row.isEnabled());
@@ -216,7 +227,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     int[] keyColumns = columnSet.getKeyColumnCount() > 0 ? columnSet.getKeyColumnIndexes() : columnSet.getAllColumnIndexes();
     List<Object> pk = new ArrayList<>(keyColumns.length);
     for (int keyIndex : keyColumns) {
-      pk.add(getCell(keyIndex).getValue());
+      pk.add(getCellValue(keyIndex));
     }
     return pk;
   }
@@ -227,7 +238,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     if (getTable() != null) {
       int[] keyColumns = getTable().getColumnSet().getParentKeyColumnIndexes();
       for (int keyIndex : keyColumns) {
-        pk.add(getCell(keyIndex).getValue());
+        pk.add(getCellValue(keyIndex));
       }
     }
     return pk;
@@ -426,13 +437,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     else {
       // validate value
       if (getTable() != null) {
-        int colIndex = -1;
-        for (int i = 0; i < m_cells.size(); i++) {
-          if (getCell(i) == cell) {
-            colIndex = i;
-            break;
-          }
-        }
+        int colIndex = getColumnIndex(cell);
         if (colIndex >= 0) {
           IColumn column = getTable().getColumnSet().getColumn(colIndex);
           value = column.parseValue(this, value);
@@ -442,6 +447,18 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     }
   }
 
+  /**
+   * @return the index of the column the given cell of this row belongs to or -1 if it is not a cell of this row
+   */
+  protected int getColumnIndex(ICell cell) {
+    for (int i = 0; i < m_cells.size(); i++) {
+      if (getCell(i) == cell) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   @Override
   public void cellChanged(ICell cell, int changedBit) {
     try {
@@ -497,7 +514,6 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     return getColumnIndexes(getChangedCells(changedBit));
   }
 
-  @SuppressWarnings("SuspiciousMethodCalls")
   private Set<Integer> getColumnIndexes(List<ICell> cells) {
     if (CollectionUtility.isEmpty(cells)) {
       return Collections.emptySet();
@@ -505,7 +521,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
 
     Set<Integer> result = new HashSet<>();
     for (ICell cell : cells) {
-      result.add(m_cells.indexOf(cell));
+      result.add(getColumnIndex(cell));
     }
     return result;
   }
@@ -1050,6 +1050,30 @@ public class JsonDataObjectsSerializationTest {
     assertJsonEquals("TestEmptyDoEntity.json", json);
   }
 
+  @Test
+  public void testSerialize_TypedDoAttributeOrder() throws Exception {
+    TestItemDo testDo = BEANS.get(TestItemDo.class).withStringAttribute("bar").withId("foo");
+    String json = s_dataObjectMapper.writeValueAsString(testDo);
+    assertEquals(Arrays.asList("_type", "id", "stringAttribute"), fieldNames(json));
+
+    // dynamic attributes are merged with the declared attributes
+    testDo.put("zulu", "z");
+    testDo.put("alfa", "a");
+    testDo.put("kilo", "k");
+    json = s_dataObjectMapper.writeValueAsString(testDo);
+    assertEquals(Arrays.asList("_type", "alfa", "id", "kilo", "stringAttribute", "zulu"), fieldNames(json));
+
+    testDo.remove("id");
+    json = s_dataObjectMapper.writeValueAsString(testDo);
+    assertEquals(Arrays.asList("_type", "alfa", "kilo", "stringAttribute", "zulu"), fieldNames(json));
+  }
+
+  protected List<String> fieldNames(String json) throws JsonProcessingException {
+    List<String> fieldNames = new ArrayList<>();
+    s_dataObjectMapper.readTree(json).fieldNames().forEachRemaining(fieldNames::add);
+    return fieldNames;
+  }
+
   @Test
   public void testSerialize_EmptyAttributeNameDo() throws Exception {
     DoEntity testDo = BEANS.get(DoEntity.class);
@@ -12,12 +12,15 @@ package org.eclipse.scout.rt.jackson.dataobject;
 import static org.eclipse.scout.rt.platform.util.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.dataobject.DataObjectInventory;
 import org.eclipse.scout.rt.dataobject.DoEntity;
@@ -50,6 +53,12 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
   protected final ScoutDataObjectModuleContext m_context;
 
+  /**
+   * Attribute names declared by an entity class (see {@link DataObjectInventory#getAttributesDescription(Class)}),
+   * sorted by {@link ScoutDataObjectModuleContext#getComparator()}.
+   */
+  protected final Map<Class<? extends IDoEntity>, String[]> m_sortedAttributeNames = new ConcurrentHashMap<>();
+
   public DoEntitySerializer(ScoutDataObjectModuleContext context, JavaType type) {
     super(type);
     m_context = context;
@@ -71,18 +80,88 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
   /**
    * Serialize all fields of specified {@link IDoEntity} sorted alphabetically.
+   * <p>
+   * The order of the attributes declared by the entity class is computed once per class. Only attributes which are not
+   * declared (e.g. attributes of a raw {@link DoEntity}) are sorted for each entity.
    */
   protected void serializeAttributes(IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
     serializeTypeVersion(gen, entity);
-    TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(m_context.getComparator());
-    sortedMap.putAll(entity.allNodes());
-    for (Map.Entry<String, DoNode<?>> e : sortedMap.entrySet()) {
-      gen.setCurrentValue(entity);
-      serializeAttribute(e.getKey(), e.getValue(), gen, provider);
+    Map<String, DoNode<?>> nodes = entity.allNodes();
+    String[] declaredAttributeNames = getSortedAttributeNames(entity.getClass());
+    if (countAvailableAttributes(nodes, declaredAttributeNames) == nodes.size()) {
+      // all attributes are declared: no sorting required
+      for (String attributeName : declaredAttributeNames) {
+        DoNode<?> node = nodes.get(attributeName);
+        if (node != null) {
+          gen.setCurrentValue(entity);
+          serializeAttribute(attributeName, node, gen, provider);
+        }
+      }
+    }
+    else {
+      for (String attributeName : sortAttributeNames(nodes, declaredAttributeNames)) {
+        gen.setCurrentValue(entity);
+        serializeAttribute(attributeName, nodes.get(attributeName), gen, provider);
+      }
     }
     serializeContributions(gen, entity, provider);
   }
 
+  /**
+   * @return attribute names declared by the given entity class sorted by
+   *         {@link ScoutDataObjectModuleContext#getComparator()}
+   */
+  protected String[] getSortedAttributeNames(Class<? extends IDoEntity> entityClass) {
+    if (entityClass == DoEntity.class) {
+      return new String[0];
+    }
+    return m_sortedAttributeNames.computeIfAbsent(entityClass, c -> {
+      String[] attributeNames = m_dataObjectInventory.get().getAttributesDescription(c).keySet().toArray(new String[0]);
+      Arrays.sort(attributeNames, m_context.getComparator());
+      return attributeNames;
+    });
+  }
+
+  protected int countAvailableAttributes(Map<String, DoNode<?>> nodes, String[] attributeNames) {
+    int count = 0;
+    for (String attributeName : attributeNames) {
+      if (nodes.containsKey(attributeName)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Sorts the attributes which are not declared and merges them with the already sorted declared attributes.
+   *
+   * @return names of all given nodes sorted by {@link ScoutDataObjectModuleContext#getComparator()}
+   */
+  protected List<String> sortAttributeNames(Map<String, DoNode<?>> nodes, String[] declaredAttributeNames) {
+    DoEntitySerializerAttributeNameComparator comparator = m_context.getComparator();
+    List<String> otherAttributeNames = new ArrayList<>();
+    for (String attributeName : nodes.keySet()) {
+      if (Arrays.binarySearch(declaredAttributeNames, attributeName, comparator) < 0) {
+        otherAttributeNames.add(attributeName);
+      }
+    }
+    otherAttributeNames.sort(comparator);
+
+    List<String> sortedAttributeNames = new ArrayList<>(nodes.size());
+    int otherIndex = 0;
+    for (String attributeName : declaredAttributeNames) {
+      if (!nodes.containsKey(attributeName)) {
+        continue;
+      }
+      while (otherIndex < otherAttributeNames.size() && comparator.compare(otherAttributeNames.get(otherIndex), attributeName) < 0) {
+        sortedAttributeNames.add(otherAttributeNames.get(otherIndex++));
+      }
+      sortedAttributeNames.add(attributeName);
+    }
+    sortedAttributeNames.addAll(otherAttributeNames.subList(otherIndex, otherAttributeNames.size()));
+    return sortedAttributeNames;
+  }
+
   protected void serializeTypeVersion(JsonGenerator gen, IDoEntity entity) throws IOException {
     NamespaceVersion typeVersion = m_dataObjectInventory.get().getTypeVersion(entity.getClass());
     if (typeVersion != null) {
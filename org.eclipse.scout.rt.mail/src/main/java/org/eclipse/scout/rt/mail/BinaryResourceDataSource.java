@@ -58,6 +58,9 @@ public class BinaryResourceDataSource implements DataSource {
 
   @Override
   public InputStream getInputStream() throws IOException {
+    if (!m_binaryResource.hasContentInMemory()) {
+      return m_binaryResource.openContentStream();
+    }
     return new SharedByteArrayInputStream(m_binaryResource.getContent(), 0, m_binaryResource.getContentLength());
   }
 
@@ -51,7 +51,10 @@ public class MailAttachment {
 
   public MailAttachment(BinaryResource binaryResource, String contentId) {
     this(new BinaryResourceDataSource(binaryResource), binaryResource.getContentType(), binaryResource.getFilename(), contentId);
-    m_content = binaryResource.getContent();
+    if (binaryResource.hasContentInMemory()) {
+      m_content = binaryResource.getContent();
+    }
+    // otherwise read lazily from the data source, which streams the content when the mail is written
   }
 
   public DataSource getDataSource() {
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.inprocess;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.mom.api.IBiDestination;
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.IMomImplementor;
+import org.eclipse.scout.rt.mom.api.ISubscription;
+import org.eclipse.scout.rt.mom.api.MOM;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
+import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class InProcessMomImplementorTest {
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  private InProcessMomImplementor m_mom;
+
+  @Before
+  public void before() throws Exception {
+    m_mom = createMom(false);
+  }
+
+  @After
+  public void after() {
+    m_mom.destroy();
+  }
+
+  protected InProcessMomImplementor createMom(boolean passThrough) throws Exception {
+    InProcessMomImplementor mom = BEANS.get(InProcessMomImplementor.class);
+    Map<Object, Object> env = new HashMap<>();
+    env.put(IMomImplementor.SYMBOLIC_NAME, "in-process test MOM");
+    env.put(IMomImplementor.MARSHALLER, BEANS.get(TextMarshaller.class));
+    env.put(InProcessMomImplementor.PASS_THROUGH, passThrough);
+    mom.init(env);
+    return mom;
+  }
+
+  @Test
+  public void testPublishSubscribeQueue() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/inprocess/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    ISubscription subscription = m_mom.subscribe(queue, message -> received.add(message.getTransferObject() + "/" + message.getProperty("prop")), MOM.newSubscribeInput());
+
+    m_mom.publish(queue, "hello", MOM.newPublishInput().withProperty("prop", "value"));
+
+    assertEquals("hello/value", received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertEquals(1, subscription.getStats().receivedMessages());
+    assertNotNull(subscription.getStats().lastMessageReceivedTimestamp());
+    assertEquals(0, subscription.getStats().receivedErrors());
+  }
+
+  @Test
+  public void testQueueKeepsMessagesUntilSubscribed() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/inprocess/pending", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.publish(queue, "first", MOM.newPublishInput());
+    m_mom.publish(queue, "second", MOM.newPublishInput());
+
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+
+    assertEquals("first", received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertEquals("second", received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testQueueDeliversMessageOnce() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/inprocess/competing", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    int messageCount = 500;
+    AtomicInteger count = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(messageCount);
+    for (int i = 0; i < 3; i++) {
+      m_mom.subscribe(queue, message -> {
+        count.incrementAndGet();
+        latch.countDown();
+      }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+    }
+
+    for (int i = 0; i < messageCount; i++) {
+      m_mom.publish(queue, "message-" + i, MOM.newPublishInput());
+    }
+
+    assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    Thread.sleep(100); // no duplicates arriving late
+    assertEquals(messageCount, count.get());
+  }
+
+  @Test
+  public void testTopicDeliversToAllSubscriptions() throws InterruptedException {
+    IDestination<String> topic = MOM.newDestination("test/inprocess/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    m_mom.publish(topic, "lost", MOM.newPublishInput()); // no subscription yet
+
+    BlockingQueue<String> received1 = new LinkedBlockingQueue<>();
+    BlockingQueue<String> received2 = new LinkedBlockingQueue<>();
+    m_mom.subscribe(topic, message -> received1.add(message.getTransferObject()), MOM.newSubscribeInput());
+    ISubscription subscription2 = m_mom.subscribe(topic, message -> received2.add(message.getTransferObject()), MOM.newSubscribeInput());
+
+    m_mom.publish(topic, "hello", MOM.newPublishInput());
+    assertEquals("hello", received1.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertEquals("hello", received2.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    subscription2.dispose();
+    assertEquals(1, m_mom.getSubscriptions().size());
+    m_mom.publish(topic, "world", MOM.newPublishInput());
+    assertEquals("world", received1.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertTrue(received2.isEmpty());
+  }
+
+  @Test
+  public void testDurableSubscription() throws InterruptedException {
+    IDestination<String> topic = MOM.newDestination("test/inprocess/durable", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    SubscribeInput input = MOM.newSubscribeInput()
+        .withDurableSubscription("durable")
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED);
+
+    m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), input).dispose();
+    m_mom.publish(topic, "while unsubscribed", MOM.newPublishInput());
+
+    ISubscription subscription = m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), input);
+    assertEquals("while unsubscribed", received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    subscription.dispose();
+
+    m_mom.cancelDurableSubscription("durable");
+    m_mom.publish(topic, "after cancel", MOM.newPublishInput());
+    m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), input);
+    assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testTransactedRedelivery() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/inprocess/transacted", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    AtomicInteger attempts = new AtomicInteger();
+    ISubscription subscription = m_mom.subscribe(queue, message -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new RuntimeException("expected JUnit test exception");
+      }
+      received.add(message.getTransferObject());
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED));
+
+    m_mom.publish(queue, "hello", MOM.newPublishInput());
+
+    assertEquals("hello", received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertEquals(2, attempts.get());
+    assertEquals(2, subscription.getStats().receivedMessages());
+    assertEquals(1, subscription.getStats().receivedErrors());
+  }
+
+  @Test
+  public void testTransactionalPublish() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/inprocess/transactional", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+
+    RunContexts.empty().run(() -> {
+      m_mom.publish(queue, "rolled back", MOM.newPublishInput().withTransactional(true));
+      ITransaction.CURRENT.get().addFailure(new RuntimeException("expected JUnit test exception"));
+    });
+    RunContexts.empty().run(() -> {
+      m_mom.publish(queue, "committed", MOM.newPublishInput().withTransactional(true));
+      Thread.sleep(100);
+      assertTrue("message must not be sent before commit", received.isEmpty());
+    });
+
+    assertEquals("committed", received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testRequestReply() {
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/inprocess/requestreply", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.reply(queue, request -> request.getTransferObject().toUpperCase(), MOM.newSubscribeInput());
+
+    assertEquals("HELLO", m_mom.request(queue, "hello", MOM.newPublishInput()));
+    assertEquals("WORLD", m_mom.request(queue, "world", MOM.newPublishInput().withRequestReplyTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+  }
+
+  @Test
+  public void testRequestReplyFailure() {
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/inprocess/requestreplyfailure", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.reply(queue, request -> {
+      throw new IllegalStateException("expected JUnit test exception");
+    }, MOM.newSubscribeInput());
+
+    try {
+      m_mom.request(queue, "hello", MOM.newPublishInput());
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException e) {
+      assertEquals("expected JUnit test exception", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testRequestReplyTimeoutCancelsReplier() throws InterruptedException {
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/inprocess/requestreplytimeout", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    m_mom.reply(queue, request -> {
+      started.countDown();
+      try {
+        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+      }
+      catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return "too late";
+    }, MOM.newSubscribeInput());
+
+    try {
+      m_mom.request(queue, "hello", MOM.newPublishInput().withRequestReplyTimeout(200, TimeUnit.MILLISECONDS));
+      fail("TimedOutError expected");
+    }
+    catch (TimedOutError e) {
+      // expected
+    }
+    assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertTrue("replier not interrupted", interrupted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testMarshalling() throws Exception {
+    IDestination<ArrayList<String>> queue = MOM.newDestination("test/inprocess/marshalling", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.registerMarshaller(queue, BEANS.get(ObjectMarshaller.class));
+    ArrayList<String> transferObject = new ArrayList<>(List.of("a", "b"));
+
+    Object received = publishAndReceive(m_mom, queue, transferObject);
+    assertEquals(transferObject, received);
+    assertNotSame(transferObject, received);
+  }
+
+  @Test
+  public void testPassThrough() throws Exception {
+    InProcessMomImplementor mom = createMom(true);
+    try {
+      IDestination<ArrayList<String>> queue = MOM.newDestination("test/inprocess/passthrough", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+      ArrayList<String> transferObject = new ArrayList<>(List.of("a", "b"));
+
+      assertSame(transferObject, publishAndReceive(mom, queue, transferObject));
+      assertNull(publishAndReceive(mom, queue, null));
+    }
+    finally {
+      mom.destroy();
+    }
+  }
+
+  protected <DTO> Object publishAndReceive(InProcessMomImplementor mom, IDestination<DTO> queue, DTO transferObject) throws InterruptedException {
+    BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+    ISubscription subscription = mom.subscribe(queue, message -> received.add(message.getTransferObject() == null ? "null" : message.getTransferObject()), MOM.newSubscribeInput());
+    try {
+      mom.publish(queue, transferObject, MOM.newPublishInput());
+      Object result = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      return "null".equals(result) ? null : result;
+    }
+    finally {
+      subscription.dispose();
+    }
+  }
+
+  @Test
+  public void testDestroy() throws Exception {
+    InProcessMomImplementor mom = createMom(false);
+    IDestination<String> queue = MOM.newDestination("test/inprocess/destroy", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    ISubscription subscription = mom.subscribe(queue, message -> {
+    }, MOM.newSubscribeInput());
+
+    mom.destroy();
+    assertTrue(subscription.isDisposed());
+    assertTrue(mom.getSubscriptions().isEmpty());
+  }
+}
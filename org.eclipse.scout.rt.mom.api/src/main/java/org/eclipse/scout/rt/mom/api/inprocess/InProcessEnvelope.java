@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.inprocess;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Immutable message transported by the {@link InProcessMomImplementor}. It contains the transfer object in its
+ * transport representation as produced by the {@link IMarshaller} (or the transfer object itself in pass-through mode)
+ * together with the marshaller context and the message properties.
+ *
+ * @since 23.2
+ */
+public class InProcessEnvelope {
+
+  private final Object m_data;
+  private final boolean m_nullObject;
+  private final boolean m_passThrough;
+  private final Map<String, String> m_marshallerContext;
+  private final Map<String, String> m_properties;
+  private final String m_correlationId;
+  private final String m_replyId;
+  private final long m_expiresAt;
+  private final int m_deliveryCount;
+
+  public InProcessEnvelope(Object data, boolean nullObject, boolean passThrough, Map<String, String> marshallerContext, Map<String, String> properties, String correlationId, String replyId, long expiresAt) {
+    this(data, nullObject, passThrough, marshallerContext, properties, correlationId, replyId, expiresAt, 1);
+  }
+
+  protected InProcessEnvelope(Object data, boolean nullObject, boolean passThrough, Map<String, String> marshallerContext, Map<String, String> properties, String correlationId, String replyId, long expiresAt,
+      int deliveryCount) {
+    m_data = data;
+    m_nullObject = nullObject;
+    m_passThrough = passThrough;
+    m_marshallerContext = Collections.unmodifiableMap(marshallerContext);
+    m_properties = Collections.unmodifiableMap(properties);
+    m_correlationId = correlationId;
+    m_replyId = replyId;
+    m_expiresAt = expiresAt;
+    m_deliveryCount = deliveryCount;
+  }
+
+  /**
+   * @return the transport representation of the transfer object, or the transfer object itself if
+   *         {@link #isPassThrough()}
+   */
+  public Object getData() {
+    return m_data;
+  }
+
+  /**
+   * @return <code>true</code> if the transfer object was <code>null</code>
+   */
+  public boolean isNullObject() {
+    return m_nullObject;
+  }
+
+  /**
+   * @return <code>true</code> if the transfer object was not marshalled
+   */
+  public boolean isPassThrough() {
+    return m_passThrough;
+  }
+
+  public Map<String, String> getMarshallerContext() {
+    return m_marshallerContext;
+  }
+
+  public Map<String, String> getProperties() {
+    return m_properties;
+  }
+
+  public String getCorrelationId() {
+    return m_correlationId;
+  }
+
+  /**
+   * @return the id to correlate the reply in 'request-reply' communication, or <code>null</code> for a message which
+   *         does not expect a reply
+   */
+  public String getReplyId() {
+    return m_replyId;
+  }
+
+  /**
+   * @return <code>true</code> if the time-to-live of this message has elapsed
+   */
+  public boolean isExpired(long now) {
+    return now > m_expiresAt;
+  }
+
+  /**
+   * @return number of deliveries of this message, starting with <code>1</code>
+   */
+  public int getDeliveryCount() {
+    return m_deliveryCount;
+  }
+
+  /**
+   * @return a copy of this envelope to be delivered once again
+   */
+  public InProcessEnvelope redeliver() {
+    return new InProcessEnvelope(m_data, m_nullObject, m_passThrough, m_marshallerContext, m_properties, m_correlationId, m_replyId, m_expiresAt, m_deliveryCount + 1);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attr("replyId", m_replyId)
+        .attr("deliveryCount", m_deliveryCount)
+        .attr("properties", m_properties)
+        .toString();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.inprocess;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Lock-free buffer of messages consumed by one or more {@link InProcessSubscription}s.
+ * <p>
+ * A queue destination has a single mailbox shared by all its subscriptions (competing consumers). Every subscription of
+ * a topic has its own mailbox. The mailbox of a durable topic subscription outlives the subscription, so that messages
+ * are kept while there is no consumer.
+ *
+ * @since 23.2
+ */
+public class InProcessMailbox {
+
+  private final String m_name;
+  private final ConcurrentLinkedDeque<InProcessEnvelope> m_messages = new ConcurrentLinkedDeque<>();
+  private final List<InProcessSubscription<?>> m_consumers = new CopyOnWriteArrayList<>();
+
+  public InProcessMailbox(String name) {
+    m_name = name;
+  }
+
+  public String getName() {
+    return m_name;
+  }
+
+  /**
+   * Adds a message and notifies the consumers.
+   */
+  public void offer(InProcessEnvelope envelope) {
+    m_messages.offer(envelope);
+    signalConsumers();
+  }
+
+  /**
+   * Puts a message back to the head of this mailbox, e.g. if its processing was rolled back.
+   */
+  public void offerFirst(InProcessEnvelope envelope) {
+    m_messages.offerFirst(envelope);
+    signalConsumers();
+  }
+
+  /**
+   * @return next message or <code>null</code> if empty
+   */
+  public InProcessEnvelope poll() {
+    return m_messages.poll();
+  }
+
+  public boolean isEmpty() {
+    return m_messages.isEmpty();
+  }
+
+  /**
+   * @return number of messages not consumed yet
+   */
+  public int size() {
+    return m_messages.size();
+  }
+
+  public void clear() {
+    m_messages.clear();
+  }
+
+  public void addConsumer(InProcessSubscription<?> consumer) {
+    m_consumers.add(consumer);
+    consumer.signal();
+  }
+
+  public void removeConsumer(InProcessSubscription<?> consumer) {
+    m_consumers.remove(consumer);
+  }
+
+  public boolean hasConsumers() {
+    return !m_consumers.isEmpty();
+  }
+
+  /**
+   * Wakes up the first idle consumer. If all consumers are busy, the message is taken by the first consumer which
+   * finishes its current work.
+   */
+  protected void signalConsumers() {
+    for (InProcessSubscription<?> consumer : m_consumers) {
+      if (consumer.signal()) {
+        return;
+      }
+    }
+  }
+}
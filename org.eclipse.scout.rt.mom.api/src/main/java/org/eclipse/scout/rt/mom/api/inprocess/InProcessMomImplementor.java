@@ -0,0 +1,601 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.inprocess;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.mom.api.IBiDestination;
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IMessage;
+import org.eclipse.scout.rt.mom.api.IMessageListener;
+import org.eclipse.scout.rt.mom.api.IMomImplementor;
+import org.eclipse.scout.rt.mom.api.IRequestListener;
+import org.eclipse.scout.rt.mom.api.ISubscription;
+import org.eclipse.scout.rt.mom.api.PublishInput;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationNameProperty;
+import org.eclipse.scout.rt.platform.context.CorrelationId;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.job.IBlockingCondition;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.util.BooleanUtility;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.platform.util.NumberUtility;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MOM implementor which transports messages within the JVM, without JMS, broker or network connection. Use it for
+ * single-node deployments and tests.
+ * <p>
+ * Queues and topics are kept in memory and are local to this implementor instance, i.e. two MOM transports using this
+ * implementor do not see each other's messages. Messages are not persisted, thus pending messages are lost upon
+ * {@link #destroy()}. All data structures on the message path are lock-free, publishing never blocks.
+ * <ul>
+ * <li>A message published to a queue is consumed by exactly one subscription. If there is no subscription, the message
+ * is kept until a subscription is made.</li>
+ * <li>A message published to a topic is delivered to all current subscriptions. A durable subscription keeps receiving
+ * messages while unsubscribed, until it is cancelled by {@link #cancelDurableSubscription(String)}.</li>
+ * <li>In {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED} mode, a message is delivered again if the receiving transaction
+ * is rolled back, at most {@link #MAX_REDELIVERIES} times.</li>
+ * <li>Cancelling a 'request-reply' communication cancels the job processing the request directly, no cancellation topic
+ * is required.</li>
+ * </ul>
+ * Transfer objects are marshalled and unmarshalled with the {@link IMarshaller} of the destination, so that publisher
+ * and subscribers never share an instance, like with a broker. If {@link #PASS_THROUGH} is enabled, the transfer object
+ * is passed to the subscribers as it is instead (zero-copy). Only enable this if transfer objects are not modified after
+ * publishing or by the subscribers.
+ * <p>
+ * Selectors are not supported. Message priority, delivery mode and {@link SubscribeInput#isLocalReceipt()} are ignored.
+ *
+ * @since 23.2
+ */
+public class InProcessMomImplementor implements IMomImplementor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InProcessMomImplementor.class);
+
+  /**
+   * Specifies whether transfer objects are passed to the subscribers without marshalling. The default value is
+   * <code>false</code>.
+   */
+  public static final String PASS_THROUGH = "scout.mom.inprocess.passThrough";
+
+  /**
+   * Specifies how many times a message is delivered again after the receiving transaction was rolled back (only
+   * {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED}). The default value is {@link #DEFAULT_MAX_REDELIVERIES}.
+   */
+  public static final String MAX_REDELIVERIES = "scout.mom.inprocess.maxRedeliveries";
+
+  public static final int DEFAULT_MAX_REDELIVERIES = 6;
+
+  protected final String m_momUid = UUID.randomUUID().toString();
+
+  protected String m_symbolicName;
+  protected boolean m_requestReplyEnabled;
+  protected boolean m_passThrough;
+  protected int m_maxRedeliveries = DEFAULT_MAX_REDELIVERIES;
+  protected IMarshaller m_defaultMarshaller;
+
+  protected final Map<IDestination, IMarshaller> m_marshallers = new ConcurrentHashMap<>();
+  protected final ConcurrentMap<String, InProcessMailbox> m_queues = new ConcurrentHashMap<>();
+  protected final ConcurrentMap<String, CopyOnWriteArrayList<InProcessMailbox>> m_topics = new ConcurrentHashMap<>();
+  protected final Map<String, InProcessMailbox> m_durableMailboxes = new HashMap<>();
+  protected final Set<ISubscription> m_subscriptions = ConcurrentHashMap.newKeySet();
+  protected final ConcurrentMap<String, P_PendingReply> m_pendingReplies = new ConcurrentHashMap<>();
+
+  @Override
+  public void init(final Map<Object, Object> properties) throws Exception {
+    m_symbolicName = Objects.toString(properties.get(SYMBOLIC_NAME), StringUtility.join(" ", CONFIG.getPropertyValue(ApplicationNameProperty.class), "MOM"));
+    m_defaultMarshaller = createDefaultMarshaller(properties);
+    m_requestReplyEnabled = BooleanUtility.nvl(
+        TypeCastUtility.castValue(properties.get(REQUEST_REPLY_ENABLED), Boolean.class),
+        CONFIG.getPropertyValue(RequestReplyEnabledProperty.class));
+    m_passThrough = BooleanUtility.nvl(TypeCastUtility.castValue(properties.get(PASS_THROUGH), Boolean.class));
+    m_maxRedeliveries = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(MAX_REDELIVERIES), Integer.class), DEFAULT_MAX_REDELIVERIES);
+    LOG.info("{} initialized: in-process [passThrough={}, requestReplyEnabled={}]", m_symbolicName, m_passThrough, m_requestReplyEnabled);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected IMarshaller createDefaultMarshaller(final Map<Object, Object> properties) {
+    Object prop = properties.get(MARSHALLER);
+    if (prop instanceof IMarshaller) {
+      return (IMarshaller) prop;
+    }
+    else {
+      Class<? extends IMarshaller> marshallerClass;
+      String marshallerClassName = ObjectUtility.toString(prop);
+      if (marshallerClassName != null) {
+        try {
+          marshallerClass = (Class<? extends IMarshaller>) Class.forName(marshallerClassName);
+        }
+        catch (final ClassNotFoundException | ClassCastException e) {
+          throw new PlatformException("Failed to load class specified by environment property '{}' [value={}]", MARSHALLER, marshallerClassName, e);
+        }
+      }
+      else {
+        marshallerClass = CONFIG.getPropertyValue(DefaultMarshallerProperty.class);
+      }
+      return BEANS.get(marshallerClass);
+    }
+  }
+
+  public JobInput newJobInput() {
+    return Jobs.newInput()
+        .withExceptionHandling(BEANS.get(MomExceptionHandler.class), true)
+        .withExecutionHint(m_momUid);
+  }
+
+  public boolean isPassThrough() {
+    return m_passThrough;
+  }
+
+  public int getMaxRedeliveries() {
+    return m_maxRedeliveries;
+  }
+
+  @Override
+  public String getId() {
+    return m_momUid;
+  }
+
+  @Override
+  public String getName() {
+    return m_symbolicName;
+  }
+
+  @Override
+  public List<ISubscription> getSubscriptions() {
+    return new ArrayList<>(m_subscriptions);
+  }
+
+  @Override
+  public <DTO> void publish(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+    InProcessEnvelope envelope = createEnvelope(resolveMarshaller(destination), transferObject, input.getProperties(), null, input.getTimeToLive());
+    if (input.isTransactional()) {
+      publishTransactional(destination, envelope);
+    }
+    else {
+      route(destination, envelope);
+    }
+  }
+
+  protected void publishTransactional(final IDestination<?> destination, final InProcessEnvelope envelope) {
+    final ITransaction currentTransaction = assertNotNull(ITransaction.CURRENT.get(), "Transaction required for transactional messaging");
+    currentTransaction.registerMemberIfAbsent(m_momUid, P_TransactionalPublishMember::new).add(destination, envelope);
+  }
+
+  /**
+   * Delivers the message to the mailbox of the queue, or to the mailboxes of all subscriptions of the topic.
+   */
+  protected void route(final IDestination<?> destination, final InProcessEnvelope envelope) {
+    if (destination.getType() == DestinationType.QUEUE) {
+      getOrCreateQueue(destination.getName()).offer(envelope);
+    }
+    else if (destination.getType() == DestinationType.TOPIC) {
+      List<InProcessMailbox> mailboxes = m_topics.get(destination.getName());
+      if (mailboxes != null) {
+        for (InProcessMailbox mailbox : mailboxes) {
+          mailbox.offer(envelope);
+        }
+      }
+    }
+    else {
+      fail("Unsupported destination type [destination={}]", destination);
+    }
+  }
+
+  protected InProcessMailbox getOrCreateQueue(String name) {
+    return m_queues.computeIfAbsent(name, InProcessMailbox::new);
+  }
+
+  protected CopyOnWriteArrayList<InProcessMailbox> getOrCreateTopic(String name) {
+    return m_topics.computeIfAbsent(name, k -> new CopyOnWriteArrayList<>());
+  }
+
+  /**
+   * Creates the message to be delivered. The transfer object is marshalled once, every subscription unmarshalls its own
+   * instance.
+   */
+  protected InProcessEnvelope createEnvelope(IMarshaller marshaller, Object transferObject, Map<String, String> properties, String replyId, long timeToLive) {
+    Map<String, String> marshallerContext = new HashMap<>();
+    Object data = null;
+    if (transferObject != null) {
+      data = m_passThrough ? transferObject : marshaller.marshall(transferObject, marshallerContext);
+    }
+    long expiresAt = timeToLive > 0 ? System.currentTimeMillis() + timeToLive : Long.MAX_VALUE;
+    return new InProcessEnvelope(data, transferObject == null, m_passThrough, marshallerContext, new HashMap<>(properties), CorrelationId.CURRENT.get(), replyId, expiresAt);
+  }
+
+  /**
+   * Creates the message passed to the listener of a subscription.
+   */
+  @SuppressWarnings("unchecked")
+  public <DTO> IMessage<DTO> readMessage(InProcessEnvelope envelope, IMarshaller marshaller) {
+    DTO transferObject = null;
+    if (!envelope.isNullObject()) {
+      if (envelope.isPassThrough()) {
+        transferObject = (DTO) envelope.getData();
+      }
+      else {
+        transferObject = (DTO) marshaller.unmarshall(envelope.getData(), new HashMap<>(envelope.getMarshallerContext()));
+      }
+    }
+    return new P_Message<>(transferObject, envelope);
+  }
+
+  @Override
+  public <DTO> ISubscription subscribe(final IDestination<DTO> destination, final IMessageListener<DTO> listener, final SubscribeInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "messageListener not specified");
+    assertNotNull(input, "input not specified");
+    return subscribeImpl(destination, listener, null, input);
+  }
+
+  protected <DTO> ISubscription subscribeImpl(final IDestination<DTO> destination, final IMessageListener<DTO> listener, final IRequestListener<DTO, ?> requestListener, final SubscribeInput input) {
+    assertNull(input.getSelector(), "Selectors are not supported by {} [selector={}]", getClass().getSimpleName(), input.getSelector());
+
+    InProcessMailbox mailbox;
+    if (destination.getType() == DestinationType.QUEUE) {
+      mailbox = getOrCreateQueue(destination.getName());
+    }
+    else if (destination.getType() == DestinationType.TOPIC) {
+      mailbox = input.getDurableSubscriptionName() != null ? getOrCreateDurableMailbox(destination.getName(), input.getDurableSubscriptionName()) : new InProcessMailbox(destination.getName());
+      getOrCreateTopic(destination.getName()).addIfAbsent(mailbox);
+    }
+    else {
+      mailbox = fail("Unsupported destination type [destination={}]", destination);
+    }
+
+    InProcessSubscription<DTO> subscription = createSubscription(destination, listener, requestListener, input, mailbox);
+    m_subscriptions.add(subscription);
+    mailbox.addConsumer(subscription);
+    return subscription;
+  }
+
+  protected InProcessMailbox getOrCreateDurableMailbox(String topicName, String durableSubscriptionName) {
+    synchronized (m_durableMailboxes) {
+      InProcessMailbox mailbox = m_durableMailboxes.get(durableSubscriptionName);
+      if (mailbox != null) {
+        assertFalse(mailbox.hasConsumers(), "Durable subscription is already active [name={}]", durableSubscriptionName);
+        if (getOrCreateTopic(topicName).contains(mailbox)) {
+          return mailbox;
+        }
+        // subscription to another topic replaces the durable subscription
+        removeDurableMailbox(durableSubscriptionName);
+      }
+      mailbox = new InProcessMailbox(topicName);
+      m_durableMailboxes.put(durableSubscriptionName, mailbox);
+      return mailbox;
+    }
+  }
+
+  protected <DTO> InProcessSubscription<DTO> createSubscription(IDestination<DTO> destination, IMessageListener<DTO> listener, IRequestListener<DTO, ?> requestListener, SubscribeInput input, InProcessMailbox mailbox) {
+    return new InProcessSubscription<>(this, destination, listener, requestListener, input, mailbox);
+  }
+
+  /**
+   * Invoked by {@link InProcessSubscription#dispose()}.
+   */
+  protected void onDispose(InProcessSubscription<?> subscription) {
+    m_subscriptions.remove(subscription);
+    InProcessMailbox mailbox = subscription.getMailbox();
+    mailbox.removeConsumer(subscription);
+    if (subscription.getDestination().getType() == DestinationType.TOPIC && subscription.getSubscribeInput().getDurableSubscriptionName() == null) {
+      List<InProcessMailbox> topic = m_topics.get(subscription.getDestination().getName());
+      if (topic != null) {
+        topic.remove(mailbox);
+      }
+      mailbox.clear();
+    }
+  }
+
+  @Override
+  public <REQUEST, REPLY> REPLY request(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input) {
+    assertTrue(m_requestReplyEnabled, "'request-reply' messaging is not enabled for this MOM");
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+    assertFalse(input.isTransactional(), "transactional mode not supported for 'request-reply' communication");
+
+    final String replyId = String.format("scout.mom.requestreply.uid-%s", UUID.randomUUID());
+    final P_PendingReply pendingReply = new P_PendingReply();
+    m_pendingReplies.put(replyId, pendingReply);
+    try {
+      IMarshaller marshaller = resolveMarshaller(destination);
+      route(destination, createEnvelope(marshaller, requestObject, input.getProperties(), replyId, input.getTimeToLive()));
+
+      long timeout = input.getRequestReplyTimeout();
+      if (timeout == PublishInput.INFINITELY) {
+        pendingReply.m_condition.waitFor();
+      }
+      else {
+        pendingReply.m_condition.waitFor(timeout, TimeUnit.MILLISECONDS);
+      }
+      return transform(pendingReply, marshaller);
+    }
+    catch (ThreadInterruptedError | TimedOutError e) {
+      cancelRequest(replyId);
+      throw e;
+    }
+    finally {
+      m_pendingReplies.remove(replyId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <REPLY> REPLY transform(P_PendingReply pendingReply, IMarshaller marshaller) {
+    IMessage<Object> reply = readMessage(pendingReply.m_reply, marshaller);
+    if (pendingReply.m_success) {
+      return (REPLY) reply.getTransferObject();
+    }
+    throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate((Throwable) reply.getTransferObject());
+  }
+
+  /**
+   * Aborts the 'request-reply' communication: the request is not processed anymore if it is still in the mailbox, and
+   * the job processing it is cancelled.
+   */
+  protected void cancelRequest(final String replyId) {
+    m_pendingReplies.remove(replyId);
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(replyId)
+        .toFilter(), true);
+  }
+
+  /**
+   * @return <code>true</code> if the initiator of the 'request-reply' communication is still waiting for the reply
+   */
+  public boolean isRequestPending(final String replyId) {
+    return m_pendingReplies.containsKey(replyId);
+  }
+
+  /**
+   * Passes the reply to the initiator of the 'request-reply' communication. If the request was sent to a topic, the
+   * first reply is used.
+   */
+  public void completeRequest(final String replyId, final IMarshaller marshaller, final Object replyObject, final boolean success) {
+    P_PendingReply pendingReply = m_pendingReplies.get(replyId);
+    if (pendingReply == null) {
+      LOG.debug("Discard reply of request which was cancelled or timed out [replyId={}]", replyId);
+      return;
+    }
+    InProcessEnvelope reply;
+    if (success) {
+      reply = createEnvelope(marshaller, replyObject, Collections.emptyMap(), replyId, PublishInput.INFINITELY);
+    }
+    else {
+      // the exception is passed as it is, it must not be marshalled
+      reply = new InProcessEnvelope(interceptRequestReplyException((Throwable) replyObject), false, true, Collections.emptyMap(), Collections.emptyMap(), CorrelationId.CURRENT.get(), replyId, Long.MAX_VALUE);
+    }
+    pendingReply.complete(reply, success);
+  }
+
+  /**
+   * Allows to intercept the exception if request processing failed.
+   */
+  protected Throwable interceptRequestReplyException(Throwable t) {
+    // Replace PlatformException because it was already handled (consumed) by the replier, like JMS implementor does
+    if (t instanceof PlatformException) {
+      return new RuntimeException(t.getMessage());
+    }
+    return t;
+  }
+
+  @Override
+  public <REQUEST, REPLY> ISubscription reply(final IBiDestination<REQUEST, REPLY> destination, final IRequestListener<REQUEST, REPLY> listener, final SubscribeInput input) {
+    assertTrue(m_requestReplyEnabled, "'request-reply' messaging is not enabled for this MOM");
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "messageListener not specified");
+    assertNotNull(input, "input not specified");
+    assertNotEquals(SubscribeInput.ACKNOWLEDGE_TRANSACTED, input.getAcknowledgementMode(), "transacted mode not supported for 'request-reply' communication");
+    return subscribeImpl(destination, null, listener, input);
+  }
+
+  @Override
+  public void cancelDurableSubscription(final String durableSubscriptionName) {
+    synchronized (m_durableMailboxes) {
+      InProcessMailbox mailbox = m_durableMailboxes.get(durableSubscriptionName);
+      if (mailbox != null) {
+        assertFalse(mailbox.hasConsumers(), "Durable subscription is active [name={}]", durableSubscriptionName);
+        removeDurableMailbox(durableSubscriptionName);
+      }
+    }
+  }
+
+  protected void removeDurableMailbox(final String durableSubscriptionName) {
+    InProcessMailbox mailbox = m_durableMailboxes.remove(durableSubscriptionName);
+    if (mailbox != null) {
+      m_topics.values().forEach(topic -> topic.remove(mailbox));
+      mailbox.clear();
+    }
+  }
+
+  @Override
+  public IRegistrationHandle registerMarshaller(final IDestination<?> destination, final IMarshaller marshaller) {
+    m_marshallers.put(destination, marshaller);
+    return () -> m_marshallers.remove(destination);
+  }
+
+  /**
+   * Returns the {@link IMarshaller} registered for the given destination, and is never <code>null</code>.
+   */
+  public IMarshaller resolveMarshaller(final IDestination<?> destination) {
+    IMarshaller marshaller = m_marshallers.get(destination);
+    return marshaller != null ? marshaller : m_defaultMarshaller;
+  }
+
+  @Override
+  public void destroy() {
+    try {
+      new ArrayList<>(m_subscriptions).forEach(ISubscription::dispose);
+      m_subscriptions.clear();
+
+      // release initiators waiting for a reply
+      for (Entry<String, P_PendingReply> entry : m_pendingReplies.entrySet()) {
+        completeRequest(entry.getKey(), null, new PlatformException("MOM was destroyed [name={}]", m_symbolicName), false);
+      }
+
+      // cancel any still running mom jobs
+      Predicate<IFuture<?>> momJobsFilter = Jobs.newFutureFilterBuilder().andMatchExecutionHint(m_momUid).toFilter();
+      Set<IFuture<?>> futures = Jobs.getJobManager().getFutures(momJobsFilter);
+      if (!futures.isEmpty()) {
+        Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+            .andMatchFuture(futures)
+            .andMatchNotState(JobState.DONE)
+            .toFilter(), true);
+        try {
+          Jobs.getJobManager().awaitDone(momJobsFilter, 10, TimeUnit.SECONDS);
+        }
+        catch (ThreadInterruptedError | TimedOutError e) {
+          LOG.warn("Unable to cancel all mom jobs: {}", futures, e);
+        }
+      }
+
+      m_queues.clear();
+      m_topics.clear();
+      synchronized (m_durableMailboxes) {
+        m_durableMailboxes.clear();
+      }
+    }
+    catch (Exception e) {
+      LOG.error("Failed to destroy MOM", e);
+    }
+  }
+
+  /**
+   * Message passed to the listener of a subscription.
+   */
+  protected static class P_Message<DTO> implements IMessage<DTO> {
+
+    private final DTO m_transferObject;
+    private final InProcessEnvelope m_envelope;
+
+    public P_Message(DTO transferObject, InProcessEnvelope envelope) {
+      m_transferObject = transferObject;
+      m_envelope = envelope;
+    }
+
+    @Override
+    public DTO getTransferObject() {
+      return m_transferObject;
+    }
+
+    @Override
+    public String getProperty(final String property) {
+      return m_envelope.getProperties().get(property);
+    }
+
+    @Override
+    public <T> T getAdapter(final Class<T> type) {
+      if (InProcessEnvelope.class.equals(type)) {
+        return type.cast(m_envelope);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Reply slot of the initiator of a 'request-reply' communication.
+   */
+  protected static class P_PendingReply {
+
+    private final IBlockingCondition m_condition = Jobs.newBlockingCondition(true);
+    private final AtomicBoolean m_completed = new AtomicBoolean();
+    private volatile InProcessEnvelope m_reply;
+    private volatile boolean m_success;
+
+    protected void complete(InProcessEnvelope reply, boolean success) {
+      if (!m_completed.compareAndSet(false, true)) {
+        return; // first reply wins
+      }
+      m_reply = reply;
+      m_success = success;
+      m_condition.setBlocking(false);
+    }
+  }
+
+  /**
+   * Transaction member which routes the messages published in a transaction upon its commit.
+   */
+  protected class P_TransactionalPublishMember extends AbstractTransactionMember {
+
+    private final List<IDestination<?>> m_destinations = new ArrayList<>();
+    private final List<InProcessEnvelope> m_envelopes = new ArrayList<>();
+
+    public P_TransactionalPublishMember(String memberId) {
+      super(memberId);
+    }
+
+    protected synchronized P_TransactionalPublishMember add(IDestination<?> destination, InProcessEnvelope envelope) {
+      m_destinations.add(destination);
+      m_envelopes.add(envelope);
+      return this;
+    }
+
+    @Override
+    public boolean needsCommit() {
+      return true;
+    }
+
+    @Override
+    public synchronized void commitPhase2() {
+      for (int i = 0; i < m_envelopes.size(); i++) {
+        route(m_destinations.get(i), m_envelopes.get(i));
+      }
+      m_envelopes.clear();
+      m_destinations.clear();
+    }
+
+    @Override
+    public synchronized void rollback() {
+      m_envelopes.clear();
+      m_destinations.clear();
+    }
+  }
+
+  /**
+   * {@link ExceptionHandler} for errors of in-process MOM jobs.
+   */
+  public static class MomExceptionHandler extends ExceptionHandler {
+  }
+}
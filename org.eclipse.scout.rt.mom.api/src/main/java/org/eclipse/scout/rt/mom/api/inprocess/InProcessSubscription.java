@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.inprocess;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IMessage;
+import org.eclipse.scout.rt.mom.api.IMessageListener;
+import org.eclipse.scout.rt.mom.api.IRequestListener;
+import org.eclipse.scout.rt.mom.api.ISubscription;
+import org.eclipse.scout.rt.mom.api.ISubscriptionStats;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.mom.api.inprocess.InProcessMomImplementor.MomExceptionHandler;
+import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscription of the {@link InProcessMomImplementor}, which consumes the messages of an {@link InProcessMailbox}.
+ * <p>
+ * A subscription has no permanently running consumer job. Instead, a job to drain the mailbox is scheduled when a
+ * message arrives and the subscription is idle. Depending on the acknowledgement mode, the messages are processed in
+ * this job ({@link SubscribeInput#ACKNOWLEDGE_AUTO_SINGLE_THREADED} and {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED})
+ * or in a separate job per message ({@link SubscribeInput#ACKNOWLEDGE_AUTO}).
+ *
+ * @since 23.2
+ */
+public class InProcessSubscription<DTO> implements ISubscription {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InProcessSubscription.class);
+
+  protected final InProcessMomImplementor m_mom;
+  protected final IDestination<DTO> m_destination;
+  protected final IMessageListener<DTO> m_messageListener;
+  protected final IRequestListener<DTO, ?> m_requestListener;
+  protected final SubscribeInput m_subscribeInput;
+  protected final InProcessMailbox m_mailbox;
+  protected final IMarshaller m_marshaller;
+  protected final IExecutionSemaphore m_executionSemaphore;
+  protected final InProcessSubscriptionStats m_stats = new InProcessSubscriptionStats();
+  protected final AtomicBoolean m_drainScheduled = new AtomicBoolean();
+  protected final AtomicBoolean m_disposed = new AtomicBoolean();
+
+  protected volatile IFuture<?> m_drainFuture;
+
+  public InProcessSubscription(InProcessMomImplementor mom, IDestination<DTO> destination, IMessageListener<DTO> messageListener, IRequestListener<DTO, ?> requestListener, SubscribeInput input,
+      InProcessMailbox mailbox) {
+    m_mom = mom;
+    m_destination = destination;
+    m_messageListener = messageListener;
+    m_requestListener = requestListener;
+    m_subscribeInput = input;
+    m_mailbox = mailbox;
+    m_marshaller = mom.resolveMarshaller(destination);
+    if (input.getMaxConcurrentConsumerJobs() > 0 && !isSingleThreaded()) {
+      m_executionSemaphore = Jobs.newExecutionSemaphore(input.getMaxConcurrentConsumerJobs());
+    }
+    else {
+      // unlimited concurrent jobs allowed
+      m_executionSemaphore = null;
+    }
+  }
+
+  @Override
+  public IDestination<?> getDestination() {
+    return m_destination;
+  }
+
+  @Override
+  public IMessageListener<?> getMessageListener() {
+    return m_messageListener;
+  }
+
+  @Override
+  public IRequestListener<?, ?> getRequestListener() {
+    return m_requestListener;
+  }
+
+  @Override
+  public SubscribeInput getSubscribeInput() {
+    return m_subscribeInput;
+  }
+
+  @Override
+  public ISubscriptionStats getStats() {
+    return m_stats;
+  }
+
+  public InProcessMailbox getMailbox() {
+    return m_mailbox;
+  }
+
+  protected boolean isSingleThreaded() {
+    return m_subscribeInput.getAcknowledgementMode() != SubscribeInput.ACKNOWLEDGE_AUTO;
+  }
+
+  protected boolean isTransacted() {
+    return m_subscribeInput.getAcknowledgementMode() == SubscribeInput.ACKNOWLEDGE_TRANSACTED;
+  }
+
+  /**
+   * Schedules a job to drain the mailbox unless such a job is already scheduled or running.
+   *
+   * @return <code>true</code> if a job was scheduled
+   */
+  protected boolean signal() {
+    if (m_disposed.get() || m_mailbox.isEmpty() || !m_drainScheduled.compareAndSet(false, true)) {
+      return false;
+    }
+    try {
+      m_drainFuture = Jobs.schedule(this::drain, m_mom.newJobInput()
+          .withName("Receiving in-process message [dest={}]", m_destination));
+    }
+    catch (RuntimeException e) {
+      m_drainScheduled.set(false);
+      throw e;
+    }
+    return true;
+  }
+
+  protected void drain() {
+    try {
+      InProcessEnvelope envelope;
+      while (!m_disposed.get() && (envelope = m_mailbox.poll()) != null) {
+        if (m_disposed.get() || IFuture.CURRENT.get().isCancelled()) {
+          m_mailbox.offerFirst(envelope); // not consumed, keep it for other or later consumers
+          return;
+        }
+        dispatch(envelope);
+      }
+    }
+    finally {
+      m_drainScheduled.set(false);
+    }
+    // a message may have arrived after the last poll, but before the flag was reset
+    signal();
+  }
+
+  protected void dispatch(InProcessEnvelope envelope) {
+    if (envelope.isExpired(System.currentTimeMillis())) {
+      LOG.debug("Discard expired message [dest={}, message={}]", m_destination, envelope);
+      return;
+    }
+    m_stats.notifyReceiveMessage();
+
+    if (m_requestListener != null) {
+      if (envelope.getReplyId() == null) {
+        LOG.warn("Discard message without 'replyId' received by request listener [dest={}, message={}]", m_destination, envelope);
+        return;
+      }
+      // A job is scheduled for 'single-threaded' mode too, so that the request can be cancelled (execution hint).
+      IFuture<Void> future = Jobs.schedule(() -> handleRequest(envelope), newConsumerJobInput()
+          .withExecutionHint(envelope.getReplyId())); // Register for cancellation
+      if (isSingleThreaded()) {
+        future.awaitDone();
+      }
+    }
+    else if (isSingleThreaded()) {
+      handleMessage(envelope);
+    }
+    else {
+      Jobs.schedule(() -> handleMessage(envelope), newConsumerJobInput());
+    }
+  }
+
+  protected void handleMessage(InProcessEnvelope envelope) {
+    try {
+      IMessage<DTO> message = m_mom.readMessage(envelope, m_marshaller);
+      createRunContext(envelope)
+          .withThreadLocal(IMessage.CURRENT, message)
+          .run(() -> {
+            try {
+              m_messageListener.onMessage(message);
+            }
+            catch (Exception e) {
+              throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                  .withContextInfo("correlationId", envelope.getCorrelationId());
+            }
+          });
+    }
+    catch (RuntimeException | ThreadInterruptedError | TimedOutError e) {
+      m_stats.notifyReceiveError();
+      BEANS.get(MomExceptionHandler.class).handle(e);
+    }
+  }
+
+  /**
+   * Delegates the request to the listener, and passes its reply to the initiator.
+   */
+  protected void handleRequest(InProcessEnvelope envelope) {
+    String replyId = envelope.getReplyId();
+    if (!m_mom.isRequestPending(replyId)) {
+      LOG.debug("Skip request which was cancelled or timed out [dest={}, replyId={}]", m_destination, replyId);
+      return;
+    }
+
+    Object reply;
+    boolean success = true;
+    try {
+      IMessage<DTO> request = m_mom.readMessage(envelope, m_marshaller);
+      reply = createRunContext(envelope)
+          .withRunMonitor(RunMonitor.CURRENT.get()) // associate with the calling monitor to propagate cancellation
+          .withThreadLocal(IMessage.CURRENT, request)
+          .call(() -> m_requestListener.onRequest(request));
+    }
+    catch (Throwable t) { // NOSONAR (Always send a response, even if a PlatformError is thrown. Otherwise the caller might wait forever.)
+      m_stats.notifyReceiveError();
+      BEANS.get(MomExceptionHandler.class).handle(t);
+      reply = t;
+      success = false;
+    }
+
+    if (IFuture.CURRENT.get().isCancelled()) {
+      return;
+    }
+    m_mom.completeRequest(replyId, m_marshaller, reply, success);
+  }
+
+  protected RunContext createRunContext(InProcessEnvelope envelope) {
+    RunContext runContext = (m_subscribeInput.getRunContext() != null ? m_subscribeInput.getRunContext().copy() : RunContexts.empty());
+    if (isTransacted()) {
+      runContext.withTransactionMember(new P_RedeliveryTransactionMember(envelope));
+    }
+    return runContext
+        .withCorrelationId(envelope.getCorrelationId())
+        .withTransactionScope(TransactionScope.REQUIRES_NEW);
+  }
+
+  protected JobInput newConsumerJobInput() {
+    return m_mom.newJobInput()
+        .withName("Receiving in-process message [dest={}]", m_destination)
+        .withExecutionSemaphore(m_executionSemaphore);
+  }
+
+  @Override
+  public void dispose() {
+    if (!m_disposed.compareAndSet(false, true)) {
+      return;
+    }
+    m_mom.onDispose(this);
+
+    IFuture<?> drainFuture = m_drainFuture;
+    if (isSingleThreaded() && drainFuture != null && drainFuture != IFuture.CURRENT.get()) {
+      drainFuture.awaitDone();
+    }
+    // messages of a queue might have been put back while disposing
+    if (!m_mailbox.isEmpty()) {
+      m_mailbox.signalConsumers();
+    }
+  }
+
+  @Override
+  public boolean isDisposed() {
+    return m_disposed.get();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attr("destination", m_destination)
+        .attr("mailbox", m_mailbox.getName())
+        .toString();
+  }
+
+  /**
+   * Puts the message back to the mailbox if the receiving transaction is rolled back.
+   */
+  protected class P_RedeliveryTransactionMember extends AbstractTransactionMember {
+
+    private final InProcessEnvelope m_envelope;
+
+    public P_RedeliveryTransactionMember(InProcessEnvelope envelope) {
+      super(UUID.randomUUID().toString());
+      m_envelope = envelope;
+    }
+
+    @Override
+    public boolean needsCommit() {
+      return true;
+    }
+
+    @Override
+    public void rollback() {
+      if (m_envelope.getDeliveryCount() > m_mom.getMaxRedeliveries()) {
+        LOG.warn("Discard message after {} failed deliveries [dest={}, message={}]", m_envelope.getDeliveryCount(), m_destination, m_envelope);
+        return;
+      }
+      m_mailbox.offerFirst(m_envelope.redeliver());
+    }
+  }
+}
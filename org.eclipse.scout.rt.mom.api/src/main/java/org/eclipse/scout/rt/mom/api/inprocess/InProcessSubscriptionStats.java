@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.inprocess;
+
+import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.mom.api.ISubscriptionStats;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.date.IDateProvider;
+
+/**
+ * Stats of an {@link InProcessSubscription}. There are no <code>null</code> messages in in-process messaging, hence
+ * {@link #receivedNonNullMessages()} is always equal to {@link #receivedMessages()}.
+ *
+ * @since 23.2
+ */
+public class InProcessSubscriptionStats implements ISubscriptionStats {
+
+  private final LongAdder m_messageCount = new LongAdder();
+  private final LongAdder m_errorCount = new LongAdder();
+  private volatile Date m_lastMessageReceivedTimestamp;
+
+  @Override
+  public long receivedMessages() {
+    return m_messageCount.sum();
+  }
+
+  @Override
+  public long receivedNonNullMessages() {
+    return m_messageCount.sum();
+  }
+
+  @Override
+  public long receivedErrors() {
+    return m_errorCount.sum();
+  }
+
+  @Override
+  public Date lastMessageReceivedTimestamp() {
+    return m_lastMessageReceivedTimestamp;
+  }
+
+  public void notifyReceiveMessage() {
+    m_messageCount.increment();
+    m_lastMessageReceivedTimestamp = BEANS.get(IDateProvider.class).currentMillis();
+  }
+
+  public void notifyReceiveError() {
+    m_errorCount.increment();
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.MOM;
+import org.eclipse.scout.rt.mom.jms.internal.JmsPublishPipeline;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderPool;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.testing.platform.testcategory.SlowTest;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Tests for {@link JmsSessionProviderPool} and {@link JmsPublishPipeline} used by
+ * {@link JmsMomImplementor#publish(IDestination, Object, org.eclipse.scout.rt.mom.api.PublishInput)}.
+ */
+@Category(SlowTest.class)
+public class JmsMomPublishPoolTest extends AbstractJmsMomTest {
+
+  private static final int MESSAGE_COUNT = 200;
+
+  public JmsMomPublishPoolTest(AbstractJmsMomTestParameter parameter) {
+    super(parameter);
+  }
+
+  @Test
+  public void testPublishWithPooledSessions() throws InterruptedException {
+    Assume.assumeTrue("J2EE implementor does not use the pool", m_testParameter.getImplementor() == JmsMomImplementor.class);
+    installMom();
+
+    List<String> received = publishAndReceive(FixtureMom.class, "test/mom/testPublishWithPooledSessions");
+    assertEquals(MESSAGE_COUNT, received.size());
+    JmsMomImplementor mom = (JmsMomImplementor) m_mom.getImplementor();
+    assertNull(mom.m_publishPipeline);
+    // sequential publishing reuses a single session
+    assertEquals(1, mom.m_publishSessionProviderPool.getIdleCount());
+  }
+
+  @Test
+  public void testPoolDiscardsClosedSession() throws JMSException {
+    Assume.assumeTrue("J2EE implementor does not use the pool", m_testParameter.getImplementor() == JmsMomImplementor.class);
+    installMom();
+    MOM.publish(FixtureMom.class, MOM.newDestination("test/mom/testPoolDiscardsClosedSession", DestinationType.TOPIC, ResolveMethod.DEFINE, null), "message");
+
+    JmsSessionProviderPool pool = ((JmsMomImplementor) m_mom.getImplementor()).m_publishSessionProviderPool;
+    IJmsSessionProvider sessionProvider = pool.borrow();
+    pool.release(sessionProvider);
+    assertSame(sessionProvider, pool.borrow());
+    pool.release(sessionProvider);
+
+    // session closed while idle, e.g. by the broker
+    sessionProvider.getSession().close();
+    IJmsSessionProvider other = pool.borrow();
+    assertNotSame(sessionProvider, other);
+    assertTrue(sessionProvider.isClosing());
+    pool.release(other);
+  }
+
+  @Test
+  public void testPublishPipeline() throws InterruptedException {
+    Assume.assumeTrue("J2EE implementor does not use the pipeline", m_testParameter.getImplementor() == JmsMomImplementor.class);
+    installMom(PipelineFixtureMom.class);
+
+    List<String> received = publishAndReceive(PipelineFixtureMom.class, "test/mom/testPublishPipeline");
+    assertEquals(MESSAGE_COUNT, received.size());
+    JmsMomImplementor mom = (JmsMomImplementor) m_mom.getImplementor();
+    assertNotNull(mom.m_publishPipeline);
+    assertEquals(10, mom.m_publishPipeline.getMaxBatchSize());
+    for (int i = 0; i < MESSAGE_COUNT; i++) {
+      assertTrue(received.contains("message-" + i));
+    }
+  }
+
+  protected List<String> publishAndReceive(Class<? extends FixtureMom> transport, String queueName) throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination(queueName, DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch latch = new CountDownLatch(MESSAGE_COUNT);
+    m_disposables.add(MOM.subscribe(transport, queue, message -> {
+      received.add(message.getTransferObject());
+      latch.countDown();
+    }));
+    for (int i = 0; i < MESSAGE_COUNT; i++) {
+      MOM.publish(transport, queue, "message-" + i);
+    }
+    assertTrue("not all messages received", latch.await(30, TimeUnit.SECONDS));
+    return received;
+  }
+
+  @IgnoreBean
+  public static class PipelineFixtureMom extends FixtureMom {
+
+    public PipelineFixtureMom(AbstractJmsMomTestParameter parameter) {
+      super(parameter);
+    }
+
+    @Override
+    protected Map<String, String> getConfiguredEnvironment() {
+      Map<String, String> env = super.getConfiguredEnvironment();
+      env.put(JmsMomImplementor.JMS_PUBLISH_PIPELINE_BATCH_SIZE, "10");
+      return env;
+    }
+  }
+}
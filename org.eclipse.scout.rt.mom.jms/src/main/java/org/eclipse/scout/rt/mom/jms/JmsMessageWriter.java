@@ -88,7 +88,25 @@ public class JmsMessageWriter {
   public JmsMessageWriter writeTransferObject(final Object transferObject) throws JMSException {
     final Object transportObject = m_marshaller.marshall(transferObject, m_marshallerContext);
     m_marshallerContext.put(CTX_PROP_NULL_OBJECT, Boolean.valueOf(transferObject == null).toString());
+    writeTransport(transportObject);
+    return this;
+  }
+
+  /**
+   * Writes a transfer object which was already transformed into its transport type by the writer's {@link IMarshaller},
+   * together with the marshaller context filled in by the marshaller. This allows to marshall the transfer object in
+   * another thread than the one which owns the session of this writer.
+   *
+   * @since 23.2
+   * @see #writeTransferObject(Object)
+   */
+  public JmsMessageWriter writeTransportObject(final Object transportObject, final Map<String, String> marshallerContext) throws JMSException {
+    m_marshallerContext.putAll(marshallerContext);
+    writeTransport(transportObject);
+    return this;
+  }
 
+  protected void writeTransport(final Object transportObject) throws JMSException {
     switch (m_marshaller.getMessageType()) {
       case MESSAGE_TYPE_TEXT:
         writeTextMessage((TextMessage) m_message, (String) transportObject);
@@ -101,8 +119,6 @@ public class JmsMessageWriter {
       default:
         throw new PlatformException("Unsupported transport type '{}'", m_marshaller.getMessageType());
     }
-
-    return this;
   }
 
   /**
@@ -59,6 +59,8 @@ import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
 import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
+import org.eclipse.scout.rt.mom.jms.internal.JmsPublishPipeline;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderPool;
 import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderWrapper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
@@ -142,6 +144,30 @@ public class JmsMomImplementor implements IMomImplementor {
    */
   public static final int WAIT_TIME_INFINITE = -1;
 
+  /**
+   * Key to set the maximum number of idle sessions kept open to publish non-transactional messages (see
+   * {@link JmsSessionProviderPool}). <code>0</code> disables pooling. If the value is not set,
+   * {@link #DEFAULT_PUBLISH_SESSION_POOL_SIZE} is used.
+   */
+  public static final String JMS_PUBLISH_SESSION_POOL_SIZE = "scout.mom.jms.publishSessionPoolSize";
+
+  public static final int DEFAULT_PUBLISH_SESSION_POOL_SIZE = 8;
+
+  /**
+   * Key to enable the asynchronous publishing of non-transactional messages (see {@link JmsPublishPipeline}). The value
+   * is the maximum number of messages sent in one transaction. If the value is not set or <code>0</code>,
+   * non-transactional messages are sent synchronously.
+   */
+  public static final String JMS_PUBLISH_PIPELINE_BATCH_SIZE = "scout.mom.jms.publishPipelineBatchSize";
+
+  /**
+   * Key to set the maximum number of messages queued by the {@link JmsPublishPipeline}. If the value is not set,
+   * {@link #DEFAULT_PUBLISH_PIPELINE_CAPACITY} is used.
+   */
+  public static final String JMS_PUBLISH_PIPELINE_CAPACITY = "scout.mom.jms.publishPipelineCapacity";
+
+  public static final int DEFAULT_PUBLISH_PIPELINE_CAPACITY = 10_000;
+
   protected final String m_momUid = UUID.randomUUID().toString();
 
   // init -> thread-safety: only set in init method
@@ -156,6 +182,8 @@ public class JmsMomImplementor implements IMomImplementor {
   protected IDestination<?> m_requestReplyCancellationTopic;
   protected IMarshaller m_defaultMarshaller;
   protected IJmsMessageHandler m_messageHandler;
+  protected JmsSessionProviderPool m_publishSessionProviderPool;
+  protected JmsPublishPipeline m_publishPipeline;
   // end init
 
   protected ISubscription m_requestCancellationSubscription;
@@ -189,6 +217,9 @@ public class JmsMomImplementor implements IMomImplementor {
       m_messageHandler = createMessageHandler(properties);
       Assertions.assertNotNull(m_messageHandler);
 
+      m_publishSessionProviderPool = createPublishSessionProviderPool(properties);
+      m_publishPipeline = createPublishPipeline(properties);
+
       initRequestReply(properties);
 
       LOG.info("{} initialized: {}", m_symbolicName, m_connectionWrapper);
@@ -209,6 +240,25 @@ public class JmsMomImplementor implements IMomImplementor {
         .withConnectionFunction(this::createConnection);
   }
 
+  protected JmsSessionProviderPool createPublishSessionProviderPool(final Map<Object, Object> properties) {
+    int maxIdle = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_PUBLISH_SESSION_POOL_SIZE), Integer.class), DEFAULT_PUBLISH_SESSION_POOL_SIZE);
+    return new JmsSessionProviderPool(m_connectionWrapper, session -> new JmsSessionProvider(session, null), maxIdle);
+  }
+
+  /**
+   * @return the started {@link JmsPublishPipeline} or <code>null</code> if non-transactional messages are sent
+   *         synchronously
+   */
+  protected JmsPublishPipeline createPublishPipeline(final Map<Object, Object> properties) throws JMSException {
+    int maxBatchSize = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_PUBLISH_PIPELINE_BATCH_SIZE), Integer.class), 0);
+    if (maxBatchSize <= 0) {
+      return null;
+    }
+    int capacity = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_PUBLISH_PIPELINE_CAPACITY), Integer.class), DEFAULT_PUBLISH_PIPELINE_CAPACITY);
+    LOG.info("{}: non-transactional messages are published asynchronously [maxBatchSize={}, capacity={}]", m_symbolicName, maxBatchSize, capacity);
+    return new JmsPublishPipeline(this, maxBatchSize, capacity).start();
+  }
+
   @SuppressWarnings("RedundantThrows")
   protected void initRequestReply(final Map<Object, Object> properties) throws JMSException {//NOSONAR
     m_requestReplyEnabled = BooleanUtility.nvl(
@@ -348,13 +398,20 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
-    IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
+    if (m_publishPipeline != null) {
+      m_publishPipeline.publish(destination, transferObject, input);
+      return;
+    }
+
+    IJmsSessionProvider sessionProvider = m_publishSessionProviderPool.borrow();
     try {
       send(sessionProvider, destination, transferObject, input);
     }
-    finally {
-      sessionProvider.close();
+    catch (JMSException | RuntimeException e) {
+      m_publishSessionProviderPool.discard(sessionProvider);
+      throw e;
     }
+    m_publishSessionProviderPool.release(sessionProvider);
   }
 
   protected <DTO> void publishTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
@@ -596,6 +653,15 @@ public class JmsMomImplementor implements IMomImplementor {
         m_requestCancellationSubscription.dispose();
       }
 
+      // send queued messages and close pooled sessions
+      if (m_publishPipeline != null) {
+        m_publishPipeline.close(10, TimeUnit.SECONDS);
+        m_publishPipeline = null;
+      }
+      if (m_publishSessionProviderPool != null) {
+        m_publishSessionProviderPool.close();
+      }
+
       // cancel any still running mom jobs
       Predicate<IFuture<?>> momJobsFilter = Jobs.newFutureFilterBuilder().andMatchExecutionHint(m_momUid).toFilter();
       Set<IFuture<?>> futures = Jobs.getJobManager().getFutures(momJobsFilter);
@@ -689,12 +755,20 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   public void send(MessageProducer producer, Destination destination, JmsMessageWriter messageWriter, int deliveryMode, int priority, long timeToLive) throws JMSException {
+    Message message = buildMessage(destination, messageWriter);
+    producer.send(destination, message, deliveryMode, priority, timeToLive);
+  }
+
+  /**
+   * Builds the message to be sent to the given destination and passes it to the {@link IJmsMessageHandler}.
+   */
+  public Message buildMessage(Destination destination, JmsMessageWriter messageWriter) throws JMSException {
     Message message = messageWriter
         .writeCorrelationId(CorrelationId.CURRENT.get())
         .build();
     IDestination<?> momDestination = resolveMomDestination(destination);
     getMessageHandler().handleOutgoing(momDestination, message, messageWriter.getMarshaller());
-    producer.send(destination, message, deliveryMode, priority, timeToLive);
+    return message;
   }
 
   protected Context createContext() throws NamingException {
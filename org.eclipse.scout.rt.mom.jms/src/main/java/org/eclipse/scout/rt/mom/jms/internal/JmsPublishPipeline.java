@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import static org.eclipse.scout.rt.mom.jms.IJmsMomProperties.CTX_PROP_NULL_OBJECT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.PublishInput;
+import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.mom.jms.IJmsSessionProvider;
+import org.eclipse.scout.rt.mom.jms.JmsMessageWriter;
+import org.eclipse.scout.rt.mom.jms.JmsMomImplementor;
+import org.eclipse.scout.rt.platform.context.CorrelationId;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous publishing of non-transactional messages.
+ * <p>
+ * The transfer object is marshalled in the calling thread and queued. A single worker job creates the messages and
+ * sends all queued messages (at most the max batch size) in its own transacted session and commits them together, so
+ * that many small messages cause only one broker round trip.
+ * <p>
+ * Messages are sent at most once: if a batch fails, the error is logged and the messages of this batch are lost. The
+ * caller is blocked if the queue is full. Every message queued before {@link #close(long, TimeUnit)} is sent unless the
+ * close timeout elapses.
+ *
+ * @since 23.2
+ */
+public class JmsPublishPipeline {
+  private static final Logger LOG = LoggerFactory.getLogger(JmsPublishPipeline.class);
+
+  protected final JmsMomImplementor m_mom;
+  protected final int m_maxBatchSize;
+  protected final BlockingQueue<P_PendingMessage> m_queue;
+  /**
+   * Publishing threads hold the read lock while they queue a message, {@link #close(long, TimeUnit)} holds the write
+   * lock to set the closed flag. Thus no message is queued after the worker observed the pipeline as closed.
+   */
+  protected final ReadWriteLock m_closeLock = new ReentrantReadWriteLock();
+  protected volatile boolean m_closed;
+
+  protected IJmsSessionProvider m_sessionProvider;
+  protected IFuture<?> m_worker;
+
+  /**
+   * @param maxBatchSize
+   *          maximum number of messages sent in one transaction
+   * @param capacity
+   *          maximum number of queued messages
+   */
+  public JmsPublishPipeline(JmsMomImplementor mom, int maxBatchSize, int capacity) {
+    Assertions.assertTrue(maxBatchSize > 0, "maxBatchSize must be positive [maxBatchSize={}]", maxBatchSize);
+    m_mom = Assertions.assertNotNull(mom);
+    m_maxBatchSize = maxBatchSize;
+    m_queue = new LinkedBlockingQueue<>(Math.max(maxBatchSize, capacity));
+  }
+
+  /**
+   * Starts the worker job which sends the queued messages.
+   */
+  public JmsPublishPipeline start() throws JMSException {
+    m_sessionProvider = m_mom.createSessionProvider(null, true);
+    m_worker = Jobs.schedule(this::runWorker, m_mom.newJobInput()
+        .withName("JMS publish pipeline"));
+    return this;
+  }
+
+  public int getMaxBatchSize() {
+    return m_maxBatchSize;
+  }
+
+  /**
+   * @return number of messages which are queued but not sent yet
+   */
+  public int getQueueSize() {
+    return m_queue.size();
+  }
+
+  /**
+   * Marshalls the transfer object and queues it to be sent by the worker job.
+   */
+  public <DTO> void publish(IDestination<DTO> destination, DTO transferObject, PublishInput input) {
+    IMarshaller marshaller = m_mom.resolveMarshaller(destination);
+    Map<String, String> marshallerContext = new HashMap<>();
+    Object transportObject = marshaller.marshall(transferObject, marshallerContext);
+    marshallerContext.put(CTX_PROP_NULL_OBJECT, Boolean.valueOf(transferObject == null).toString());
+    P_PendingMessage pendingMessage = new P_PendingMessage(destination, input, marshaller, transportObject, marshallerContext, CorrelationId.CURRENT.get());
+
+    Lock lock = m_closeLock.readLock();
+    lock.lock();
+    try {
+      Assertions.assertFalse(m_closed, "publish pipeline is closed");
+      m_queue.put(pendingMessage);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ThreadInterruptedError("Interrupted while queuing message", e);
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops the worker job after it has sent all queued messages, or after the given timeout elapsed.
+   */
+  public void close(long timeout, TimeUnit unit) {
+    Lock lock = m_closeLock.writeLock();
+    lock.lock();
+    try {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+    }
+    finally {
+      lock.unlock();
+    }
+
+    try {
+      if (m_worker != null) {
+        m_worker.awaitDone(timeout, unit);
+      }
+    }
+    catch (ThreadInterruptedError | TimedOutError e) {
+      LOG.warn("Publish pipeline did not finish, {} messages are not sent", m_queue.size(), e);
+      m_worker.cancel(true);
+    }
+    finally {
+      if (m_sessionProvider != null) {
+        m_sessionProvider.close();
+      }
+    }
+  }
+
+  protected void runWorker() {
+    List<P_PendingMessage> batch = new ArrayList<>(m_maxBatchSize);
+    while (true) {
+      P_PendingMessage first;
+      try {
+        first = m_queue.poll(100, TimeUnit.MILLISECONDS);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOG.debug("Publish pipeline interrupted", e);
+        return;
+      }
+      if (first == null) {
+        if (IFuture.CURRENT.get().isCancelled()) {
+          return;
+        }
+        // no message is queued once the pipeline is closed, hence the queue is drained if it is still empty
+        if (m_closed && m_queue.isEmpty()) {
+          return;
+        }
+        continue;
+      }
+      batch.add(first);
+      m_queue.drainTo(batch, m_maxBatchSize - 1);
+      sendBatch(batch);
+      batch.clear();
+    }
+  }
+
+  protected void sendBatch(List<P_PendingMessage> batch) {
+    try {
+      Session session = m_sessionProvider.getSession();
+      MessageProducer producer = m_sessionProvider.getProducer();
+      for (P_PendingMessage pendingMessage : batch) {
+        Destination jmsDestination = m_mom.resolveJmsDestination(pendingMessage.m_destination, session);
+        Message message = buildMessage(session, jmsDestination, pendingMessage);
+        PublishInput input = pendingMessage.m_input;
+        producer.send(jmsDestination, message, m_mom.toJmsDeliveryMode(input), m_mom.toJmsPriority(input), m_mom.toJmsTimeToLive(input));
+      }
+      session.commit();
+    }
+    catch (JMSException | RuntimeException e) {
+      LOG.error("Failed to publish {} messages", batch.size(), e);
+      rollback();
+    }
+  }
+
+  /**
+   * Creates the message in the session of this pipeline, with the correlation id of the publishing thread.
+   */
+  protected Message buildMessage(Session session, Destination jmsDestination, P_PendingMessage pendingMessage) throws JMSException {
+    JmsMessageWriter messageWriter = JmsMessageWriter.newInstance(session, pendingMessage.m_marshaller)
+        .writeTransportObject(pendingMessage.m_transportObject, pendingMessage.m_marshallerContext)
+        .writeReplyTo(m_mom.resolveJmsDestination(pendingMessage.m_input.getReplyTo(), session))
+        .writeProperties(pendingMessage.m_input.getProperties());
+    String workerCorrelationId = CorrelationId.CURRENT.get();
+    CorrelationId.CURRENT.set(pendingMessage.m_correlationId);
+    try {
+      return m_mom.buildMessage(jmsDestination, messageWriter);
+    }
+    finally {
+      CorrelationId.CURRENT.set(workerCorrelationId);
+    }
+  }
+
+  protected void rollback() {
+    try {
+      m_sessionProvider.getSession().rollback();
+    }
+    catch (JMSException | RuntimeException e) {
+      LOG.info("Failed to rollback publish transaction", e);
+    }
+  }
+
+  protected static final class P_PendingMessage {
+    private final IDestination<?> m_destination;
+    private final PublishInput m_input;
+    private final IMarshaller m_marshaller;
+    private final Object m_transportObject;
+    private final Map<String, String> m_marshallerContext;
+    private final String m_correlationId;
+
+    private P_PendingMessage(IDestination<?> destination, PublishInput input, IMarshaller marshaller, Object transportObject, Map<String, String> marshallerContext, String correlationId) {
+      m_destination = destination;
+      m_input = input;
+      m_marshaller = marshaller;
+      m_transportObject = transportObject;
+      m_marshallerContext = marshallerContext;
+      m_correlationId = correlationId;
+    }
+  }
+}
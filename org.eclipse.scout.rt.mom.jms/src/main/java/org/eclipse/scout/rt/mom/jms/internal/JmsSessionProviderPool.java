@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.jms.JMSException;
+
+import org.eclipse.scout.rt.mom.jms.ICreateJmsSessionProvider;
+import org.eclipse.scout.rt.mom.jms.IJmsSessionProvider;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of non-transacted {@link IJmsSessionProvider}s of a single JMS connection. Every pooled session provider
+ * keeps its session and message producer open, so that publishing a message does not create and close a JMS session
+ * each time.
+ * <p>
+ * The pooled session providers are {@link JmsSessionProviderWrapper}s, thus they recreate their session after a
+ * connection failover. A session provider is only reused if it was released without error (see
+ * {@link #discard(IJmsSessionProvider)}) and if its session is still usable when it is borrowed again (see
+ * {@link #isReusable(IJmsSessionProvider)}). If all pooled session providers are in use, a new one is created and
+ * closed again on release if the pool is full.
+ *
+ * @since 23.2
+ */
+public class JmsSessionProviderPool {
+  private static final Logger LOG = LoggerFactory.getLogger(JmsSessionProviderPool.class);
+
+  protected final JmsConnectionWrapper m_connectionWrapper;
+  protected final ICreateJmsSessionProvider m_sessionProviderFunction;
+  protected final int m_maxIdle;
+  protected final BlockingQueue<IJmsSessionProvider> m_idle;
+  protected final AtomicBoolean m_closed = new AtomicBoolean();
+
+  /**
+   * @param maxIdle
+   *          maximum number of session providers kept open, <code>0</code> disables pooling
+   */
+  public JmsSessionProviderPool(JmsConnectionWrapper connectionWrapper, ICreateJmsSessionProvider providerFunction, int maxIdle) {
+    Assertions.assertTrue(maxIdle >= 0, "maxIdle must not be negative [maxIdle={}]", maxIdle);
+    m_connectionWrapper = Assertions.assertNotNull(connectionWrapper);
+    m_sessionProviderFunction = Assertions.assertNotNull(providerFunction);
+    m_maxIdle = maxIdle;
+    m_idle = new ArrayBlockingQueue<>(Math.max(1, maxIdle));
+  }
+
+  public int getMaxIdle() {
+    return m_maxIdle;
+  }
+
+  /**
+   * @return number of session providers which are currently not in use
+   */
+  public int getIdleCount() {
+    return m_idle.size();
+  }
+
+  /**
+   * @return an idle session provider or a new one if none is available. It must be returned to the pool by
+   *         {@link #release(IJmsSessionProvider)} or {@link #discard(IJmsSessionProvider)}.
+   */
+  public IJmsSessionProvider borrow() {
+    IJmsSessionProvider sessionProvider;
+    while ((sessionProvider = m_idle.poll()) != null) {
+      if (isReusable(sessionProvider)) {
+        return sessionProvider;
+      }
+      closeSessionProvider(sessionProvider);
+    }
+    return createSessionProvider();
+  }
+
+  /**
+   * @return <code>true</code> if the idle session provider is not closing and its session was not closed in the
+   *         meantime, e.g. by the broker. A closed session throws a {@link JMSException} on every call.
+   */
+  protected boolean isReusable(IJmsSessionProvider sessionProvider) {
+    if (sessionProvider.isClosing()) {
+      return false;
+    }
+    try {
+      sessionProvider.getSession().getAcknowledgeMode();
+      return true;
+    }
+    catch (JMSException | RuntimeException e) {
+      LOG.debug("Pooled session provider {} is not usable anymore", sessionProvider, e);
+      return false;
+    }
+  }
+
+  /**
+   * Returns a session provider which was used without error to the pool. It is closed if the pool is full or closed.
+   */
+  public void release(IJmsSessionProvider sessionProvider) {
+    if (sessionProvider.isClosing()) {
+      return;
+    }
+    if (m_maxIdle == 0 || m_closed.get() || !m_idle.offer(sessionProvider)) {
+      closeSessionProvider(sessionProvider);
+      return;
+    }
+    if (m_closed.get()) {
+      // closed concurrently
+      closeIdleSessionProviders();
+    }
+  }
+
+  /**
+   * Closes a session provider which failed, instead of returning it to the pool.
+   */
+  public void discard(IJmsSessionProvider sessionProvider) {
+    closeSessionProvider(sessionProvider);
+  }
+
+  /**
+   * Closes all idle session providers. Session providers which are in use are closed upon their release.
+   */
+  public void close() {
+    m_closed.set(true);
+    closeIdleSessionProviders();
+  }
+
+  protected void closeIdleSessionProviders() {
+    IJmsSessionProvider sessionProvider;
+    while ((sessionProvider = m_idle.poll()) != null) {
+      closeSessionProvider(sessionProvider);
+    }
+  }
+
+  protected IJmsSessionProvider createSessionProvider() {
+    return new JmsSessionProviderWrapper(m_connectionWrapper, false, m_sessionProviderFunction);
+  }
+
+  protected void closeSessionProvider(IJmsSessionProvider sessionProvider) {
+    try {
+      sessionProvider.close();
+    }
+    catch (RuntimeException e) {
+      LOG.info("Failed to close session provider {}", sessionProvider, e);
+    }
+  }
+}
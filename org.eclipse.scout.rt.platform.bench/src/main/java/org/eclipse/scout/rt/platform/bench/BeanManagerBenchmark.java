@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.SimpleBeanDecorationFactory;
+import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Concurrent lookups of a single bean and of all beans of an interface in a {@link BeanManagerImplementor}, like
+ * <code>BEANS.get</code> and <code>BEANS.all</code> do. The group <code>lookupWithRegistration</code> registers and
+ * unregisters a bean of the same interface concurrently to the lookups.
+ *
+ * @since 23.2
+ */
+public class BeanManagerBenchmark extends AbstractPlatformBenchmark {
+
+  private BeanManagerImplementor m_beanManager;
+
+  @Setup
+  public void setup() {
+    m_beanManager = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    m_beanManager.registerBean(new BeanMetaData(P_ServiceA.class).withApplicationScoped(true));
+  }
+
+  @Benchmark
+  public List<IBean<IP_Service>> lookup() {
+    return lookupImpl();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public List<IBean<IP_Service>> lookupContended() {
+    return lookupImpl();
+  }
+
+  @Benchmark
+  @Group("lookupWithRegistration")
+  @GroupThreads(7)
+  public List<IBean<IP_Service>> lookupWithRegistrationReader() {
+    return lookupImpl();
+  }
+
+  @Benchmark
+  @Group("lookupWithRegistration")
+  @GroupThreads(1)
+  public void lookupWithRegistrationWriter() {
+    m_beanManager.unregisterBean(m_beanManager.registerClass(P_ServiceB.class));
+  }
+
+  private List<IBean<IP_Service>> lookupImpl() {
+    m_beanManager.getBean(IP_Service.class);
+    return m_beanManager.getBeans(IP_Service.class);
+  }
+
+  public interface IP_Service {
+  }
+
+  @Order(20)
+  public static class P_ServiceA implements IP_Service {
+  }
+
+  @Order(10)
+  public static class P_ServiceB implements IP_Service {
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.util.date.IDateProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Bean lookups by {@link BEANS}, which are executed on virtually every code path of a Scout application.
+ *
+ * @since 23.2
+ */
+public class BeansBenchmark extends AbstractPlatformBenchmark {
+
+  @Benchmark
+  public IDateProvider get() {
+    return BEANS.get(IDateProvider.class);
+  }
+
+  @Benchmark
+  public IDateProvider opt() {
+    return BEANS.opt(IDateProvider.class);
+  }
+
+  @Benchmark
+  public List<IPlatformListener> all() {
+    return BEANS.all(IPlatformListener.class);
+  }
+}
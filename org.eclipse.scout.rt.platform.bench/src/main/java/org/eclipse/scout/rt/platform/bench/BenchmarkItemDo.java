@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.TypeName;
+
+/**
+ * Data object used as payload by {@link ServiceTunnelContentHandlerBenchmark}.
+ *
+ * @since 23.2
+ */
+@TypeName("scout.BenchmarkItem")
+public class BenchmarkItemDo extends DoEntity {
+
+  public DoValue<UUID> id() {
+    return doValue("id");
+  }
+
+  public DoValue<String> name() {
+    return doValue("name");
+  }
+
+  public DoValue<Date> modifiedDate() {
+    return doValue("modifiedDate");
+  }
+
+  public DoValue<BigDecimal> amount() {
+    return doValue("amount");
+  }
+
+  public DoValue<Boolean> active() {
+    return doValue("active");
+  }
+
+  public DoList<String> tags() {
+    return doList("tags");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withId(UUID id) {
+    id().set(id);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public UUID getId() {
+    return id().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withName(String name) {
+    name().set(name);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getName() {
+    return name().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withModifiedDate(Date modifiedDate) {
+    modifiedDate().set(modifiedDate);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Date getModifiedDate() {
+    return modifiedDate().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withAmount(BigDecimal amount) {
+    amount().set(amount);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BigDecimal getAmount() {
+    return amount().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withActive(Boolean active) {
+    active().set(active);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Boolean getActive() {
+    return active().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withTags(Collection<? extends String> tags) {
+    tags().updateAll(tags);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkItemDo withTags(String... tags) {
+    tags().updateAll(tags);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<String> getTags() {
+    return tags().get();
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the platform benchmarks with fixed settings and writes the results as JSON, so that the results of different
+ * runs (e.g. before and after a change) can be compared.
+ * <p>
+ * Arguments (both optional):
+ * <ol>
+ * <li>regular expression to select the benchmarks, e.g. <code>StringUtility</code> (default: all)</li>
+ * <li>path of the JSON result file (default: <code>jmh-result.json</code>)</li>
+ * </ol>
+ * The number of forks, warmup and measurement iterations are defined by {@link AbstractPlatformBenchmark}.
+ *
+ * @since 23.2
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    String include = args.length > 0 ? args[0] : ".*";
+    String resultFile = args.length > 1 ? args[1] : "jmh-result.json";
+
+    Options options = new OptionsBuilder()
+        .include(BenchmarkRunner.class.getPackage().getName() + "\\..*(" + include + ").*")
+        .shouldDoGC(true)
+        .shouldFailOnError(true)
+        .resultFormat(ResultFormatType.JSON)
+        .result(resultFile)
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Access to a {@link ConcurrentExpiringMap} without expiring elements, single threaded and contended.
+ *
+ * @since 23.2
+ */
+public class ConcurrentExpiringMapBenchmark extends AbstractPlatformBenchmark {
+
+  @Param({"100", "10000"})
+  public int m_size;
+
+  private ConcurrentExpiringMap<Integer, String> m_map;
+
+  @Setup
+  public void setup() {
+    m_map = new ConcurrentExpiringMap<>(1, TimeUnit.HOURS, m_size);
+    for (int i = 0; i < m_size; i++) {
+      m_map.put(i, "value" + i);
+    }
+  }
+
+  private Integer nextKey() {
+    return ThreadLocalRandom.current().nextInt(m_size);
+  }
+
+  @Benchmark
+  public String get() {
+    return m_map.get(nextKey());
+  }
+
+  @Benchmark
+  public String put() {
+    return m_map.put(nextKey(), "value");
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String getContended() {
+    return m_map.get(nextKey());
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String putContended() {
+    return m_map.put(nextKey(), "value");
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationNameProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerCorePoolSizeProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Lookup of config property values by {@link CONFIG}.
+ *
+ * @since 23.2
+ */
+public class ConfigBenchmark extends AbstractPlatformBenchmark {
+
+  @Benchmark
+  public String getStringProperty() {
+    return CONFIG.getPropertyValue(ApplicationNameProperty.class);
+  }
+
+  @Benchmark
+  public Integer getIntegerDefaultProperty() {
+    return CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
+  }
+
+  @Benchmark
+  public Boolean getBooleanProperty() {
+    return CONFIG.getPropertyValue(PlatformDevModeProperty.class);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.internal.LockFreeExecutionSemaphore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Jobs competing for the single permit of an {@link ExecutionSemaphore} or a {@link LockFreeExecutionSemaphore}, like
+ * model jobs do with the model job semaphore of a session. Uncontended and with several threads scheduling jobs
+ * concurrently.
+ *
+ * @since 23.2
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExecutionSemaphoreBenchmark extends AbstractPlatformBenchmark {
+
+  @Param({"lockBased", "lockFree"})
+  public String m_semaphoreType;
+
+  private final Integer m_value = 42;
+  private IExecutionSemaphore m_semaphore;
+
+  @Setup
+  public void setup() {
+    if ("lockFree".equals(m_semaphoreType)) {
+      m_semaphore = BEANS.get(LockFreeExecutionSemaphore.class).withPermits(1);
+    }
+    else {
+      m_semaphore = BEANS.get(ExecutionSemaphore.class).withPermits(1);
+    }
+  }
+
+  @Benchmark
+  public Integer scheduleAndAwait() {
+    return scheduleAndAwaitImpl();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Integer scheduleAndAwaitContended() {
+    return scheduleAndAwaitImpl();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public Integer scheduleAndAwaitHighlyContended() {
+    return scheduleAndAwaitImpl();
+  }
+
+  private Integer scheduleAndAwaitImpl() {
+    return Jobs.schedule(() -> m_value, Jobs.newInput()
+        .withExecutionSemaphore(m_semaphore))
+        .awaitDoneAndGet();
+  }
+}
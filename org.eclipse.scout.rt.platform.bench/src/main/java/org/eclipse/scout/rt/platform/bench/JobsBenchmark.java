@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Round-trip of a job, i.e. scheduling it and waiting for its completion.
+ *
+ * @since 23.2
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobsBenchmark extends AbstractPlatformBenchmark {
+
+  private final Integer m_value = 42;
+
+  @Benchmark
+  public Integer scheduleAndAwait() {
+    return Jobs.schedule(() -> m_value, Jobs.newInput())
+        .awaitDoneAndGet();
+  }
+
+  @Benchmark
+  public Integer scheduleWithRunContextAndAwait() {
+    return Jobs.schedule(() -> m_value, Jobs.newInput()
+        .withRunContext(RunContexts.empty())
+        .withName("benchmark"))
+        .awaitDoneAndGet();
+  }
+}
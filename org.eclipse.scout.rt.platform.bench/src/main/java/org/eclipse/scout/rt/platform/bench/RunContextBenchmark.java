@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Overhead of the {@link RunContext} call chain (thread locals, run monitor, transaction boundary).
+ *
+ * @since 23.2
+ */
+public class RunContextBenchmark extends AbstractPlatformBenchmark {
+
+  private static final ThreadLocal<String> THREAD_LOCAL = new ThreadLocal<>();
+
+  private final Integer m_value = 42;
+
+  @Benchmark
+  public Integer callEmpty() {
+    return RunContexts.empty().call(() -> m_value);
+  }
+
+  @Benchmark
+  public Integer callNested() {
+    return RunContexts.empty().call(() -> RunContexts.copyCurrent().call(() -> m_value));
+  }
+
+  @Benchmark
+  public String callWithThreadLocal() {
+    return RunContexts.empty()
+        .withThreadLocal(THREAD_LOCAL, "value")
+        .call(THREAD_LOCAL::get);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Java serialization round-trips using the {@link IObjectSerializer} of {@link SerializationUtility}.
+ *
+ * @since 23.2
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationUtilityBenchmark extends AbstractPlatformBenchmark {
+
+  private IObjectSerializer m_serializer;
+  private HashMap<String, Object> m_payload;
+  private byte[] m_serializedPayload;
+
+  @Setup
+  public void setup() throws IOException {
+    m_serializer = SerializationUtility.createObjectSerializer();
+    m_payload = new HashMap<>();
+    List<Object> rows = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      rows.add(new Object[]{(long) i, "Text " + i, new Date(0L), i % 2 == 0});
+    }
+    m_payload.put("rows", rows);
+    m_payload.put("name", "benchmark");
+    m_serializedPayload = m_serializer.serialize(m_payload);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return m_serializer.serialize(m_payload);
+  }
+
+  @Benchmark
+  public Map<?, ?> deserialize() throws IOException, ClassNotFoundException {
+    return m_serializer.deserialize(m_serializedPayload, Map.class);
+  }
+
+  @Benchmark
+  public Map<?, ?> roundTrip() throws IOException, ClassNotFoundException {
+    return m_serializer.deserialize(m_serializer.serialize(m_payload), Map.class);
+  }
+
+  @Benchmark
+  public Object createSerializer() {
+    return SerializationUtility.createObjectSerializer();
+  }
+}
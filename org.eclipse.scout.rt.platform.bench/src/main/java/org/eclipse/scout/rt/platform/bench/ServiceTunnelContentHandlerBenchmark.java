@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.DataObjectServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Compares {@link DataObjectServiceTunnelContentHandler} with the default {@link BinaryServiceTunnelContentHandler}
+ * (Java serialization) by writing and reading a service tunnel response.
+ * <p>
+ * Payloads:
+ * <ul>
+ * <li><b>dataObjects</b>: list of 100 data objects</li>
+ * <li><b>rows</b>: list of 100 <code>Object[]</code> rows, e.g. table data of a form data</li>
+ * </ul>
+ * The size of the encoded response is not measured here, it is checked by
+ * <code>DataObjectServiceTunnelContentHandlerTest#testSmallerThanJavaSerialization</code>.
+ *
+ * @since 23.2
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceTunnelContentHandlerBenchmark extends AbstractPlatformBenchmark {
+
+  @Param({"binary", "dataObject"})
+  public String m_handlerType;
+
+  @Param({"dataObjects", "rows"})
+  public String m_payload;
+
+  @Param({"false", "true"})
+  public boolean m_compressed;
+
+  private IServiceTunnelContentHandler m_handler;
+  private ServiceTunnelResponse m_response;
+  private byte[] m_encodedResponse;
+
+  @Setup
+  public void setup() throws IOException {
+    m_handler = createHandler();
+    m_handler.initialize();
+    m_response = new ServiceTunnelResponse(createPayload());
+    m_encodedResponse = writeResponse();
+  }
+
+  @Benchmark
+  public byte[] writeResponse() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    m_handler.writeResponse(out, m_response);
+    return out.toByteArray();
+  }
+
+  @Benchmark
+  public ServiceTunnelResponse readResponse() throws IOException, ClassNotFoundException {
+    return m_handler.readResponse(new ByteArrayInputStream(m_encodedResponse));
+  }
+
+  protected IServiceTunnelContentHandler createHandler() {
+    if ("dataObject".equals(m_handlerType)) {
+      return new DataObjectServiceTunnelContentHandler() {
+        @Override
+        protected Boolean isSendCompressed() {
+          return m_compressed;
+        }
+      };
+    }
+    return new BinaryServiceTunnelContentHandler() {
+      @Override
+      protected Boolean isSendCompressed() {
+        return m_compressed;
+      }
+    };
+  }
+
+  protected List<Object> createPayload() {
+    List<Object> payload = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      if ("rows".equals(m_payload)) {
+        payload.add(new Object[]{(long) i, "Text " + i, new Date(1_600_000_000_000L + i), new BigDecimal(i).movePointLeft(2), i % 2 == 0});
+      }
+      else {
+        payload.add(new BenchmarkItemDo()
+            .withId(UUID.randomUUID())
+            .withName("Item " + i)
+            .withModifiedDate(new Date(1_600_000_000_000L + i))
+            .withAmount(new BigDecimal(i).movePointLeft(2))
+            .withActive(i % 2 == 0)
+            .withTags("tag" + (i % 5), "all"));
+      }
+    }
+    return payload;
+  }
+}
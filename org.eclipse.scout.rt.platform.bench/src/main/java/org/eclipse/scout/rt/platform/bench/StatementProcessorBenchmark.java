@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Construction of a {@link StatementProcessor} (as done by <code>SQL.select</code> and <code>SQL.update</code>) with
+ * and without {@link ParsedStatementCache}, using a join statement with four binds.
+ *
+ * @since 23.2
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatementProcessorBenchmark extends AbstractPlatformBenchmark {
+
+  private static final String STATEMENT = "SELECT P.PERSON_NR, P.NAME, P.FIRST_NAME, P.BIRTHDAY, C.COMPANY_NR, C.NAME, C.SHORT_NAME"
+      + " FROM PERSON P"
+      + " INNER JOIN COMPANY C ON C.COMPANY_NR = P.COMPANY_NR"
+      + " LEFT OUTER JOIN ADDRESS A ON A.PERSON_NR = P.PERSON_NR AND A.ADDRESS_TYPE = 'PRIMARY'"
+      + " WHERE P.PERSON_NR = :personNr"
+      + " AND (P.NAME LIKE '%' || :name || '%' OR P.FIRST_NAME LIKE '%' || :name || '%')"
+      + " AND C.COMPANY_NR = :companyNr"
+      + " AND P.STATUS IN :status"
+      + " AND NOT EXISTS (SELECT 1 FROM PERSON_LOCK L WHERE L.PERSON_NR = P.PERSON_NR AND L.LOCKED = 1)"
+      + " ORDER BY P.NAME, P.FIRST_NAME";
+
+  @Param({"true", "false"})
+  public boolean m_cached;
+
+  private final Object[] m_binds = {new NVPair("personNr", 1L), new NVPair("name", "a"), new NVPair("companyNr", 2L), new NVPair("status", new Long[]{1L, 2L, 3L})};
+  private AbstractSqlService m_sqlService;
+
+  @Setup
+  public void setup() {
+    if (!m_cached) {
+      // each parameter combination runs in its own JVM, the replaced bean is not restored
+      BEANS.getBeanManager().registerBean(new BeanMetaData(ParsedStatementCache.class, new ParsedStatementCache(0)).withReplace(true));
+    }
+    m_sqlService = new AbstractSqlService() {
+    };
+    BeanInstanceUtil.initializeBeanInstance(m_sqlService);
+  }
+
+  @Benchmark
+  public StatementProcessor createStatementProcessor() {
+    return new StatementProcessor(m_sqlService, STATEMENT, m_binds);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Frequently used methods of {@link StringUtility}.
+ *
+ * @since 23.2
+ */
+public class StringUtilityBenchmark extends AbstractPlatformBenchmark {
+
+  private final String m_text = "  The quick brown fox jumps over the lazy dog  ";
+  private final String m_blank = "   \t  ";
+  private final String[] m_parts = {"alpha", null, "beta", "", "gamma", "delta"};
+
+  @Benchmark
+  public boolean hasText() {
+    return StringUtility.hasText(m_blank);
+  }
+
+  @Benchmark
+  public String trim() {
+    return StringUtility.trim(m_text);
+  }
+
+  @Benchmark
+  public String join() {
+    return StringUtility.join(", ", m_parts);
+  }
+
+  @Benchmark
+  public String replace() {
+    return StringUtility.replace(m_text, "fox", "cat");
+  }
+
+  @Benchmark
+  public String[] split() {
+    return StringUtility.split(m_text, " ");
+  }
+
+  @Benchmark
+  public String lowercase() {
+    return StringUtility.lowercase(m_text);
+  }
+
+  @Benchmark
+  public int compareIgnoreCase() {
+    return StringUtility.compareIgnoreCase(m_text, m_text.toUpperCase());
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.bench;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Conversions by {@link TypeCastUtility#castValue(Object, Class)}.
+ *
+ * @since 23.2
+ */
+public class TypeCastUtilityBenchmark extends AbstractPlatformBenchmark {
+
+  private final String m_numberString = "12345";
+  private final Long m_long = 12345L;
+  private final List<String> m_list = Arrays.asList("1", "2", "3", "4");
+
+  @Benchmark
+  public Long stringToLong() {
+    return TypeCastUtility.castValue(m_numberString, Long.class);
+  }
+
+  @Benchmark
+  public Integer longToInteger() {
+    return TypeCastUtility.castValue(m_long, Integer.class);
+  }
+
+  @Benchmark
+  public BigDecimal longToBigDecimal() {
+    return TypeCastUtility.castValue(m_long, BigDecimal.class);
+  }
+
+  @Benchmark
+  public Long sameType() {
+    return TypeCastUtility.castValue(m_long, Long.class);
+  }
+
+  @Benchmark
+  public Long[] listToArray() {
+    return TypeCastUtility.castValue(m_list, Long[].class);
+  }
+}
@@ -13,6 +13,7 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
 import org.junit.Test;
 
 /**
@@ -37,8 +38,10 @@ public class CacheBuilderTest {
     ICache<Integer, String> cache =
         cacheBuilder.withCacheId(CACHE_ID).withMaxConcurrentResolve(2).withValueResolver(resolver).withAdditionalCustomWrapper(TestCacheWrapper.class).withAdditionalCustomWrapper(BoundedResolveCacheWrapper.class, 12).build();
 
-    assertTrue(cache instanceof BoundedResolveCacheWrapper);
+    assertTrue(cache instanceof StatisticsCacheWrapper);
     ICache<Integer, String> cacheDelegate = ((AbstractCacheWrapper<Integer, String>) cache).getDelegate();
+    assertTrue(cacheDelegate instanceof BoundedResolveCacheWrapper);
+    cacheDelegate = ((AbstractCacheWrapper<Integer, String>) cacheDelegate).getDelegate();
     assertTrue(cacheDelegate instanceof TestCacheWrapper);
     cacheDelegate = ((AbstractCacheWrapper<Integer, String>) cacheDelegate).getDelegate();
     assertTrue(cacheDelegate instanceof BoundedResolveCacheWrapper);
@@ -46,6 +49,64 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testCacheBuilderTinyLfu() {
+    @SuppressWarnings("unchecked")
+    ICacheValueResolver<Integer, String> resolver = mock(ICacheValueResolver.class);
+
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+
+    ICache<Integer, String> cache = cacheBuilder.withCacheId(CACHE_ID + "TinyLfu").withReplaceIfExists(true).withValueResolver(resolver)
+        .withEvictionPolicy(CacheEvictionPolicy.TINY_LFU).withWeigher((key, value) -> value.length()).withMaxWeight(100L).withMaxConcurrentResolve(2).withStatisticsEnabled(false).build();
+
+    assertTrue(cache instanceof BoundedResolveCacheWrapper);
+    ICache<Integer, String> cacheDelegate = ((AbstractCacheWrapper<Integer, String>) cache).getDelegate();
+    assertTrue(cacheDelegate instanceof BasicCache);
+    ConcurrentTinyLfuMap<Integer, String> cacheMap = (ConcurrentTinyLfuMap<Integer, String>) ((BasicCache<Integer, String>) cacheDelegate).m_cacheMap;
+    assertEquals(100L, cacheMap.getMaxWeight());
+  }
+
+  @Test
+  public void testCacheBuilderTinyLfuTransactional() {
+    @SuppressWarnings("unchecked")
+    ICacheValueResolver<Integer, String> resolver = mock(ICacheValueResolver.class);
+
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+
+    ICache<Integer, String> cache = cacheBuilder.withCacheId(CACHE_ID + "TinyLfuTransactional").withReplaceIfExists(true).withValueResolver(resolver)
+        .withEvictionPolicy(CacheEvictionPolicy.TINY_LFU).withSizeBound(10).withTransactional(true).withStatisticsEnabled(false).build();
+
+    BasicCache<Integer, String> basicCache = (BasicCache<Integer, String>) cache;
+    assertTrue(basicCache.m_cacheMap instanceof ConcurrentTinyLfuMap);
+    assertEquals(10L, ((ConcurrentTinyLfuMap<Integer, String>) basicCache.m_cacheMap).getMaxWeight());
+    assertNotNull(basicCache.m_transactionalMap);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCacheBuilderTinyLfuWithoutBound() {
+    @SuppressWarnings("unchecked")
+    ICacheValueResolver<Integer, String> resolver = mock(ICacheValueResolver.class);
+
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    cacheBuilder.withCacheId(CACHE_ID + "TinyLfuWithoutBound").withValueResolver(resolver).withEvictionPolicy(CacheEvictionPolicy.TINY_LFU).build();
+  }
+
+  @Test
+  public void testCacheBuilderWithoutStatistics() {
+    @SuppressWarnings("unchecked")
+    ICacheValueResolver<Integer, String> resolver = mock(ICacheValueResolver.class);
+
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder.withCacheId(CACHE_ID + "WithoutStatistics").withReplaceIfExists(true).withValueResolver(resolver).withStatisticsEnabled(false).build();
+
+    assertTrue(cache instanceof BasicCache);
+    assertNull(cache.getAdapter(CacheStatistics.class));
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
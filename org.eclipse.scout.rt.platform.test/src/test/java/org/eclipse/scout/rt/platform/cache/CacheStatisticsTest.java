@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CacheStatistics} recorded by {@link StatisticsCacheWrapper} and
+ * {@link StatisticsCacheValueResolver}.
+ *
+ * @since 23.2
+ */
+public class CacheStatisticsTest {
+  private static final String CACHE_ID = "CacheStatisticsTestCacheId";
+
+  private static ICacheBuilder<Integer, String> newCacheBuilder(String cacheId) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder
+        .withCacheId(cacheId)
+        .withReplaceIfExists(true)
+        .withValueResolver(key -> {
+          if (key < 0) {
+            throw new ThreadInterruptedError("test");
+          }
+          return String.valueOf(key);
+        });
+  }
+
+  @Test
+  public void testHitsAndMisses() {
+    ICache<Integer, String> cache = newCacheBuilder(CACHE_ID).build();
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertNotNull(statistics);
+    assertEquals(CACHE_ID, statistics.getCacheId());
+
+    cache.get(1);
+    cache.get(1);
+    cache.get(2);
+    cache.get(null);
+    cache.getAll(Arrays.asList(1, 2, 3, 4, null, 4)); // the duplicate key is counted as separate request
+
+    assertEquals(8, statistics.getRequestCount());
+    assertEquals(4, statistics.getMissCount());
+    assertEquals(4, statistics.getHitCount());
+    assertEquals(4d / 8d, statistics.getHitRate(), 0.0001);
+    assertEquals(3, statistics.getLoadSuccessCount());
+    assertEquals(0, statistics.getLoadFailureCount());
+    assertTrue(statistics.getTotalLoadTime() > 0);
+
+    statistics.reset();
+    assertEquals(0, statistics.getRequestCount());
+    assertEquals(1.0, statistics.getHitRate(), 0.0);
+  }
+
+  @Test
+  public void testLoadFailure() {
+    ICache<Integer, String> cache = newCacheBuilder(CACHE_ID).build();
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    try {
+      cache.get(-1);
+      fail("exception expected");
+    }
+    catch (ThreadInterruptedError e) {
+      // expected
+    }
+    assertEquals(1, statistics.getMissCount());
+    assertEquals(1, statistics.getLoadFailureCount());
+  }
+
+  @Test
+  public void testInvalidationAndEviction() {
+    ICache<Integer, String> cache = newCacheBuilder(CACHE_ID).withEvictionPolicy(CacheEvictionPolicy.TINY_LFU).withSizeBound(10).build();
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    for (int i = 0; i < 30; i++) {
+      cache.get(i);
+    }
+    cache.invalidate(new AllCacheEntryFilter<>(), false);
+
+    assertEquals(20, statistics.getEvictionCount());
+    assertEquals(1, statistics.getInvalidationCount());
+  }
+
+  @Test
+  public void testJmxMonitor() throws Exception {
+    ICache<Integer, String> cache = newCacheBuilder(CACHE_ID + ":jmx").build();
+    cache.get(1);
+    cache.get(1);
+
+    ObjectName name = ((CacheRegistryService) BEANS.get(ICacheRegistryService.class)).jmxObjectName(cache.getCacheId());
+    MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+    assertTrue(mbs.isRegistered(name));
+    assertEquals(cache.getCacheId(), mbs.getAttribute(name, "CacheId"));
+    assertEquals(1L, mbs.getAttribute(name, "HitCount"));
+    assertEquals(1L, mbs.getAttribute(name, "MissCount"));
+    assertEquals(1, mbs.getAttribute(name, "Size"));
+    assertTrue(BEANS.get(ICacheRegistryService.class).getAll().contains(cache));
+
+    mbs.invoke(name, "resetStatistics", null, null);
+    assertEquals(0L, mbs.getAttribute(name, "RequestCount"));
+  }
+
+  @Test
+  public void testGetAllDefaultOfOtherRegistry() {
+    ICacheRegistryService registry = mock(ICacheRegistryService.class, CALLS_REAL_METHODS);
+    assertTrue(registry.getAll().isEmpty());
+  }
+}
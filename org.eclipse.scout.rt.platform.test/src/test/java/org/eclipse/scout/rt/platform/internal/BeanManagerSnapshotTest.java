@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.SimpleBeanDecorationFactory;
+import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
+import org.eclipse.scout.rt.platform.interceptor.IBeanInvocationContext;
+import org.junit.Test;
+
+/**
+ * Tests the snapshot based lookups of {@link BeanManagerImplementor}.
+ *
+ * @since 23.2
+ */
+public class BeanManagerSnapshotTest {
+
+  @Test
+  public void testQueryResultIsReusedUntilModified() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    beanManager.registerClass(P_ServiceA.class);
+
+    List<IBean<IP_Service>> all = beanManager.getBeans(IP_Service.class);
+    assertSame(all, beanManager.getBeans(IP_Service.class));
+    assertEquals(1, all.size());
+
+    IBean<P_ServiceB> beanB = beanManager.registerClass(P_ServiceB.class);
+    List<IBean<IP_Service>> all2 = beanManager.getBeans(IP_Service.class);
+    assertNotSame(all, all2);
+    assertEquals(2, all2.size());
+    assertEquals(1, all.size());
+    assertSame(beanB, beanManager.getBean(IP_Service.class));
+
+    beanManager.unregisterBean(beanB);
+    assertEquals(1, beanManager.getBeans(IP_Service.class).size());
+    assertEquals(P_ServiceA.class, beanManager.getBean(IP_Service.class).getBeanClazz());
+  }
+
+  @Test
+  public void testRegistrationIsVisibleToAllQueries() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    IBean<P_ServiceA> beanA = beanManager.registerClass(P_ServiceA.class);
+
+    // query all hierarchies before the registration, so that their snapshots exist
+    assertEquals(1, beanManager.getBeans(IP_Service.class).size());
+    assertEquals(1, beanManager.getBeans(P_ServiceA.class).size());
+    assertTrue(beanManager.getBeans(P_ServiceB.class).isEmpty());
+    assertNull(beanManager.optBean(P_ServiceB.class));
+
+    IBean<P_ServiceB> beanB = beanManager.registerClass(P_ServiceB.class);
+    assertEquals(Arrays.asList(beanB, beanA), beanManager.getBeans(IP_Service.class));
+    assertEquals(Collections.singletonList(beanB), beanManager.getBeans(P_ServiceB.class));
+    assertSame(beanB, beanManager.optBean(P_ServiceB.class));
+    assertSame(beanB, beanManager.getBean(IP_Service.class));
+    assertSame(beanA, beanManager.getBean(P_ServiceA.class));
+    assertTrue(beanManager.isBean(P_ServiceB.class));
+
+    beanManager.unregisterBean(beanB);
+    assertEquals(Collections.singletonList(beanA), beanManager.getBeans(IP_Service.class));
+    assertTrue(beanManager.getBeans(P_ServiceB.class).isEmpty());
+    assertNull(beanManager.optBean(P_ServiceB.class));
+    assertSame(beanA, beanManager.getBean(IP_Service.class));
+    assertFalse(beanManager.isBean(P_ServiceB.class));
+
+    beanManager.unregisterBean(beanA);
+    assertTrue(beanManager.getBeans(IP_Service.class).isEmpty());
+    assertNull(beanManager.optBean(IP_Service.class));
+  }
+
+  @Test
+  public void testDecoratedApplicationScopedBeanIsCached() {
+    P_CountingDecorationFactory factory = new P_CountingDecorationFactory();
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(factory);
+    beanManager.registerBean(new BeanMetaData(P_ServiceA.class).withApplicationScoped(true));
+
+    IBean<IP_Service> decorated = beanManager.getBean(IP_Service.class);
+    assertNotEquals(P_ServiceA.class, decorated.getBeanClazz());
+    assertSame(decorated, beanManager.getBean(IP_Service.class));
+    assertEquals(1, factory.m_decorateCount);
+    assertEquals("A", decorated.getInstance().getName());
+
+    // registration invalidates the cached decoration
+    beanManager.registerBean(new BeanMetaData(P_ServiceB.class).withApplicationScoped(true));
+    assertEquals("B", beanManager.getBean(IP_Service.class).getInstance().getName());
+    assertEquals(2, factory.m_decorateCount);
+  }
+
+  @Test
+  public void testUnregistrationInvalidatesDecoratedBean() {
+    P_CountingDecorationFactory factory = new P_CountingDecorationFactory();
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(factory);
+    beanManager.registerBean(new BeanMetaData(P_ServiceA.class).withApplicationScoped(true));
+    IBean<P_ServiceB> beanB = beanManager.registerBean(new BeanMetaData(P_ServiceB.class).withApplicationScoped(true));
+
+    IBean<IP_Service> decoratedB = beanManager.getBean(IP_Service.class);
+    assertEquals("B", decoratedB.getInstance().getName());
+    assertSame(decoratedB, beanManager.getBean(IP_Service.class));
+    assertEquals(1, factory.m_decorateCount);
+
+    beanManager.unregisterBean(beanB);
+    IBean<IP_Service> decoratedA = beanManager.getBean(IP_Service.class);
+    assertNotSame(decoratedB, decoratedA);
+    assertEquals("A", decoratedA.getInstance().getName());
+    assertSame(decoratedA, beanManager.getBean(IP_Service.class));
+    assertEquals(2, factory.m_decorateCount);
+  }
+
+  @Test
+  public void testDecoratedBeanIsOnlyInvalidatedForModifiedHierarchy() {
+    P_CountingDecorationFactory factory = new P_CountingDecorationFactory();
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(factory);
+    beanManager.registerBean(new BeanMetaData(P_ServiceA.class).withApplicationScoped(true));
+
+    IBean<IP_Service> decoratedService = beanManager.getBean(IP_Service.class);
+    IBean<IP_OtherService> decoratedOtherService = beanManager.getBean(IP_OtherService.class);
+    assertEquals(2, factory.m_decorateCount);
+
+    // the registration only affects the hierarchies of the registered bean
+    beanManager.registerBean(new BeanMetaData(P_ServiceB.class).withApplicationScoped(true));
+    assertSame(decoratedOtherService, beanManager.getBean(IP_OtherService.class));
+    assertNotSame(decoratedService, beanManager.getBean(IP_Service.class));
+    assertEquals(3, factory.m_decorateCount);
+  }
+
+  @Test
+  public void testConcurrentLookupAndRegistration() throws InterruptedException {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    beanManager.registerClass(P_ServiceA.class);
+
+    AtomicBoolean running = new AtomicBoolean(true);
+    List<Throwable> errors = new CopyOnWriteArrayList<>();
+    List<Thread> readers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      readers.add(new Thread(() -> {
+        try {
+          while (running.get()) {
+            IBean<IP_Service> bean = beanManager.getBean(IP_Service.class);
+            assertNotNull(bean);
+            List<IBean<IP_Service>> all = beanManager.getBeans(IP_Service.class);
+            assertTrue(all.size() == 1 || all.size() == 2);
+          }
+        }
+        catch (Throwable t) { // NOSONAR
+          errors.add(t);
+        }
+      }, "bean-lookup-" + i));
+    }
+    readers.forEach(Thread::start);
+
+    for (int i = 0; i < 2000; i++) {
+      beanManager.unregisterBean(beanManager.registerClass(P_ServiceB.class));
+    }
+    running.set(false);
+    for (Thread reader : readers) {
+      reader.join();
+    }
+
+    assertEquals(errors.toString(), 0, errors.size());
+    assertEquals(1, beanManager.getBeans(IP_Service.class).size());
+  }
+
+  public interface IP_Service {
+    String getName();
+  }
+
+  public interface IP_OtherService {
+  }
+
+  @Order(20)
+  public static class P_ServiceA implements IP_Service, IP_OtherService {
+    @Override
+    public String getName() {
+      return "A";
+    }
+  }
+
+  @Order(10)
+  public static class P_ServiceB implements IP_Service {
+    @Override
+    public String getName() {
+      return "B";
+    }
+  }
+
+  private static class P_CountingDecorationFactory implements IBeanDecorationFactory {
+    private int m_decorateCount;
+
+    @Override
+    public <T> IBeanDecorator<T> decorate(IBean<T> bean, Class<? extends T> queryType) {
+      m_decorateCount++;
+      return IBeanInvocationContext::proceed;
+    }
+  }
+}
@@ -23,8 +23,8 @@ import org.eclipse.scout.rt.platform.job.IBlockingCondition;
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
-import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.AcquisitionTask;
-import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.QueuePosition;
+import org.eclipse.scout.rt.platform.job.internal.AbstractExecutionSemaphore.AcquisitionTask;
+import org.eclipse.scout.rt.platform.job.internal.AbstractExecutionSemaphore.QueuePosition;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.SleepUtil;
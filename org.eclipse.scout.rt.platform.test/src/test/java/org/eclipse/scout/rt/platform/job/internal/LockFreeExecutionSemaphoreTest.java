@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.internal.AbstractExecutionSemaphore.QueuePosition;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class LockFreeExecutionSemaphoreTest {
+
+  @Test
+  public void testFifoHandOff() {
+    LockFreeExecutionSemaphore semaphore = BEANS.get(LockFreeExecutionSemaphore.class).withPermits(1);
+    List<String> protocol = Collections.synchronizedList(new ArrayList<>());
+
+    IFuture<?> task1 = newTask(semaphore, "task-1");
+    IFuture<?> task2 = newTask(semaphore, "task-2");
+    IFuture<?> task3 = newTask(semaphore, "task-3");
+    IFuture<?> task4 = newTask(semaphore, "task-4");
+
+    assertTrue(semaphore.compete(task1, QueuePosition.TAIL, () -> protocol.add("task-1")));
+    assertFalse(semaphore.compete(task2, QueuePosition.TAIL, () -> protocol.add("task-2")));
+    assertFalse(semaphore.compete(task3, QueuePosition.TAIL, () -> protocol.add("task-3")));
+    assertFalse(semaphore.compete(task4, QueuePosition.HEAD, () -> protocol.add("task-4")));
+    assertEquals(4, semaphore.getCompetitorCount());
+    assertTrue(semaphore.isPermitOwner(task1));
+    assertFalse(semaphore.isPermitOwner(task2));
+
+    semaphore.release(task1);
+    assertFalse(semaphore.isPermitOwner(task1));
+    assertTrue(semaphore.isPermitOwner(task4));
+
+    semaphore.release(task4);
+    assertTrue(semaphore.isPermitOwner(task2));
+
+    semaphore.release(task2);
+    assertTrue(semaphore.isPermitOwner(task3));
+
+    semaphore.release(task3);
+    assertEquals(0, semaphore.getCompetitorCount());
+    assertEquals(Arrays.asList("task-1", "task-4", "task-2", "task-3"), protocol);
+  }
+
+  /**
+   * A task which competes while another task is being queued must not take the permit freed in the meantime.
+   */
+  @Test
+  public void testNoBargingAheadOfQueuedTask() {
+    List<String> protocol = new ArrayList<>();
+    AtomicReference<Runnable> beforeEnqueue = new AtomicReference<>();
+    AtomicReference<Runnable> afterEnqueue = new AtomicReference<>();
+    LockFreeExecutionSemaphore semaphore = new LockFreeExecutionSemaphore() {
+
+      @Override
+      protected void enqueue(AcquisitionTask acquisitionTask, QueuePosition queuePosition) {
+        Optional.ofNullable(beforeEnqueue.getAndSet(null)).ifPresent(Runnable::run);
+        super.enqueue(acquisitionTask, queuePosition);
+        Optional.ofNullable(afterEnqueue.getAndSet(null)).ifPresent(Runnable::run);
+      }
+    }.withPermits(1);
+
+    IFuture<?> task1 = newTask(semaphore, "task-1");
+    IFuture<?> task2 = newTask(semaphore, "task-2");
+    IFuture<?> task3 = newTask(semaphore, "task-3");
+    assertTrue(semaphore.compete(task1, QueuePosition.TAIL, () -> protocol.add("task-1")));
+
+    // task-1 releases its permit while task-2 is being queued, and task-3 competes right after task-2 was queued
+    beforeEnqueue.set(() -> semaphore.release(task1));
+    afterEnqueue.set(() -> assertFalse(semaphore.compete(task3, QueuePosition.TAIL, () -> protocol.add("task-3"))));
+    semaphore.compete(task2, QueuePosition.TAIL, () -> protocol.add("task-2"));
+
+    assertTrue(semaphore.isPermitOwner(task2));
+    assertFalse(semaphore.isPermitOwner(task3));
+
+    semaphore.release(task2);
+    assertTrue(semaphore.isPermitOwner(task3));
+    assertEquals(Arrays.asList("task-1", "task-2", "task-3"), protocol);
+  }
+
+  @Test
+  public void testChangePermits() {
+    LockFreeExecutionSemaphore semaphore = BEANS.get(LockFreeExecutionSemaphore.class).withPermits(0);
+
+    IFuture<?> task1 = newTask(semaphore, "task-1");
+    IFuture<?> task2 = newTask(semaphore, "task-2");
+    IFuture<?> task3 = newTask(semaphore, "task-3");
+    semaphore.compete(task1, QueuePosition.TAIL, () -> {
+    });
+    semaphore.compete(task2, QueuePosition.TAIL, () -> {
+    });
+    semaphore.compete(task3, QueuePosition.TAIL, () -> {
+    });
+    assertFalse(semaphore.isPermitOwner(task1));
+
+    semaphore.withPermits(2);
+    assertTrue(semaphore.isPermitOwner(task1));
+    assertTrue(semaphore.isPermitOwner(task2));
+    assertFalse(semaphore.isPermitOwner(task3));
+
+    // reduce permits: released permit must not be passed to task-3
+    semaphore.withPermits(1);
+    semaphore.release(task1);
+    assertFalse(semaphore.isPermitOwner(task3));
+
+    semaphore.release(task2);
+    assertTrue(semaphore.isPermitOwner(task3));
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testReleaseWithoutPermit() {
+    LockFreeExecutionSemaphore semaphore = BEANS.get(LockFreeExecutionSemaphore.class).withPermits(1);
+    semaphore.release(newTask(semaphore, "task-1"));
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testSealed() {
+    BEANS.get(LockFreeExecutionSemaphore.class).withPermits(1).seal().withPermits(2);
+  }
+
+  @Test
+  public void testAcquireBlocking() throws InterruptedException {
+    LockFreeExecutionSemaphore semaphore = BEANS.get(LockFreeExecutionSemaphore.class).withPermits(1);
+    IFuture<?> task1 = newTask(semaphore, "task-1");
+    IFuture<?> task2 = newTask(semaphore, "task-2");
+    semaphore.acquire(task1, QueuePosition.TAIL);
+
+    CountDownLatch acquired = new CountDownLatch(1);
+    Thread thread = new Thread(() -> {
+      semaphore.acquire(task2, QueuePosition.TAIL);
+      acquired.countDown();
+    });
+    thread.start();
+
+    assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+    semaphore.release(task1);
+    assertTrue(acquired.await(10, TimeUnit.SECONDS));
+    assertTrue(semaphore.isPermitOwner(task2));
+  }
+
+  @Test
+  public void testAcquireInterrupted() throws InterruptedException {
+    LockFreeExecutionSemaphore semaphore = BEANS.get(LockFreeExecutionSemaphore.class).withPermits(1);
+    IFuture<?> task1 = newTask(semaphore, "task-1");
+    IFuture<?> task2 = newTask(semaphore, "task-2");
+    IFuture<?> task3 = newTask(semaphore, "task-3");
+    semaphore.acquire(task1, QueuePosition.TAIL);
+
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    Thread thread = new Thread(() -> {
+      try {
+        semaphore.acquire(task2, QueuePosition.TAIL);
+      }
+      catch (ThreadInterruptedError e) {
+        error.set(e);
+      }
+    });
+    thread.start();
+    while (semaphore.getCompetitorCount() < 2) {
+      Thread.yield();
+    }
+    semaphore.compete(task3, QueuePosition.TAIL, () -> {
+    });
+
+    thread.interrupt();
+    thread.join(TimeUnit.SECONDS.toMillis(10));
+    assertTrue(error.get() instanceof ThreadInterruptedError);
+
+    // the permit is passed on to task-3 because task-2 gave up
+    semaphore.release(task1);
+    assertFalse(semaphore.isPermitOwner(task2));
+    assertTrue(semaphore.isPermitOwner(task3));
+  }
+
+  @Test
+  public void testConcurrentCompetition() throws InterruptedException {
+    final int permits = 2;
+    final int threadCount = 8;
+    final int rounds = 1_000;
+
+    LockFreeExecutionSemaphore semaphore = BEANS.get(LockFreeExecutionSemaphore.class).withPermits(permits);
+    AtomicInteger concurrentOwners = new AtomicInteger();
+    AtomicInteger maxConcurrentOwners = new AtomicInteger();
+    AtomicInteger completed = new AtomicInteger();
+
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      IFuture<?> task = newTask(semaphore, "task-" + i);
+      threads.add(new Thread(() -> {
+        for (int round = 0; round < rounds; round++) {
+          semaphore.acquire(task, QueuePosition.TAIL);
+          maxConcurrentOwners.accumulateAndGet(concurrentOwners.incrementAndGet(), Math::max);
+          concurrentOwners.decrementAndGet();
+          semaphore.release(task);
+          completed.incrementAndGet();
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.MINUTES.toMillis(1));
+    }
+
+    assertEquals(threadCount * rounds, completed.get());
+    assertTrue(maxConcurrentOwners.get() <= permits);
+    assertEquals(0, semaphore.getCompetitorCount());
+  }
+
+  @Test
+  public void testJobsWithLockFreeSemaphore() {
+    LockFreeExecutionSemaphore semaphore = BEANS.get(LockFreeExecutionSemaphore.class).withPermits(1);
+    List<Integer> protocol = Collections.synchronizedList(new ArrayList<>());
+
+    List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final int index = i;
+      futures.add(Jobs.schedule(() -> {
+        protocol.add(index);
+      }, Jobs.newInput()
+          .withExecutionSemaphore(semaphore)));
+    }
+    futures.forEach(future -> future.awaitDone(10, TimeUnit.SECONDS));
+
+    List<Integer> expectedProtocol = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      expectedProtocol.add(i);
+    }
+    assertEquals(expectedProtocol, protocol);
+  }
+
+  /**
+   * Creates a task stub which is assigned to the given semaphore. A dynamic proxy is used instead of a Mockito mock to
+   * keep the overhead low in {@link #testConcurrentCompetition()}.
+   */
+  protected static IFuture<?> newTask(AbstractExecutionSemaphore semaphore, String name) {
+    JobInput input = Jobs.newInput()
+        .withName(name)
+        .withExecutionSemaphore(semaphore);
+    return (IFuture<?>) Proxy.newProxyInstance(IFuture.class.getClassLoader(), new Class<?>[]{IFuture.class}, new InvocationHandler() {
+
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+          case "getJobInput":
+            return input;
+          case "hashCode":
+            return System.identityHashCode(proxy);
+          case "equals":
+            return proxy == args[0];
+          case "toString":
+            return name;
+          default:
+            throw new UnsupportedOperationException(method.getName());
+        }
+      }
+    });
+  }
+}
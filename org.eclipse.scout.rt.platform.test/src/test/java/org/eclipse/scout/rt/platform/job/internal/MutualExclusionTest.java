@@ -18,8 +18,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
-import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.IPermitAcquiredCallback;
-import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.QueuePosition;
+import org.eclipse.scout.rt.platform.job.internal.AbstractExecutionSemaphore.IPermitAcquiredCallback;
+import org.eclipse.scout.rt.platform.job.internal.AbstractExecutionSemaphore.QueuePosition;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ThreadPerTaskExecutorTest {
+
+  @Test
+  public void testThreadPerTask() throws InterruptedException {
+    final List<Runnable> rejected = new CopyOnWriteArrayList<>();
+    final ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new NamedThreadFactory("thread-per-task-test"), rejected::add);
+
+    final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    final CountDownLatch started = new CountDownLatch(10);
+    final CountDownLatch release = new CountDownLatch(1);
+    for (int i = 0; i < 10; i++) {
+      executor.execute(() -> {
+        threads.add(Thread.currentThread());
+        started.countDown();
+        try {
+          release.await();
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+
+    // all tasks run concurrently, each on its own thread
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    assertEquals(10, threads.size());
+    assertEquals(10, executor.getActiveCount());
+
+    release.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(executor.isTerminated());
+    assertEquals(0, executor.getActiveCount());
+    assertTrue(rejected.isEmpty());
+  }
+
+  @Test
+  public void testRejectAfterShutdown() {
+    final List<Runnable> rejected = new CopyOnWriteArrayList<>();
+    final ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new NamedThreadFactory("thread-per-task-test"), rejected::add);
+    executor.shutdown();
+    assertTrue(executor.isShutdown());
+    assertTrue(executor.isTerminated());
+
+    final Runnable runnable = () -> fail("must not be executed");
+    executor.execute(runnable);
+    assertEquals(1, rejected.size());
+    assertSame(runnable, rejected.get(0));
+  }
+
+  @Test
+  public void testShutdownNowInterruptsRunningTasks() throws InterruptedException {
+    final ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new NamedThreadFactory("thread-per-task-test"), runnable -> fail("must not be rejected"));
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        new CountDownLatch(1).await();
+      }
+      catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+    });
+
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    assertTrue(executor.shutdownNow().isEmpty());
+    assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link BinaryResource} backed by an {@link IBinaryContent}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class BinaryContentTest {
+
+  private static final byte[] CONTENT = "lorem ipsum dolor sit amet".getBytes(StandardCharsets.UTF_8);
+
+  private File m_file;
+
+  @Before
+  public void before() {
+    m_file = IOUtility.createTempFile("content.txt", CONTENT);
+  }
+
+  @After
+  public void after() {
+    m_file.delete();
+  }
+
+  @Test
+  public void testFileContent() throws Exception {
+    BinaryResource inMemory = BinaryResources.create().withFilename("content.txt").withContent(CONTENT).build();
+    BinaryResource resource = BinaryResources.create().withFilename("content.txt").withContent(new FileBinaryContent(m_file)).build();
+
+    assertFalse(resource.hasContentInMemory());
+    assertEquals(CONTENT.length, resource.getContentLength());
+    assertEquals(CONTENT.length, resource.getContentLengthLong());
+    assertEquals(inMemory.getFingerprint(), resource.getFingerprint());
+    assertEquals(inMemory.getContentType(), resource.getContentType());
+    assertArrayEquals(CONTENT, resource.getContent());
+    assertArrayEquals(CONTENT, write(resource));
+    try (InputStream in = resource.openContentStream()) {
+      assertArrayEquals(CONTENT, IOUtility.readBytes(in));
+    }
+  }
+
+  @Test
+  public void testMappedContent() throws Exception {
+    BinaryResource resource = BinaryResources.create().withContent(new MappedBinaryContent(m_file, 6, 5)).build();
+
+    assertEquals(5, resource.getContentLengthLong());
+    assertEquals("ipsum", resource.getContentAsString());
+    assertArrayEquals("ipsum".getBytes(StandardCharsets.UTF_8), write(resource));
+    try (InputStream in = resource.openContentStream()) {
+      assertArrayEquals("ipsum".getBytes(StandardCharsets.UTF_8), IOUtility.readBytes(in));
+    }
+  }
+
+  @Test
+  public void testStreamContent() throws Exception {
+    BinaryResource inMemory = BinaryResources.create().withContent(CONTENT).build();
+    BinaryResource resource = BinaryResources.create().withContent(new StreamBinaryContent(() -> new ByteArrayInputStream(CONTENT), -1)).build();
+
+    assertEquals(-1, resource.getContentLengthLong());
+    assertEquals(inMemory.getFingerprint(), resource.getFingerprint());
+    assertArrayEquals(CONTENT, write(resource));
+  }
+
+  @Test
+  public void testCreateAliasKeepsBackingContent() {
+    FileBinaryContent content = new FileBinaryContent(m_file);
+    BinaryResource alias = BinaryResources.create().withFilename("content.txt").withContent(content).build().createAlias("alias.txt");
+
+    assertEquals("alias.txt", alias.getFilename());
+    assertSame(content, alias.getBinaryContent());
+  }
+
+  @Test
+  public void testFileFingerprintIsCached() throws Exception {
+    AtomicInteger openCount = new AtomicInteger();
+    FileBinaryContent content = new FileBinaryContent(m_file) {
+      @Override
+      public InputStream openStream() throws IOException {
+        openCount.incrementAndGet();
+        return super.openStream();
+      }
+    };
+    BinaryResource resource = BinaryResources.create().withFilename("content.txt").withContent(content).build();
+    long fingerprint = resource.getFingerprint();
+    assertEquals(fingerprint, resource.getFingerprint());
+    assertEquals(fingerprint, resource.createAlias("alias.txt").getFingerprint());
+    assertEquals(1, openCount.get());
+
+    // a modified file is read again
+    IOUtility.writeContent(m_file.getPath(), "modified content");
+    BinaryResource modified = BinaryResources.create().withContent(content).build();
+    assertEquals(BinaryResources.create().withContent("modified content").build().getFingerprint(), modified.getFingerprint());
+    assertEquals(2, openCount.get());
+  }
+
+  @Test
+  public void testHashCodeDoesNotAccessFile() {
+    BinaryResource resource = BinaryResources.create().withFilename("content.txt").withContent(new FileBinaryContent(m_file)).build();
+    BinaryResource other = BinaryResources.create().withFilename("content.txt").withContent(new FileBinaryContent(m_file)).build();
+    int hashCode = resource.hashCode();
+    assertEquals(resource, other);
+    assertEquals(hashCode, other.hashCode());
+
+    IOUtility.writeContent(m_file.getPath(), "modified content");
+    assertEquals(hashCode, resource.hashCode());
+  }
+
+  @Test
+  public void testEqualsOfBackingContents() {
+    assertEquals(new MappedBinaryContent(m_file, 6, 5), new MappedBinaryContent(m_file, 6, 5));
+    assertEquals(new MappedBinaryContent(m_file, 6, 5).hashCode(), new MappedBinaryContent(m_file, 6, 5).hashCode());
+    assertNotEquals(new MappedBinaryContent(m_file, 6, 5), new MappedBinaryContent(m_file, 0, 5));
+
+    StreamBinaryContent.IInputStreamSupplier supplier = () -> new ByteArrayInputStream(CONTENT);
+    assertEquals(new StreamBinaryContent(supplier, CONTENT.length), new StreamBinaryContent(supplier, CONTENT.length));
+    assertEquals(new StreamBinaryContent(supplier, CONTENT.length).hashCode(), new StreamBinaryContent(supplier, CONTENT.length).hashCode());
+    assertNotEquals(new StreamBinaryContent(supplier, CONTENT.length), new StreamBinaryContent(supplier, -1));
+
+    BinaryResource resource = BinaryResources.create().withFilename("content.txt").withContent(new MappedBinaryContent(m_file)).build();
+    BinaryResource other = BinaryResources.create().withFilename("content.txt").withContent(new MappedBinaryContent(m_file)).build();
+    assertEquals(resource, other);
+    assertEquals(resource.hashCode(), other.hashCode());
+  }
+
+  @Test
+  public void testHasContentDoesNotReadContent() {
+    BinaryResource resource = BinaryResources.create().withContent(new StreamBinaryContent(() -> {
+      throw new IOException("must not be read");
+    }, -1)).build();
+    assertTrue(resource.hasContent());
+    assertFalse(BinaryResources.create().withFilename("empty.txt").build().hasContent());
+  }
+
+  @Test
+  public void testSerializedInMemory() throws Exception {
+    BinaryResource resource = BinaryResources.create().withFilename("content.txt").withContent(new FileBinaryContent(m_file)).build();
+
+    byte[] serialized = SerializationUtility.createObjectSerializer().serialize(resource);
+    BinaryResource copy = SerializationUtility.createObjectSerializer().deserialize(serialized, BinaryResource.class);
+
+    assertTrue(copy.hasContentInMemory());
+    assertArrayEquals(CONTENT, copy.getContent());
+    assertEquals(resource.getFingerprint(), copy.getFingerprint());
+    assertEquals("content.txt", copy.getFilename());
+  }
+
+  @Test
+  public void testDeleteTemporaryFile() {
+    FileBinaryContent content = new FileBinaryContent(m_file, true);
+    assertTrue(m_file.exists());
+    content.delete();
+    assertFalse(m_file.exists());
+  }
+
+  protected byte[] write(BinaryResource resource) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long written = resource.writeContentTo(out);
+    assertEquals(out.size(), written);
+    return out.toByteArray();
+  }
+}
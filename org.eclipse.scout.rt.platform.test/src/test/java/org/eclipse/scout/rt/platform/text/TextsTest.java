@@ -10,13 +10,17 @@
 package org.eclipse.scout.rt.platform.text;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Locale;
 import java.util.Map;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.DynamicNls;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -50,5 +54,55 @@ public class TextsTest {
   public void testGetTextMap() {
     Map<String, String> textMap = BEANS.get(ScoutTexts.class).getTextMap(Locale.ENGLISH);
     assertNotNull(textMap);
+    assertEquals("Value 1", textMap.get("key1"));
+    assertEquals("value {0}", textMap.get("key6"));
+  }
+
+  @Test
+  public void testGetTextMapReturnsCopy() {
+    ScoutTexts texts = BEANS.get(ScoutTexts.class);
+    Map<String, String> textMap = texts.getTextMap(Locale.ENGLISH);
+    textMap.put("key1", "modified");
+    textMap.remove("key6");
+
+    Map<String, String> textMap2 = texts.getTextMap(Locale.ENGLISH);
+    assertNotSame(textMap, textMap2);
+    assertEquals("Value 1", textMap2.get("key1"));
+    assertEquals("value {0}", textMap2.get("key6"));
+    assertEquals("Value 1", texts.getText(Locale.ENGLISH, "key1"));
+  }
+
+  @Test
+  public void testTextTableAfterReload() {
+    ScoutTexts texts = BEANS.get(ScoutTexts.class);
+    assertEquals("value X", texts.getText(Locale.ENGLISH, "key6", "X"));
+
+    texts.reloadTextProviders();
+    assertEquals("value X", texts.getText(Locale.ENGLISH, "key6", "X"));
+    assertEquals("Value 1", texts.getTextMap(Locale.ENGLISH).get("key1"));
+    assertEquals("{undefined text anyKey}", texts.getText(Locale.ENGLISH, "anyKey"));
+  }
+
+  @Test
+  public void testIsFlattenable() {
+    ScoutTexts texts = BEANS.get(ScoutTexts.class);
+    assertTrue(texts.isFlattenable(new TestTextProviderService()));
+    assertFalse(texts.isFlattenable(new TestTextProviderService() {
+      @Override
+      public String getText(Locale locale, String key, String... messageArguments) {
+        return "overridden";
+      }
+    }));
+    assertFalse(texts.isFlattenable(new TestTextProviderService() {
+      @Override
+      protected DynamicNls createDynamicNls() {
+        return new DynamicNls() {
+          @Override
+          protected Locale getDefaultLocale() {
+            return Locale.GERMAN;
+          }
+        };
+      }
+    }));
   }
 }
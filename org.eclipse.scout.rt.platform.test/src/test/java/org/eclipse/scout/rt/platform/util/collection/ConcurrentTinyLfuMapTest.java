@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConcurrentTinyLfuMap}
+ *
+ * @since 23.2
+ */
+public class ConcurrentTinyLfuMapTest {
+
+  @Test
+  public void testMapOperations() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(10);
+    assertTrue(map.isEmpty());
+    assertNull(map.put(1, "1"));
+    assertEquals("1", map.put(1, "one"));
+    assertEquals("one", map.get(1));
+    assertTrue(map.containsKey(1));
+    assertTrue(map.containsValue("one"));
+
+    assertEquals("one", map.putIfAbsent(1, "uno"));
+    assertNull(map.putIfAbsent(2, "2"));
+    assertFalse(map.replace(2, "x", "two"));
+    assertTrue(map.replace(2, "2", "two"));
+    assertEquals("two", map.replace(2, "zwei"));
+    assertNull(map.replace(3, "3"));
+    assertFalse(map.containsKey(3));
+
+    Map<Integer, String> expected = new HashMap<>();
+    expected.put(1, "one");
+    expected.put(2, "zwei");
+    assertEquals(expected, new HashMap<>(map));
+
+    assertFalse(map.remove(1, "1"));
+    assertTrue(map.remove(1, "one"));
+    assertEquals("zwei", map.remove(2));
+    assertNull(map.remove(2));
+    assertTrue(map.isEmpty());
+
+    map.cleanUp();
+    assertEquals(0, map.getWeightedSize());
+  }
+
+  @Test
+  public void testNullValue() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(10);
+    map.put(1, null);
+    assertTrue(map.containsKey(1));
+    assertNull(map.get(1));
+  }
+
+  @Test
+  public void testSizeBoundEnforced() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(100);
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    map.cleanUp();
+    assertEquals(100, map.size());
+    assertEquals(100, map.getWeightedSize());
+  }
+
+  @Test
+  public void testWeightBoundEnforced() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(1000, (key, value) -> value.length(), 0, TimeUnit.MILLISECONDS, false);
+    for (int i = 0; i < 100; i++) {
+      map.put(i, newValue(100));
+    }
+    map.put(100, newValue(10));
+    map.cleanUp();
+    assertTrue(map.getWeightedSize() <= 1000);
+    assertEquals(map.getWeightedSize(), totalWeight(map));
+    assertTrue(map.size() <= 10);
+  }
+
+  @Test
+  public void testEntryHeavierThanMaxWeightIsEvicted() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(100, (key, value) -> value.length(), 0, TimeUnit.MILLISECONDS, false);
+    map.put(1, newValue(10));
+    map.put(2, newValue(101));
+    map.cleanUp();
+    assertTrue(map.containsKey(1));
+    assertFalse(map.containsKey(2));
+    assertEquals(10, map.getWeightedSize());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeWeight() {
+    new ConcurrentTinyLfuMap<Integer, String>(100, (key, value) -> -1, 0, TimeUnit.MILLISECONDS, false).put(1, "1");
+  }
+
+  @Test
+  public void testScanResistance() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(100);
+    // frequently used entries
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 50; i++) {
+        if (map.get(i) == null) {
+          map.put(i, String.valueOf(i));
+        }
+      }
+    }
+    // scan over keys which are accessed only once
+    for (int i = 1000; i < 11000; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    map.cleanUp();
+
+    int hits = 0;
+    for (int i = 0; i < 50; i++) {
+      if (map.containsKey(i)) {
+        hits++;
+      }
+    }
+    assertTrue("frequently used entries were evicted by scan [hits=" + hits + "]", hits >= 45);
+    assertEquals(100, map.size());
+  }
+
+  @Test
+  public void testEntryEvicted() {
+    List<Integer> evictedKeys = new ArrayList<>();
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<Integer, String>(new ConcurrentHashMap<>(), 10, null, -1, false) {
+      @Override
+      protected void execEntryEvicted(Integer key, String value) {
+        evictedKeys.add(key);
+      }
+    };
+    for (int i = 0; i < 20; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    map.cleanUp();
+    assertEquals(10, evictedKeys.size());
+    for (Integer key : evictedKeys) {
+      assertFalse(map.containsKey(key));
+    }
+  }
+
+  @Test
+  public void testTimeToLive() throws InterruptedException {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(10, null, 10, TimeUnit.MILLISECONDS, false);
+    map.put(1, "1");
+    Thread.sleep(50);
+    assertNull(map.get(1));
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.size());
+    assertNull(map.putIfAbsent(1, "one"));
+    assertEquals("one", map.get(1));
+  }
+
+  @Test
+  public void testClear() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(100);
+    for (int i = 0; i < 50; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    map.clear();
+    map.put(1, "1");
+    map.cleanUp();
+    assertEquals(1, map.size());
+    assertEquals(1, map.getWeightedSize());
+  }
+
+  @Test
+  public void testEntrySetIterator() {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(100);
+    for (int i = 0; i < 10; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    map.entrySet().removeIf(entry -> entry.getKey() % 2 == 0);
+    map.entrySet().iterator().next().setValue("x");
+    map.cleanUp();
+    assertEquals(5, map.size());
+    assertEquals(5, map.getWeightedSize());
+    assertTrue(map.containsValue("x"));
+  }
+
+  @Test
+  public void testConcurrentAccess() throws InterruptedException {
+    ConcurrentTinyLfuMap<Integer, String> map = new ConcurrentTinyLfuMap<>(500, (key, value) -> value.length(), 0, TimeUnit.MILLISECONDS, false);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      threads.add(new Thread(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 20_000; i++) {
+          int key = random.nextInt(200);
+          switch (random.nextInt(4)) {
+            case 0:
+              map.put(key, newValue(random.nextInt(1, 10)));
+              break;
+            case 1:
+              map.remove(key);
+              break;
+            default:
+              if (map.get(key) == null) {
+                map.putIfAbsent(key, newValue(random.nextInt(1, 10)));
+              }
+          }
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    map.cleanUp();
+    assertTrue(map.getWeightedSize() <= 500);
+    assertEquals(map.getWeightedSize(), totalWeight(map));
+  }
+
+  private static long totalWeight(ConcurrentTinyLfuMap<?, String> map) {
+    return map.values().stream().mapToLong(String::length).sum();
+  }
+
+  private static String newValue(int length) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      sb.append('x');
+    }
+    return sb.toString();
+  }
+}
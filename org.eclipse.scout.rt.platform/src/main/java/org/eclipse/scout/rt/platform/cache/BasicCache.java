@@ -21,6 +21,7 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
 
 /**
  * Basic implementation of {@link ICache}.
@@ -52,6 +53,9 @@ public class BasicCache<K, V> implements ICache<K, V> {
     if (cacheMap instanceof ConcurrentExpiringMap) {
       innerMap = ((ConcurrentExpiringMap<K, Object>) cacheMap).getElementMap();
     }
+    else if (cacheMap instanceof ConcurrentTinyLfuMap) {
+      innerMap = ((ConcurrentTinyLfuMap<K, Object>) cacheMap).getElementMap();
+    }
     if (innerMap instanceof AbstractTransactionalMap) {
       return (AbstractTransactionalMap<K, ?>) innerMap;
     }
@@ -17,12 +17,14 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntBiFunction;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.CopyOnWriteTransactionalMap;
 
@@ -46,6 +48,11 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private CacheEvictionPolicy m_evictionPolicy;
+  private ToIntBiFunction<? super K, ? super V> m_weigher;
+  private Long m_maxWeight;
+  private boolean m_statisticsEnabled;
+  private CacheStatistics m_statistics;
   private Integer m_maxConcurrentResolve;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
@@ -56,6 +63,8 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     m_threadSafe = true;
     m_throwIfExists = true;
     m_replaceIfExists = false;
+    m_evictionPolicy = CacheEvictionPolicy.LRU;
+    m_statisticsEnabled = true;
   }
 
   @Override
@@ -63,6 +72,10 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     if (getCacheId() == null) {
       throw new IllegalStateException("cacheId is null");
     }
+    if (getEvictionPolicy() == CacheEvictionPolicy.TINY_LFU && getMaxWeight() == null && getSizeBound() == null) {
+      throw new IllegalStateException("sizeBound or maxWeight is required for eviction policy " + CacheEvictionPolicy.TINY_LFU);
+    }
+    m_statistics = isStatisticsEnabled() ? createCacheStatistics() : null;
     Map<K, V> cacheMap = createCacheMap();
     ICache<K, V> cache = createBasicCache(cacheMap);
     cache = addBeforeCustomWrappers(cache);
@@ -92,13 +105,25 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected Map<K, V> createCacheMap() {
-    if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
+    if (getEvictionPolicy() == CacheEvictionPolicy.TINY_LFU) {
+      return createTinyLfuMap();
+    }
+    else if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
     else if (isCreateExpiringMap()) {
       boolean touchOnGet = isTouchOnGet() || getSizeBound() != null;
       long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
       int targetSize = NumberUtility.nvl(getSizeBound(), -1);
+      CacheStatistics statistics = getStatistics();
+      if (statistics != null) {
+        return new ConcurrentExpiringMap<K, V>(createConcurrentMap(), timeToLive, touchOnGet, targetSize) {
+          @Override
+          protected void execEntryEvicted(K key, V value) {
+            statistics.recordEviction();
+          }
+        };
+      }
       return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize);
     }
     else if (isThreadSafe() || isTransactional()) {
@@ -107,6 +132,21 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return new HashMap<>();
   }
 
+  protected Map<K, V> createTinyLfuMap() {
+    long maxWeight = getMaxWeight() != null ? getMaxWeight() : getSizeBound();
+    long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
+    CacheStatistics statistics = getStatistics();
+    if (statistics != null) {
+      return new ConcurrentTinyLfuMap<K, V>(createConcurrentMap(), maxWeight, getWeigher(), timeToLive, isTouchOnGet()) {
+        @Override
+        protected void execEntryEvicted(K key, V value) {
+          statistics.recordEviction();
+        }
+      };
+    }
+    return new ConcurrentTinyLfuMap<>(createConcurrentMap(), maxWeight, getWeigher(), timeToLive, isTouchOnGet());
+  }
+
   protected <KK, VV> ConcurrentMap<KK, VV> createConcurrentMap() {
     if (isTransactional()) {
       return new ConcurrentTransactionalMap<>(getCacheId(), isTransactionalFastForward());
@@ -121,7 +161,22 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    return new BasicCache<>(getCacheId(), getValueResolver(), cacheMap);
+    return new BasicCache<>(getCacheId(), decorateValueResolver(getValueResolver()), cacheMap);
+  }
+
+  protected CacheStatistics createCacheStatistics() {
+    return new CacheStatistics(getCacheId(), BEANS.opt(CacheMetricProvider.class));
+  }
+
+  /**
+   * @return the value resolver to be used by the basic cache; records cache misses if statistics are enabled
+   */
+  protected ICacheValueResolver<K, V> decorateValueResolver(ICacheValueResolver<K, V> valueResolver) {
+    CacheStatistics statistics = getStatistics();
+    if (statistics != null && valueResolver != null) {
+      return new StatisticsCacheValueResolver<>(valueResolver, statistics);
+    }
+    return valueResolver;
   }
 
   protected ICache<K, V> addBeforeCustomWrappers(ICache<K, V> cache) {
@@ -152,6 +207,11 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected ICache<K, V> addAfterCustomWrappers(ICache<K, V> cache) {
+    CacheStatistics statistics = getStatistics();
+    if (statistics != null) {
+      // outermost wrapper in order to count every request
+      cache = new StatisticsCacheWrapper<>(cache, statistics);
+    }
     return cache;
   }
 
@@ -301,6 +361,56 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy) {
+    m_evictionPolicy = evictionPolicy != null ? evictionPolicy : CacheEvictionPolicy.LRU;
+    return this;
+  }
+
+  public CacheEvictionPolicy getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withWeigher(ToIntBiFunction<? super K, ? super V> weigher) {
+    m_weigher = weigher;
+    return this;
+  }
+
+  public ToIntBiFunction<? super K, ? super V> getWeigher() {
+    return m_weigher;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withMaxWeight(Long maxWeight) {
+    if (maxWeight != null && maxWeight < 0L) {
+      throw new IllegalArgumentException("maxWeight cannot be negative");
+    }
+    m_maxWeight = maxWeight;
+    return this;
+  }
+
+  public Long getMaxWeight() {
+    return m_maxWeight;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withStatisticsEnabled(boolean statisticsEnabled) {
+    m_statisticsEnabled = statisticsEnabled;
+    return this;
+  }
+
+  public boolean isStatisticsEnabled() {
+    return m_statisticsEnabled;
+  }
+
+  /**
+   * @return statistics of the cache being built, or <code>null</code> if statistics are disabled
+   */
+  protected CacheStatistics getStatistics() {
+    return m_statistics;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
+
+/**
+ * Policy used by a bounded cache to evict entries.
+ *
+ * @see ICacheBuilder#withEvictionPolicy(CacheEvictionPolicy)
+ * @since 23.2
+ */
+public enum CacheEvictionPolicy {
+  /**
+   * Least recently used entries are evicted once the size bound is exceeded by 50%. The size bound is just a guidance
+   * value, and entries have no weight (see {@link ConcurrentExpiringMap}).
+   */
+  LRU,
+
+  /**
+   * Window TinyLFU: new entries are only admitted if they are accessed more frequently than the entries they would
+   * replace, so that frequently used entries survive scans. The maximum weight is enforced (see
+   * {@link ConcurrentTinyLfuMap}).
+   */
+  TINY_LFU
+}
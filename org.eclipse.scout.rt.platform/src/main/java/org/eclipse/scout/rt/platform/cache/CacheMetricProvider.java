@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} which serves the {@link CacheStatistics} of all caches registered in
+ * {@link ICacheRegistryService}, and a histogram of the value resolver latencies.
+ *
+ * @since 23.2
+ */
+public class CacheMetricProvider implements IMetricProvider {
+
+  private static final AttributeKey<String> CACHE_ID = AttributeKey.stringKey("cache.id");
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+  private static final String OTEL_METRIC_CACHE_RESOLVE_DURATION = "scout.cache.resolve.duration";
+
+  private volatile DoubleHistogram m_resolveDuration;
+  private BatchCallback m_batchCallback;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter("scout.cache");
+
+    ObservableLongMeasurement requests = meter.counterBuilder("scout.cache.requests")
+        .setDescription("The number of keys requested from the cache, by result (hit or miss).")
+        .setUnit("{request}")
+        .buildObserver();
+    ObservableLongMeasurement loads = meter.counterBuilder("scout.cache.loads")
+        .setDescription("The number of value resolver invocations, by result (success or failure).")
+        .setUnit("{load}")
+        .buildObserver();
+    ObservableLongMeasurement evictions = meter.counterBuilder("scout.cache.evictions")
+        .setDescription("The number of entries evicted because of the size bound or time to live of the cache.")
+        .setUnit("{entry}")
+        .buildObserver();
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.cache.size")
+        .setDescription("The number of entries in the cache.")
+        .setUnit("{entry}")
+        .buildObserver();
+    m_resolveDuration = meter.histogramBuilder(OTEL_METRIC_CACHE_RESOLVE_DURATION)
+        .setDescription("The time the value resolver took to resolve a cache miss.")
+        .setUnit("ms")
+        .build();
+
+    m_batchCallback = meter.batchCallback(() -> {
+      // a registry which does not support listing its caches returns no caches, nothing is recorded
+      for (ICache<?, ?> cache : BEANS.get(ICacheRegistryService.class).getAll()) {
+        CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+        if (statistics == null) {
+          continue;
+        }
+        Attributes attributes = Attributes.of(CACHE_ID, cache.getCacheId());
+        requests.record(statistics.getHitCount(), attributes.toBuilder().put(RESULT, "hit").build());
+        requests.record(statistics.getMissCount(), attributes.toBuilder().put(RESULT, "miss").build());
+        loads.record(statistics.getLoadSuccessCount(), attributes.toBuilder().put(RESULT, "success").build());
+        loads.record(statistics.getLoadFailureCount(), attributes.toBuilder().put(RESULT, "failure").build());
+        evictions.record(statistics.getEvictionCount(), attributes);
+        size.record(cache.getUnmodifiableMap().size(), attributes);
+      }
+    },
+        requests,
+        loads,
+        evictions,
+        size);
+  }
+
+  /**
+   * Records the time the value resolver of a cache took. Does nothing if this provider is not registered.
+   */
+  public void recordResolveDuration(String cacheId, long durationNanos, boolean success) {
+    DoubleHistogram resolveDuration = m_resolveDuration;
+    if (resolveDuration != null) {
+      resolveDuration.record(durationNanos / 1_000_000d, Attributes.of(CACHE_ID, cacheId, RESULT, success ? "success" : "failure"));
+    }
+  }
+
+  @Override
+  public void close() {
+    m_resolveDuration = null;
+    if (m_batchCallback != null) {
+      m_batchCallback.close();
+      m_batchCallback = null;
+    }
+  }
+
+  /**
+   * Custom histogram buckets for <code>scout.cache.resolve.duration</code> (time unit: milliseconds).
+   *
+   * @see #m_resolveDuration
+   */
+  public static class ResolveDurationHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_CACHE_RESOLVE_DURATION;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(0.1d, 0.5d, 1d, 2d, 5d, 10d, 25d, 50d, 100d, 500d, 1_000d, 5_000d);
+    }
+  }
+}
@@ -9,13 +9,24 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.cache.management.CacheMonitorMBean;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
 import org.eclipse.scout.rt.platform.util.Assertions;
 
 /**
  * A registry allowing to register and retrieving caches with a given id.
+ * <p>
+ * For each registered cache, a {@link CacheMonitorMBean} is registered in JMX.
  */
 public class CacheRegistryService implements ICacheRegistryService {
 
@@ -24,18 +35,24 @@ public class CacheRegistryService implements ICacheRegistryService {
   @SuppressWarnings("unchecked")
   @Override
   public <K, V> ICache<K, V> registerIfAbsent(ICache<K, V> cache) {
-    return (ICache<K, V>) getMap().computeIfAbsent(cache.getCacheId(), id -> cache);
+    ICache<K, V> registeredCache = (ICache<K, V>) getMap().computeIfAbsent(cache.getCacheId(), id -> cache);
+    if (registeredCache == cache) {
+      registerMonitor(cache);
+    }
+    return registeredCache;
   }
 
   @SuppressWarnings("unchecked")
   @Override
   public <K, V> void registerAndReplace(ICache<K, V> cache) {
     getMap().put(cache.getCacheId(), cache);
+    registerMonitor(cache);
   }
 
   @Override
   public <K, V> void register(ICache<K, V> cache) {
     Assertions.assertNull(getMap().putIfAbsent(cache.getCacheId(), cache), "The cache with id '{}' is already registered. Consider calling registerIfAbsent instead.", cache.getCacheId());
+    registerMonitor(cache);
   }
 
   @SuppressWarnings("unchecked")
@@ -50,8 +67,35 @@ public class CacheRegistryService implements ICacheRegistryService {
     return getMap().get(cacheId);
   }
 
+  @Override
+  public Collection<ICache<?, ?>> getAll() {
+    return Collections.unmodifiableList(new ArrayList<>(getMap().values()));
+  }
+
   protected Map<String, ICache> getMap() {
     return m_map;
   }
 
+  /*
+   * JMX registration
+   */
+
+  protected ObjectName jmxObjectName(String cacheId) {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.platform.cache", PlatformIdentifier.get(), ObjectName.quote(cacheId));
+  }
+
+  /**
+   * Registers a {@link CacheMonitorMBean} for the given cache. An existing monitor of a cache with the same id is
+   * replaced.
+   */
+  protected void registerMonitor(ICache<?, ?> cache) {
+    MBeanUtility.register(jmxObjectName(cache.getCacheId()), new CacheMonitorMBean(cache));
+  }
+
+  @PreDestroy
+  protected void preDestroy() {
+    for (String cacheId : getMap().keySet()) {
+      MBeanUtility.unregister(jmxObjectName(cacheId));
+    }
+  }
 }
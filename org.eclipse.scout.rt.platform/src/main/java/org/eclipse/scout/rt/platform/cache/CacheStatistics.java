@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Statistics of a single {@link ICache}. All counters are striped ({@link LongAdder}), so that recording does not
+ * serialize concurrent cache accesses.
+ * <p>
+ * Use {@link ICache#getAdapter(Class)} to get the statistics of a cache. They are only available if the cache was
+ * built with statistics enabled (see {@link ICacheBuilder#withStatisticsEnabled(boolean)}).
+ *
+ * @see StatisticsCacheWrapper
+ * @see CacheMetricProvider
+ * @since 23.2
+ */
+public class CacheStatistics {
+
+  private final String m_cacheId;
+  private final CacheMetricProvider m_metricProvider;
+
+  private final LongAdder m_requestCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_loadSuccessCount = new LongAdder();
+  private final LongAdder m_loadFailureCount = new LongAdder();
+  private final LongAdder m_totalLoadTime = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final LongAdder m_invalidationCount = new LongAdder();
+
+  /**
+   * @param metricProvider
+   *          provider to record resolver latencies, may be <code>null</code>
+   */
+  public CacheStatistics(String cacheId, CacheMetricProvider metricProvider) {
+    m_cacheId = Assertions.assertNotNullOrEmpty(cacheId);
+    m_metricProvider = metricProvider;
+  }
+
+  public String getCacheId() {
+    return m_cacheId;
+  }
+
+  public void recordRequests(int count) {
+    m_requestCount.add(count);
+  }
+
+  public void recordMisses(int count) {
+    m_missCount.add(count);
+  }
+
+  /**
+   * Records that the value resolver was invoked.
+   *
+   * @param loadTimeNanos
+   *          time the value resolver took to resolve the value(s)
+   * @param success
+   *          <code>false</code> if the value resolver threw an exception
+   */
+  public void recordLoad(long loadTimeNanos, boolean success) {
+    if (success) {
+      m_loadSuccessCount.increment();
+    }
+    else {
+      m_loadFailureCount.increment();
+    }
+    m_totalLoadTime.add(loadTimeNanos);
+    if (m_metricProvider != null) {
+      m_metricProvider.recordResolveDuration(m_cacheId, loadTimeNanos, success);
+    }
+  }
+
+  public void recordEviction() {
+    m_evictionCount.increment();
+  }
+
+  public void recordInvalidation() {
+    m_invalidationCount.increment();
+  }
+
+  /**
+   * @return number of keys requested by {@link ICache#get(Object)} and {@link ICache#getAll(java.util.Collection)}
+   */
+  public long getRequestCount() {
+    return m_requestCount.sum();
+  }
+
+  /**
+   * @return number of requested keys which were found in the cache
+   */
+  public long getHitCount() {
+    return Math.max(0, getRequestCount() - getMissCount());
+  }
+
+  /**
+   * @return number of requested keys which were not found in the cache and had to be resolved
+   */
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return ratio of requests which were found in the cache, or 1.0 if there were no requests
+   */
+  public double getHitRate() {
+    long requestCount = getRequestCount();
+    return requestCount == 0 ? 1.0 : (double) getHitCount() / requestCount;
+  }
+
+  public long getLoadSuccessCount() {
+    return m_loadSuccessCount.sum();
+  }
+
+  public long getLoadFailureCount() {
+    return m_loadFailureCount.sum();
+  }
+
+  /**
+   * @return total time in nanoseconds spent in the value resolver
+   */
+  public long getTotalLoadTime() {
+    return m_totalLoadTime.sum();
+  }
+
+  /**
+   * @return average time in milliseconds spent in the value resolver per invocation
+   */
+  public double getAverageLoadTimeMillis() {
+    long loadCount = getLoadSuccessCount() + getLoadFailureCount();
+    return loadCount == 0 ? 0.0 : (double) getTotalLoadTime() / loadCount / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * @return number of entries removed from the cache because of its size bound or time to live
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  public long getInvalidationCount() {
+    return m_invalidationCount.sum();
+  }
+
+  /**
+   * Resets all counters. Concurrently recorded values may be lost.
+   */
+  public void reset() {
+    m_requestCount.reset();
+    m_missCount.reset();
+    m_loadSuccessCount.reset();
+    m_loadFailureCount.reset();
+    m_totalLoadTime.reset();
+    m_evictionCount.reset();
+    m_invalidationCount.reset();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .attr("cacheId", m_cacheId)
+        .attr("requestCount", getRequestCount())
+        .attr("hitCount", getHitCount())
+        .attr("missCount", getMissCount())
+        .attr("loadSuccessCount", getLoadSuccessCount())
+        .attr("loadFailureCount", getLoadFailureCount())
+        .attr("totalLoadTime", getTotalLoadTime())
+        .attr("evictionCount", getEvictionCount())
+        .attr("invalidationCount", getInvalidationCount())
+        .toString();
+  }
+}
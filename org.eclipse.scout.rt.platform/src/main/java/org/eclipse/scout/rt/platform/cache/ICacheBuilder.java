@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.platform.cache;
 
 import java.io.Serializable;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntBiFunction;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
@@ -33,7 +34,7 @@ public interface ICacheBuilder<K, V> {
    * Calls {@link CacheRegistryService} which creates a new cache according to this builder
    *
    * @throws IllegalStateException
-   *           if no cacheId or value-resolver is set
+   *           if no cacheId or value-resolver is set, or if the eviction policy requires a bound which is not set
    * @throws IllegalArgumentException
    *           if an additional custom wrapper does not have a public constructor with a single argument of type
    *           {@link ICache} or cannot be instantiated
@@ -179,7 +180,8 @@ public interface ICacheBuilder<K, V> {
    * If set to a non-null value, the maximum number of cached values is bounded. The provided size bound is <em>not</em>
    * enforced and is just a guidance value.
    * <p>
-   * The current policy that is used to evict elements is least recently used (LRU).
+   * The policy that is used to evict elements is least recently used (LRU) unless another policy is set by
+   * {@link #withEvictionPolicy(CacheEvictionPolicy)}.
    *
    * @param sizeBound
    *          the target size that map should have approximately.
@@ -187,6 +189,59 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * Sets the policy used to evict elements from a bounded cache. (Default {@link CacheEvictionPolicy#LRU})
+   * <p>
+   * {@link CacheEvictionPolicy#TINY_LFU} requires either {@link #withSizeBound(Integer)} or
+   * {@link #withMaxWeight(Long)}, and enforces the bound.
+   *
+   * @param evictionPolicy
+   *          eviction policy; <code>null</code> resets to the default
+   * @return this builder
+   * @since 23.2
+   */
+  ICacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy);
+
+  /**
+   * Sets the function used to compute the weight of a cache entry, e.g. its approximate size in bytes. The weight is
+   * computed once when a value is put into the cache and must not be negative. Without a weigher, every entry has the
+   * weight 1.
+   * <p>
+   * Only used together with {@link CacheEvictionPolicy#TINY_LFU}.
+   *
+   * @param weigher
+   *          computes the weight of an entry given its key and value
+   * @return this builder
+   * @since 23.2
+   */
+  ICacheBuilder<K, V> withWeigher(ToIntBiFunction<? super K, ? super V> weigher);
+
+  /**
+   * If set to a non-null value, the total weight of all cached values is bounded (see
+   * {@link #withWeigher(ToIntBiFunction)}). If both the maximum weight and {@link #withSizeBound(Integer)} are set,
+   * the maximum weight is used.
+   * <p>
+   * Only used together with {@link CacheEvictionPolicy#TINY_LFU}.
+   *
+   * @param maxWeight
+   *          maximum total weight of all cached values
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if maxWeight is negative
+   * @since 23.2
+   */
+  ICacheBuilder<K, V> withMaxWeight(Long maxWeight);
+
+  /**
+   * @param statisticsEnabled
+   *          if true, requests, misses, resolver latencies and evictions of the cache are recorded in
+   *          {@link CacheStatistics}, which are available by {@link ICache#getAdapter(Class)}, in JMX and as
+   *          OpenTelemetry metrics (see {@link CacheMetricProvider}). (Default true)
+   * @return this builder
+   * @since 23.2
+   */
+  ICacheBuilder<K, V> withStatisticsEnabled(boolean statisticsEnabled);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Value resolver which records cache misses and the time spent in the decorated resolver in {@link CacheStatistics}.
+ *
+ * @see StatisticsCacheWrapper
+ * @since 23.2
+ */
+public class StatisticsCacheValueResolver<K, V> implements ICacheValueResolver<K, V> {
+  private final ICacheValueResolver<K, V> m_delegate;
+  private final CacheStatistics m_statistics;
+
+  public StatisticsCacheValueResolver(ICacheValueResolver<K, V> delegate, CacheStatistics statistics) {
+    m_delegate = Assertions.assertNotNull(delegate);
+    m_statistics = Assertions.assertNotNull(statistics);
+  }
+
+  public ICacheValueResolver<K, V> getDelegate() {
+    return m_delegate;
+  }
+
+  @Override
+  public V resolve(K key) {
+    m_statistics.recordMisses(1);
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      V value = m_delegate.resolve(key);
+      success = true;
+      return value;
+    }
+    finally {
+      m_statistics.recordLoad(System.nanoTime() - start, success);
+    }
+  }
+
+  @Override
+  public Map<K, V> resolveAll(Set<K> keys) {
+    m_statistics.recordMisses(keys.size());
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      Map<K, V> values = m_delegate.resolveAll(keys);
+      success = true;
+      return values;
+    }
+    finally {
+      m_statistics.recordLoad(System.nanoTime() - start, success);
+    }
+  }
+}
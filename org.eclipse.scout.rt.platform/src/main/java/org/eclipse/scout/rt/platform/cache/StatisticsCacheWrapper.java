@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * This wrapper counts the requests and invalidations of a cache in {@link CacheStatistics}. Cache misses and resolver
+ * latencies are recorded by {@link StatisticsCacheValueResolver}, which decorates the value resolver of the wrapped
+ * cache.
+ * <p>
+ * To count every request, this wrapper should be the outermost wrapper of a cache. The statistics are available by
+ * {@link #getAdapter(Class)}.
+ *
+ * @since 23.2
+ */
+public class StatisticsCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
+  private final CacheStatistics m_statistics;
+
+  public StatisticsCacheWrapper(ICache<K, V> delegate, CacheStatistics statistics) {
+    super(delegate);
+    m_statistics = Assertions.assertNotNull(statistics);
+  }
+
+  public CacheStatistics getStatistics() {
+    return m_statistics;
+  }
+
+  @Override
+  public V get(K key) {
+    if (key != null) {
+      m_statistics.recordRequests(1);
+    }
+    return super.get(key);
+  }
+
+  @Override
+  public Map<K, V> getAll(Collection<? extends K> keys) {
+    if (keys != null) {
+      // duplicate keys are counted as separate requests, determining distinct keys is too expensive here
+      int count = 0;
+      for (K key : keys) {
+        if (key != null) {
+          count++;
+        }
+      }
+      m_statistics.recordRequests(count);
+    }
+    return super.getAll(keys);
+  }
+
+  @Override
+  public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    m_statistics.recordInvalidation();
+    super.invalidate(filter, propagate);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T getAdapter(Class<T> adapterClass) {
+    if (adapterClass == CacheStatistics.class) {
+      return (T) m_statistics;
+    }
+    return super.getAdapter(adapterClass);
+  }
+}
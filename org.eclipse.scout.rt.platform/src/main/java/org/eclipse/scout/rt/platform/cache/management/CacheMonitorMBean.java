@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache.management;
+
+import java.util.function.ToLongFunction;
+
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * @since 23.2
+ */
+public class CacheMonitorMBean implements ICacheMonitorMBean {
+
+  private final ICache<?, ?> m_cache;
+
+  public CacheMonitorMBean(ICache<?, ?> cache) {
+    m_cache = Assertions.assertNotNull(cache);
+  }
+
+  protected CacheStatistics getStatistics() {
+    return m_cache.getAdapter(CacheStatistics.class);
+  }
+
+  protected long getStatisticsValue(ToLongFunction<CacheStatistics> getter) {
+    CacheStatistics statistics = getStatistics();
+    return statistics == null ? 0L : getter.applyAsLong(statistics);
+  }
+
+  @Override
+  public String getCacheId() {
+    return m_cache.getCacheId();
+  }
+
+  @Override
+  public int getSize() {
+    return m_cache.getUnmodifiableMap().size();
+  }
+
+  @Override
+  public boolean isStatisticsEnabled() {
+    return getStatistics() != null;
+  }
+
+  @Override
+  public long getRequestCount() {
+    return getStatisticsValue(CacheStatistics::getRequestCount);
+  }
+
+  @Override
+  public long getHitCount() {
+    return getStatisticsValue(CacheStatistics::getHitCount);
+  }
+
+  @Override
+  public long getMissCount() {
+    return getStatisticsValue(CacheStatistics::getMissCount);
+  }
+
+  @Override
+  public double getHitRate() {
+    CacheStatistics statistics = getStatistics();
+    return statistics == null ? 0.0 : statistics.getHitRate();
+  }
+
+  @Override
+  public long getLoadSuccessCount() {
+    return getStatisticsValue(CacheStatistics::getLoadSuccessCount);
+  }
+
+  @Override
+  public long getLoadFailureCount() {
+    return getStatisticsValue(CacheStatistics::getLoadFailureCount);
+  }
+
+  @Override
+  public double getAverageLoadTimeMillis() {
+    CacheStatistics statistics = getStatistics();
+    return statistics == null ? 0.0 : statistics.getAverageLoadTimeMillis();
+  }
+
+  @Override
+  public long getEvictionCount() {
+    return getStatisticsValue(CacheStatistics::getEvictionCount);
+  }
+
+  @Override
+  public long getInvalidationCount() {
+    return getStatisticsValue(CacheStatistics::getInvalidationCount);
+  }
+
+  @Override
+  public void resetStatistics() {
+    CacheStatistics statistics = getStatistics();
+    if (statistics != null) {
+      statistics.reset();
+    }
+  }
+}
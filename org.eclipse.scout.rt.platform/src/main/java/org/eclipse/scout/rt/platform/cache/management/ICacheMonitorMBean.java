@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache.management;
+
+import javax.management.MXBean;
+
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+
+/**
+ * Jmx view of a single cache registered in {@link ICacheRegistryService}. The statistics are only available if the
+ * cache was built with statistics enabled, otherwise all counters are 0.
+ *
+ * @see CacheStatistics
+ * @since 23.2
+ */
+@MXBean
+public interface ICacheMonitorMBean {
+
+  String getCacheId();
+
+  /**
+   * @return the number of entries in the cache
+   */
+  int getSize();
+
+  boolean isStatisticsEnabled();
+
+  long getRequestCount();
+
+  long getHitCount();
+
+  long getMissCount();
+
+  double getHitRate();
+
+  long getLoadSuccessCount();
+
+  long getLoadFailureCount();
+
+  double getAverageLoadTimeMillis();
+
+  long getEvictionCount();
+
+  long getInvalidationCount();
+
+  /**
+   * Resets all statistics counters of the cache.
+   */
+  void resetStatistics();
+}
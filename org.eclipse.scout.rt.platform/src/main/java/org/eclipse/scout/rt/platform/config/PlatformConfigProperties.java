@@ -240,6 +240,45 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreadsEnabled";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies whether jobs should run on virtual threads instead of a pool of platform threads. A new virtual thread is started for every job, so the properties '%s' and '%s' have no effect.\n"
+          + "Virtual threads require Java 21 or newer. If not supported by the Java runtime, the pool of platform threads is used. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(), BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class JobManagerLockFreeExecutionSemaphoreEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.lockFreeExecutionSemaphoreEnabled";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether execution semaphores created by 'Jobs.newExecutionSemaphore' should be lock-free. A lock-free semaphore hands off released permits directly to the next competing job, without taking a lock. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -14,7 +14,9 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.Bean;
@@ -54,7 +56,7 @@ public class RunMonitor implements ICancellable {
   private final List<ICancellable> m_cancellables = new ArrayList<>(); // Do not use a Set to ensure cancellation in the order as registered.
 
   private volatile boolean m_cancelled;
-  private final Object m_cancellationLock = new Object();
+  private final Lock m_cancellationLock = new ReentrantLock();
 
   private final List<RunMonitor> m_cleanupRunMonitors = new ArrayList<>(1);
 
@@ -81,13 +83,17 @@ public class RunMonitor implements ICancellable {
       return false;
     }
 
-    synchronized (m_cancellationLock) {
+    m_cancellationLock.lock();
+    try {
       if (m_cancelled) { // double-checked locking
         return false;
       }
 
       m_cancelled = true;
     }
+    finally {
+      m_cancellationLock.unlock();
+    }
 
     // Cancel the cancellables outside the lock.
     boolean success = true;
@@ -114,7 +120,8 @@ public class RunMonitor implements ICancellable {
     }
 
     boolean cancel;
-    synchronized (m_cancellationLock) {
+    m_cancellationLock.lock();
+    try {
       if (m_cancelled) { // double-checked locking
         cancel = true;
       }
@@ -130,6 +137,9 @@ public class RunMonitor implements ICancellable {
         }
       }
     }
+    finally {
+      m_cancellationLock.unlock();
+    }
 
     // Cancel the Cancellable outside the lock.
     if (cancel) {
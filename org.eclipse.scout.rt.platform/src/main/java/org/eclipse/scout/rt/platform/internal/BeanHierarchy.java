@@ -19,8 +19,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.Order;
@@ -29,21 +27,22 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 /**
- * This class is not thread safe
+ * All beans implementing a type.
+ * <p>
+ * The beans are kept in an immutable list which is replaced on every modification (copy-on-write). The query results
+ * are computed once per such list and cached in an immutable {@link P_Snapshot}, so that queries neither lock nor
+ * allocate. Modifications must be serialized by the caller (see {@link BeanManagerImplementor}), queries may run
+ * concurrently to modifications.
  */
 public class BeanHierarchy<T> {
 
   private final Class<T> m_clazz;
-  private final List<IBean<T>> m_beans;
-  private final ReadWriteLock m_queryCacheLock;
-
-  private List<IBean<T>> m_single;
-  private List<IBean<T>> m_all;
+  private volatile List<IBean<T>> m_beans;
+  private volatile P_Snapshot<T> m_snapshot;
 
   public BeanHierarchy(Class<T> clazz) {
     m_clazz = clazz;
-    m_beans = new ArrayList<>();
-    m_queryCacheLock = new ReentrantReadWriteLock();
+    m_beans = Collections.emptyList();
   }
 
   public Class<T> getClazz() {
@@ -51,7 +50,7 @@ public class BeanHierarchy<T> {
   }
 
   /**
-   * @return all beans in this hierarchy regardless of {@link Order} and {@link Replace}
+   * @return all beans in this hierarchy regardless of {@link Order} and {@link Replace}. The list is immutable.
    */
   public List<IBean<T>> getBeans() {
     return m_beans;
@@ -70,13 +69,17 @@ public class BeanHierarchy<T> {
   }
 
   public void addBean(IBean<T> bean) {
-    invalidate();
-    m_beans.add(bean);
+    List<IBean<T>> beans = new ArrayList<>(m_beans.size() + 1);
+    beans.addAll(m_beans);
+    beans.add(bean);
+    m_beans = Collections.unmodifiableList(beans);
   }
 
   public void removeBean(IBean<T> bean) {
-    invalidate();
-    m_beans.remove(bean);
+    List<IBean<T>> beans = new ArrayList<>(m_beans);
+    if (beans.remove(bean)) {
+      m_beans = Collections.unmodifiableList(beans);
+    }
   }
 
   /**
@@ -97,23 +100,40 @@ public class BeanHierarchy<T> {
     return query(false);
   }
 
-  protected void invalidate() {
-    m_queryCacheLock.writeLock().lock();
-    try {
-      m_single = null;
-      m_all = null;
-    }
-    finally {
-      m_queryCacheLock.writeLock().unlock();
+  protected List<IBean<T>> query(boolean querySingle) {
+    P_Snapshot<T> snapshot = getSnapshot();
+    return querySingle ? snapshot.m_single : snapshot.m_all;
+  }
+
+  /**
+   * @return the query results for the current beans of this hierarchy. They are computed on first access after a
+   *         modification.
+   */
+  protected P_Snapshot<T> getSnapshot() {
+    List<IBean<T>> beans = m_beans;
+    P_Snapshot<T> snapshot = m_snapshot;
+    if (snapshot == null || snapshot.m_beans != beans) {
+      // a concurrent query may publish a snapshot of older beans, this is detected by the next query
+      snapshot = createSnapshot(beans);
+      m_snapshot = snapshot;
     }
+    return snapshot;
   }
 
   /**
-   * @return A copy of m_beans with duplicate beans removed sorted first by {@link #ORDER_COMPARATOR} and second by
-   *         bean-insertion-order.
+   * @return A copy of the current beans with duplicate beans removed sorted first by {@link #ORDER_COMPARATOR} and
+   *         second by bean-insertion-order.
    */
   protected List<IBean<T>> sortedBeanCopy() {
-    ArrayList<IBean<T>> sorted = new ArrayList<>(m_beans);
+    return sortedBeanCopy(m_beans);
+  }
+
+  /**
+   * @return A copy of the given beans with duplicate beans removed sorted first by {@link #ORDER_COMPARATOR} and second
+   *         by bean-insertion-order.
+   */
+  protected List<IBean<T>> sortedBeanCopy(List<IBean<T>> beans) {
+    ArrayList<IBean<T>> sorted = new ArrayList<>(beans);
 
     // m_beans contains the beans in insertion order.
     // In case there are duplicates (with the same order) the one last added should win.
@@ -132,103 +152,77 @@ public class BeanHierarchy<T> {
   }
 
   @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
-  protected List<IBean<T>> query(boolean querySingle) {
-    boolean isInitialized = false;
-    m_queryCacheLock.readLock().lock();
-    try {
-      isInitialized = m_single != null && m_all != null;
+  protected P_Snapshot<T> createSnapshot(List<IBean<T>> beans) {
+    List<IBean<T>> list = sortedBeanCopy(beans);
+    //manage replaced beans
+    final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
+    for (IBean<T> bean : list) {
+      if (bean.hasAnnotation(Replace.class)) {
+        Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
+        Class<?> superClazz = bean.getBeanClazz().getSuperclass();
+        Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
+
+        IBean<?> existingBean = extendsMap.get(superClazz);
+        if (existingBean == null) {
+          //only add if first to override, respects @Order annotation
+          extendsMap.put(superClazz, bean);
+        }
+        else {
+          // there is no calculation performed on bean orders (typically these are literals).
+          // therefore we accept direct equality check without epsilon.
+          Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
+              "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
+              existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
+        }
+      }
     }
-    finally {
-      m_queryCacheLock.readLock().unlock();
+
+    //find most specific version of @Replaced class
+    Class<T> refClazz = m_clazz;
+    while (extendsMap.containsKey(refClazz)) {
+      refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
     }
 
-    if (!isInitialized) {
-      m_queryCacheLock.writeLock().lock();
-      try {
-        isInitialized = m_single != null && m_all != null;
-        if (!isInitialized) {
-          List<IBean<T>> list = sortedBeanCopy();
-          //manage replaced beans
-          final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
-          for (IBean<T> bean : list) {
-            if (bean.hasAnnotation(Replace.class)) {
-              Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
-              Class<?> superClazz = bean.getBeanClazz().getSuperclass();
-              Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
-
-              IBean<?> existingBean = extendsMap.get(superClazz);
-              if (existingBean == null) {
-                //only add if first to override, respects @Order annotation
-                extendsMap.put(superClazz, bean);
-              }
-              else {
-                // there is no calculation performed on bean orders (typically these are literals).
-                // therefore we accept direct equality check without epsilon.
-                Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
-                    "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
-                    existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
-              }
-            }
-          }
-
-          //find most specific version of @Replaced class
-          Class<T> refClazz = m_clazz;
-          while (extendsMap.containsKey(refClazz)) {
-            refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
-          }
-
-          //remove replaced beans
-          list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
-
-          if (list.isEmpty()) {
-            m_all = Collections.emptyList();
-            m_single = Collections.emptyList();
-          }
-          else {
-            m_all = Collections.unmodifiableList(new ArrayList<>(list));
-
-            IBean<T> exactBean = getExactBean(list, refClazz);
-            if (exactBean != null) {
-              // we have an exact match: use it
-              m_single = Collections.singletonList(exactBean);
-            }
-            else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
-              // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
-              m_single = Collections.emptyList();
-            }
-            else if (list.size() == 1) {
-              m_single = Collections.singletonList(list.get(0));
-            }
-            else {
-              //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
-              List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
-              Iterator<IBean<T>> iterator = list.iterator();
-
-              // first bean
-              IBean<T> curBean = iterator.next();
-              double lowestOrder = orderOf(curBean);
-              lowestOrderBeans.add(curBean);
-
-              // all others having the same order
-              while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
-                lowestOrderBeans.add(curBean);
-              }
-              m_single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
-            }
-          }
-        }
-      }
-      finally {
-        m_queryCacheLock.writeLock().unlock();
-      }
+    //remove replaced beans
+    list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
+
+    if (list.isEmpty()) {
+      return new P_Snapshot<>(beans, Collections.emptyList(), Collections.emptyList());
     }
 
-    if (querySingle) {
-      return m_single;
+    List<IBean<T>> all = Collections.unmodifiableList(new ArrayList<>(list));
+    List<IBean<T>> single;
+    IBean<T> exactBean = getExactBean(list, refClazz);
+    if (exactBean != null) {
+      // we have an exact match: use it
+      single = Collections.singletonList(exactBean);
+    }
+    else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
+      // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
+      single = Collections.emptyList();
+    }
+    else if (list.size() == 1) {
+      single = Collections.singletonList(list.get(0));
     }
-    return m_all;
+    else {
+      //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
+      List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
+      Iterator<IBean<T>> iterator = list.iterator();
+
+      // first bean
+      IBean<T> curBean = iterator.next();
+      double lowestOrder = orderOf(curBean);
+      lowestOrderBeans.add(curBean);
+
+      // all others having the same order
+      while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
+        lowestOrderBeans.add(curBean);
+      }
+      single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
+    }
+    return new P_Snapshot<>(beans, single, all);
   }
 
   /**
@@ -259,4 +253,19 @@ public class BeanHierarchy<T> {
     }
     return IBean.DEFAULT_BEAN_ORDER;
   }
+
+  /**
+   * Immutable query results for one state of {@link BeanHierarchy#getBeans()}
+   */
+  protected static final class P_Snapshot<T> {
+    private final List<IBean<T>> m_beans;
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
+
+    private P_Snapshot(List<IBean<T>> beans, List<IBean<T>> single, List<IBean<T>> all) {
+      m_beans = beans;
+      m_single = single;
+      m_all = all;
+    }
+  }
 }
@@ -13,12 +13,13 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -36,13 +37,20 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Bean lookups do not lock: every {@link BeanHierarchy} publishes immutable snapshots of its beans and query results.
+ * Only the registration and unregistration of beans is serialized by {@link #getReadWriteLock()}. The decorated beans
+ * are cached per snapshot as well.
+ */
 public class BeanManagerImplementor implements IBeanManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(BeanManagerImplementor.class);
 
   private final ReentrantReadWriteLock m_lock;
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
-  private IBeanDecorationFactory m_beanDecorationFactory;
+  private final ConcurrentMap<Class<?>, P_DecoratedBeans<?>> m_decoratedSingle;
+  private final ConcurrentMap<Class<?>, P_DecoratedBeans<?>> m_decoratedAll;
+  private volatile IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
     this(null);
@@ -50,7 +58,9 @@ public class BeanManagerImplementor implements IBeanManager {
 
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
-    m_beanHierarchies = new HashMap<>();
+    m_beanHierarchies = new ConcurrentHashMap<>();
+    m_decoratedSingle = new ConcurrentHashMap<>();
+    m_decoratedAll = new ConcurrentHashMap<>();
     m_beanDecorationFactory = f;
   }
 
@@ -64,38 +74,54 @@ public class BeanManagerImplementor implements IBeanManager {
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
     checkAccess();
-    m_lock.readLock().lock();
-    try {
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
-      }
-    }
-    finally {
-      m_lock.readLock().unlock();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    return getCachedDecoratedBeans(m_decoratedSingle, h.querySingle(), beanClazz);
   }
 
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
-    finally {
-      m_lock.readLock().unlock();
+    return getCachedDecoratedBeans(m_decoratedAll, h.queryAll(), beanClazz);
+  }
+
+  /**
+   * The query results of a {@link BeanHierarchy} are the same list instance as long as the hierarchy is not modified.
+   * Therefore the decorated beans are cached for this list instance and the current {@link IBeanDecorationFactory}.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> List<IBean<T>> getCachedDecoratedBeans(ConcurrentMap<Class<?>, P_DecoratedBeans<?>> cache, List<IBean<T>> beans, Class<T> beanClazz) {
+    IBeanDecorationFactory beanDecorationFactory = getBeanDecorationFactory();
+    if (beanDecorationFactory == null || !beanClazz.isInterface() || beans.isEmpty()) {
+      return beans;
+    }
+    P_DecoratedBeans<T> decoratedBeans = (P_DecoratedBeans<T>) cache.get(beanClazz);
+    if (decoratedBeans != null && decoratedBeans.m_beans == beans && decoratedBeans.m_beanDecorationFactory == beanDecorationFactory) {
+      return decoratedBeans.m_decoratedBeans;
+    }
+
+    List<IBean<T>> result = getDecoratedBeans(beans, beanClazz);
+    boolean decorated = false;
+    for (int i = 0; i < beans.size(); i++) {
+      IBean<T> bean = beans.get(i);
+      if (result.get(i) != bean) {
+        if (!isApplicationScoped(bean)) {
+          // the proxy keeps the instance of the original bean, only the instance of an application scoped bean may be reused
+          return result;
+        }
+        decorated = true;
+      }
     }
+    result = decorated ? Collections.unmodifiableList(result) : beans;
+    cache.put(beanClazz, new P_DecoratedBeans<>(beans, beanDecorationFactory, result));
+    return result;
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -158,7 +184,7 @@ public class BeanManagerImplementor implements IBeanManager {
     try {
       IBean<T> bean = createBeanImplementor(beanData);
       for (Class<?> type : listImplementedTypes(bean)) {
-        BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
+        BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, BeanHierarchy::new);
         h.addBean(bean);
       }
       return bean;
@@ -192,33 +218,21 @@ public class BeanManagerImplementor implements IBeanManager {
   @Override
   @SuppressWarnings("unchecked")
   public <T> List<IBean<T>> getRegisteredBeans(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return CollectionUtility.emptyArrayList();
-      }
-      return new ArrayList<>(h.getBeans());
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return CollectionUtility.emptyArrayList();
     }
+    return new ArrayList<>(h.getBeans());
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> IBean<T> getRegisteredBean(Class<?> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(beanClazz);
-      if (h != null) {
-        return h.getExactBean(beanClazz);
-      }
-      return null;
-    }
-    finally {
-      m_lock.readLock().unlock();
+    BeanHierarchy h = m_beanHierarchies.get(beanClazz);
+    if (h != null) {
+      return h.getExactBean(beanClazz);
     }
+    return null;
   }
 
   @Override
@@ -268,14 +282,8 @@ public class BeanManagerImplementor implements IBeanManager {
 
   @Override
   public <T> boolean isBean(Class<T> clazz) {
-    m_lock.readLock().lock();
-    try {
-      BeanHierarchy h = m_beanHierarchies.get(clazz);
-      return h != null && !h.getBeans().isEmpty();
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    BeanHierarchy h = m_beanHierarchies.get(clazz);
+    return h != null && !h.getBeans().isEmpty();
   }
 
   protected void callPreDestroyOnBeans() {
@@ -354,4 +362,19 @@ public class BeanManagerImplementor implements IBeanManager {
   public static boolean isApplicationScoped(IBean<?> bean) {
     return bean.hasAnnotation(ApplicationScoped.class);
   }
+
+  /**
+   * Decorated beans of a query result of a {@link BeanHierarchy}
+   */
+  protected static final class P_DecoratedBeans<T> {
+    private final List<IBean<T>> m_beans;
+    private final IBeanDecorationFactory m_beanDecorationFactory;
+    private final List<IBean<T>> m_decoratedBeans;
+
+    private P_DecoratedBeans(List<IBean<T>> beans, IBeanDecorationFactory beanDecorationFactory, List<IBean<T>> decoratedBeans) {
+      m_beans = beans;
+      m_beanDecorationFactory = beanDecorationFactory;
+      m_decoratedBeans = decoratedBeans;
+    }
+  }
 }
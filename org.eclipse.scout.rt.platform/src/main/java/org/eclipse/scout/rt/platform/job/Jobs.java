@@ -12,10 +12,13 @@ package org.eclipse.scout.rt.platform.job;
 import java.util.concurrent.Callable;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerLockFreeExecutionSemaphoreEnabledProperty;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.job.filter.event.JobEventFilterBuilder;
 import org.eclipse.scout.rt.platform.job.filter.future.FutureFilterBuilder;
 import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.internal.LockFreeExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
@@ -237,6 +240,9 @@ public final class Jobs {
    *          the number of permits.
    */
   public static IExecutionSemaphore newExecutionSemaphore(final int permits) {
+    if (CONFIG.getPropertyValue(JobManagerLockFreeExecutionSemaphoreEnabledProperty.class)) {
+      return BEANS.get(LockFreeExecutionSemaphore.class).withPermits(permits);
+    }
     return BEANS.get(ExecutionSemaphore.class).withPermits(permits);
   }
 
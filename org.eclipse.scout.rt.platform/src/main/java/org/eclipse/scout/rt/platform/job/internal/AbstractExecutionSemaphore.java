@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.quartz.Trigger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class of the {@link IExecutionSemaphore} implementations supported by {@link JobManager}. Contains the
+ * operations used by the job manager to compete for and to release permits, and the state common to all
+ * implementations.
+ *
+ * @since 23.2
+ */
+public abstract class AbstractExecutionSemaphore implements IExecutionSemaphore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AbstractExecutionSemaphore.class);
+
+  private volatile boolean m_sealed;
+  private final AtomicInteger m_executionPriority = new AtomicInteger(Integer.MAX_VALUE);
+
+  @Override
+  public IExecutionSemaphore seal() {
+    m_sealed = true;
+    return this;
+  }
+
+  /**
+   * Returns <code>true</code> if this semaphore is sealed, so that the number of permits cannot be changed anymore.
+   */
+  protected boolean isSealed() {
+    return m_sealed;
+  }
+
+  /**
+   * Acquires a permit from this semaphore, blocking until one is available, or the thread is interrupted.
+   *
+   * @param task
+   *          the task to acquire a permit for.
+   * @param queuePosition
+   *          the position where to place the task in the queue of competing tasks if no permit is free at the time of
+   *          invocation.
+   * @throws ThreadInterruptedError
+   *           if the current thread was interrupted while waiting.
+   */
+  protected abstract void acquire(IFuture<?> task, QueuePosition queuePosition);
+
+  /**
+   * Makes the given task to compete for a permit. Upon permit acquisition, the given callback is invoked. The callback
+   * is invoked immediately and on behalf of the current thread, if being available at the time of invocation.
+   * Otherwise, this method returns immediately.
+   *
+   * @param task
+   *          the task to acquire a permit for.
+   * @param queuePosition
+   *          the position where to place the task in the queue of competing tasks if no permit is free at the time of
+   *          invocation.
+   * @param permitAcquiredCallback
+   *          the callback to be invoked once the given task acquired a permit.
+   * @return <code>true</code> if acquired a permit, or <code>false</code> otherwise.
+   */
+  protected abstract boolean compete(IFuture<?> task, QueuePosition queuePosition, IPermitAcquiredCallback permitAcquiredCallback);
+
+  /**
+   * Releases a permit, returning it to the semaphore.
+   *
+   * @param permitOwner
+   *          the task to release the permit from.
+   */
+  protected abstract void release(IFuture<?> permitOwner);
+
+  /**
+   * Computes the next lower priority to be used as {@link Trigger}'s priority when submitting a task assigned to this
+   * semaphore. Priority based firing guarantees an 'as-scheduled' permit acquisition for jobs with the same fire time.
+   * <p>
+   * For example, if scheduling two jobs in a row, they very likely will have the same execution time (granularity in
+   * milliseconds). However, priority-based firing and serial permit acquisition guarantee the first job to compete for
+   * a permit before the second job does.
+   * <p>
+   * The first calculation returns with {@link Integer#MAX_VALUE}, and subsequent calls with a value decremented by 1.
+   */
+  protected int computeNextLowerPriority() {
+    return m_executionPriority.getAndDecrement();
+  }
+
+  protected void assertSameSemaphore(final IFuture<?> task) {
+    Assertions.assertSame(this, task.getJobInput().getExecutionSemaphore(), "Wrong execution semaphore [expected={}, actual={}]", this, task.getJobInput().getExecutionSemaphore());
+  }
+
+  protected void assertPermitOwner(final IFuture<?> task) {
+    Assertions.assertTrue(isPermitOwner(task), "Task does not own a permit [task={}]", task);
+  }
+
+  // ==== Helper classes ==== //
+
+  protected static class AcquisitionTask {
+
+    private final IFuture<?> m_competingTask;
+    private final IPermitAcquiredCallback m_callback;
+
+    public AcquisitionTask(final IFuture<?> competingTask, final IPermitAcquiredCallback callback) {
+      m_competingTask = competingTask;
+      m_callback = callback;
+    }
+
+    public IFuture<?> getCompetingTask() {
+      return m_competingTask;
+    }
+
+    /**
+     * Notifies the associated job about its permit acquisition.<br/>
+     * <strong>Do this outside this semaphore's lock.</strong>
+     */
+    public void notifyPermitAcquired() {
+      try {
+        m_callback.onPermitAcquired();
+      }
+      catch (final RuntimeException e) {
+        LOG.error("Failed to notify new permit owner about permit acquisition [task={}]", m_competingTask, e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Permit acquisition task for %s", m_competingTask);
+    }
+  }
+
+  /**
+   * Position in the queue of competing tasks.
+   */
+  protected enum QueuePosition {
+    HEAD, TAIL
+  }
+
+  /**
+   * Returns the {@link AbstractExecutionSemaphore} of the given {@link JobInput}, or <code>null</code> if not set, or
+   * throws {@link AssertionException} if not of the type {@link AbstractExecutionSemaphore}.
+   */
+  protected static AbstractExecutionSemaphore get(final JobInput input) {
+    if (input.getExecutionSemaphore() == null) {
+      return null;
+    }
+
+    Assertions.assertTrue(input.getExecutionSemaphore() instanceof AbstractExecutionSemaphore, "Semaphore must be of type {} [semaphore={}]", AbstractExecutionSemaphore.class.getName(), input.getExecutionSemaphore().getClass().getName());
+    return (AbstractExecutionSemaphore) input.getExecutionSemaphore();
+  }
+
+  /**
+   * Callback to be notified once a permit is acquired.
+   *
+   * @since 5.2
+   */
+  @FunctionalInterface
+  public interface IPermitAcquiredCallback {
+
+    /**
+     * Method invoked once a permit is acquired, and is invoked from the thread releasing a permit. Hence, the
+     * implementor should execute any long running operation asynchronously in another thread. Also, the implementor is
+     * responsible for releasing the permit to the next waiting task if not needed anymore.
+     */
+    void onPermitAcquired();
+  }
+}
@@ -22,7 +22,7 @@ import org.eclipse.scout.rt.platform.job.IBlockingCondition;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.JobState;
 import org.eclipse.scout.rt.platform.job.Jobs;
-import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.QueuePosition;
+import org.eclipse.scout.rt.platform.job.internal.AbstractExecutionSemaphore.QueuePosition;
 import org.eclipse.scout.rt.platform.job.listener.JobEventData;
 import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 import org.eclipse.scout.rt.platform.util.ToStringBuilder;
@@ -234,7 +234,7 @@ public class BlockingCondition implements IBlockingCondition {
    * will still be set.
    */
   protected void acquirePermitUninterruptibly(final JobFutureTask<?> futureTask) {
-    final ExecutionSemaphore semaphore = futureTask.getExecutionSemaphore();
+    final AbstractExecutionSemaphore semaphore = futureTask.getExecutionSemaphore();
     if (semaphore == null) {
       return;
     }
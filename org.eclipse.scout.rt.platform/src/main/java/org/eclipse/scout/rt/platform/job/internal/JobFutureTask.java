@@ -24,6 +24,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -70,12 +72,13 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   protected final RunMonitor m_runMonitor;
   protected final JobInput m_input;
   protected final Long m_expirationDate;
-  protected final ExecutionSemaphore m_executionSemaphore;
+  protected final AbstractExecutionSemaphore m_executionSemaphore;
 
   protected final CallableChain<RESULT> m_callableChain;
   protected final List<JobListenerWithFilter> m_listeners = new CopyOnWriteArrayList<>();
 
   protected volatile JobState m_state = JobState.NEW;
+  protected final Lock m_stateLock = new ReentrantLock(); // not a monitor, so that a virtual thread firing events is not pinned to its carrier thread
 
   protected final CompletionPromise<RESULT> m_completionPromise;
   protected final AtomicBoolean m_finished = new AtomicBoolean(false);
@@ -107,7 +110,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     m_jobManager = jobManager;
     m_runMonitor = runMonitor;
     m_input = input;
-    m_executionSemaphore = ExecutionSemaphore.get(input);
+    m_executionSemaphore = AbstractExecutionSemaphore.get(input);
 
     m_callableChain = callableChain;
 
@@ -278,7 +281,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   }
 
   @Override
-  public ExecutionSemaphore getExecutionSemaphore() {
+  public AbstractExecutionSemaphore getExecutionSemaphore() {
     return m_executionSemaphore;
   }
 
@@ -574,22 +577,28 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
    * The caller is responsible for setting {@link JobEventData#getState()} and {@link JobEventData#getFuture()}
    * accordingly.
    */
-  protected synchronized void changeState(final JobEventData eventData) {
+  protected void changeState(final JobEventData eventData) {
     Assertions.assertNotNull(eventData.getState(), "missing state");
     Assertions.assertSame(this, eventData.getFuture(), "wrong future [expected={}]", this);
 
-    // Do nothing if equals to current state.
-    if (m_state == eventData.getState()) {
-      return;
-    }
+    m_stateLock.lock();
+    try {
+      // Do nothing if equals to current state.
+      if (m_state == eventData.getState()) {
+        return;
+      }
 
-    // Do nothing if already in done or rejected state.
-    if (m_state == JobState.DONE || m_state == JobState.REJECTED) {
-      return;
-    }
+      // Do nothing if already in done or rejected state.
+      if (m_state == JobState.DONE || m_state == JobState.REJECTED) {
+        return;
+      }
 
-    m_state = eventData.getState();
-    m_jobManager.fireEvent(new JobEvent(m_jobManager, JobEventType.JOB_STATE_CHANGED, eventData));
+      m_state = eventData.getState();
+      m_jobManager.fireEvent(new JobEvent(m_jobManager, JobEventType.JOB_STATE_CHANGED, eventData));
+    }
+    finally {
+      m_stateLock.unlock();
+    }
   }
 
   @Override
@@ -33,6 +33,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsEnabledProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -40,7 +41,7 @@ import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.job.JobInput;
 import org.eclipse.scout.rt.platform.job.JobState;
-import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.QueuePosition;
+import org.eclipse.scout.rt.platform.job.internal.AbstractExecutionSemaphore.QueuePosition;
 import org.eclipse.scout.rt.platform.job.listener.IJobListener;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
 import org.eclipse.scout.rt.platform.job.listener.JobEventData;
@@ -60,7 +61,8 @@ import org.slf4j.LoggerFactory;
  * Default implementation of {@link IJobManager}.
  * <p>
  * This job manager is based on {@link ThreadPoolExecutor}, {@link DelayedExecutor} and Quartz {@link Trigger} to
- * compute firing times.
+ * compute firing times. If enabled via {@link JobManagerVirtualThreadsEnabledProperty}, jobs run on virtual threads
+ * by a {@link ThreadPerTaskExecutor} instead.
  * <p>
  * Jobs which run immediately and exactly one time are executed directly via {@link ExecutorService}. For all other
  * jobs, they are first queued via {@link DelayedExecutor}, and will commence execution once the trigger's first fire
@@ -139,7 +141,7 @@ public class JobManager implements IJobManager {
    * Competes for an execution permit (if semaphore aware) and executes the runnable via {@link ExecutorService}.
    */
   protected void competeForPermitAndExecute(final JobFutureTask<?> futureTask, final IRejectableRunnable futureRunner) {
-    final ExecutionSemaphore executionSemaphore = futureTask.getExecutionSemaphore();
+    final AbstractExecutionSemaphore executionSemaphore = futureTask.getExecutionSemaphore();
     if (executionSemaphore == null) {
       m_executor.execute(futureRunner);
     }
@@ -251,27 +253,27 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsEnabledProperty.class)) {
+      if (VirtualThreadFactory.isSupported()) {
+        return createVirtualThreadExecutor();
+      }
+      LOG.warn("Virtual threads are not supported by this Java runtime, a pool of platform threads is used instead. [property={}, version={}]",
+          BEANS.get(JobManagerVirtualThreadsEnabledProperty.class).getKey(), Runtime.version());
+    }
+    return createThreadPoolExecutor();
+  }
+
+  /**
+   * Creates the executor which runs jobs by a pool of platform threads.
+   */
+  protected ExecutorService createThreadPoolExecutor() {
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
     final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
     final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
-    // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
-      if (isShutdown()) {
-        LOG.debug("Job rejected because the job manager is shutdown.");
-      }
-      else {
-        // Do not propagate exception, because the caller is not the submitting thread.
-        LOG.error("Job rejected because no more threads or queue slots available. [runnable={}]", runnable);
-      }
-
-      if (runnable instanceof IRejectableRunnable) {
-        ((IRejectableRunnable) runnable).reject();
-      }
-    };
-
+    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> handleRejectedExecution(runnable);
     final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
     executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
     if (prestartCoreThreads) {
@@ -281,6 +283,32 @@ public class JobManager implements IJobManager {
     return executor;
   }
 
+  /**
+   * Creates the executor which runs every job on a new virtual thread. Requires virtual threads to be supported by the
+   * Java runtime.
+   */
+  protected ExecutorService createVirtualThreadExecutor() {
+    return new ThreadPerTaskExecutor(new VirtualThreadFactory("scout-thread"), this::handleRejectedExecution);
+  }
+
+  /**
+   * Method invoked if the executor cannot accept the given runnable, either because no more threads are available or
+   * because the executor is shut down.
+   */
+  protected void handleRejectedExecution(final Runnable runnable) {
+    if (isShutdown()) {
+      LOG.debug("Job rejected because the job manager is shutdown.");
+    }
+    else {
+      // Do not propagate exception, because the caller is not the submitting thread.
+      LOG.error("Job rejected because no more threads or queue slots available. [runnable={}]", runnable);
+    }
+
+    if (runnable instanceof IRejectableRunnable) {
+      ((IRejectableRunnable) runnable).reject();
+    }
+  }
+
   /**
    * Returns the internal Executor Service.
    */
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerLockFreeExecutionSemaphoreEnabledProperty;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+
+/**
+ * Lock-free implementation of {@link IExecutionSemaphore}, which is used if enabled via
+ * {@link JobManagerLockFreeExecutionSemaphoreEnabledProperty}.
+ * <p>
+ * The number of permits in use is counted by compare-and-set, and competing tasks wait in a non-blocking
+ * {@link ConcurrentLinkedDeque}. A released permit is handed off directly to the task at the head of the queue, so
+ * that tasks acquire permits in FIFO order. A new competitor only takes a free permit directly if no other task is
+ * queued, otherwise it is queued as well. The semantics of {@link QueuePosition} are the same as in
+ * {@link ExecutionSemaphore}.
+ * <p>
+ * Free permits are assigned to queued tasks by whichever thread changed the state last, i.e. after enqueuing a task,
+ * after releasing a permit or after changing the number of permits. A thread which fails to assign a permit because
+ * another thread holds it transiently re-checks the queue once that permit is returned, so that no wake-up is lost.
+ *
+ * @since 23.2
+ */
+@Bean
+public class LockFreeExecutionSemaphore extends AbstractExecutionSemaphore {
+
+  private volatile int m_permits;
+  private final AtomicInteger m_permitsInUse;
+  private final AtomicInteger m_queueSize;
+  private final Deque<AcquisitionTask> m_queue;
+  private final Set<IFuture<?>> m_permitOwners;
+
+  public LockFreeExecutionSemaphore() {
+    m_permits = Integer.MAX_VALUE; // unbounded according to JavaDoc
+    m_permitsInUse = new AtomicInteger();
+    m_queueSize = new AtomicInteger();
+    m_queue = new ConcurrentLinkedDeque<>();
+    m_permitOwners = ConcurrentHashMap.newKeySet();
+  }
+
+  @Override
+  public int getPermits() {
+    return m_permits;
+  }
+
+  @Override
+  public LockFreeExecutionSemaphore withPermits(final int permits) {
+    Assertions.assertFalse(isSealed(), "The number of permits cannot be changed because the semaphore is sealed [semaphore={}]", this);
+    Assertions.assertGreaterOrEqual(permits, 0, "Number of semaphore permits must be '>= 0'");
+    m_permits = permits;
+
+    // Assign all free permits to competing tasks.
+    assignFreePermits();
+    return this;
+  }
+
+  @Override
+  public int getCompetitorCount() {
+    return m_queueSize.get() + m_permitOwners.size();
+  }
+
+  @Override
+  public boolean isPermitOwner(final IFuture<?> task) {
+    return m_permitOwners.contains(task);
+  }
+
+  @Override
+  protected void acquire(final IFuture<?> task, final QueuePosition queuePosition) {
+    assertSameSemaphore(task);
+
+    final ParkingPermitAcquiredCallback callback = new ParkingPermitAcquiredCallback(this, task);
+    if (compete(task, queuePosition, callback)) {
+      return;
+    }
+
+    // Block the current thread until a permit is acquired.
+    while (!callback.isAcquired()) {
+      LockSupport.park(this);
+
+      if (Thread.interrupted()) {
+        Thread.currentThread().interrupt(); // Restore the interrupted status because cleared by checking it.
+        if (callback.abandon()) {
+          throw new ThreadInterruptedError("Interrupted while competing for a permit")
+              .withContextInfo("task", task.getJobInput().getName())
+              .withContextInfo("executionSemaphore", this);
+        }
+        // Otherwise, the permit was acquired concurrently.
+      }
+    }
+  }
+
+  @Override
+  protected boolean compete(final IFuture<?> task, final QueuePosition queuePosition, final IPermitAcquiredCallback permitAcquiredCallback) {
+    assertSameSemaphore(task);
+
+    // Fast path: take a free permit, unless other tasks are waiting for a permit. The queue itself is checked, because
+    // the queue size is only updated after a task was published to the queue.
+    if (m_queue.isEmpty() && tryReservePermit()) {
+      if (m_queue.isEmpty()) {
+        m_permitOwners.add(task);
+        permitAcquiredCallback.onPermitAcquired();
+        return true;
+      }
+      // A task was queued concurrently: return the permit, and compete behind that task.
+      m_permitsInUse.decrementAndGet();
+    }
+
+    enqueue(new AcquisitionTask(task, permitAcquiredCallback), queuePosition);
+    m_queueSize.incrementAndGet();
+
+    // A permit may have become free in the meantime.
+    assignFreePermits();
+    return false;
+  }
+
+  @Override
+  protected void release(final IFuture<?> permitOwner) {
+    assertSameSemaphore(permitOwner);
+    Assertions.assertTrue(m_permitOwners.remove(permitOwner), "Task does not own a permit [task={}]", permitOwner);
+
+    // Hand-off the permit directly to the next competing task, unless the number of permits was reduced in the meantime.
+    if (m_permitsInUse.get() <= m_permits) {
+      final AcquisitionTask acquisitionTask = pollQueue();
+      if (acquisitionTask != null) {
+        m_permitOwners.add(acquisitionTask.getCompetingTask());
+        acquisitionTask.notifyPermitAcquired();
+        return;
+      }
+    }
+
+    m_permitsInUse.decrementAndGet();
+    assignFreePermits();
+  }
+
+  /**
+   * Places the given task in the queue of competing tasks.
+   */
+  protected void enqueue(final AcquisitionTask acquisitionTask, final QueuePosition queuePosition) {
+    switch (queuePosition) {
+      case HEAD:
+        m_queue.offerFirst(acquisitionTask);
+        break;
+      case TAIL:
+        m_queue.offerLast(acquisitionTask);
+        break;
+      default:
+        throw new IllegalArgumentException("illegal queue position");
+    }
+  }
+
+  /**
+   * Assigns free permits to queued tasks until either no permit is free or the queue is empty.
+   */
+  protected void assignFreePermits() {
+    while (!m_queue.isEmpty() && tryReservePermit()) {
+      final AcquisitionTask acquisitionTask = pollQueue();
+      if (acquisitionTask == null) {
+        // The queue was drained concurrently. Return the permit, and re-check the queue because a task may have been
+        // queued while this thread held the permit, so that the queuing thread could not assign it.
+        m_permitsInUse.decrementAndGet();
+        continue;
+      }
+
+      m_permitOwners.add(acquisitionTask.getCompetingTask());
+      acquisitionTask.notifyPermitAcquired();
+    }
+  }
+
+  /**
+   * Reserves a permit if the number of permits in use is less than the number of permits.
+   */
+  protected boolean tryReservePermit() {
+    for (;;) {
+      final int inUse = m_permitsInUse.get();
+      if (inUse >= m_permits) {
+        return false;
+      }
+      if (m_permitsInUse.compareAndSet(inUse, inUse + 1)) {
+        return true;
+      }
+    }
+  }
+
+  protected AcquisitionTask pollQueue() {
+    final AcquisitionTask acquisitionTask = m_queue.pollFirst();
+    if (acquisitionTask != null) {
+      m_queueSize.decrementAndGet();
+    }
+    return acquisitionTask;
+  }
+
+  @Override
+  public String toString() {
+    final ToStringBuilder builder = new ToStringBuilder(this);
+    builder.attr("permitOwners", m_permitOwners);
+    builder.attr("queue", m_queue);
+    return builder.toString();
+  }
+
+  // ==== Helper classes ==== //
+
+  /**
+   * Callback used by {@link #acquire(IFuture, QueuePosition)} to unpark the waiting thread upon permit acquisition.
+   * If the waiting thread gave up because interrupted, the permit is passed on to the next competing task.
+   */
+  protected static class ParkingPermitAcquiredCallback implements IPermitAcquiredCallback {
+
+    private static final int WAITING = 0;
+    private static final int ACQUIRED = 1;
+    private static final int ABANDONED = 2;
+
+    private static final AtomicIntegerFieldUpdater<ParkingPermitAcquiredCallback> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ParkingPermitAcquiredCallback.class, "m_state");
+
+    private final LockFreeExecutionSemaphore m_semaphore;
+    private final IFuture<?> m_task;
+    private final Thread m_thread;
+    private volatile int m_state = WAITING;
+
+    protected ParkingPermitAcquiredCallback(final LockFreeExecutionSemaphore semaphore, final IFuture<?> task) {
+      m_semaphore = semaphore;
+      m_task = task;
+      m_thread = Thread.currentThread();
+    }
+
+    @Override
+    public void onPermitAcquired() {
+      if (STATE_UPDATER.compareAndSet(this, WAITING, ACQUIRED)) {
+        if (m_thread != Thread.currentThread()) {
+          LockSupport.unpark(m_thread);
+        }
+      }
+      else {
+        m_semaphore.release(m_task); // the waiting thread gave up
+      }
+    }
+
+    protected boolean isAcquired() {
+      return m_state == ACQUIRED;
+    }
+
+    /**
+     * @return <code>true</code> if abandoned, or <code>false</code> if the permit was already acquired.
+     */
+    protected boolean abandon() {
+      return STATE_UPDATER.compareAndSet(this, WAITING, ABANDONED);
+    }
+  }
+}
@@ -66,7 +66,7 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
         }
       }
     };
-    threadInfoRef.set(new ThreadInfo(thread, m_threadName, m_sequence.incrementAndGet()));
+    threadInfoRef.set(new ThreadInfo(thread, m_threadName, nextSequence()));
 
     thread.setDaemon(false);
     thread.setPriority(Thread.NORM_PRIORITY);
@@ -75,6 +75,20 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
     return thread;
   }
 
+  /**
+   * Returns the name of the threads created by this factory, without the sequence number.
+   */
+  protected String getThreadName() {
+    return m_threadName;
+  }
+
+  /**
+   * Returns the next sequence number to be used for a new thread.
+   */
+  protected long nextSequence() {
+    return m_sequence.incrementAndGet();
+  }
+
   // === UncaughtExceptionHandler ===
 
   @Override
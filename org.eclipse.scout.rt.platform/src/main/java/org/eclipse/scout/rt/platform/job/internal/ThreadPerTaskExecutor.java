@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * {@link ExecutorService} which starts a new thread for each task, without any pooling or queueing.
+ * <p>
+ * This executor is intended to be used with a {@link VirtualThreadFactory}, so that blocked tasks do not occupy a
+ * platform thread. The number of concurrently running tasks is not limited.
+ * <p>
+ * Tasks submitted after this executor was shut down are given to the rejection handler.
+ *
+ * @since 23.2
+ */
+public class ThreadPerTaskExecutor extends AbstractExecutorService {
+
+  private final ThreadFactory m_threadFactory;
+  private final Consumer<Runnable> m_rejectHandler;
+
+  private final Set<Thread> m_threads = ConcurrentHashMap.newKeySet();
+  private final CountDownLatch m_terminationLatch = new CountDownLatch(1);
+  private volatile boolean m_shutdown;
+
+  /**
+   * @param threadFactory
+   *          factory to create a new thread for every task.
+   * @param rejectHandler
+   *          handler invoked for tasks submitted after this executor was shut down.
+   */
+  public ThreadPerTaskExecutor(final ThreadFactory threadFactory, final Consumer<Runnable> rejectHandler) {
+    m_threadFactory = Assertions.assertNotNull(threadFactory, "threadFactory must not be null");
+    m_rejectHandler = Assertions.assertNotNull(rejectHandler, "rejectHandler must not be null");
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    Assertions.assertNotNull(command, "command must not be null");
+    if (m_shutdown) {
+      m_rejectHandler.accept(command);
+      return;
+    }
+
+    final Thread thread = m_threadFactory.newThread(() -> {
+      try {
+        command.run();
+      }
+      finally {
+        m_threads.remove(Thread.currentThread());
+        tryTerminate();
+      }
+    });
+
+    // Register the thread before re-checking the shutdown flag, so that a concurrent shutdown either sees the thread or this method sees the flag.
+    m_threads.add(thread);
+    if (m_shutdown) {
+      m_threads.remove(thread);
+      tryTerminate();
+      m_rejectHandler.accept(command);
+      return;
+    }
+
+    try {
+      thread.start();
+    }
+    catch (final RuntimeException | Error e) { // NOSONAR
+      m_threads.remove(thread);
+      tryTerminate();
+      throw e;
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    m_shutdown = true;
+    tryTerminate();
+  }
+
+  /**
+   * Shuts down this executor and interrupts all running threads. As tasks are never queued, the returned list is always
+   * empty.
+   */
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown();
+    m_threads.forEach(Thread::interrupt);
+    return Collections.emptyList();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return m_shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return m_terminationLatch.getCount() == 0;
+  }
+
+  @Override
+  public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+    return m_terminationLatch.await(timeout, unit);
+  }
+
+  /**
+   * Returns the number of threads currently running a task.
+   */
+  public int getActiveCount() {
+    return m_threads.size();
+  }
+
+  protected void tryTerminate() {
+    if (m_shutdown && m_threads.isEmpty()) {
+      m_terminationLatch.countDown();
+    }
+  }
+}
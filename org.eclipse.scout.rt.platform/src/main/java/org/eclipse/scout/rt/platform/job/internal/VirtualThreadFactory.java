@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Thread factory for named virtual threads and to handle uncaught exceptions.
+ * <p>
+ * Virtual threads are available as of Java 21. Because the platform is compiled against an older Java release, they
+ * are created by reflection. Use {@link #isSupported()} to check whether the current Java runtime supports virtual
+ * threads.
+ * <p>
+ * Unlike platform threads, virtual threads are always daemon threads and have a fixed priority.
+ *
+ * @since 23.2
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadFactory.class);
+
+  private static final Method OF_VIRTUAL_METHOD;
+  private static final Method UNSTARTED_METHOD;
+
+  static {
+    Method ofVirtualMethod = null;
+    Method unstartedMethod = null;
+    try {
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+      unstartedMethod = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+      ofVirtualMethod.invoke(null); // fails if virtual threads are a disabled preview feature
+    }
+    catch (ReflectiveOperationException | RuntimeException e) { // NOSONAR
+      LOG.debug("Virtual threads are not supported by this Java runtime", e);
+      ofVirtualMethod = null;
+      unstartedMethod = null;
+    }
+    OF_VIRTUAL_METHOD = ofVirtualMethod;
+    UNSTARTED_METHOD = unstartedMethod;
+  }
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+    Assertions.assertTrue(isSupported(), "Virtual threads are not supported by this Java runtime [version={}]", Runtime.version());
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable) {
+    final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
+    final Thread thread = newVirtualThread(() -> {
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    threadInfoRef.set(new ThreadInfo(thread, getThreadName(), nextSequence()));
+
+    thread.setUncaughtExceptionHandler(this);
+
+    return thread;
+  }
+
+  /**
+   * Creates an unstarted virtual thread to run the given {@link Runnable}.
+   */
+  protected Thread newVirtualThread(final Runnable runnable) {
+    try {
+      return (Thread) UNSTARTED_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null), runnable);
+    }
+    catch (final InvocationTargetException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException("Failed to create virtual thread", cause);
+    }
+    catch (final IllegalAccessException e) {
+      throw new IllegalStateException("Failed to create virtual thread", e);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the current Java runtime supports virtual threads, else <code>false</code>.
+   */
+  public static boolean isSupported() {
+    return OF_VIRTUAL_METHOD != null && UNSTARTED_METHOD != null;
+  }
+}
@@ -153,7 +153,17 @@ public class DynamicNls {
     if (locale == null) {
       locale = getDefaultLocale();
     }
-    String text = getTextInternal(locale, key);
+    return formatText(locale, key, getTextInternal(locale, key), messageArguments);
+  }
+
+  /**
+   * Binds the message arguments and applies the {@link ITextPostProcessor text post processors} to a text resolved
+   * from the resource bundles of this instance.
+   *
+   * @param locale
+   *          the locale of the text, not {@code null}
+   */
+  public String formatText(Locale locale, String key, String text, String... messageArguments) {
     text = NlsUtility.bindText(text, messageArguments);
     return NlsUtility.postProcessText(locale, key, text, getTextPostProcessors(), messageArguments);
   }
@@ -14,6 +14,7 @@ import java.util.Collections;
 import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
@@ -35,6 +36,9 @@ public class NlsResourceBundleCache {
   private final Class<?> m_wrapperClass;
   private final ConcurrentMap<Locale, NlsResourceBundle> m_resourceBundles;
 
+  /** number of times a cache was cleared because a text file has changed */
+  private static final AtomicInteger CLEAR_COUNT = new AtomicInteger();
+
   /** constant indicating that no resource bundle exists */
   private static final NlsResourceBundle NONEXISTENT_BUNDLE = new NlsResourceBundle(null, Collections.emptyMap());
 
@@ -48,6 +52,7 @@ public class NlsResourceBundleCache {
       try {
         BEANS.get(NlsFileWatcher.class).watch(m_resourceBundleName, (path) -> {
             m_resourceBundles.clear();
+            CLEAR_COUNT.incrementAndGet();
             LOG.info("Cleared bundle cache for nls resource bundle {}", m_resourceBundleName);
         }, m_wrapperClass.getClassLoader());
       }
@@ -57,6 +62,14 @@ public class NlsResourceBundleCache {
     }
   }
 
+  /**
+   * @return number of times any {@link NlsResourceBundleCache} was cleared because a text file has changed (development
+   *         mode only). Allows caches derived from the resource bundles to detect that they are stale.
+   */
+  public static int getClearCount() {
+    return CLEAR_COUNT.get();
+  }
+
   public Class<?> getWrapperClass() {
     return m_wrapperClass;
   }
@@ -9,13 +9,20 @@
  */
 package org.eclipse.scout.rt.platform.resource;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.zip.Adler32;
 
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.util.FileUtility;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
@@ -26,11 +33,17 @@ import org.eclipse.scout.rt.platform.util.StringUtility;
  * <p>
  * All properties are final, thus the binary resource is somehow immutable with the exception of the content where the
  * array could be directly manipulated. Due to performance considerations the content is not duplicated when retrieved.
+ * <p>
+ * Instead of a <code>byte[]</code> the content may be backed by an {@link IBinaryContent}, e.g. a (temporary) file, so
+ * that large resources are not loaded into the heap. Such resources should be consumed using
+ * {@link #openContentStream()} or {@link #writeContentTo(OutputStream)}. They are converted to an in-memory resource
+ * when serialized.
  *
  * @since 5.0
  */
 public final class BinaryResource implements Serializable {
   private static final long serialVersionUID = 1L;
+  private static final long FINGERPRINT_NOT_COMPUTED = -2;
 
   private final String m_filename;
   private final String m_contentType;
@@ -40,8 +53,12 @@ public final class BinaryResource implements Serializable {
    */
   private final String m_charset;
   private final byte[] m_content;
+  private final transient IBinaryContent m_binaryContent;
   private final long m_lastModified;
-  private final long m_fingerprint;
+  /**
+   * Computed lazily for an {@link IBinaryContent} because the whole content has to be read.
+   */
+  private volatile long m_fingerprint;
   private final boolean m_cachingAllowed;
   private final int m_cacheMaxAge;
 
@@ -70,11 +87,24 @@ public final class BinaryResource implements Serializable {
   // explicitly package private, only called by BinaryResources and second constructor
   @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   BinaryResource(String filename, String contentType, String charset, byte[] content, long lastModified, boolean cachingAllowed, int cacheMaxAge) {
+    this(filename, contentType, charset, content, null, lastModified, cachingAllowed, cacheMaxAge);
+  }
+
+  /**
+   * @param binaryContent
+   *          Alternative to <i>content</i>, only one of them may be set. The fingerprint is calculated on first access.
+   */
+  // explicitly package private, only called by BinaryResources and first constructor
+  @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
+  BinaryResource(String filename, String contentType, String charset, byte[] content, IBinaryContent binaryContent, long lastModified, boolean cachingAllowed, int cacheMaxAge) {
     m_filename = filename;
     if (contentType == null) {
       if (filename != null) {
         contentType = FileUtility.getMimeType(filename);
       }
+      else if (binaryContent != null && binaryContent.getFile() != null) {
+        contentType = FileUtility.getMimeType(binaryContent.getFile().toPath());
+      }
       else if (content != null && content.length > 0) {
         File f = IOUtility.createTempFile(null, content);
         contentType = FileUtility.getMimeType(f.toPath());
@@ -87,12 +117,16 @@ public final class BinaryResource implements Serializable {
     m_contentType = contentType;
     m_charset = charset;
     m_content = content;
+    m_binaryContent = content == null ? binaryContent : null;
     m_lastModified = lastModified;
     if (content != null) {
       Adler32 a = new Adler32();
       a.update(content);
       m_fingerprint = a.getValue();
     }
+    else if (m_binaryContent != null) {
+      m_fingerprint = FINGERPRINT_NOT_COMPUTED;
+    }
     else {
       m_fingerprint = -1;
     }
@@ -143,11 +177,98 @@ public final class BinaryResource implements Serializable {
   /**
    * Do not modify the returned array, the binary resource is assumed to be immutable (returned content is not cloned
    * due to performance considerations).
+   * <p>
+   * If the content is backed by an {@link IBinaryContent}, the whole content (e.g. the whole file) is materialized in
+   * a new array on every call. The same applies to {@link #getContentAsString()}. Use {@link #openContentStream()} or
+   * {@link #writeContentTo(OutputStream)} for such resources.
    *
    * @return the raw binary content, as passed to the constructor
    */
   public byte[] getContent() {
-    return m_content;
+    if (m_binaryContent == null) {
+      return m_content;
+    }
+    try {
+      return m_binaryContent.toByteArray();
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read content of {}", this, e);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the content is not <code>null</code>. Unlike checking {@link #getContent()}, a backing
+   *         {@link IBinaryContent} is not read.
+   */
+  public boolean hasContent() {
+    return m_binaryContent != null || m_content != null;
+  }
+
+  /**
+   * @return the first <i>maxLength</i> bytes of the content (fewer if the content is shorter) or <code>null</code> if
+   *         the content is <code>null</code>. A backing {@link IBinaryContent} is not read beyond these bytes.
+   */
+  public byte[] getContentPrefix(int maxLength) {
+    if (m_binaryContent == null) {
+      if (m_content == null || m_content.length <= maxLength) {
+        return m_content;
+      }
+      return Arrays.copyOf(m_content, maxLength);
+    }
+    try (InputStream in = m_binaryContent.openStream()) {
+      return in.readNBytes(maxLength);
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read content of {}", this, e);
+    }
+  }
+
+  /**
+   * @return the backing content or <code>null</code> if the content is held in memory (see {@link #getContent()})
+   */
+  public IBinaryContent getBinaryContent() {
+    return m_binaryContent;
+  }
+
+  /**
+   * @return <code>true</code> if the content is a <code>byte[]</code>, <code>false</code> if it is backed by an
+   *         {@link IBinaryContent}
+   */
+  public boolean hasContentInMemory() {
+    return m_binaryContent == null;
+  }
+
+  /**
+   * @return a new stream of the content or <code>null</code> if the content is <code>null</code>. The caller is
+   *         responsible for closing it.
+   */
+  public InputStream openContentStream() {
+    if (m_binaryContent == null) {
+      return m_content == null ? null : new ByteArrayInputStream(m_content);
+    }
+    try {
+      return m_binaryContent.openStream();
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read content of {}", this, e);
+    }
+  }
+
+  /**
+   * Writes the content to the given stream without loading a backing {@link IBinaryContent} into memory. The stream is
+   * not closed.
+   *
+   * @return number of bytes written
+   */
+  public long writeContentTo(OutputStream out) throws IOException {
+    if (m_binaryContent != null) {
+      return m_binaryContent.writeTo(out);
+    }
+    if (m_content == null) {
+      return 0;
+    }
+    out.write(m_content);
+    return m_content.length;
   }
 
   /**
@@ -158,14 +279,29 @@ public final class BinaryResource implements Serializable {
     if (getCharset() != null) {
       charset = Charset.forName(getCharset());
     }
-    return new String(m_content, charset);
+    byte[] content = getContent();
+    return content == null ? null : new String(content, charset);
   }
 
   /**
    * Convenience method to get the length of the byte array returend by {@link #getContent()}. If the content is
-   * <code>null</code>, this method returns <code>-1</code>.
+   * <code>null</code>, this method returns <code>-1</code>. If the content is backed by an {@link IBinaryContent} whose
+   * length is unknown or exceeds {@link Integer#MAX_VALUE}, <code>-1</code> is returned as well.
+   *
+   * @see #getContentLengthLong()
    */
   public int getContentLength() {
+    long length = getContentLengthLong();
+    return length <= Integer.MAX_VALUE ? (int) length : -1;
+  }
+
+  /**
+   * @return the length of the content or <code>-1</code> if the content is <code>null</code> or its length is unknown
+   */
+  public long getContentLengthLong() {
+    if (m_binaryContent != null) {
+      return m_binaryContent.getLength();
+    }
     return m_content != null ? m_content.length : -1;
   }
 
@@ -179,10 +315,25 @@ public final class BinaryResource implements Serializable {
   /**
    * @return a checksum-style fingerprint of the binary content. This fingerprint was calculated during the constructor
    *         by applying the Adler32 algorithm to the content. If the content is <code>null</code>, this method returns
-   *         <code>-1</code>.
+   *         <code>-1</code>. The fingerprint of a backing {@link IBinaryContent} is calculated on first access by
+   *         streaming the content (see {@link IBinaryContent#computeFingerprint()}) and then kept by this resource.
    */
   public long getFingerprint() {
-    return m_fingerprint;
+    long fingerprint = m_fingerprint;
+    if (fingerprint == FINGERPRINT_NOT_COMPUTED) {
+      fingerprint = computeFingerprint(m_binaryContent);
+      m_fingerprint = fingerprint;
+    }
+    return fingerprint;
+  }
+
+  private long computeFingerprint(IBinaryContent binaryContent) {
+    try {
+      return binaryContent.computeFingerprint();
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read content of {}", this, e);
+    }
   }
 
   /**
@@ -190,7 +341,7 @@ public final class BinaryResource implements Serializable {
    * @see Long#toHexString(long)
    */
   public String getFingerprintAsHexString() {
-    return Long.toHexString(m_fingerprint);
+    return Long.toHexString(getFingerprint());
   }
 
   public boolean isCachingAllowed() {
@@ -224,7 +375,8 @@ public final class BinaryResource implements Serializable {
     int result = 1;
     result = prime * result + (int) m_lastModified;
     // Note: Arrays.hashCode(m_content) is not used here due to performance considerations.
-    result = prime * result + ((m_content == null) ? 0 : m_content.length);
+    // A backing content is not accessed (e.g. the length of a file), it is compared by equals.
+    result = prime * result + (m_binaryContent != null ? m_binaryContent.hashCode() : (int) getContentLengthLong());
     result = prime * result + ((m_filename == null) ? 0 : m_filename.hashCode());
     result = prime * result + ((m_contentType == null) ? 0 : m_contentType.hashCode());
     return result;
@@ -245,6 +397,7 @@ public final class BinaryResource implements Serializable {
     return this.m_lastModified == other.m_lastModified
         && ObjectUtility.equals(this.m_filename, other.m_filename)
         && ObjectUtility.equals(this.m_contentType, other.m_contentType)
+        && ObjectUtility.equals(this.m_binaryContent, other.m_binaryContent)
         && Arrays.equals(m_content, other.m_content);
   }
 
@@ -252,7 +405,10 @@ public final class BinaryResource implements Serializable {
   public String toString() {
     StringBuilder sb = new StringBuilder(getClass().getSimpleName());
     sb.append(", content: ");
-    if (m_content == null) {
+    if (m_binaryContent != null) {
+      sb.append(m_binaryContent);
+    }
+    else if (m_content == null) {
       sb.append("null");
     }
     else {
@@ -270,10 +426,28 @@ public final class BinaryResource implements Serializable {
     if (m_lastModified != -1) {
       sb.append(", lastModified: ").append(m_lastModified);
     }
-    if (m_fingerprint != -1) {
+    if (m_fingerprint >= 0) {
       sb.append(", fingerprint: ").append(m_fingerprint);
     }
     sb.append("]");
     return sb.toString();
   }
+
+  /**
+   * A backing {@link IBinaryContent} is not serializable (e.g. a file is local to this node), hence it is replaced by an
+   * in-memory resource.
+   */
+  private Object writeReplace() throws ObjectStreamException {
+    if (m_binaryContent == null) {
+      return this;
+    }
+    try {
+      return new BinaryResource(m_filename, m_contentType, m_charset, m_binaryContent.toByteArray(), m_lastModified, m_cachingAllowed, m_cacheMaxAge);
+    }
+    catch (IOException e) {
+      InvalidObjectException ex = new InvalidObjectException("Could not read content of " + this);
+      ex.initCause(e);
+      throw ex;
+    }
+  }
 }
@@ -27,6 +27,7 @@ public final class BinaryResources {
   private String m_contentType;
   private String m_charset;
   private byte[] m_content;
+  private IBinaryContent m_binaryContent;
   private long m_lastModified = -1; // default
   private boolean m_cachingAllowed = false; // default
   private int m_cacheMaxAge = 0; // default
@@ -42,11 +43,17 @@ public final class BinaryResources {
    * Creates a builder for the {@link BinaryResource} fill with the values of the provided resource.
    */
   public static BinaryResources create(BinaryResource resource) {
-    return create()
+    BinaryResources builder = create();
+    if (resource.hasContentInMemory()) {
+      builder.withContent(resource.getContent());
+    }
+    else {
+      builder.withContent(resource.getBinaryContent());
+    }
+    return builder
         .withFilename(resource.getFilename())
         .withContentType(resource.getContentType())
         .withCharset(resource.getCharset())
-        .withContent(resource.getContent())
         .withLastModified(resource.getLastModified())
         .withCachingAllowed(resource.isCachingAllowed())
         .withCacheMaxAge(resource.getCacheMaxAge());
@@ -101,6 +108,18 @@ public final class BinaryResources {
    */
   public BinaryResources withContent(byte[] content) {
     m_content = content;
+    m_binaryContent = null;
+    return this;
+  }
+
+  /**
+   * @param binaryContent
+   *          The resource's content which is not held in memory, e.g. a {@link FileBinaryContent}. The fingerprint is
+   *          calculated on first access.
+   */
+  public BinaryResources withContent(IBinaryContent binaryContent) {
+    m_binaryContent = binaryContent;
+    m_content = null;
     return this;
   }
 
@@ -127,6 +146,7 @@ public final class BinaryResources {
     }
 
     m_content = content == null ? null : content.getBytes(charset);
+    m_binaryContent = null;
     m_charset = content == null ? null : charset.name();
 
     return this;
@@ -170,6 +190,6 @@ public final class BinaryResources {
    * @return Built binary resource
    */
   public BinaryResource build() {
-    return new BinaryResource(m_filename, m_contentType, m_charset, m_content, m_lastModified, m_cachingAllowed, m_cacheMaxAge);
+    return new BinaryResource(m_filename, m_contentType, m_charset, m_content, m_binaryContent, m_lastModified, m_cachingAllowed, m_cacheMaxAge);
   }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IBinaryContent} stored in a file.
+ * <p>
+ * A temporary file is deleted as soon as this object is no longer reachable (or by {@link #delete()}), so it lives as
+ * long as the {@link BinaryResource} referencing it.
+ *
+ * @since 23.2
+ */
+public class FileBinaryContent implements IBinaryContent {
+  private static final Logger LOG = LoggerFactory.getLogger(FileBinaryContent.class);
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private final File m_file;
+  private final Cleaner.Cleanable m_cleanable;
+  private volatile P_Fingerprint m_fingerprint;
+
+  /**
+   * Creates a content backed by an existing file which is not deleted by this object.
+   */
+  public FileBinaryContent(File file) {
+    this(file, false);
+  }
+
+  /**
+   * @param temporary
+   *          <code>true</code> if the file is deleted as soon as this object is no longer reachable
+   */
+  public FileBinaryContent(File file, boolean temporary) {
+    m_file = Assertions.assertNotNull(file, "file is required");
+    m_cleanable = temporary ? CLEANER.register(this, new P_DeleteFileAction(file)) : null;
+  }
+
+  @Override
+  public File getFile() {
+    return m_file;
+  }
+
+  public boolean isTemporary() {
+    return m_cleanable != null;
+  }
+
+  @Override
+  public long getLength() {
+    return m_file.length();
+  }
+
+  @Override
+  public InputStream openStream() throws IOException {
+    return Files.newInputStream(m_file.toPath());
+  }
+
+  /**
+   * Copies the file through {@link FileChannel#transferTo(long, long, WritableByteChannel)} in chunks, so the file is
+   * never loaded into memory as a whole. The operating system only copies the bytes directly (zero-copy) if the target
+   * is a file or socket channel. An arbitrary {@link OutputStream} (e.g. of a servlet response) is wrapped into a
+   * channel, hence the bytes are copied through a buffer in user space.
+   */
+  @Override
+  public long writeTo(OutputStream out) throws IOException {
+    WritableByteChannel target = Channels.newChannel(out);
+    try (FileChannel channel = FileChannel.open(m_file.toPath(), StandardOpenOption.READ)) {
+      long size = channel.size();
+      long position = 0;
+      while (position < size) {
+        position += channel.transferTo(position, size - position, target);
+      }
+      return position;
+    }
+  }
+
+  /**
+   * The fingerprint is kept as long as the length and the last modification time of the file do not change, so that the
+   * file is not read again by every {@link BinaryResource} referencing this content.
+   */
+  @Override
+  public long computeFingerprint() throws IOException {
+    long length = m_file.length();
+    long lastModified = m_file.lastModified();
+    P_Fingerprint fingerprint = m_fingerprint;
+    if (fingerprint != null && fingerprint.m_length == length && fingerprint.m_lastModified == lastModified) {
+      return fingerprint.m_value;
+    }
+    long value = IBinaryContent.super.computeFingerprint();
+    m_fingerprint = new P_Fingerprint(length, lastModified, value);
+    return value;
+  }
+
+  /**
+   * Deletes a temporary file immediately. Has no effect if the file is not temporary.
+   */
+  public void delete() {
+    if (m_cleanable != null) {
+      m_cleanable.clean();
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return m_file.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return ObjectUtility.equals(m_file, ((FileBinaryContent) obj).m_file);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[file=" + m_file + ", temporary=" + isTemporary() + "]";
+  }
+
+  protected static class P_Fingerprint {
+    private final long m_length;
+    private final long m_lastModified;
+    private final long m_value;
+
+    protected P_Fingerprint(long length, long lastModified, long value) {
+      m_length = length;
+      m_lastModified = lastModified;
+      m_value = value;
+    }
+  }
+
+  /**
+   * Must not reference the {@link FileBinaryContent}, otherwise it never becomes unreachable.
+   */
+  protected static class P_DeleteFileAction implements Runnable {
+    private final File m_file;
+
+    protected P_DeleteFileAction(File file) {
+      m_file = file;
+    }
+
+    @Override
+    public void run() {
+      try {
+        Files.deleteIfExists(m_file.toPath());
+      }
+      catch (IOException e) {
+        LOG.warn("Could not delete temporary file {}", m_file, e);
+      }
+    }
+  }
+}
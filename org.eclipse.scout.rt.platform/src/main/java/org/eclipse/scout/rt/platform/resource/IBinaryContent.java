@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Adler32;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+
+/**
+ * Content of a {@link BinaryResource} which is not held as <code>byte[]</code> in memory, e.g. a file on disk, a
+ * memory-mapped region of a file or a lazily opened {@link InputStream}.
+ * <p>
+ * The content must be readable more than once, i.e. each call to {@link #openStream()} returns a new stream starting
+ * at the beginning of the content.
+ * <p>
+ * Implementations must implement {@link #equals(Object)} and {@link #hashCode()} based on the source of the content
+ * (e.g. the file) without reading it, they are used by {@link BinaryResource#equals(Object)}.
+ *
+ * @see FileBinaryContent
+ * @see MappedBinaryContent
+ * @see StreamBinaryContent
+ * @since 23.2
+ */
+public interface IBinaryContent {
+
+  /**
+   * @return number of bytes of the content or <code>-1</code> if unknown
+   */
+  long getLength();
+
+  /**
+   * @return a new stream of the content, the caller is responsible for closing it
+   */
+  InputStream openStream() throws IOException;
+
+  /**
+   * Writes the whole content to the given stream. The stream is not closed.
+   *
+   * @return number of bytes written
+   */
+  default long writeTo(OutputStream out) throws IOException {
+    try (InputStream in = openStream()) {
+      return in.transferTo(out);
+    }
+  }
+
+  /**
+   * Reads the whole content into memory. Avoid this method for large contents, use {@link #openStream()} or
+   * {@link #writeTo(OutputStream)} instead.
+   */
+  default byte[] toByteArray() throws IOException {
+    try (InputStream in = openStream()) {
+      return IOUtility.readBytes(in);
+    }
+  }
+
+  /**
+   * Computes the Adler32 checksum of the content by streaming it (see {@link BinaryResource#getFingerprint()}).
+   * Implementations may cache the result as long as the content does not change.
+   */
+  default long computeFingerprint() throws IOException {
+    Adler32 a = new Adler32();
+    byte[] buffer = new byte[8192];
+    try (InputStream in = openStream()) {
+      int n;
+      while ((n = in.read(buffer)) != -1) {
+        a.update(buffer, 0, n);
+      }
+    }
+    return a.getValue();
+  }
+
+  /**
+   * @return the file backing this content or <code>null</code> if the content is not stored in a file
+   */
+  default File getFile() {
+    return null;
+  }
+}
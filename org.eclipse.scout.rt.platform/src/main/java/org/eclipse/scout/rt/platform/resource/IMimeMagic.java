@@ -52,27 +52,6 @@ public interface IMimeMagic {
     for (int i = 0; i < hexMagics.length; i++) {
       magics[i] = HexUtility.decode(hexMagics[i]);
     }
-    return res -> {
-      byte[] content = res.getContent();
-      if (content == null) {
-        return false;
-      }
-      for (byte[] magic : magics) {
-        if (content.length < pos + magic.length) {
-          continue;
-        }
-        boolean match = true;
-        for (int i = 0; i < magic.length; i++) {
-          if (content[pos + i] != magic[i]) {
-            match = false;
-            break;
-          }
-        }
-        if (match) {
-          return true;
-        }
-      }
-      return false;
-    };
+    return new PrefixMimeMagic(pos, magics);
   }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+
+/**
+ * {@link IBinaryContent} of a memory-mapped region of a file. The region is mapped lazily on first access and shared by
+ * all readers, the pages are loaded by the operating system and do not count against the Java heap.
+ * <p>
+ * The file must not be modified or truncated while it is mapped.
+ *
+ * @since 23.2
+ */
+public class MappedBinaryContent implements IBinaryContent {
+
+  private final File m_file;
+  private final long m_offset;
+  private final int m_length;
+  private volatile ByteBuffer m_buffer;
+
+  /**
+   * Maps the whole file.
+   */
+  public MappedBinaryContent(File file) {
+    this(file, 0, Assertions.assertNotNull(file, "file is required").length());
+  }
+
+  /**
+   * @param length
+   *          at most {@link Integer#MAX_VALUE} bytes can be mapped at once
+   */
+  public MappedBinaryContent(File file, long offset, long length) {
+    m_file = Assertions.assertNotNull(file, "file is required");
+    Assertions.assertTrue(offset >= 0, "offset must not be negative");
+    Assertions.assertTrue(length >= 0 && length <= Integer.MAX_VALUE, "length must be between 0 and {}", Integer.MAX_VALUE);
+    m_offset = offset;
+    m_length = (int) length;
+  }
+
+  @Override
+  public File getFile() {
+    return m_file;
+  }
+
+  public long getOffset() {
+    return m_offset;
+  }
+
+  @Override
+  public long getLength() {
+    return m_length;
+  }
+
+  /**
+   * @return a read-only view of the mapped region, positioned at its beginning
+   */
+  public ByteBuffer getBuffer() throws IOException {
+    ByteBuffer buffer = m_buffer;
+    if (buffer == null) {
+      try (FileChannel channel = FileChannel.open(m_file.toPath(), StandardOpenOption.READ)) {
+        MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, m_offset, m_length);
+        buffer = mapped.asReadOnlyBuffer();
+      }
+      m_buffer = buffer;
+    }
+    return buffer.duplicate();
+  }
+
+  @Override
+  public InputStream openStream() throws IOException {
+    return new P_ByteBufferInputStream(getBuffer());
+  }
+
+  @Override
+  public long writeTo(OutputStream out) throws IOException {
+    ByteBuffer buffer = getBuffer();
+    WritableByteChannel target = Channels.newChannel(out);
+    while (buffer.hasRemaining()) {
+      target.write(buffer);
+    }
+    return m_length;
+  }
+
+  @Override
+  public byte[] toByteArray() throws IOException {
+    byte[] bytes = new byte[m_length];
+    getBuffer().get(bytes);
+    return bytes;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(m_file, m_offset, m_length);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    MappedBinaryContent other = (MappedBinaryContent) obj;
+    return m_offset == other.m_offset
+        && m_length == other.m_length
+        && ObjectUtility.equals(m_file, other.m_file);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[file=" + m_file + ", offset=" + m_offset + ", length=" + m_length + "]";
+  }
+
+  protected static class P_ByteBufferInputStream extends InputStream {
+    private final ByteBuffer m_buffer;
+
+    protected P_ByteBufferInputStream(ByteBuffer buffer) {
+      m_buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return m_buffer.hasRemaining() ? m_buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!m_buffer.hasRemaining()) {
+        return -1;
+      }
+      int n = Math.min(len, m_buffer.remaining());
+      m_buffer.get(b, off, n);
+      return n;
+    }
+
+    @Override
+    public long skip(long n) {
+      int k = (int) Math.max(0, Math.min(n, m_buffer.remaining()));
+      m_buffer.position(m_buffer.position() + k);
+      return k;
+    }
+
+    @Override
+    public int available() {
+      return m_buffer.remaining();
+    }
+  }
+}
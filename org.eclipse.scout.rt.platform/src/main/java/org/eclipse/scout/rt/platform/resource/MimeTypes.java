@@ -9,9 +9,11 @@
  */
 package org.eclipse.scout.rt.platform.resource;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -83,13 +85,34 @@ public final class MimeTypes {
     if (res == null) {
       return Collections.emptyList();
     }
-    return EXT_TO_MIMETYPE
-        .values()
+    List<IMimeType> mimeTypes;
+    synchronized (EXT_TO_MIMETYPE) {
+      mimeTypes = new ArrayList<>(EXT_TO_MIMETYPE.values());
+    }
+    // read the header only once for all prefix magics instead of once per magic
+    int prefixLength = 0;
+    for (IMimeType t : mimeTypes) {
+      if (t.getMagic() instanceof PrefixMimeMagic) {
+        prefixLength = Math.max(prefixLength, ((PrefixMimeMagic) t.getMagic()).getPrefixLength());
+      }
+    }
+    byte[] prefix = prefixLength > 0 ? res.getContentPrefix(prefixLength) : null;
+    return mimeTypes
         .stream()
-        .filter(t -> t.getMagic() != null && t.getMagic().matches(res))
+        .filter(t -> matchesMagic(t.getMagic(), res, prefix))
         .collect(Collectors.toList());
   }
 
+  private static boolean matchesMagic(IMimeMagic magic, BinaryResource res, byte[] prefix) {
+    if (magic == null) {
+      return false;
+    }
+    if (magic instanceof PrefixMimeMagic) {
+      return ((PrefixMimeMagic) magic).matchesPrefix(prefix);
+    }
+    return magic.matches(res);
+  }
+
   /**
    * Verify file content or {@link BinaryResource}. Check headers and content in order to find out if the file is valid
    * or corrupt or malware
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+/**
+ * {@link IMimeMagic} which only inspects the first bytes of the content, see
+ * {@link IMimeMagic#createMagic(int, String...)}.
+ * <p>
+ * {@link MimeTypes#findByContentMagic(BinaryResource)} reads the prefix once for all such magics.
+ *
+ * @since 23.2
+ */
+final class PrefixMimeMagic implements IMimeMagic {
+  private final int m_pos;
+  private final byte[][] m_magics;
+  private final int m_prefixLength;
+
+  PrefixMimeMagic(int pos, byte[][] magics) {
+    m_pos = pos;
+    m_magics = magics;
+    int prefixLength = 0;
+    for (byte[] magic : magics) {
+      prefixLength = Math.max(prefixLength, pos + magic.length);
+    }
+    m_prefixLength = prefixLength;
+  }
+
+  /**
+   * @return number of bytes at the start of the content required by {@link #matchesPrefix(byte[])}
+   */
+  int getPrefixLength() {
+    return m_prefixLength;
+  }
+
+  @Override
+  public boolean matches(BinaryResource res) {
+    // only the header is read, so that a large file backed resource is not loaded into memory
+    return matchesPrefix(res.getContentPrefix(m_prefixLength));
+  }
+
+  /**
+   * @param prefix
+   *          the first bytes of the content, at least {@link #getPrefixLength()} bytes unless the content is shorter
+   */
+  boolean matchesPrefix(byte[] prefix) {
+    if (prefix == null) {
+      return false;
+    }
+    for (byte[] magic : m_magics) {
+      if (prefix.length < m_pos + magic.length) {
+        continue;
+      }
+      boolean match = true;
+      for (int i = 0; i < magic.length; i++) {
+        if (prefix[m_pos + i] != magic[i]) {
+          match = false;
+          break;
+        }
+      }
+      if (match) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
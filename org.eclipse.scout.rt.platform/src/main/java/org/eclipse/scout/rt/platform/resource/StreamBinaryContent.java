@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * {@link IBinaryContent} read from an {@link InputStream} which is opened on demand, e.g. a resource in a database or
+ * in a remote store. The content is never buffered by this object.
+ * <p>
+ * Two instances are equal if they have the same length and equal stream suppliers. A lambda is only equal to itself,
+ * suppliers which should be equal for the same source (e.g. the same database record) have to implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ *
+ * @since 23.2
+ */
+public class StreamBinaryContent implements IBinaryContent {
+
+  private final IInputStreamSupplier m_streamSupplier;
+  private final long m_length;
+
+  /**
+   * @param streamSupplier
+   *          returns a new stream of the whole content on each call
+   * @param length
+   *          number of bytes of the content or <code>-1</code> if unknown
+   */
+  public StreamBinaryContent(IInputStreamSupplier streamSupplier, long length) {
+    m_streamSupplier = Assertions.assertNotNull(streamSupplier, "streamSupplier is required");
+    m_length = length;
+  }
+
+  @Override
+  public long getLength() {
+    return m_length;
+  }
+
+  @Override
+  public InputStream openStream() throws IOException {
+    return m_streamSupplier.get();
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * m_streamSupplier.hashCode() + Long.hashCode(m_length);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    StreamBinaryContent other = (StreamBinaryContent) obj;
+    return m_length == other.m_length
+        && m_streamSupplier.equals(other.m_streamSupplier);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[length=" + m_length + "]";
+  }
+
+  @FunctionalInterface
+  public interface IInputStreamSupplier {
+    InputStream get() throws IOException;
+  }
+}
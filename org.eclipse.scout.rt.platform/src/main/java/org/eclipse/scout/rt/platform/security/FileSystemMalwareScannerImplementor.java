@@ -9,8 +9,13 @@
  */
 package org.eclipse.scout.rt.platform.security;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
@@ -39,6 +44,10 @@ public class FileSystemMalwareScannerImplementor implements IMalwareScannerImple
     }
     File f = null;
     try {
+      if (!res.hasContentInMemory()) {
+        scanStreamed(res, directory);
+        return;
+      }
       byte[] expected = res.getContent();
       if (expected != null && expected.length > 0) {
         f = IOUtility.createTempFile("malware-scan", ".tmp", directory, expected);
@@ -69,6 +78,38 @@ public class FileSystemMalwareScannerImplementor implements IMalwareScannerImple
     }
   }
 
+  /**
+   * Same check as for an in-memory resource, but the content is copied and compared as stream, so that a large file
+   * backed resource is not loaded into memory.
+   */
+  protected void scanStreamed(BinaryResource res, File directory) throws IOException {
+    if (res.getContentLengthLong() == 0) {
+      return;
+    }
+    File f = directory != null ? Files.createTempFile(directory.toPath(), "malware-scan", ".tmp").toFile() : Files.createTempFile("malware-scan", ".tmp").toFile();
+    try {
+      try (OutputStream out = Files.newOutputStream(f.toPath())) {
+        res.writeContentTo(out);
+      }
+      int delay = CONFIG.getPropertyValue(MalwareScannerDelayProperty.class);
+      SleepUtil.sleepElseThrow(delay, TimeUnit.MILLISECONDS);
+      try (InputStream expected = new BufferedInputStream(res.openContentStream());
+          InputStream actual = new BufferedInputStream(new FileInputStream(f))) {
+        int b;
+        do {
+          b = expected.read();
+          if (b != actual.read()) {
+            throwUnsafeResource(res);
+          }
+        }
+        while (b != -1);
+      }
+    }
+    finally {
+      IOUtility.deleteFile(f);
+    }
+  }
+
   protected void throwUnsafeResource(BinaryResource res) {
     LOG.info("detected unsafe resource '{}'", res.getFilename());
     throw new UnsafeResourceException("Resource '{}' is not safe", res.getFilename());
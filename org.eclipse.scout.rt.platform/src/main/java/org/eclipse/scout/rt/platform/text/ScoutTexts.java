@@ -13,9 +13,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.DynamicNls;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.nls.NlsResourceBundleCache;
 
 /**
  * ScoutTexts provides support for text translations.
@@ -27,6 +33,12 @@ import org.eclipse.scout.rt.platform.BEANS;
  * This implementation caches all available {@link ITextProviderService}s for better performance (otherwise 2/3 of a
  * {@link #getText(String, String...)} invocation would be spend for collecting {@link ITextProviderService}s). Invoke
  * {@link #reloadTextProviders()} after modifying the set of text provider services.
+ * <p>
+ * If all text providers are plain {@link AbstractDynamicNlsTextProviderService}s (see
+ * {@link #isFlattenable(ITextProviderService)}), the texts of all providers are merged
+ * into an immutable table per locale on first access, so that a text lookup is a single hash probe instead of a walk
+ * through all providers and their resource bundles. Text post processors are assumed to leave a <code>null</code> text
+ * unchanged. In development mode the tables are rebuilt when a text file changes (see {@link NlsResourceBundleCache}).
  *
  * @see TEXTS
  * @see ITextProviderService
@@ -35,16 +47,42 @@ import org.eclipse.scout.rt.platform.BEANS;
 public class ScoutTexts {
 
   /**
-   * Cached list of ordered {@link ITextProviderService}s
+   * Cached list of ordered {@link ITextProviderService}s, together with the text tables derived from them
    */
-  private volatile List<? extends ITextProviderService> m_textProviders;
+  private volatile P_TextProviders m_textProviders;
 
   public ScoutTexts() {
     reloadTextProviders();
   }
 
   public void reloadTextProviders() {
-    m_textProviders = BEANS.all(ITextProviderService.class);
+    List<? extends ITextProviderService> providers = BEANS.all(ITextProviderService.class);
+    m_textProviders = new P_TextProviders(providers, providers.stream().allMatch(this::isFlattenable));
+  }
+
+  /**
+   * @return <code>true</code> if the texts of the given provider can be merged into the text table, i.e. the provider
+   *         resolves its texts by a plain {@link DynamicNls} only. A provider which overrides its text lookup, or whose
+   *         {@link DynamicNls} is a subclass (e.g. overriding the locale fallback), is always asked directly.
+   */
+  protected boolean isFlattenable(ITextProviderService provider) {
+    if (!(provider instanceof AbstractDynamicNlsTextProviderService)) {
+      return false;
+    }
+    Class<?> providerClass = provider.getClass();
+    return isDeclaredByDynamicNlsTextProvider(providerClass, "getText", Locale.class, String.class, String[].class)
+        && isDeclaredByDynamicNlsTextProvider(providerClass, "getTextMap", Locale.class)
+        && isDeclaredByDynamicNlsTextProvider(providerClass, "getDynamicNls")
+        && ((AbstractDynamicNlsTextProviderService) provider).getDynamicNls().getClass() == DynamicNls.class;
+  }
+
+  private static boolean isDeclaredByDynamicNlsTextProvider(Class<?> providerClass, String methodName, Class<?>... parameterTypes) {
+    try {
+      return providerClass.getMethod(methodName, parameterTypes).getDeclaringClass() == AbstractDynamicNlsTextProviderService.class;
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return false;
+    }
   }
 
   public final String getText(@NlsKey String key, String... messageArguments) {
@@ -55,7 +93,15 @@ public class ScoutTexts {
     return getTextInternal(locale, key, getDefaultFallback(key), messageArguments);
   }
 
+  /**
+   * @return all key/text pairs of all text providers for the given locale in a new map, which may be modified by the
+   *         caller
+   */
   public Map<String, String> getTextMap(Locale locale) {
+    P_TextTable table = getTextTable(locale);
+    if (table != null) {
+      return table.createTextMap();
+    }
     Map<String, String> map = new HashMap<>();
     List<? extends ITextProviderService> providers = getTextProviders();
     for (int i = providers.size() - 1; i >= 0; i--) {
@@ -65,10 +111,23 @@ public class ScoutTexts {
   }
 
   protected List<? extends ITextProviderService> getTextProviders() {
-    return m_textProviders;
+    return m_textProviders.m_providers;
   }
 
   protected String getTextInternal(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
+    if (key != null) {
+      if (locale == null) {
+        locale = NlsLocale.get();
+      }
+      P_TextTable table = getTextTable(locale);
+      if (table != null) {
+        P_TextEntry entry = table.m_entries.get(key);
+        if (entry != null) {
+          return entry.m_nls.formatText(locale, key, entry.m_text, messageArguments);
+        }
+        // not found: ask the providers, their post processors may still provide a text
+      }
+    }
     for (ITextProviderService provider : getTextProviders()) {
       String result = provider.getText(locale, key, messageArguments);
       if (result != null) {
@@ -78,6 +137,38 @@ public class ScoutTexts {
     return fallback;
   }
 
+  /**
+   * @return the merged text table of the given locale or <code>null</code> if the text providers cannot be merged
+   */
+  protected P_TextTable getTextTable(Locale locale) {
+    P_TextProviders textProviders = m_textProviders;
+    if (textProviders.m_textTables == null) {
+      return null;
+    }
+    if (locale == null) {
+      locale = NlsLocale.get();
+    }
+    int clearCount = NlsResourceBundleCache.getClearCount();
+    P_TextTable table = textProviders.m_textTables.get(locale);
+    if (table == null || table.m_clearCount != clearCount) {
+      table = createTextTable(textProviders.m_providers, locale, clearCount);
+      textProviders.m_textTables.put(locale, table);
+    }
+    return table;
+  }
+
+  protected P_TextTable createTextTable(List<? extends ITextProviderService> providers, Locale locale, int clearCount) {
+    Map<String, P_TextEntry> entries = new HashMap<>();
+    // reverse order: texts of providers with a higher priority replace the ones with a lower priority
+    for (int i = providers.size() - 1; i >= 0; i--) {
+      DynamicNls nls = ((AbstractDynamicNlsTextProviderService) providers.get(i)).getDynamicNls();
+      for (Entry<String, String> e : nls.getTextMap(locale).entrySet()) {
+        entries.put(e.getKey(), new P_TextEntry(e.getValue(), nls));
+      }
+    }
+    return new P_TextTable(entries, clearCount);
+  }
+
   protected String getDefaultFallback(String key) {
     return "{undefined text " + key + "}";
   }
@@ -85,4 +176,51 @@ public class ScoutTexts {
   public String getTextWithFallback(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
     return getTextInternal(locale, key, fallback, messageArguments);
   }
+
+  protected static final class P_TextProviders {
+    private final List<? extends ITextProviderService> m_providers;
+    /**
+     * <code>null</code> if the providers cannot be merged into text tables
+     */
+    private final ConcurrentMap<Locale, P_TextTable> m_textTables;
+
+    private P_TextProviders(List<? extends ITextProviderService> providers, boolean flattenable) {
+      m_providers = providers;
+      m_textTables = flattenable ? new ConcurrentHashMap<>() : null;
+    }
+  }
+
+  /**
+   * Immutable table of all texts of a locale.
+   */
+  protected static final class P_TextTable {
+    private final Map<String, P_TextEntry> m_entries;
+    private final int m_clearCount;
+
+    private P_TextTable(Map<String, P_TextEntry> entries, int clearCount) {
+      m_entries = entries;
+      m_clearCount = clearCount;
+    }
+
+    private Map<String, String> createTextMap() {
+      Map<String, String> textMap = new HashMap<>(m_entries.size() * 4 / 3 + 1);
+      for (Entry<String, P_TextEntry> e : m_entries.entrySet()) {
+        textMap.put(e.getKey(), e.getValue().m_text);
+      }
+      return textMap;
+    }
+  }
+
+  /**
+   * Raw text and the {@link DynamicNls} which resolved it (binds arguments and applies its post processors).
+   */
+  protected static final class P_TextEntry {
+    private final String m_text;
+    private final DynamicNls m_nls;
+
+    private P_TextEntry(String text, DynamicNls nls) {
+      m_text = text;
+      m_nls = nls;
+    }
+  }
 }
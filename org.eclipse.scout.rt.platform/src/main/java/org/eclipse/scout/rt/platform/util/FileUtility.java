@@ -595,9 +595,7 @@ public final class FileUtility {
         String validatedFilename = validateZipFilename(res.getFilename());
 
         zos.putNextEntry(new ZipEntry(validatedFilename));
-        if (res.getContent() != null) {
-          zos.write(res.getContent()); //TODO imo: extend BinaryResource to support .write(OutputStream)
-        }
+        res.writeContentTo(zos);
         zos.closeEntry();
       }
       zos.flush();
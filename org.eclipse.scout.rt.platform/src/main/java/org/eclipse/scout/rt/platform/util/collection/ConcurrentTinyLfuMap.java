@@ -0,0 +1,871 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A thread-safe concurrent map bounded by a maximum weight, which evicts entries according to the <em>Window
+ * TinyLFU</em> policy. This class is a decorator for any concurrent map, like {@link ConcurrentExpiringMap}.
+ * <p>
+ * The weight of an entry is computed by the weigher when the entry is inserted. Without a weigher, every entry has the
+ * weight 1, so that the maximum weight is the maximum number of entries. Unlike {@link ConcurrentExpiringMap}, the
+ * maximum weight is enforced, although the map may temporarily exceed it until pending maintenance is done.
+ * <p>
+ * New entries are first put into a small LRU admission window (1% of the maximum weight). Entries which overflow the
+ * window compete with the least recently used entry of the main space, which is divided into a probation and a
+ * protected segment (SLRU). A popularity sketch estimates the access frequency of keys, and a candidate is only
+ * admitted into the main space if it was accessed more frequently than the victim it would replace. Therefore, a scan
+ * over many keys which are accessed only once does not flush the frequently used entries from the map.
+ * <p>
+ * Read and write operations do not block each other. Reads are recorded in a lossy buffer and writes in a queue, which
+ * are applied to the eviction policy in batches by whichever thread obtains the eviction lock, so that the eviction is
+ * amortized O(1) per operation. Use {@link #cleanUp()} to apply pending maintenance immediately.
+ * <p>
+ * If a time to live is set, entries expire after the given duration. Expired entries are removed lazily upon access.
+ * <p>
+ * Every time an entry in the map is evicted, {@link #execEntryEvicted(Object, Object)} is called.
+ * <p>
+ * This class does <em>not</em> allow <tt>null</tt> as a key, but it <em>allows</em> null values. Inserting a null key
+ * result in a {@link NullPointerException} as specified in {@link Map}.
+ *
+ * @param <K>
+ *          the type of keys maintained by this map
+ * @param <V>
+ *          the type of mapped values
+ * @since 23.2
+ */
+@SuppressWarnings("squid:S2160")
+public class ConcurrentTinyLfuMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+  private static final int READ_BUFFER_SIZE = 64;
+  private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+  private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+
+  private static final int NONE = 0;
+  private static final int WINDOW = 1;
+  private static final int PROBATION = 2;
+  private static final int PROTECTED = 3;
+
+  private final ConcurrentMap<K, Node<K, V>> m_elementMap;
+  private final long m_maxWeight;
+  private final ToIntBiFunction<? super K, ? super V> m_weigher;
+  private final long m_timeToLive;
+  private final boolean m_touchOnGet;
+
+  private final Queue<Runnable> m_writeBuffer = new ConcurrentLinkedQueue<>();
+  private final AtomicReferenceArray<Node<K, V>> m_readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+  private final AtomicLong m_readBufferWriteCount = new AtomicLong();
+  private volatile long m_readBufferReadCount;
+
+  // guarded by m_evictionLock
+  private final Lock m_evictionLock = new ReentrantLock();
+  private final AccessOrderDeque<K, V> m_window = new AccessOrderDeque<>();
+  private final AccessOrderDeque<K, V> m_probation = new AccessOrderDeque<>();
+  private final AccessOrderDeque<K, V> m_protected = new AccessOrderDeque<>();
+  private final FrequencySketch m_sketch = new FrequencySketch();
+  private final long m_windowMaxWeight;
+  private final long m_protectedMaxWeight;
+  private long m_windowWeight;
+  private long m_protectedWeight;
+  private volatile long m_weightedSize;
+  private int m_nodeCount;
+
+  /**
+   * Creates a new map in which every entry has the weight 1 and which holds at most the given number of entries.
+   *
+   * @param maxSize
+   *          maximum number of entries
+   */
+  public ConcurrentTinyLfuMap(long maxSize) {
+    this(new ConcurrentHashMap<>(), maxSize, null, -1, false);
+  }
+
+  /**
+   * Creates a new map whose entries expire after a given time to live and which holds entries up to the given maximum
+   * weight.
+   *
+   * @param maxWeight
+   *          maximum total weight of all entries
+   * @param weigher
+   *          computes the non-negative weight of an entry; if <code>null</code>, every entry has the weight 1
+   * @param timeToLiveDuration
+   *          if greater than zero, entries expire after the given duration
+   * @param timeToLiveUnit
+   *          unit of timeToLive
+   * @param touchOnGet
+   *          if true, {@link #get(Object)} operation resets the time to live of an entry
+   */
+  public ConcurrentTinyLfuMap(long maxWeight, ToIntBiFunction<? super K, ? super V> weigher, long timeToLiveDuration, TimeUnit timeToLiveUnit, boolean touchOnGet) {
+    this(new ConcurrentHashMap<>(), maxWeight, weigher, timeToLiveUnit.toMillis(timeToLiveDuration), touchOnGet);
+  }
+
+  /**
+   * @param elementMap
+   *          {@link ConcurrentMap} that contains {@link Node}s
+   * @param maxWeight
+   *          maximum total weight of all entries
+   * @param weigher
+   *          computes the non-negative weight of an entry; if <code>null</code>, every entry has the weight 1
+   * @param timeToLiveDurationMillis
+   *          if greater than zero, entries expire after the given duration
+   * @param touchOnGet
+   *          if true, {@link #get(Object)} operation resets the time to live of an entry
+   * @throws IllegalArgumentException
+   *           if maxWeight is negative
+   */
+  public ConcurrentTinyLfuMap(ConcurrentMap<K, Node<K, V>> elementMap, long maxWeight, ToIntBiFunction<? super K, ? super V> weigher, long timeToLiveDurationMillis, boolean touchOnGet) {
+    if (maxWeight < 0) {
+      throw new IllegalArgumentException("maxWeight cannot be negative");
+    }
+    m_elementMap = elementMap;
+    m_maxWeight = maxWeight;
+    m_weigher = weigher;
+    m_timeToLive = timeToLiveDurationMillis;
+    m_touchOnGet = touchOnGet;
+
+    m_windowMaxWeight = Math.max(1, maxWeight / 100);
+    m_protectedMaxWeight = (maxWeight - m_windowMaxWeight) * 4 / 5;
+    m_sketch.ensureCapacity(Math.min(maxWeight, 16));
+  }
+
+  /**
+   * @return the decorated map instance
+   */
+  public ConcurrentMap<K, Node<K, V>> getElementMap() {
+    return m_elementMap;
+  }
+
+  public long getMaxWeight() {
+    return m_maxWeight;
+  }
+
+  public long getTimeToLive() {
+    return m_timeToLive;
+  }
+
+  public boolean isTouchOnGet() {
+    return m_touchOnGet;
+  }
+
+  /**
+   * @return total weight of all entries known to the eviction policy. Pending maintenance is not considered, see
+   *         {@link #cleanUp()}.
+   */
+  public long getWeightedSize() {
+    return m_weightedSize;
+  }
+
+  /**
+   * <b>Note:</b> The implementation of this method does not check if entries are expired.
+   */
+  @Override
+  public int size() {
+    return m_elementMap.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !entrySet().iterator().hasNext();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return getNode(key, false) != null;
+  }
+
+  @Override
+  public V get(Object key) {
+    Node<K, V> node = getNode(key, m_touchOnGet);
+    if (node == null) {
+      return null;
+    }
+    afterRead(node);
+    return node.getValue();
+  }
+
+  @Override
+  public V put(K key, V value) {
+    Node<K, V> node = createNode(key, value);
+    Node<K, V> oldNode = m_elementMap.put(key, node);
+    afterWrite(oldNode, node);
+    return extractValidValue(oldNode);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    Node<K, V> node = createNode(key, value);
+    Node<K, V> existingNode = m_elementMap.putIfAbsent(key, node);
+    if (existingNode != null && !isNodeValid(existingNode)) {
+      // timeout
+      if (m_elementMap.remove(key, existingNode)) {
+        afterWrite(existingNode, null);
+        execEntryEvicted(key, existingNode.getValue());
+      }
+      // retry
+      existingNode = m_elementMap.putIfAbsent(key, node);
+    }
+    if (existingNode != null) {
+      afterRead(existingNode);
+      return existingNode.getValue();
+    }
+    afterWrite(null, node);
+    return null;
+  }
+
+  @Override
+  public V remove(Object key) {
+    Node<K, V> oldNode = m_elementMap.remove(key);
+    afterWrite(oldNode, null);
+    return extractValidValue(oldNode);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    Node<K, V> node = getNode(key, false);
+    if (node != null && Objects.equals(node.getValue(), value) && m_elementMap.remove(key, node)) {
+      afterWrite(node, null);
+      return true;
+    }
+    // did not contain mapping / not correct mapping / no remove (see containsKey)
+    return false;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    Node<K, V> oldNode = getNode(key, false);
+    if (oldNode != null && Objects.equals(oldNode.getValue(), oldValue)) {
+      Node<K, V> node = createNode(key, newValue);
+      if (m_elementMap.replace(key, oldNode, node)) {
+        afterWrite(oldNode, node);
+        return true;
+      }
+    }
+    // did not contain mapping / not correct mapping / no replace (see containsKey)
+    return false;
+  }
+
+  @Override
+  public V replace(K key, V value) {
+    if (getNode(key, false) == null) {
+      return null;
+    }
+    Node<K, V> node = createNode(key, value);
+    Node<K, V> oldNode = m_elementMap.replace(key, node);
+    if (oldNode == null) {
+      return null;
+    }
+    afterWrite(oldNode, node);
+    return oldNode.getValue();
+  }
+
+  @Override
+  public void clear() {
+    m_elementMap.clear();
+    m_writeBuffer.add(this::onClear);
+    scheduleMaintenance();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  /**
+   * Applies all pending reads and writes to the eviction policy and evicts entries if the maximum weight is exceeded.
+   */
+  public void cleanUp() {
+    m_evictionLock.lock();
+    try {
+      maintenance();
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  protected Node<K, V> createNode(K key, V value) {
+    int weight = m_weigher == null ? 1 : m_weigher.applyAsInt(key, value);
+    if (weight < 0) {
+      throw new IllegalArgumentException("weight of an entry cannot be negative [key=" + key + ", weight=" + weight + "]");
+    }
+    return new Node<>(key, value, weight);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected Node<K, V> getNode(Object key, boolean touchOnReadAccess) {
+    Node<K, V> node = m_elementMap.get(key);
+    if (node == null) {
+      return null;
+    }
+    if (!isNodeValid(node)) {
+      // timeout
+      if (m_elementMap.remove(key, node)) {
+        afterWrite(node, null);
+        execEntryEvicted((K) key, node.getValue());
+      }
+      return null;
+    }
+    if (touchOnReadAccess) {
+      node.m_timestamp = System.currentTimeMillis();
+    }
+    return node;
+  }
+
+  protected boolean isNodeValid(Node<K, V> node) {
+    return m_timeToLive <= 0 || node.m_timestamp + m_timeToLive > System.currentTimeMillis();
+  }
+
+  protected V extractValidValue(Node<K, V> node) {
+    if (node != null && isNodeValid(node)) {
+      return node.getValue();
+    }
+    return null;
+  }
+
+  /**
+   * Records a read access in the lossy read buffer. If the buffer is full, the access is dropped.
+   */
+  protected void afterRead(Node<K, V> node) {
+    long writeCount = m_readBufferWriteCount.get();
+    long pending = writeCount - m_readBufferReadCount;
+    if (pending < READ_BUFFER_SIZE && m_readBufferWriteCount.compareAndSet(writeCount, writeCount + 1)) {
+      m_readBuffer.lazySet((int) writeCount & READ_BUFFER_MASK, node);
+      pending++;
+    }
+    if (pending >= READ_BUFFER_DRAIN_THRESHOLD && m_evictionLock.tryLock()) {
+      try {
+        maintenance();
+      }
+      finally {
+        m_evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Records that a node was removed from and/or added to the element map. Write operations are never dropped.
+   */
+  protected void afterWrite(Node<K, V> removedNode, Node<K, V> addedNode) {
+    if (removedNode != null) {
+      removedNode.m_retired = true;
+      m_writeBuffer.add(() -> onRemove(removedNode));
+    }
+    if (addedNode != null) {
+      m_writeBuffer.add(() -> onAdd(addedNode));
+    }
+    scheduleMaintenance();
+  }
+
+  protected void scheduleMaintenance() {
+    // maximum one thread at the time applies pending operations; the others do not wait
+    while (m_evictionLock.tryLock()) { // NOSONAR
+      try {
+        maintenance();
+      }
+      finally {
+        m_evictionLock.unlock();
+      }
+      // re-check because a write may have been queued while this thread held the lock
+      if (m_writeBuffer.isEmpty()) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Must be called while holding the eviction lock.
+   */
+  protected void maintenance() {
+    drainReadBuffer();
+    drainWriteBuffer();
+    evictEntries();
+  }
+
+  private void drainReadBuffer() {
+    long readCount = m_readBufferReadCount;
+    long writeCount = m_readBufferWriteCount.get();
+    for (; readCount < writeCount; readCount++) {
+      int index = (int) readCount & READ_BUFFER_MASK;
+      Node<K, V> node = m_readBuffer.get(index);
+      if (node == null) {
+        break; // slot reserved but not published yet
+      }
+      m_readBuffer.lazySet(index, null);
+      onAccess(node);
+    }
+    m_readBufferReadCount = readCount;
+  }
+
+  private void drainWriteBuffer() {
+    Runnable task;
+    while ((task = m_writeBuffer.poll()) != null) {
+      task.run();
+    }
+  }
+
+  private void onAdd(Node<K, V> node) {
+    m_sketch.increment(node.getKey());
+    if (node.m_retired || node.m_queue != NONE) {
+      return; // already removed again
+    }
+    node.m_queue = WINDOW;
+    m_window.addLast(node);
+    m_windowWeight += node.getWeight();
+    m_weightedSize += node.getWeight();
+    m_nodeCount++;
+    m_sketch.ensureCapacity(m_nodeCount);
+  }
+
+  private void onRemove(Node<K, V> node) {
+    unlink(node);
+  }
+
+  private void onClear() {
+    unlinkRemovedNodes(m_window);
+    unlinkRemovedNodes(m_probation);
+    unlinkRemovedNodes(m_protected);
+  }
+
+  private void unlinkRemovedNodes(AccessOrderDeque<K, V> deque) {
+    Node<K, V> node = deque.peekFirst();
+    while (node != null) {
+      Node<K, V> next = node.m_next;
+      // nodes inserted concurrently to clear remain
+      if (m_elementMap.get(node.getKey()) != node) {
+        unlink(node);
+      }
+      node = next;
+    }
+  }
+
+  private void onAccess(Node<K, V> node) {
+    m_sketch.increment(node.getKey());
+    switch (node.m_queue) {
+      case WINDOW:
+        m_window.moveToLast(node);
+        break;
+      case PROBATION:
+        // promote
+        m_probation.remove(node);
+        node.m_queue = PROTECTED;
+        m_protected.addLast(node);
+        m_protectedWeight += node.getWeight();
+        demoteFromProtected();
+        break;
+      case PROTECTED:
+        m_protected.moveToLast(node);
+        break;
+      default:
+        // removed or not yet added
+    }
+  }
+
+  private void demoteFromProtected() {
+    while (m_protectedWeight > m_protectedMaxWeight) {
+      Node<K, V> node = m_protected.pollFirst();
+      if (node == null) {
+        return;
+      }
+      m_protectedWeight -= node.getWeight();
+      node.m_queue = PROBATION;
+      m_probation.addLast(node);
+    }
+  }
+
+  private void evictEntries() {
+    // entries overflowing the window are moved to the probation segment and are candidates to be admitted
+    Node<K, V> candidate = null;
+    while (m_windowWeight > m_windowMaxWeight) {
+      Node<K, V> node = m_window.pollFirst();
+      if (node == null) {
+        break;
+      }
+      m_windowWeight -= node.getWeight();
+      node.m_queue = PROBATION;
+      m_probation.addLast(node);
+      if (candidate == null) {
+        candidate = node;
+      }
+    }
+
+    while (m_weightedSize > m_maxWeight) {
+      Node<K, V> victim = m_probation.peekFirst();
+      if (victim == null) {
+        victim = m_protected.peekFirst();
+      }
+      if (victim == null) {
+        victim = m_window.peekFirst();
+      }
+      if (victim == null) {
+        return;
+      }
+
+      Node<K, V> evictee = victim;
+      if (candidate == victim) {
+        candidate = candidate.m_next;
+      }
+      else if (candidate != null && (candidate.getWeight() > m_maxWeight || !admit(candidate.getKey(), victim.getKey()))) {
+        evictee = candidate;
+        candidate = candidate.m_next;
+      }
+      evict(evictee);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the candidate should be admitted and the victim evicted, or <code>false</code> if the
+   *         candidate should be rejected.
+   */
+  protected boolean admit(K candidateKey, K victimKey) {
+    int victimFrequency = m_sketch.frequency(victimKey);
+    int candidateFrequency = m_sketch.frequency(candidateKey);
+    if (candidateFrequency > victimFrequency) {
+      return true;
+    }
+    if (candidateFrequency <= 5) {
+      return false;
+    }
+    // admit a warm candidate by chance, so that an attacker cannot pin a victim by raising its frequency (hash flooding)
+    return (ThreadLocalRandom.current().nextInt() & 127) == 0;
+  }
+
+  private void evict(Node<K, V> node) {
+    unlink(node);
+    if (m_elementMap.remove(node.getKey(), node)) {
+      node.m_retired = true;
+      execEntryEvicted(node.getKey(), node.getValue());
+    }
+  }
+
+  private void unlink(Node<K, V> node) {
+    switch (node.m_queue) {
+      case WINDOW:
+        m_window.remove(node);
+        m_windowWeight -= node.getWeight();
+        break;
+      case PROBATION:
+        m_probation.remove(node);
+        break;
+      case PROTECTED:
+        m_protected.remove(node);
+        m_protectedWeight -= node.getWeight();
+        break;
+      default:
+        return;
+    }
+    node.m_queue = NONE;
+    m_weightedSize -= node.getWeight();
+    m_nodeCount--;
+  }
+
+  /**
+   * Called when the map evicted an entry because its time to live elapsed or because the maximum weight is exceeded.
+   * <p>
+   * <b>Note:</b> Capacity evictions are notified while holding the eviction lock.
+   */
+  protected void execEntryEvicted(K key, V value) {
+    // hook method for subclasses
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      Node<K, V> node = getNode(e.getKey(), false);
+      return node != null && Objects.equals(node.getValue(), e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> e = (Entry<?, ?>) o;
+      return ConcurrentTinyLfuMap.this.remove(e.getKey(), e.getValue());
+    }
+
+    @Override
+    public int size() {
+      return ConcurrentTinyLfuMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      ConcurrentTinyLfuMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<K, V>> {
+    private final Iterator<K> m_elementMapIterator = m_elementMap.keySet().iterator();
+    private Entry<K, V> m_nextEntry;
+    private Entry<K, V> m_lastReturned;
+
+    EntryIterator() {
+      advance();
+    }
+
+    void advance() {
+      m_nextEntry = null;
+      while (m_nextEntry == null && m_elementMapIterator.hasNext()) {
+        K key = m_elementMapIterator.next();
+        // iterating does not count as access and therefore does not influence the eviction order
+        Node<K, V> node = getNode(key, false);
+        if (node != null) {
+          m_nextEntry = new WriteThroughEntry(key, node.getValue());
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return m_nextEntry != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+      if (m_nextEntry == null) {
+        throw new NoSuchElementException();
+      }
+      m_lastReturned = m_nextEntry;
+      advance();
+      return m_lastReturned;
+    }
+
+    @Override
+    public void remove() {
+      if (m_lastReturned == null) {
+        throw new IllegalStateException();
+      }
+      ConcurrentTinyLfuMap.this.remove(m_lastReturned.getKey());
+      m_lastReturned = null;
+    }
+  }
+
+  private final class WriteThroughEntry extends SimpleEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    WriteThroughEntry(K k, V v) {
+      super(k, v);
+    }
+
+    @Override
+    public V setValue(V value) {
+      V v = super.setValue(value);
+      ConcurrentTinyLfuMap.this.put(getKey(), value);
+      return v;
+    }
+  }
+
+  /**
+   * Element of the decorated map. Nodes are compared by identity.
+   */
+  public static final class Node<K, V> {
+    private final K m_key;
+    private final V m_value;
+    private final int m_weight;
+    private volatile long m_timestamp;
+    private volatile boolean m_retired;
+
+    // guarded by m_evictionLock
+    private int m_queue;
+    private Node<K, V> m_prev;
+    private Node<K, V> m_next;
+
+    Node(K key, V value, int weight) {
+      m_key = key;
+      m_value = value;
+      m_weight = weight;
+      m_timestamp = System.currentTimeMillis();
+    }
+
+    public K getKey() {
+      return m_key;
+    }
+
+    public V getValue() {
+      return m_value;
+    }
+
+    public int getWeight() {
+      return m_weight;
+    }
+
+    public long getTimestamp() {
+      return m_timestamp;
+    }
+  }
+
+  /**
+   * Doubly-linked list of nodes in access order, least recently used first. Not thread-safe.
+   */
+  private static final class AccessOrderDeque<K, V> {
+    private Node<K, V> m_first;
+    private Node<K, V> m_last;
+
+    Node<K, V> peekFirst() {
+      return m_first;
+    }
+
+    Node<K, V> pollFirst() {
+      Node<K, V> node = m_first;
+      if (node != null) {
+        remove(node);
+      }
+      return node;
+    }
+
+    void addLast(Node<K, V> node) {
+      node.m_prev = m_last;
+      node.m_next = null;
+      if (m_last == null) {
+        m_first = node;
+      }
+      else {
+        m_last.m_next = node;
+      }
+      m_last = node;
+    }
+
+    void remove(Node<K, V> node) {
+      if (node.m_prev == null) {
+        m_first = node.m_next;
+      }
+      else {
+        node.m_prev.m_next = node.m_next;
+      }
+      if (node.m_next == null) {
+        m_last = node.m_prev;
+      }
+      else {
+        node.m_next.m_prev = node.m_prev;
+      }
+      node.m_prev = null;
+      node.m_next = null;
+    }
+
+    void moveToLast(Node<K, V> node) {
+      if (m_last != node) {
+        remove(node);
+        addLast(node);
+      }
+    }
+  }
+
+  /**
+   * Count-min sketch with 4-bit counters to estimate the access frequency of keys. The counters are halved
+   * periodically, so that the popularity of keys ages.
+   */
+  private static final class FrequencySketch {
+    private static final long[] SEED = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private long[] m_table;
+    private int m_tableMask;
+    private int m_sampleSize;
+    private int m_size;
+
+    void ensureCapacity(long maximumSize) {
+      int maximum = (int) Math.min(Math.max(maximumSize, 1), Integer.MAX_VALUE >>> 1);
+      if (m_table != null && m_table.length >= maximum) {
+        return;
+      }
+      m_table = new long[maximum == 1 ? 1 : Integer.highestOneBit(maximum - 1) << 1];
+      m_tableMask = m_table.length - 1;
+      m_sampleSize = 10 * maximum;
+      if (m_sampleSize <= 0) {
+        m_sampleSize = Integer.MAX_VALUE;
+      }
+      m_size = 0;
+    }
+
+    int frequency(Object key) {
+      int hash = spread(key.hashCode());
+      int start = (hash & 3) << 2;
+      int frequency = Integer.MAX_VALUE;
+      for (int i = 0; i < 4; i++) {
+        int index = indexOf(hash, i);
+        int count = (int) ((m_table[index] >>> ((start + i) << 2)) & 0xfL);
+        frequency = Math.min(frequency, count);
+      }
+      return frequency;
+    }
+
+    void increment(Object key) {
+      int hash = spread(key.hashCode());
+      int start = (hash & 3) << 2;
+      boolean added = false;
+      for (int i = 0; i < 4; i++) {
+        added |= incrementAt(indexOf(hash, i), start + i);
+      }
+      if (added && ++m_size == m_sampleSize) {
+        reset();
+      }
+    }
+
+    private boolean incrementAt(int i, int j) {
+      int offset = j << 2;
+      long mask = 0xfL << offset;
+      if ((m_table[i] & mask) != mask) {
+        m_table[i] += 1L << offset;
+        return true;
+      }
+      return false;
+    }
+
+    private void reset() {
+      int count = 0;
+      for (int i = 0; i < m_table.length; i++) {
+        count += Long.bitCount(m_table[i] & ONE_MASK);
+        m_table[i] = (m_table[i] >>> 1) & RESET_MASK;
+      }
+      m_size = (m_size >>> 1) - (count >>> 2);
+    }
+
+    private int indexOf(int item, int i) {
+      long hash = (item + SEED[i]) * SEED[i];
+      hash += hash >>> 32;
+      return ((int) hash) & m_tableMask;
+    }
+
+    private static int spread(int x) {
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      return (x >>> 16) ^ x;
+    }
+  }
+}
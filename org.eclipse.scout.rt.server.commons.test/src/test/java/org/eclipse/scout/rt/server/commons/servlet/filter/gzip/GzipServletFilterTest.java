@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class GzipServletFilterTest {
+
+  private static final String CONTENT = "{\"events\":[" + StringUtility.repeat("{\"type\":\"property\"},", 100) + "{}]}";
+
+  private GzipServletFilter m_filter;
+  private ByteArrayOutputStream m_out;
+  private HttpServletRequest m_req;
+  private HttpServletResponse m_resp;
+  private AsyncContext m_asyncContext;
+  private AtomicBoolean m_asyncStarted;
+  private AtomicReference<AsyncListener> m_asyncListener;
+
+  @Before
+  public void before() throws Exception {
+    m_filter = new GzipServletFilter();
+    m_filter.init(mock(FilterConfig.class));
+
+    m_out = new ByteArrayOutputStream();
+    m_asyncStarted = new AtomicBoolean();
+    m_asyncListener = new AtomicReference<>();
+    m_asyncContext = mock(AsyncContext.class);
+    doAnswer(invocation -> {
+      m_asyncListener.set(invocation.getArgument(0));
+      return null;
+    }).when(m_asyncContext).addListener(any(AsyncListener.class));
+
+    m_req = mock(HttpServletRequest.class);
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn(GzipServletFilter.GZIP);
+    when(m_req.isAsyncSupported()).thenReturn(true);
+    when(m_req.isAsyncStarted()).thenAnswer(invocation -> m_asyncStarted.get());
+    when(m_req.startAsync(any(), any())).thenAnswer(invocation -> {
+      m_asyncStarted.set(true);
+      return m_asyncContext;
+    });
+    when(m_req.getAsyncContext()).thenAnswer(invocation -> m_asyncStarted.get() ? m_asyncContext : null);
+
+    m_resp = mock(HttpServletResponse.class);
+    when(m_resp.getContentType()).thenReturn("application/json");
+    when(m_resp.getCharacterEncoding()).thenReturn(StandardCharsets.UTF_8.name());
+    when(m_resp.getOutputStream()).thenReturn(new P_ServletOutputStream(m_out));
+  }
+
+  @Test
+  public void testSynchronousRequest() throws Exception {
+    m_filter.doFilter(m_req, m_resp, (req, resp) -> resp.getOutputStream().write(CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+    verify(m_resp).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    assertEquals(CONTENT, gunzip(m_out.toByteArray()));
+  }
+
+  @Test
+  public void testAsyncPollRequest() throws Exception {
+    AtomicReference<HttpServletRequest> asyncReq = new AtomicReference<>();
+    AtomicReference<HttpServletResponse> asyncResp = new AtomicReference<>();
+    AtomicReference<AsyncContext> asyncContext = new AtomicReference<>();
+    m_filter.doFilter(m_req, m_resp, (req, resp) -> {
+      // like a suspended poll request: start async processing and return without writing the response
+      asyncReq.set((HttpServletRequest) req);
+      asyncResp.set((HttpServletResponse) resp);
+      asyncContext.set(req.startAsync(req, resp));
+    });
+
+    // nothing is written when the filter chain returns
+    assertTrue(asyncReq.get().isAsyncStarted());
+    assertSame(asyncContext.get(), asyncReq.get().getAsyncContext());
+    assertEquals(0, m_out.size());
+
+    // the response is written later by another thread and the request is completed
+    AtomicInteger sizeOnComplete = new AtomicInteger(-1);
+    doAnswer(invocation -> {
+      sizeOnComplete.set(m_out.size());
+      return null;
+    }).when(m_asyncContext).complete();
+    asyncResp.get().getOutputStream().write(CONTENT.getBytes(StandardCharsets.UTF_8));
+    asyncContext.get().complete();
+
+    // the compressed response was finished before the request was completed
+    verify(m_asyncContext).complete();
+    assertEquals(m_out.size(), sizeOnComplete.get());
+    assertEquals(CONTENT, gunzip(m_out.toByteArray()));
+
+    // the container notifies the listener, the response is not finished twice
+    m_asyncListener.get().onComplete(new AsyncEvent(m_asyncContext));
+    assertEquals(CONTENT, gunzip(m_out.toByteArray()));
+  }
+
+  @Test
+  public void testAsyncRequestWithError() throws Exception {
+    AtomicReference<HttpServletResponse> asyncResp = new AtomicReference<>();
+    m_filter.doFilter(m_req, m_resp, (req, resp) -> {
+      asyncResp.set((HttpServletResponse) resp);
+      req.startAsync(req, resp);
+    });
+    asyncResp.get().getOutputStream().write(CONTENT.getBytes(StandardCharsets.UTF_8));
+
+    // e.g. the client closed the connection: the compressed response is finished by the listener
+    m_asyncListener.get().onError(new AsyncEvent(m_asyncContext));
+    assertEquals(CONTENT, gunzip(m_out.toByteArray()));
+  }
+
+  protected static String gunzip(byte[] bytes) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      return new String(IOUtility.readBytes(in), StandardCharsets.UTF_8);
+    }
+  }
+
+  protected static class P_ServletOutputStream extends ServletOutputStream {
+
+    private final ByteArrayOutputStream m_out;
+
+    public P_ServletOutputStream(ByteArrayOutputStream out) {
+      m_out = out;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      // NOP
+    }
+
+    @Override
+    public void write(int b) {
+      m_out.write(b);
+    }
+  }
+}
@@ -22,12 +22,16 @@ import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractMapConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringListConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.healthcheck.RemoteHealthChecker;
 import org.eclipse.scout.rt.server.commons.servlet.ContentSecurityPolicy;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceCache;
 
 public final class ServerCommonsConfigProperties {
 
@@ -161,4 +165,42 @@ public final class ServerCommonsConfigProperties {
       return "URIs to DER (Base64) encoded certificate files that should be trusted. The URI may refer to a local file or a resource on the classpath (use classpath: prefix). The default value is an empty list.";
     }
   }
+
+  public static class HttpResourceCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 128L * 1024 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum number of bytes the %s may hold (raw and precompressed content of all resources). "
+          + "If exceeded, the least valuable resources are evicted. The default value is 128 MB.", HttpResourceCache.class.getSimpleName());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.resourceCache.maxSize";
+    }
+  }
+
+  public static class HttpResourceCacheGzipMinSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 256;
+    }
+
+    @Override
+    public String description() {
+      return String.format("Minimum number of bytes of a cached resource for which the %s keeps a precompressed gzip variant. "
+          + "Smaller resources are always sent uncompressed. The default value is 256 bytes.", HttpCacheObject.class.getSimpleName());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.resourceCache.gzipMinSize";
+    }
+  }
 }
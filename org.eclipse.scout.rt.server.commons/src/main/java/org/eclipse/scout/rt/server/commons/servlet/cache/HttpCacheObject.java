@@ -9,25 +9,50 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.MappedBinaryContent;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheGzipMinSizeProperty;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 
 /**
  * Used in {@link HttpCacheControl} in order to decide caching strategy and set caching headers
  */
 public class HttpCacheObject implements Serializable {
   private static final long serialVersionUID = 1L;
+  private static final Set<String> GZIP_CONTENT_TYPES = Arrays.stream(StringUtility.split(GzipServletFilter.CONTENT_TYPES, ","))
+      .map(String::trim)
+      .filter(StringUtility::hasText)
+      .collect(Collectors.toSet());
+  private static final byte[] NOT_COMPRESSED = new byte[0];
+  /**
+   * Weight of a resource whose content is not held in memory, so that the cache still limits the number of such
+   * entries.
+   */
+  private static final int BACKED_CONTENT_WEIGHT = 1024;
 
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  /**
+   * Lazily computed gzip variant of the content, {@link #NOT_COMPRESSED} if compression is not worthwhile.
+   */
+  private transient volatile byte[] m_gzipContent;
 
   /**
    * @param cacheKey
@@ -61,12 +86,73 @@ public class HttpCacheObject implements Serializable {
    *         {@link BinaryResource#getFingerprint()} are both not -1
    */
   public String createETag() {
-    if (m_resource.getFingerprint() != -1L && m_resource.getContentLength() != -1L) {
-      return "W/\"" + m_resource.getContentLength() + "-" + m_resource.getFingerprint() + "\"";
+    if (m_resource.getContentLengthLong() != -1L && m_resource.getFingerprint() != -1L) {
+      return "W/\"" + m_resource.getContentLengthLong() + "-" + m_resource.getFingerprint() + "\"";
     }
     return null;
   }
 
+  /**
+   * The gzip variant is computed once on first access (see {@link HttpResourceCache#put(HttpCacheObject)}) and reused
+   * for all subsequent requests.
+   *
+   * @return gzip compressed content of the resource or <code>null</code> if the content type is not compressible, the
+   *         content is too small or compression does not reduce its size
+   */
+  public byte[] getGzipContent() {
+    byte[] gzipContent = m_gzipContent;
+    if (gzipContent == null) {
+      gzipContent = createGzipContent();
+      m_gzipContent = gzipContent;
+    }
+    return gzipContent == NOT_COMPRESSED ? null : gzipContent;
+  }
+
+  protected byte[] createGzipContent() {
+    if (!m_resource.hasContentInMemory()) {
+      return NOT_COMPRESSED; // do not load large file backed resources into memory
+    }
+    byte[] content = m_resource.getContent();
+    String contentType = m_resource.getContentType();
+    if (content == null || content.length < CONFIG.getPropertyValue(HttpResourceCacheGzipMinSizeProperty.class) || contentType == null) {
+      return NOT_COMPRESSED;
+    }
+    // Content type may contain the charset parameter separated by ; -> remove it
+    if (!GZIP_CONTENT_TYPES.contains(contentType.split(";")[0].trim())) {
+      return NOT_COMPRESSED;
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 3);
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(content);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.size() < content.length ? bytes.toByteArray() : NOT_COMPRESSED;
+  }
+
+  /**
+   * @return number of bytes held by this object (raw and gzip content), used to bound the size of the
+   *         {@link HttpResourceCache}. A memory-mapped content counts with its length, any other backing content (e.g.
+   *         a file) with a small constant weight.
+   */
+  public int getWeight() {
+    long weight;
+    if (m_resource.hasContentInMemory()) {
+      byte[] content = m_resource.getContent();
+      weight = content == null ? 0L : content.length;
+    }
+    else if (m_resource.getBinaryContent() instanceof MappedBinaryContent) {
+      weight = m_resource.getContentLengthLong();
+    }
+    else {
+      weight = BACKED_CONTENT_WEIGHT;
+    }
+    byte[] gzipContent = getGzipContent();
+    weight += gzipContent == null ? 0L : gzipContent.length;
+    return (int) Math.min(Integer.MAX_VALUE, weight);
+  }
+
   public void addHttpResponseInterceptor(IHttpResponseInterceptor interceptor) {
     m_httpResponseInterceptors.add(interceptor);
   }
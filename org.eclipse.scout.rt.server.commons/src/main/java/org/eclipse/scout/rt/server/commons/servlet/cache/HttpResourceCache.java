@@ -9,29 +9,47 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheMaxSizeProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A server side cache use to store web resources like HTML, CSS and JS.
+ * <p>
+ * The cache is bounded by the total number of bytes of its resources (see {@link HttpResourceCacheMaxSizeProperty}),
+ * lookups do not block each other. Compressible resources are stored together with their gzip variant (see
+ * {@link HttpCacheObject#getGzipContent()}), so that they do not need to be compressed again for every request.
  */
 @Bean
 public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  private final ConcurrentTinyLfuMap<HttpCacheKey, HttpCacheObject> m_cache;
+
+  public HttpResourceCache() {
+    this(CONFIG.getPropertyValue(HttpResourceCacheMaxSizeProperty.class));
+  }
+
+  /**
+   * @param maxSize
+   *          maximum number of bytes of all cached resources
+   */
+  public HttpResourceCache(long maxSize) {
+    m_cache = new ConcurrentTinyLfuMap<>(maxSize, (key, obj) -> obj.getWeight(), 0, TimeUnit.MILLISECONDS, false);
+  }
 
   @Override
   public boolean put(HttpCacheObject obj) {
     if (!obj.isCachingAllowed()) {
       return false;
     }
+    obj.getGzipContent(); // precompress before the object becomes visible to other requests
     m_cache.put(obj.getCacheKey(), obj);
     LOG.debug("Stored object in cache: {}", obj.getCacheKey());
     return true;
@@ -56,4 +74,12 @@ public class HttpResourceCache implements IHttpResourceCache {
     LOG.debug("Clear resource cache");
     m_cache.clear();
   }
+
+  /**
+   * @return number of bytes of all cached resources
+   */
+  public long getSize() {
+    m_cache.cleanUp();
+    return m_cache.getWeightedSize();
+  }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Request wrapper used by {@link GzipServletFilter} for requests with a compressed response. If the request is put into
+ * asynchronous mode, the response is written after the filter chain returned. In this case the compressed response is
+ * finished when the asynchronous processing is completed ({@link AsyncContext#complete()}), before the container
+ * closes the response. If the asynchronous processing ends otherwise (e.g. because of an error), the compressed
+ * response is finished by an {@link AsyncListener} to release its resources.
+ *
+ * @since 23.2
+ */
+public class GzipAsyncServletRequestWrapper extends HttpServletRequestWrapper {
+
+  private static final Logger LOG = LoggerFactory.getLogger(GzipAsyncServletRequestWrapper.class);
+
+  private final GzipServletResponseWrapper m_gzipResponse;
+  private final AtomicBoolean m_finished = new AtomicBoolean();
+  private volatile P_GzipAsyncContext m_asyncContext;
+
+  public GzipAsyncServletRequestWrapper(HttpServletRequest request, GzipServletResponseWrapper gzipResponse) {
+    super(request);
+    m_gzipResponse = gzipResponse;
+  }
+
+  @Override
+  public AsyncContext startAsync() throws IllegalStateException {
+    return wrap(super.startAsync());
+  }
+
+  @Override
+  public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) throws IllegalStateException {
+    return wrap(super.startAsync(servletRequest, servletResponse));
+  }
+
+  @Override
+  public AsyncContext getAsyncContext() {
+    AsyncContext asyncContext = super.getAsyncContext();
+    P_GzipAsyncContext gzipAsyncContext = m_asyncContext;
+    if (gzipAsyncContext != null && gzipAsyncContext.getDelegate() == asyncContext) {
+      return gzipAsyncContext;
+    }
+    return asyncContext;
+  }
+
+  protected AsyncContext wrap(AsyncContext asyncContext) {
+    asyncContext.addListener(new P_FinishListener());
+    P_GzipAsyncContext gzipAsyncContext = new P_GzipAsyncContext(asyncContext);
+    m_asyncContext = gzipAsyncContext;
+    return gzipAsyncContext;
+  }
+
+  /**
+   * Finishes the compressed response (at most once).
+   */
+  public void finish() throws IOException {
+    if (m_finished.compareAndSet(false, true)) {
+      m_gzipResponse.finish();
+    }
+  }
+
+  protected void finishQuietly() {
+    try {
+      finish();
+    }
+    catch (IOException e) {
+      LOG.debug("Failed to finish compressed response", e);
+    }
+  }
+
+  protected class P_GzipAsyncContext implements AsyncContext {
+
+    private final AsyncContext m_delegate;
+
+    public P_GzipAsyncContext(AsyncContext delegate) {
+      m_delegate = delegate;
+    }
+
+    public AsyncContext getDelegate() {
+      return m_delegate;
+    }
+
+    @Override
+    public void complete() {
+      finishQuietly();
+      m_delegate.complete();
+    }
+
+    @Override
+    public ServletRequest getRequest() {
+      return m_delegate.getRequest();
+    }
+
+    @Override
+    public ServletResponse getResponse() {
+      return m_delegate.getResponse();
+    }
+
+    @Override
+    public boolean hasOriginalRequestAndResponse() {
+      return m_delegate.hasOriginalRequestAndResponse();
+    }
+
+    @Override
+    public void dispatch() {
+      m_delegate.dispatch();
+    }
+
+    @Override
+    public void dispatch(String path) {
+      m_delegate.dispatch(path);
+    }
+
+    @Override
+    public void dispatch(ServletContext context, String path) {
+      m_delegate.dispatch(context, path);
+    }
+
+    @Override
+    public void start(Runnable run) {
+      m_delegate.start(run);
+    }
+
+    @Override
+    public void addListener(AsyncListener listener) {
+      m_delegate.addListener(listener);
+    }
+
+    @Override
+    public void addListener(AsyncListener listener, ServletRequest servletRequest, ServletResponse servletResponse) {
+      m_delegate.addListener(listener, servletRequest, servletResponse);
+    }
+
+    @Override
+    public <T extends AsyncListener> T createListener(Class<T> clazz) throws ServletException {
+      return m_delegate.createListener(clazz);
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+      m_delegate.setTimeout(timeout);
+    }
+
+    @Override
+    public long getTimeout() {
+      return m_delegate.getTimeout();
+    }
+  }
+
+  protected class P_FinishListener implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      finishQuietly();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      finishQuietly();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      // NOP: the application is expected to complete the request
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // NOP: a new listener is added when the asynchronous processing is restarted
+    }
+  }
+}
@@ -38,6 +38,9 @@ import org.slf4j.LoggerFactory;
  * <li><b>enable_empty_content_type_logging:</b> enables logging of empty content type of the response. (default value =
  * <code>true</code>)
  * </ul>
+ * Supports asynchronous requests: if the request is put into asynchronous mode, the compressed response is finished
+ * when the asynchronous processing completes (see {@link GzipAsyncServletRequestWrapper}). The filter must be declared
+ * with <code>async-supported</code> in this case.
  */
 public class GzipServletFilter implements Filter {
   private static final Logger LOG = LoggerFactory.getLogger(GzipServletFilter.class);
@@ -76,16 +79,20 @@ public class GzipServletFilter implements Filter {
       }
     }
 
+    GzipAsyncServletRequestWrapper gzipAsyncReq = null;
     if (m_minSize >= 0 && requestAcceptsGzipEncoding(req)) {
-      resp = new GzipServletResponseWrapper(resp, req, m_minSize, Collections.unmodifiableSet(m_contentTypes), m_enableEmptyContentTypeLogging);
+      GzipServletResponseWrapper gzipResp = new GzipServletResponseWrapper(resp, req, m_minSize, Collections.unmodifiableSet(m_contentTypes), m_enableEmptyContentTypeLogging);
+      resp = gzipResp;
+      gzipAsyncReq = new GzipAsyncServletRequestWrapper(req, gzipResp);
+      req = gzipAsyncReq;
     }
 
     chain.doFilter(req, resp);
 
-    if (resp instanceof GzipServletResponseWrapper) {
-      GzipServletResponseWrapper gzipResp = (GzipServletResponseWrapper) resp;
-      gzipResp.finish();
+    if (gzipAsyncReq != null && !gzipAsyncReq.isAsyncStarted()) {
+      gzipAsyncReq.finish();
     }
+    // otherwise the response is written asynchronously and finished when the asynchronous processing completes
   }
 
   protected boolean requestHasGzipEncoding(HttpServletRequest req) {
@@ -35,6 +35,10 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
   private final int m_compressThreshold;
   private final Set<String> m_contentTypes;
   private final boolean m_enableEmptyContentTypeLogging;
+  /**
+   * <code>true</code> if the application writes already encoded (e.g. precompressed) content
+   */
+  private boolean m_contentEncoded;
 
   public GzipServletResponseWrapper(HttpServletResponse response, HttpServletRequest request, int compressThreshold, Set<String> contentTypes, boolean enableEmptyContentTypeLogging) {
     super(response);
@@ -66,7 +70,7 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
   }
 
   protected ServletOutputStream getOrCreateServletOutputStream() throws IOException {
-    if (!requiresGzipCompression(getContentType())) {
+    if (m_contentEncoded || !requiresGzipCompression(getContentType())) {
       return getResponse().getOutputStream();
     }
     return createGzipServletOutputStream(m_compressThreshold, getResponse());
@@ -91,26 +95,41 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
   @Override
   public void setContentLength(int len) {
     // ignored: content length zipped content != content length unzipped content
+    if (m_contentEncoded) {
+      super.setContentLength(len);
+    }
   }
 
   @Override
   public void setHeader(String name, String value) {
-    if (HTTP.CONTENT_LEN.equalsIgnoreCase(name)) {
+    if (HTTP.CONTENT_LEN.equalsIgnoreCase(name) && !m_contentEncoded) {
       // see setContentLength
       return;
     }
+    checkContentEncoding(name);
     super.setHeader(name, value);
   }
 
   @Override
   public void addHeader(String name, String value) {
-    if (HTTP.CONTENT_LEN.equalsIgnoreCase(name)) {
+    if (HTTP.CONTENT_LEN.equalsIgnoreCase(name) && !m_contentEncoded) {
       // see setContentLength
       return;
     }
+    checkContentEncoding(name);
     super.addHeader(name, value);
   }
 
+  /**
+   * If the application sets the content encoding itself (e.g. because it serves precompressed content), the content
+   * is passed through unchanged and the content length is not suppressed anymore.
+   */
+  protected void checkContentEncoding(String headerName) {
+    if (GzipServletFilter.CONTENT_ENCODING.equalsIgnoreCase(headerName) && m_outputStream == null) {
+      m_contentEncoded = true;
+    }
+  }
+
   @Override
   public void flushBuffer() throws IOException {
     if (m_writer != null) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.holders.ITableBeanRowHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.fixture.TableFieldBeanData;
+import org.eclipse.scout.rt.server.jdbc.fixture.TableFieldBeanData.TableFieldBeanDataRowData;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#updateBatch(String, Object...)} (using the mock {@link SqlServiceMock}).
+ *
+ * @since 23.2
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class BatchUpdateTest {
+
+  @Test
+  public void testBatchUpdateFromTableFieldBeanData() {
+    SqlServiceMock sql = new SqlServiceMock();
+    TableFieldBeanData tableData = new TableFieldBeanData();
+    createRow(tableData, true, 3, "lorem");
+    createRow(tableData, false, 6, "ipsum");
+
+    int[] updateCounts = sql.updateBatch("UDPATE my_table SET a=:{active}, s=:{state} where n=:{name} ", tableData);
+
+    assertArrayEquals(new int[]{1, 1}, updateCounts);
+    assertEquals("Connection.prepareStatement(UDPATE my_table SET a = ?, s = ? where n = ?)\n"
+        + "PreparedStatement.setObject(1, 1, 4)\n"
+        + "PreparedStatement.setObject(2, 3, 4)\n"
+        + "PreparedStatement.setObject(3, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 0, 4)\n"
+        + "PreparedStatement.setObject(2, 6, 4)\n"
+        + "PreparedStatement.setObject(3, ipsum, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testBatchUpdateInChunks() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setJdbcBatchSize(2);
+    Long[] roles = new Long[]{1L, 2L, 3L, 4L, 5L};
+
+    int[] updateCounts = sql.updateBatch("UDPATE this_table SET v = :value where r = :{roles}", new NVPair("roles", roles), new NVPair("value", "lorem"));
+
+    assertArrayEquals(new int[]{1, 1, 1, 1, 1}, updateCounts);
+    String protocol = sql.getProtocol().toString();
+    assertEquals(1, countOccurrences(protocol, "Connection.prepareStatement("));
+    assertEquals(5, countOccurrences(protocol, "PreparedStatement.addBatch()"));
+    assertEquals(3, countOccurrences(protocol, "PreparedStatement.executeBatch()"));
+  }
+
+  @Test
+  public void testBatchUpdateWithoutBatchBind() {
+    SqlServiceMock sql = new SqlServiceMock();
+    int[] updateCounts = sql.updateBatch("UDPATE this_table SET v = :value", new NVPair("value", "lorem"));
+    assertArrayEquals(new int[]{1}, updateCounts);
+  }
+
+  @Test
+  public void testBatchUpdatePlainBindsChangeStatement() {
+    SqlServiceMock sql = new SqlServiceMock();
+    Long[] roles = new Long[]{1L, 1L, 2L};
+
+    int[] updateCounts = sql.updateBatch("UDPATE this_table SET v = 'x' where r = #{roles}#", new NVPair("roles", roles));
+
+    assertArrayEquals(new int[]{1, 1, 1}, updateCounts);
+    String protocol = sql.getProtocol().toString();
+    assertEquals(2, countOccurrences(protocol, "Connection.prepareStatement("));
+    assertEquals(2, countOccurrences(protocol, "PreparedStatement.executeBatch()"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBatchSize() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setJdbcBatchSize(0);
+    sql.updateBatch("UDPATE this_table SET v = :value", new NVPair("value", "lorem"));
+  }
+
+  private static void createRow(TableFieldBeanData tableBeanData, Boolean active, Integer state, String name) {
+    TableFieldBeanDataRowData row = tableBeanData.addRow(ITableBeanRowHolder.STATUS_UPDATED);
+    row.setActive(active);
+    row.setState(state);
+    row.setName(name);
+  }
+
+  private static int countOccurrences(String s, String part) {
+    int count = 0;
+    int index = s.indexOf(part);
+    while (index >= 0) {
+      count++;
+      index = s.indexOf(part, index + part.length());
+    }
+    return count;
+  }
+}
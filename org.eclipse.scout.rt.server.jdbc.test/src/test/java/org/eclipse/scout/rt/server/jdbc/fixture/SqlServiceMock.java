@@ -24,6 +24,7 @@ public class SqlServiceMock extends AbstractSqlService {
 
   private final StringBuffer m_protocol;
   private Object[][] m_resultData;
+  private int m_jdbcBatchSize = 1000;
 
   public SqlServiceMock() {
     m_protocol = new StringBuffer();
@@ -48,6 +49,15 @@ public class SqlServiceMock extends AbstractSqlService {
     return m_resultData;
   }
 
+  @Override
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
+  public void setJdbcBatchSize(int jdbcBatchSize) {
+    m_jdbcBatchSize = jdbcBatchSize;
+  }
+
   private void createPlainTextLog(String s, Object... bindBases) {
     if (logger.isInfoEnabled()) {
       String plainTextSql = SQL.createPlainText(s, bindBases);
@@ -89,6 +99,11 @@ public class SqlServiceMock extends AbstractSqlService {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), new PreparedStatementCache(1), getJdbcBatchSize());
+  }
+
   @Override
   protected Connection getTransaction() {
     return new ConnectionMock(m_protocol, getResultData()).getConnection();
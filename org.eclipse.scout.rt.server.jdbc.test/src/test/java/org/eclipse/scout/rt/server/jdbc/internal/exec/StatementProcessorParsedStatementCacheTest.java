@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatement;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that a {@link StatementProcessor} (as constructed by <code>SQL.select</code> and <code>SQL.update</code>) uses
+ * the {@link ParsedStatementCache}. The performance with and without cache is compared by the
+ * <code>StatementProcessorBenchmark</code> of the module <code>org.eclipse.scout.rt.platform.bench</code>.
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class StatementProcessorParsedStatementCacheTest {
+
+  private static final String STATEMENT = "SELECT P.NAME FROM PERSON P WHERE P.PERSON_NR = :personNr AND P.STATUS IN :status";
+
+  private AbstractSqlService m_sqlService;
+  private P_RecordingParsedStatementCache m_cache;
+  private IBean<?> m_cacheBean;
+
+  @Before
+  public void before() {
+    m_sqlService = new AbstractSqlService() {
+    };
+    BeanInstanceUtil.initializeBeanInstance(m_sqlService);
+    m_cache = new P_RecordingParsedStatementCache(10_000);
+    m_cacheBean = BeanTestingHelper.get().registerBean(new BeanMetaData(ParsedStatementCache.class, m_cache));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBean(m_cacheBean);
+  }
+
+  @Test
+  public void testSameStatementIsParsedOnce() {
+    StatementProcessor processor1 = new StatementProcessor(m_sqlService, STATEMENT, new Object[]{new NVPair("personNr", 1L), new NVPair("status", new Long[]{1L, 2L})});
+    StatementProcessor processor2 = new StatementProcessor(m_sqlService, STATEMENT, new Object[]{new NVPair("personNr", 7L), new NVPair("status", new Long[]{3L})});
+
+    assertEquals(2, m_cache.getResults().size());
+    assertSame(m_cache.getResults().get(0), m_cache.getResults().get(1));
+    assertEquals(1, m_cache.size());
+
+    // the cached statement is not modified by the binds of a processor
+    assertEquals("SELECT P.NAME FROM PERSON P WHERE P.PERSON_NR = 1 AND ((P.STATUS IN (1,2)))", processor1.createPlainText());
+    assertEquals("SELECT P.NAME FROM PERSON P WHERE P.PERSON_NR = 7 AND ((P.STATUS IN (3)))", processor2.createPlainText());
+  }
+
+  @Test
+  public void testDifferentStatementsAreParsedSeparately() {
+    new StatementProcessor(m_sqlService, STATEMENT, new Object[]{new NVPair("personNr", 1L), new NVPair("status", new Long[]{1L})});
+    new StatementProcessor(m_sqlService, "SELECT P.NAME FROM PERSON P WHERE P.PERSON_NR = :personNr", new Object[]{new NVPair("personNr", 1L)});
+
+    assertEquals(2, m_cache.getResults().size());
+    assertNotSame(m_cache.getResults().get(0), m_cache.getResults().get(1));
+    assertEquals(2, m_cache.size());
+  }
+
+  private static class P_RecordingParsedStatementCache extends ParsedStatementCache {
+
+    private final List<ParsedStatement> m_results = new ArrayList<>();
+
+    P_RecordingParsedStatementCache(long maxSize) {
+      super(maxSize);
+    }
+
+    @Override
+    public ParsedStatement get(String statement) {
+      ParsedStatement parsed = super.get(statement);
+      m_results.add(parsed);
+      return parsed;
+    }
+
+    List<ParsedStatement> getResults() {
+      return m_results;
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.shared.ISession;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * @since 23.2
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolTest {
+
+  private List<Connection> m_createdConnections;
+  private AbstractSqlService m_service;
+  private SqlConnectionPool m_pool;
+
+  @Before
+  public void before() {
+    m_createdConnections = new ArrayList<>();
+    m_service = new SqlServiceMock() {
+      @Override
+      protected void execTestConnection(Connection conn) {
+        // nop
+      }
+    };
+  }
+
+  @After
+  public void after() {
+    ISession.CURRENT.remove();
+    if (m_pool != null) {
+      m_pool.destroy();
+    }
+  }
+
+  @Test
+  public void testReuseIdleConnection() throws Exception {
+    m_pool = createPool(2);
+
+    Connection conn = m_pool.leaseConnection(m_service);
+    assertEquals(1, m_pool.getBusyCount());
+    assertEquals(0, m_pool.getIdleCount());
+
+    m_pool.releaseConnection(conn);
+    assertEquals(0, m_pool.getBusyCount());
+    assertEquals(1, m_pool.getIdleCount());
+
+    assertSame(conn, m_pool.leaseConnection(m_service));
+    assertEquals(1, m_createdConnections.size());
+  }
+
+  @Test
+  public void testSessionAffinity() throws Exception {
+    m_pool = createPool(2);
+    ISession session1 = mockSession("session-1");
+    ISession session2 = mockSession("session-2");
+
+    ISession.CURRENT.set(session1);
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    ISession.CURRENT.set(session2);
+    Connection conn2 = m_pool.leaseConnection(m_service);
+    assertNotSame(conn1, conn2);
+
+    m_pool.releaseConnection(conn1);
+    m_pool.releaseConnection(conn2); // most recently used idle connection
+
+    ISession.CURRENT.set(session1);
+    assertSame(conn1, m_pool.leaseConnection(m_service));
+    ISession.CURRENT.set(session2);
+    assertSame(conn2, m_pool.leaseConnection(m_service));
+  }
+
+  @Test
+  public void testWaitForReleasedConnection() throws Exception {
+    m_pool = createPool(1);
+    Connection conn = m_pool.leaseConnection(m_service);
+
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    try {
+      future.awaitDoneAndGet(200, TimeUnit.MILLISECONDS);
+      fail("pool size exceeded");
+    }
+    catch (TimedOutError e) { // NOSONAR
+      // expected
+    }
+
+    m_pool.releaseConnection(conn);
+    assertSame(conn, future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    assertEquals(1, m_createdConnections.size());
+  }
+
+  @Test
+  public void testCloseDirtyConnection() throws Exception {
+    m_pool = createPool(1);
+    Connection conn = m_pool.leaseConnection(m_service);
+    when(conn.isClosed()).thenReturn(true);
+
+    m_pool.releaseConnection(conn);
+    assertEquals(0, m_pool.getIdleCount());
+
+    Connection conn2 = m_pool.leaseConnection(m_service);
+    assertNotSame(conn, conn2);
+    assertEquals(2, m_createdConnections.size());
+  }
+
+  @Test
+  public void testDestroyWakesWaitingThreads() throws Exception {
+    m_pool = createPool(1);
+    m_pool.leaseConnection(m_service);
+
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput()
+        .withExceptionHandling(null, false));
+    try {
+      future.awaitDoneAndGet(200, TimeUnit.MILLISECONDS);
+      fail("pool size exceeded");
+    }
+    catch (TimedOutError e) { // NOSONAR
+      // expected
+    }
+
+    m_pool.destroy();
+    try {
+      future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+      fail("pool destroyed");
+    }
+    catch (AssertionException e) { // NOSONAR
+      // expected
+    }
+  }
+
+  protected SqlConnectionPool createPool(int poolSize) {
+    SqlConnectionPool pool = new SqlConnectionPool() {
+      @Override
+      protected Connection createConnection(AbstractSqlService service) throws SQLException {
+        Connection conn = mock(Connection.class);
+        m_createdConnections.add(conn);
+        return conn;
+      }
+    };
+    pool.initialize("test", poolSize, TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(1));
+    return pool;
+  }
+
+  protected ISession mockSession(String id) {
+    ISession session = mock(ISession.class);
+    when(session.getId()).thenReturn(id);
+    return session;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ParsedStatementCache} and {@link ParsedStatement}
+ *
+ * @since 23.2
+ */
+public class ParsedStatementCacheTest {
+
+  private static final String STATEMENT = "SELECT A, B FROM T WHERE C = :c AND D IN :d INTO :a, :b";
+
+  @Test
+  public void testCached() {
+    ParsedStatementCache cache = new ParsedStatementCache(1000);
+    ParsedStatement parsed = cache.get(STATEMENT);
+    assertSame(parsed, cache.get(STATEMENT));
+    assertEquals(1, cache.size());
+
+    cache.clear();
+    assertNotSame(parsed, cache.get(STATEMENT));
+  }
+
+  @Test
+  public void testDisabled() {
+    ParsedStatementCache cache = new ParsedStatementCache(0);
+    assertNotSame(cache.get(STATEMENT), cache.get(STATEMENT));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testStatementLargerThanCache() {
+    ParsedStatementCache cache = new ParsedStatementCache(10);
+    assertNotNull(cache.get(STATEMENT));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testCreateBindModelReturnsCopies() {
+    ParsedStatement parsed = ParsedStatement.parse(STATEMENT);
+    BindModel model1 = parsed.createBindModel();
+    BindModel model2 = parsed.createBindModel();
+    assertEquals("SELECT A, B FROM T WHERE C = :c AND D IN :d", model1.getFilteredStatement());
+
+    IToken[] ioTokens1 = model1.getIOTokens();
+    IToken[] ioTokens2 = model2.getIOTokens();
+    assertEquals(2, ioTokens1.length);
+    assertNotSame(ioTokens1[0], ioTokens2[0]);
+
+    // modifications of one execution must not be visible to others
+    ValueInputToken in = (ValueInputToken) ioTokens1[1];
+    in.setParsedOp(null);
+    in.setParsedAttribute(null);
+    in.setReplaceToken("D IN (1,2)");
+    assertEquals("SELECT A, B FROM T WHERE C = :c AND D IN (1,2)", model1.getFilteredStatement());
+    assertEquals("SELECT A, B FROM T WHERE C = :c AND D IN :d", model2.getFilteredStatement());
+    assertEquals("SELECT A, B FROM T WHERE C = :c AND D IN :d", parsed.createBindModel().getFilteredStatement());
+
+    ValueOutputToken[] intoTokens1 = parsed.createIntoTokens();
+    ValueOutputToken[] intoTokens2 = parsed.createIntoTokens();
+    assertEquals(2, intoTokens1.length);
+    assertEquals("a", intoTokens1[0].getName());
+    assertTrue(intoTokens1[0].isSelectInto());
+    intoTokens1[0].setReplaceToken("?");
+    assertEquals(":a", intoTokens2[0].getReplaceToken());
+  }
+}
@@ -45,6 +45,7 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
@@ -90,6 +91,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final int m_jdbcBatchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -116,6 +118,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
@@ -253,6 +256,15 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 25;
   }
 
+  /**
+   * @return maximum number of rows sent to the database in one JDBC batch, see {@link #insertBatch(String, Object...)}
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(165)
+  protected int getConfiguredJdbcBatchSize() {
+    return 1000;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -436,6 +448,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -548,13 +564,20 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     }
   }
 
-  protected synchronized SqlConnectionPool getSqlConnectionPool() {
+  protected SqlConnectionPool getSqlConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
-    if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
-      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+    SqlConnectionPool pool = m_pool;
+    if (pool != null) {
+      return pool;
+    }
+    synchronized (this) {
+      if (m_pool == null) {
+        pool = BEANS.get(SqlConnectionPool.class);
+        pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+        m_pool = pool;
+      }
+      return m_pool;
     }
-    return m_pool;
   }
 
   /**
@@ -649,6 +672,21 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), getJdbcBatchSize());
+  }
+
+  @Override
+  public int[] deleteBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), getJdbcBatchSize());
+  }
+
   @Override
   public boolean callStoredProcedure(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processStoredProcedure(getTransaction(), getStatementCache(), null);
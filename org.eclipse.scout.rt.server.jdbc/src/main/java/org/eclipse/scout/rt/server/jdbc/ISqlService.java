@@ -267,6 +267,57 @@ public interface ISqlService extends IService {
    */
   int delete(String s, Object... bindBases);
 
+  /**
+   * insert rows using JDBC batch execution
+   * <p>
+   * Unlike {@link #insert(String, Object...)}, which executes the statement once per batch value (<code>:{name}</code>
+   * or <code>:tableHolder.column</code>), all batch values are bound row by row into the same prepared statement and
+   * sent to the database in chunks (see {@link AbstractSqlService#getJdbcBatchSize()}).
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   * <p>
+   * The default implementation falls back to {@link #insert(String, Object...)} and returns a single element with the
+   * total number of inserted rows.
+   * </p>
+   *
+   * @return number of inserted rows per batch value, may contain {@link java.sql.Statement#SUCCESS_NO_INFO} if the
+   *         driver does not report it
+   * @since 23.2
+   */
+  default int[] insertBatch(String s, Object... bindBases) {
+    return new int[]{insert(s, bindBases)};
+  }
+
+  /**
+   * update rows using JDBC batch execution, see {@link #insertBatch(String, Object...)}
+   * <p>
+   * The default implementation falls back to {@link #update(String, Object...)} and returns a single element with the
+   * total number of updated rows.
+   * </p>
+   *
+   * @return number of updated rows per batch value
+   * @since 23.2
+   */
+  default int[] updateBatch(String s, Object... bindBases) {
+    return new int[]{update(s, bindBases)};
+  }
+
+  /**
+   * delete rows using JDBC batch execution, see {@link #insertBatch(String, Object...)}
+   * <p>
+   * The default implementation falls back to {@link #delete(String, Object...)} and returns a single element with the
+   * total number of deleted rows.
+   * </p>
+   *
+   * @return number of deleted rows per batch value
+   * @since 23.2
+   */
+  default int[] deleteBatch(String s, Object... bindBases) {
+    return new int[]{delete(s, bindBases)};
+  }
+
   /**
    * call a stored procedure
    * <p>
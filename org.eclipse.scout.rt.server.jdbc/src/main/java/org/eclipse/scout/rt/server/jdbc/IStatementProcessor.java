@@ -21,6 +21,16 @@ public interface IStatementProcessor {
 
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Executes the statement for all input batches using {@link java.sql.PreparedStatement#addBatch()} and
+   * {@link java.sql.PreparedStatement#executeBatch()}.
+   *
+   * @param batchSize
+   *          maximum number of rows sent to the database at once
+   * @return update count of every input batch
+   */
+  int[] processModificationBatch(Connection conn, IStatementCache cache, int batchSize);
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
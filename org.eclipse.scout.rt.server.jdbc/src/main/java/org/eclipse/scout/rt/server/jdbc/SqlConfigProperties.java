@@ -204,6 +204,19 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent to the database in one JDBC batch by the batch operations (e.g. SQL.insertBatch). The default value is 1000.";
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -216,4 +229,23 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 4_000_000;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum total length (number of characters) of the SQL statements whose parsed binds are cached, so that frequently executed statements are not parsed again. "
+          + "0 disables the cache. The default value is 4000000.";
+    }
+  }
 }
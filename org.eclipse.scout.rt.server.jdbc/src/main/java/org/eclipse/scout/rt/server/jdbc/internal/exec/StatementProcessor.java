@@ -53,9 +53,8 @@ import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatement;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -138,10 +137,8 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
-      //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      ParsedStatement parsedStatement = BEANS.get(ParsedStatementCache.class).get(m_originalStm);
+      m_bindModel = parsedStatement.createBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -174,7 +171,7 @@ public class StatementProcessor implements IStatementProcessor {
         }
       }
       // add select into out binds
-      for (IToken t : intoModel.getOutputTokens()) {
+      for (IToken t : parsedStatement.createIntoTokens()) {
         IBindOutput out = createOutput(t, m_bindBases);
         if (!out.isSelectInto()) {
           throw new ProcessingException("out parameter is not a 'select into': {}", out);
@@ -456,6 +453,96 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings("resource")
+  @Override
+  public int[] processModificationBatch(Connection conn, IStatementCache cache, int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be positive [batchSize=" + batchSize + "]");
+    }
+    PreparedStatement ps = null;
+    String psStm = null;
+    int pendingRows = 0;
+    List<int[]> updateCounts = new ArrayList<>();
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && !m_currentInputStm.equals(psStm)) {
+          // the statement text depends on the values (e.g. plain binds or IN lists): execute the pending rows first
+          if (pendingRows > 0) {
+            updateCounts.add(executeBatch(ps));
+            pendingRows = 0;
+          }
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          psStm = m_currentInputStm;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        pendingRows++;
+        if (pendingRows >= batchSize) {
+          updateCounts.add(executeBatch(ps));
+          pendingRows = 0;
+        }
+      }
+      if (pendingRows > 0) {
+        updateCounts.add(executeBatch(ps));
+      }
+      return concat(updateCounts);
+    }
+    catch (SQLException | RuntimeException e) {
+      clearBatch(ps);
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  private int[] executeBatch(PreparedStatement ps) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      return ps.executeBatch();
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
+  /**
+   * Cached statements are reused, therefore rows of a failed batch must not remain.
+   */
+  private void clearBatch(PreparedStatement ps) {
+    if (ps == null) {
+      return;
+    }
+    try {
+      ps.clearBatch();
+    }
+    catch (SQLException | RuntimeException e) {
+      LOG.debug("Could not clear batch of prepared statement", e);
+    }
+  }
+
+  private static int[] concat(List<int[]> arrays) {
+    int length = 0;
+    for (int[] a : arrays) {
+      length += a.length;
+    }
+    int[] result = new int[length];
+    int pos = 0;
+    for (int[] a : arrays) {
+      System.arraycopy(a, 0, result, pos, a.length);
+      pos += a.length;
+    }
+    return result;
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -10,11 +10,41 @@
 package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @SuppressWarnings({"squid:S00116", "squid:ClassVariableVisibilityCheck"})
 class PoolEntry {
+  static final int STATE_IDLE = 0;
+  static final int STATE_BUSY = 1;
+  static final int STATE_CLOSED = 2;
+
   public Connection conn;
   public long createTime;
-  public long leaseBegin;
+  public volatile long leaseBegin;
   public int leaseCount;
+  /**
+   * Ownership of this entry. Only the thread which moves the state from {@link #STATE_IDLE} to {@link #STATE_BUSY} may
+   * use the connection.
+   */
+  public final AtomicInteger state = new AtomicInteger(STATE_BUSY);
+
+  boolean tryLease() {
+    return state.compareAndSet(STATE_IDLE, STATE_BUSY);
+  }
+
+  void markIdle() {
+    state.set(STATE_IDLE);
+  }
+
+  void markClosed() {
+    state.set(STATE_CLOSED);
+  }
+
+  boolean isIdle() {
+    return state.get() == STATE_IDLE;
+  }
+
+  boolean isClosed() {
+    return state.get() == STATE_CLOSED;
+  }
 }
@@ -12,14 +12,19 @@ package org.eclipse.scout.rt.server.jdbc.internal.pool;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Deque;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
@@ -29,6 +34,7 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.TimingUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.shared.ISession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +49,11 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
  * System-wide connection pool for pooling connections There is one pool for every ISqlService sub class type If
  * possible, every scout Session is provided with always the same connection it had in the last request this class is
  * thread-safe
+ * <p>
+ * The pool does not use a global lock: idle connections are kept in a lock-free stack (most recently used first), busy
+ * connections in a concurrent map, and the connection a session had last is remembered as an affinity hint. The number
+ * of leased connections is bounded by a fair {@link Semaphore}, so that waiting threads are woken up one at a time in
+ * FIFO order.
  */
 @Bean
 @SuppressWarnings("squid:S1166")
@@ -59,9 +70,11 @@ public class SqlConnectionPool {
   /*
    * Instance
    */
-  private final Object m_poolLock = new Object();
-  private final Set<PoolEntry> m_idleEntries = new HashSet<>();
-  private final Set<PoolEntry> m_busyEntries = new HashSet<>();
+  private final Deque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final Map<Connection, PoolEntry> m_busyEntries = new ConcurrentHashMap<>();
+  private final Map<String, PoolEntry> m_sessionAffinity = new ConcurrentHashMap<>();
+  private final AtomicInteger m_connectionCount = new AtomicInteger();
+  private volatile Semaphore m_leasePermits;
   private volatile String m_name;
   private volatile int m_poolSize;
   private volatile long m_connectionLifetime;
@@ -79,6 +92,7 @@ public class SqlConnectionPool {
     m_poolSize = poolSize;
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
+    m_leasePermits = new Semaphore(poolSize, true);
     startManagePool();
     initMetrics();
   }
@@ -121,8 +135,8 @@ public class SqlConnectionPool {
     Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
     //noinspection resource
     meter.batchCallback(() -> {
-      connectionsUsage.record(m_idleEntries.size(), idleConnectionsAttributes);
-      connectionsUsage.record(m_busyEntries.size(), usedConnectionsAttributes);
+      connectionsUsage.record(getIdleCount(), idleConnectionsAttributes);
+      connectionsUsage.record(getBusyCount(), usedConnectionsAttributes);
       maxConnections.record(m_poolSize, m_defaultAttributes);
     },
         connectionsUsage,
@@ -131,190 +145,288 @@ public class SqlConnectionPool {
 
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
-    managePool();
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    acquirePermit();
 
+    boolean leased = false;
+    try {
+      final String sessionId = currentSessionId();
       PoolEntry candidate = null;
       while (candidate == null) {
-        // get next available conn
-        for (PoolEntry m_idleEntry : m_idleEntries) {
-          candidate = m_idleEntry;
-          break;
-        }
-        if (candidate == null && m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
-          // create new connection
-          PoolEntry test = new PoolEntry();
-          test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
-          LOG.info("created jdbc connection {}", test.conn);
-          service.callbackAfterConnectionCreated(test.conn);
-          test.createTime = System.currentTimeMillis();
-          m_idleEntries.add(test);
-          candidate = test;
+        candidate = pollIdleEntry(sessionId);
+        if (candidate == null) {
+          candidate = createEntry(service);
         }
         if (candidate == null) {
-          // wait
-          try {
-            m_poolLock.wait();
-          }
-          catch (InterruptedException ie) {
-            Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
-            throw new ThreadInterruptedError("Interrupted while leasing database connection");
-          }
+          // another thread just returned or is about to close a connection
+          Thread.yield();
+          continue;
         }
         // test candidate connection
-        if (candidate != null) {
+        try {
+          service.callbackTestConnection(candidate.conn);
+        }
+        catch (Exception e) {
+          LOG.warn("closing dirty connection: {}", candidate.conn, e);
+          closeEntry(candidate);
           try {
-            service.callbackTestConnection(candidate.conn);
+            candidate.conn.close();
           }
-          catch (Exception e) {
-            // remove candidate from idle pool and close it
-            m_idleEntries.remove(candidate);
-            LOG.warn("closing dirty connection: {}", candidate.conn, e);
-            try {
-              candidate.conn.close();
-            }
-            catch (Exception fatal) {
-              LOG.warn("could not close candidate connection", fatal);
-            }
-            candidate = null;
+          catch (Exception fatal) {
+            LOG.warn("could not close candidate connection", fatal);
           }
+          candidate = null;
         }
-      }// end while
-       // move to busy pool
-      m_idleEntries.remove(candidate);
+      }
+      // move to busy pool
       candidate.leaseBegin = System.currentTimeMillis();
       candidate.leaseCount++;
-      m_busyEntries.add(candidate);
+      m_busyEntries.put(candidate.conn, candidate);
+      if (sessionId != null) {
+        m_sessionAffinity.put(sessionId, candidate);
+      }
+      leased = true;
       LOG.debug("lease   {}", candidate.conn);
       double elapsedAcquired = TimingUtility.msElapsed(startTime);
       m_connectionWaitTime.record(elapsedAcquired, m_defaultAttributes);
       return candidate.conn;
     }
+    finally {
+      if (!leased) {
+        m_leasePermits.release();
+      }
+    }
+  }
+
+  /**
+   * Blocks until a connection may be leased. Waiting threads are served in FIFO order.
+   */
+  private void acquirePermit() {
+    try {
+      m_leasePermits.acquire();
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    if (isDestroyed()) {
+      // pass on the permit to wake up the next waiting thread
+      m_leasePermits.release();
+      Assertions.fail("{} not available because destroyed.", getClass().getSimpleName());
+    }
+  }
+
+  /**
+   * @return the idle connection the session had last, or the most recently used idle connection, or <code>null</code>
+   *         if there is no idle connection. The returned entry is owned by the calling thread.
+   */
+  private PoolEntry pollIdleEntry(String sessionId) {
+    if (sessionId != null) {
+      PoolEntry hint = m_sessionAffinity.get(sessionId);
+      if (hint != null && hint.tryLease()) {
+        m_idleEntries.removeFirstOccurrence(hint);
+        if (!isExpired(hint, System.currentTimeMillis())) {
+          return hint;
+        }
+        closeEntry(hint);
+        closeConnectionAsync(hint.conn, "expired idle connection");
+      }
+    }
+
+    PoolEntry e;
+    while ((e = m_idleEntries.pollFirst()) != null) {
+      if (!e.tryLease()) {
+        continue; // stale element, already leased by its affinity hint
+      }
+      if (!isExpired(e, System.currentTimeMillis())) {
+        return e;
+      }
+      closeEntry(e);
+      closeConnectionAsync(e.conn, "expired idle connection");
+    }
+    return null;
+  }
+
+  /**
+   * @return a new connection, or <code>null</code> if the maximal number of connections is reached
+   */
+  private PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    int count;
+    do {
+      count = m_connectionCount.get();
+      if (count >= m_poolSize) {
+        return null;
+      }
+    }
+    while (!m_connectionCount.compareAndSet(count, count + 1));
+
+    boolean created = false;
+    try {
+      PoolEntry entry = new PoolEntry();
+      entry.conn = createConnection(service);
+      LOG.info("created jdbc connection {}", entry.conn);
+      service.callbackAfterConnectionCreated(entry.conn);
+      entry.createTime = System.currentTimeMillis();
+      created = true;
+      return entry;
+    }
+    finally {
+      if (!created) {
+        m_connectionCount.decrementAndGet();
+      }
+    }
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
   }
 
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
 
-      PoolEntry candidate = null;
-      for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-        PoolEntry e = (PoolEntry) it.next();
-        if (e.conn == conn) {
-          candidate = e;
-          it.remove();
-          break;
-        }
+    PoolEntry candidate = m_busyEntries.remove(conn);
+    if (candidate == null) {
+      // unknown connection, or already closed because its lease timed out
+      LOG.warn("closing dirty connection: {}", conn);
+      try {
+        conn.close();
       }
-      // check close status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.isClosed()) {
-            candidate = null;
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
+      catch (SQLException e) {
+        // ignored
       }
+      return;
+    }
+
+    boolean valid;
+    try {
+      // check close status of connection
+      valid = !candidate.conn.isClosed();
       // check error status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.getWarnings() != null) {
-            /*
-             * connection is normally valid again after clearing the warnings.
-             * Since oracle is not supporting warnings, the subsequent call has no effect!
-             */
-            candidate.conn.clearWarnings();
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
+      if (valid && candidate.conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        candidate.conn.clearWarnings();
       }
-      // all checks passed, candidate is either non-null or null, in the latter
-      // case conn is a dirty connection
-      // back to idle pool
-      if (candidate != null) {
-        // move to idle pool
-        candidate.leaseBegin = 0;
-        m_idleEntries.add(candidate);
+    }
+    catch (Exception e) {
+      // ignore
+      valid = false;
+    }
+
+    if (valid) {
+      // move to idle pool
+      candidate.leaseBegin = 0;
+      candidate.markIdle();
+      m_idleEntries.offerFirst(candidate);
+    }
+    else {
+      LOG.warn("closing dirty connection: {}", conn);
+      closeEntry(candidate);
+      try {
+        conn.close();
       }
-      else {
-        LOG.warn("closing dirty connection: {}", conn);
-        try {
-          conn.close();
-        }
-        catch (SQLException e) {
-          // ignored
-        }
+      catch (SQLException e) {
+        // ignored
       }
-      m_poolLock.notifyAll();
     }
-    managePool();
+    // wake up the longest waiting thread
+    m_leasePermits.release();
   }
 
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
-    synchronized (m_poolLock) {
-      buf.append("Total connections: ").append(m_busyEntries.size() + m_idleEntries.size());
+    List<PoolEntry> busyEntries = new ArrayList<>(m_busyEntries.values());
+    List<PoolEntry> idleEntries = m_idleEntries.stream()
+        .filter(PoolEntry::isIdle)
+        .distinct()
+        .collect(Collectors.toList());
+    buf.append("Total connections: ").append(busyEntries.size() + idleEntries.size());
+    buf.append("\n");
+    buf.append("Busy: ").append(busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : busyEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin)));
       buf.append("\n");
-      buf.append("Busy: ").append(m_busyEntries.size());
-      buf.append("\n");
-      for (PoolEntry e : m_busyEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
-            .append(fmt.format(new Date(e.leaseBegin)));
-        buf.append("\n");
-      }
-      buf.append("Idle: ").append(m_idleEntries.size());
+    }
+    buf.append("Idle: ").append(idleEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : idleEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
       buf.append("\n");
-      for (PoolEntry e : m_idleEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
-        buf.append("\n");
-      }
     }
     return buf.toString();
   }
 
+  /**
+   * @return number of open connections not leased
+   */
+  public int getIdleCount() {
+    return Math.max(0, m_connectionCount.get() - m_busyEntries.size());
+  }
+
+  /**
+   * @return number of leased connections
+   */
+  public int getBusyCount() {
+    return m_busyEntries.size();
+  }
+
   /**
    * Thread worker to manage pool
    */
   private void managePool() {
     try {
-      synchronized (m_poolLock) {
-        if (isDestroyed()) {
-          return;
-        }
+      if (isDestroyed()) {
+        return;
+      }
 
-        // close old idle connections
-        for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
-            closeConnectionAsync(e.conn, "expired idle connection");
-            e.conn = null;
-            it.remove();
-          }
+      long now = System.currentTimeMillis();
+      // close old idle connections
+      for (PoolEntry e : m_idleEntries) {
+        if (isExpired(e, now) && e.tryLease()) {
+          m_idleEntries.removeFirstOccurrence(e);
+          closeEntry(e);
+          closeConnectionAsync(e.conn, "expired idle connection");
         }
-        // close timed out busy connections
-        for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
-            closeConnectionAsync(e.conn, "timed out busy connection");
-            e.conn = null;
-            it.remove();
-          }
+      }
+      // close timed out busy connections
+      for (PoolEntry e : m_busyEntries.values()) {
+        if (now - e.leaseBegin > m_connectionBusyTimeout && m_busyEntries.remove(e.conn, e)) {
+          closeEntry(e);
+          closeConnectionAsync(e.conn, "timed out busy connection");
+          m_leasePermits.release();
         }
       }
+      // forget hints of closed connections
+      m_sessionAffinity.values().removeIf(PoolEntry::isClosed);
     }
     catch (Exception t) {
       LOG.warn("Unexpected Problem while managing SQL connection pool", t);
     }
   }
 
+  private boolean isExpired(PoolEntry e, long now) {
+    return now - e.createTime > m_connectionLifetime;
+  }
+
+  /**
+   * Removes an entry owned by the calling thread from the pool. The connection itself is not closed.
+   */
+  private void closeEntry(PoolEntry e) {
+    e.markClosed();
+    m_connectionCount.decrementAndGet();
+  }
+
+  private static String currentSessionId() {
+    ISession session = ISession.CURRENT.get();
+    return session != null ? session.getId() : null;
+  }
+
   /**
    * Returns whether this SQL pool was destroyed, and cannot be used anymore.
    */
@@ -325,31 +437,36 @@ public class SqlConnectionPool {
   /**
    * Destroys this connection pool. Upon return, this pool cannot be used anymore.
    */
-  public void destroy() {
+  public synchronized void destroy() {
     if (isDestroyed()) {
       return;
     }
+    m_destroyed = true;
 
-    synchronized (m_poolLock) {
-      if (isDestroyed()) {
-        return; // double-checked locking
-      }
-      m_destroyed = true;
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
 
-      // Cancel jobs.
-      Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
-          .andMatchExecutionHint(m_identity)
-          .toFilter(), true);
-
-      for (final PoolEntry idleEntry : m_idleEntries) {
+    PoolEntry idleEntry;
+    while ((idleEntry = m_idleEntries.pollFirst()) != null) {
+      if (idleEntry.tryLease()) {
+        closeEntry(idleEntry);
         closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
       }
-      m_idleEntries.clear();
+    }
 
-      for (final PoolEntry busyEntry : m_busyEntries) {
-        closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
-      }
-      m_busyEntries.clear();
+    for (final PoolEntry busyEntry : m_busyEntries.values()) {
+      closeEntry(busyEntry);
+      closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
+    }
+    m_busyEntries.clear();
+    m_sessionAffinity.clear();
+
+    // wake up waiting threads, which fail because the pool is destroyed
+    Semaphore leasePermits = m_leasePermits;
+    if (leasePermits != null) {
+      leasePermits.release();
     }
   }
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+
+/**
+ * Immutable result of {@link IntoParser} and {@link BindParser} for a sql statement.
+ * <p>
+ * The parsed tokens are only used as templates. Every execution of the statement gets its own copies by
+ * {@link #createBindModel()} and {@link #createIntoTokens()} because tokens are modified while binding values.
+ *
+ * @see ParsedStatementCache
+ * @since 23.2
+ */
+public final class ParsedStatement {
+  private final String m_statement;
+  private final IToken[] m_tokens;
+  private final ValueOutputToken[] m_intoTokens;
+
+  private ParsedStatement(String statement, IToken[] tokens, ValueOutputToken[] intoTokens) {
+    m_statement = statement;
+    m_tokens = tokens;
+    m_intoTokens = intoTokens;
+  }
+
+  /**
+   * Parses the <code>select into</code> binds and all other binds of the given statement.
+   */
+  public static ParsedStatement parse(String statement) {
+    IntoModel intoModel = new IntoParser(statement).parse();
+    BindModel bindModel = new BindParser(intoModel.getFilteredStatement()).parse();
+    return new ParsedStatement(statement, bindModel.getAllTokens(), intoModel.getOutputTokens());
+  }
+
+  public String getStatement() {
+    return m_statement;
+  }
+
+  /**
+   * @return a new {@link BindModel} of the statement without the <code>select into</code> binds
+   */
+  public BindModel createBindModel() {
+    IToken[] tokens = new IToken[m_tokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_tokens[i].copy();
+    }
+    return new BindModel(tokens);
+  }
+
+  /**
+   * @return new tokens of the <code>select into</code> binds
+   */
+  public ValueOutputToken[] createIntoTokens() {
+    ValueOutputToken[] tokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_intoTokens[i].copy();
+    }
+    return tokens;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentTinyLfuMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+
+/**
+ * Application wide cache of {@link ParsedStatement}s by statement text, so that constant statements which are executed
+ * many times are only parsed once.
+ * <p>
+ * The cache is bounded by the total length of the cached statements (see {@link SqlParsedStatementCacheSizeProperty}).
+ * Statements which are used only once (e.g. because they contain literals) do not displace frequently used ones.
+ * Parsing does not depend on the {@link org.eclipse.scout.rt.server.jdbc.style.ISqlStyle}, therefore the statement
+ * text is the only key.
+ *
+ * @since 23.2
+ */
+@ApplicationScoped
+public class ParsedStatementCache {
+
+  private final ConcurrentTinyLfuMap<String, ParsedStatement> m_cache;
+  private final long m_maxSize;
+
+  public ParsedStatementCache() {
+    this(CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class));
+  }
+
+  /**
+   * @param maxSize
+   *          maximum total length of all cached statements, <code>0</code> disables the cache
+   */
+  public ParsedStatementCache(long maxSize) {
+    m_maxSize = maxSize;
+    m_cache = new ConcurrentTinyLfuMap<>(maxSize, (statement, parsed) -> statement.length(), 0, TimeUnit.MILLISECONDS, false);
+  }
+
+  /**
+   * @return the cached {@link ParsedStatement} of the given statement, the statement is parsed if it is not cached yet
+   */
+  public ParsedStatement get(String statement) {
+    if (m_maxSize <= 0 || statement.length() > m_maxSize) {
+      return ParsedStatement.parse(statement);
+    }
+    ParsedStatement parsed = m_cache.get(statement);
+    if (parsed == null) {
+      // concurrent threads may parse the same statement, the result is equal
+      parsed = ParsedStatement.parse(statement);
+      m_cache.put(statement, parsed);
+    }
+    return parsed;
+  }
+
+  /**
+   * @return number of cached statements
+   */
+  public int size() {
+    return m_cache.size();
+  }
+
+  public void clear() {
+    m_cache.clear();
+  }
+}
@@ -21,6 +21,20 @@ public class DatabaseSpecificToken implements IToken {
     m_name = name;
   }
 
+  /**
+   * Copy constructor, see {@link #copy()}
+   */
+  protected DatabaseSpecificToken(DatabaseSpecificToken template) {
+    m_parsedToken = template.m_parsedToken;
+    m_replaceToken = template.m_replaceToken;
+    m_name = template.m_name;
+  }
+
+  @Override
+  public DatabaseSpecificToken copy() {
+    return new DatabaseSpecificToken(this);
+  }
+
   @Override
   public boolean isInput() {
     return false;
@@ -31,6 +31,24 @@ public class FunctionInputToken implements IToken {
     m_plainSql = plainSql;
   }
 
+  /**
+   * Copy constructor, see {@link #copy()}
+   */
+  protected FunctionInputToken(FunctionInputToken template) {
+    m_parsedToken = template.m_parsedToken;
+    m_replaceToken = template.m_replaceToken;
+    m_plainValue = template.m_plainValue;
+    m_plainSql = template.m_plainSql;
+    m_plainToken = template.m_plainToken;
+    m_name = template.m_name;
+    m_args = template.m_args;
+  }
+
+  @Override
+  public FunctionInputToken copy() {
+    return new FunctionInputToken(this);
+  }
+
   @Override
   public boolean isInput() {
     return true;
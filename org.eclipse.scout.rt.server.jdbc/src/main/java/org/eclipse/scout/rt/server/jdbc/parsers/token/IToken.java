@@ -20,4 +20,16 @@ public interface IToken {
   boolean isInput();
 
   boolean isOutput();
+
+  /**
+   * Tokens are mutable while a statement is processed (e.g. {@link #setReplaceToken(String)}). Parsed statements are
+   * shared (see {@link org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache}), therefore every statement
+   * execution works on its own copies.
+   *
+   * @return a copy of this token with the same state, immutable tokens may return <code>this</code>
+   * @since 23.2
+   */
+  default IToken copy() {
+    return this;
+  }
 }
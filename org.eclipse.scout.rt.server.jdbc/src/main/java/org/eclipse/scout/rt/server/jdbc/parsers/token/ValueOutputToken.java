@@ -29,6 +29,22 @@ public class ValueOutputToken implements IToken {
     }
   }
 
+  /**
+   * Copy constructor, see {@link #copy()}
+   */
+  protected ValueOutputToken(ValueOutputToken template) {
+    m_parsedToken = template.m_parsedToken;
+    m_replaceToken = template.m_replaceToken;
+    m_name = template.m_name;
+    m_batch = template.m_batch;
+    m_selectInto = template.m_selectInto;
+  }
+
+  @Override
+  public ValueOutputToken copy() {
+    return new ValueOutputToken(this);
+  }
+
   @Override
   public boolean isInput() {
     return false;
@@ -32,6 +32,7 @@ import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
@@ -44,6 +45,8 @@ import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.session.ServerSessionCache;
 import org.eclipse.scout.rt.server.session.ServerSessionProvider;
 import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
@@ -171,6 +174,41 @@ public class ServiceTunnelServletTest {
     assertEquals(0, res.getNotifications().size());
   }
 
+  @Test(expected = PlatformException.class) //exception of unknown operation is handled with JUnitExceptionHandler
+  public void testPostBatchSequential() {
+    assertBatch(false);
+  }
+
+  @Test(expected = PlatformException.class) //exception of unknown operation is handled with JUnitExceptionHandler
+  public void testPostBatchParallel() {
+    assertBatch(true);
+  }
+
+  private void assertBatch(boolean parallelExecution) {
+    ServiceTunnelServlet s = new ServiceTunnelServlet();
+    List<ServiceTunnelRequest> requests = new ArrayList<>();
+    requests.add(createPingRequest("ping", "a"));
+    requests.add(createPingRequest("unknownOperation", "b"));
+    requests.add(createPingRequest("ping", "c"));
+
+    ServiceTunnelResponse res = s.doPost(new ServiceTunnelBatchRequest(requests, parallelExecution));
+    assertTrue(res instanceof ServiceTunnelBatchResponse);
+    List<ServiceTunnelResponse> responses = ((ServiceTunnelBatchResponse) res).getResponses();
+    assertEquals(3, responses.size());
+    assertEquals("a", responses.get(0).getData());
+    assertNull(responses.get(0).getException());
+    assertNull(responses.get(1).getData());
+    assertNotNull(responses.get(1).getException());
+    assertEquals("c", responses.get(2).getData());
+    assertNull(responses.get(2).getException());
+  }
+
+  private ServiceTunnelRequest createPingRequest(String operation, String arg) {
+    ServiceTunnelRequest req = new ServiceTunnelRequest(IPingService.class.getName(), operation, new Class[]{String.class}, new Object[]{arg});
+    req.setUserAgent(UserAgents.createDefault().createIdentifier());
+    return req;
+  }
+
   private Answer<IServerSession> slowCreateTestsession(final TestServerSession testSession) {
     return invocation -> {
       Thread.sleep(2000); // simulate long running task
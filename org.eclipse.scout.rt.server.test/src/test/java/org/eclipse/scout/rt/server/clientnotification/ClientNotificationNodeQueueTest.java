@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -57,8 +58,9 @@ public class ClientNotificationNodeQueueTest {
     IFuture<List<ClientNotificationMessage>> res = Jobs.schedule(() -> m_queue.getNotifications(10, 100, TimeUnit.MILLISECONDS), Jobs.newInput()
         .withRunContext(RunContexts.copyCurrent()));
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
-    m_queue.put(new ClientNotificationMessage(allNodes, "test", true, "cid"));
-    m_queue.put(new ClientNotificationMessage(allNodes, "test2", true, "cid"));
+    m_queue.put(Arrays.asList(
+        new ClientNotificationMessage(allNodes, "test", true, "cid"),
+        new ClientNotificationMessage(allNodes, "test2", true, "cid")));
     List<ClientNotificationMessage> notifications = res.awaitDoneAndGet();
     assertEquals(2, notifications.size());
     assertEquals("test", notifications.get(0).getNotification());
@@ -73,6 +75,63 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testConsumeAfterOverrun() {
+    putTestNotifications(25);
+    List<ClientNotificationMessage> notifications = m_queue.getNotifications(3, 0, TimeUnit.MILLISECONDS);
+    assertEquals(3, notifications.size());
+    assertEquals("test15", notifications.get(0).getNotification());
+    notifications = m_queue.getNotifications(100, 0, TimeUnit.MILLISECONDS);
+    assertEquals(7, notifications.size());
+    assertEquals("test18", notifications.get(0).getNotification());
+    assertTrue(m_queue.getNotifications(100, 0, TimeUnit.MILLISECONDS).isEmpty());
+  }
+
+  @Test
+  public void testSharedRingBuffer() {
+    ClientNotificationRingBuffer ringBuffer = new ClientNotificationRingBuffer(MAX_TEST_CAPACITY);
+    ClientNotificationNodeQueue queue1 = new ClientNotificationNodeQueue(MAX_TEST_CAPACITY);
+    queue1.setNodeId(NodeId.of("node1"));
+    queue1.setRingBuffer(ringBuffer);
+    ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+    ringBuffer.publish(Arrays.asList(new ClientNotificationMessage(allNodes, "before", true, "cid")), null);
+
+    ClientNotificationNodeQueue queue2 = new ClientNotificationNodeQueue(MAX_TEST_CAPACITY);
+    queue2.setNodeId(NodeId.of("node2"));
+    queue2.setRingBuffer(ringBuffer);
+    ringBuffer.publish(Arrays.asList(new ClientNotificationMessage(allNodes, "all", true, "cid")), null);
+    ringBuffer.publish(Arrays.asList(new ClientNotificationMessage(allNodes, "notForNode1", true, "cid")), NodeId.of("node1"));
+
+    List<ClientNotificationMessage> notifications1 = queue1.getNotifications(10, 0, TimeUnit.MILLISECONDS);
+    assertEquals(2, notifications1.size());
+    assertEquals("before", notifications1.get(0).getNotification());
+    assertEquals("all", notifications1.get(1).getNotification());
+
+    List<ClientNotificationMessage> notifications2 = queue2.getNotifications(10, 0, TimeUnit.MILLISECONDS);
+    assertEquals(2, notifications2.size());
+    assertEquals("all", notifications2.get(0).getNotification());
+    assertEquals("notForNode1", notifications2.get(1).getNotification());
+  }
+
+  @Test
+  public void testPutIsNodeLocal() {
+    ClientNotificationRingBuffer ringBuffer = new ClientNotificationRingBuffer(MAX_TEST_CAPACITY);
+    ClientNotificationNodeQueue queue1 = new ClientNotificationNodeQueue(MAX_TEST_CAPACITY);
+    queue1.setNodeId(NodeId.of("node1"));
+    queue1.setRingBuffer(ringBuffer);
+    ClientNotificationNodeQueue queue2 = new ClientNotificationNodeQueue(MAX_TEST_CAPACITY);
+    queue2.setNodeId(NodeId.of("node2"));
+    queue2.setRingBuffer(ringBuffer);
+
+    ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+    queue1.put(new ClientNotificationMessage(allNodes, "onlyNode1", true, "cid"));
+
+    List<ClientNotificationMessage> notifications1 = queue1.getNotifications(10, 0, TimeUnit.MILLISECONDS);
+    assertEquals(1, notifications1.size());
+    assertEquals("onlyNode1", notifications1.get(0).getNotification());
+    assertTrue(queue2.getNotifications(10, 0, TimeUnit.MILLISECONDS).isEmpty());
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
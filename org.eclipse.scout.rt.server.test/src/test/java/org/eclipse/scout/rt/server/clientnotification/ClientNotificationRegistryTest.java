@@ -19,9 +19,11 @@ import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.RingBufferCapacity;
 import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
@@ -54,6 +56,23 @@ public class ClientNotificationRegistryTest {
     assertSingleTestNotification(notificationsNode2);
   }
 
+  /**
+   * All node queues share the ring buffer of the registry, which has its own capacity.
+   */
+  @Test
+  public void testSharedRingBufferCapacity() {
+    IBean<?> bean = BeanTestingHelper.get().mockConfigProperty(RingBufferCapacity.class, 42);
+    try {
+      ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+      assertEquals(42, reg.getRingBuffer().getCapacity());
+      assertSame(reg.getRingBuffer(), reg.getOrCreateQueue(NodeId.of("testNodeId")).getRingBuffer());
+      assertSame(reg.getRingBuffer(), reg.getOrCreateQueue(NodeId.of("testNodeId2")).getRingBuffer());
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+
   /**
    * Register/unregister does not affect consumption.
    */
@@ -137,6 +156,16 @@ public class ClientNotificationRegistryTest {
     }
   }
 
+  @Test
+  public void testNotificationsExcludedNode() {
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    reg.registerNode(NodeId.of("testNodeId"));
+    reg.registerNode(NodeId.of("testNodeId2"));
+    reg.publishWithoutClusterNotification(Collections.singleton(new ClientNotificationMessage(ClientNotificationAddress.createAllNodesAddress(), TEST_NOTIFICATION, false, "cid")), NodeId.of("testNodeId"));
+    assertTrue(consumeNoWait(reg, NodeId.of("testNodeId")).isEmpty());
+    assertSingleTestNotification(consumeNoWait(reg, NodeId.of("testNodeId2")));
+  }
+
   @Test
   public void registeredNodeAvailable() {
     ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
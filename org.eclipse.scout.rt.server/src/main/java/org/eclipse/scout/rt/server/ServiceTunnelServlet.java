@@ -13,6 +13,8 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.SocketException;
 import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.LongPredicate;
 
@@ -23,7 +25,11 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.PlatformError;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.TransactionCancelledError;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.concurrent.AbstractInterruptionError;
@@ -45,6 +51,8 @@ import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry.IRegistratio
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
@@ -178,6 +186,9 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
   }
 
   protected ServiceTunnelResponse doPost(ServiceTunnelRequest serviceRequest) {
+    if (serviceRequest instanceof ServiceTunnelBatchRequest) {
+      return doPostBatch((ServiceTunnelBatchRequest) serviceRequest);
+    }
     if (LOG.isDebugEnabled()) {
       LOG.debug("requestSequence {} {}.{}", serviceRequest.getRequestSequence(), serviceRequest.getServiceInterfaceClassName(), serviceRequest.getOperation());
     }
@@ -195,6 +206,63 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     }
   }
 
+  /**
+   * Executes the requests of a batch, each in its own {@link ServerRunContext} like a single request, and returns their
+   * responses at the same index. An exception of a request is reported by its response and does not affect the other
+   * requests of the batch.
+   */
+  protected ServiceTunnelBatchResponse doPostBatch(ServiceTunnelBatchRequest batchRequest) {
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("requestSequence {} batch of {} requests [parallel={}]", batchRequest.getRequestSequence(), batchRequest.getRequests().size(), batchRequest.isParallelExecution());
+    }
+
+    List<ServiceTunnelRequest> requests = batchRequest.getRequests();
+    List<ServiceTunnelResponse> responses = new ArrayList<>(requests.size());
+    if (!isParallelBatchExecution(batchRequest)) {
+      for (ServiceTunnelRequest request : requests) {
+        responses.add(doPostBatchMember(request));
+      }
+      return new ServiceTunnelBatchResponse(responses);
+    }
+
+    // the first request is executed by the current thread
+    List<IFuture<ServiceTunnelResponse>> futures = new ArrayList<>(requests.size() - 1);
+    for (ServiceTunnelRequest request : requests.subList(1, requests.size())) {
+      futures.add(Jobs.schedule(() -> doPostBatchMember(request), Jobs.newInput()
+          .withRunContext(RunContexts.copyCurrent())
+          .withName("Processing batched service request [seq={}]", request.getRequestSequence())
+          .withExceptionHandling(null, false)));
+    }
+    try {
+      responses.add(doPostBatchMember(requests.get(0)));
+      for (IFuture<ServiceTunnelResponse> future : futures) {
+        responses.add(future.awaitDoneAndGet());
+      }
+    }
+    catch (RuntimeException | Error e) { // NOSONAR
+      futures.forEach(future -> future.cancel(true));
+      throw e;
+    }
+    return new ServiceTunnelBatchResponse(responses);
+  }
+
+  protected ServiceTunnelResponse doPostBatchMember(ServiceTunnelRequest serviceRequest) {
+    try {
+      return doPost(serviceRequest);
+    }
+    catch (RuntimeException | PlatformError e) {
+      LOG.debug("Batched service request failed [requestSequence={}]", serviceRequest.getRequestSequence(), e);
+      return new ServiceTunnelResponse(e);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the requests of the given batch may be executed concurrently.
+   */
+  protected boolean isParallelBatchExecution(ServiceTunnelBatchRequest batchRequest) {
+    return batchRequest.isParallelExecution() && batchRequest.getRequests().size() > 1;
+  }
+
   protected String interruptInfo(boolean interrupted) {
     return interrupted ? ", thread was interrupted" : ", thread was not interrupted";
   }
@@ -9,29 +9,22 @@
  */
 package org.eclipse.scout.rt.server.clientnotification;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map.Entry;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.FinalValue;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NodeQueueCapacity;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationRingBuffer.Entry;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationAddress;
 import org.slf4j.Logger;
@@ -39,6 +32,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A queue for a client node, that keeps track of notifications for that node.
+ * <p>
+ * The queue does not hold the notifications itself, but only a cursor into a {@link ClientNotificationRingBuffer}.
+ * The {@link ClientNotificationRegistry} attaches all its queues to one shared ring buffer (see
+ * {@link #setRingBuffer(ClientNotificationRingBuffer)}), so that a notification is stored only once for all nodes. A
+ * queue used on its own creates a private ring buffer on first access.
  */
 @Bean
 public class ClientNotificationNodeQueue {
@@ -46,8 +44,15 @@ public class ClientNotificationNodeQueue {
 
   private final FinalValue<NodeId> m_nodeId = new FinalValue<>();
 
+  /**
+   * Capacity of the private ring buffer, used if the queue is not attached to a shared one
+   */
   private final int m_capacity;
-  private final BlockingDeque<ClientNotificationMessage> m_notifications;
+  private volatile ClientNotificationRingBuffer m_ringBuffer;
+  /**
+   * Sequence number of the next message to consume.
+   */
+  private final AtomicLong m_cursor;
   private final AtomicLong m_lastConsumeAccess;
 
   public ClientNotificationNodeQueue() {
@@ -55,8 +60,9 @@ public class ClientNotificationNodeQueue {
   }
 
   public ClientNotificationNodeQueue(int capacity) {
+    Assertions.assertTrue(capacity > 0, "capacity must be positive [capacity={}]", capacity);
     m_capacity = capacity;
-    m_notifications = new LinkedBlockingDeque<>(capacity);
+    m_cursor = new AtomicLong(0);
     m_lastConsumeAccess = new AtomicLong(System.currentTimeMillis());
   }
 
@@ -68,60 +74,51 @@ public class ClientNotificationNodeQueue {
     return m_nodeId.get();
   }
 
+  /**
+   * Attaches this queue to the given (usually shared) ring buffer. Only messages published after this call are
+   * consumed.
+   */
+  public synchronized void setRingBuffer(ClientNotificationRingBuffer ringBuffer) {
+    m_ringBuffer = Assertions.assertNotNull(ringBuffer);
+    m_cursor.set(ringBuffer.getPublishedSequence() + 1);
+  }
+
+  /**
+   * @return the ring buffer this queue is attached to, or its private ring buffer which is created on first access
+   */
+  public ClientNotificationRingBuffer getRingBuffer() {
+    ClientNotificationRingBuffer ringBuffer = m_ringBuffer;
+    if (ringBuffer == null) {
+      synchronized (this) {
+        ringBuffer = m_ringBuffer;
+        if (ringBuffer == null) {
+          ringBuffer = new ClientNotificationRingBuffer(m_capacity);
+          m_ringBuffer = ringBuffer;
+        }
+      }
+    }
+    return ringBuffer;
+  }
+
   /**
    * @return capacity of queue. If maximum capacity is reached, messages are dropped.
    */
   public int getCapacity() {
-    return m_capacity;
+    return getRingBuffer().getCapacity();
   }
 
   public void put(ClientNotificationMessage notification) {
     put(CollectionUtility.arrayList(notification));
   }
 
-  public void put(Collection<? extends ClientNotificationMessage> notificationInput) {
-    List<ClientNotificationMessage> notifications = getRelevantNotifications(notificationInput);
-    putDroppingOld(notifications);
-  }
-
   /**
-   * Put notifications into queue and drop the oldest ones, if capacity is reached.
+   * Adds the notifications for the node of this queue only, even if the queue is attached to the shared ring buffer of
+   * the {@link ClientNotificationRegistry}. Use {@link ClientNotificationRegistry#publish(Collection)} to notify all
+   * nodes. If the capacity is reached, the oldest messages are dropped.
    */
-  private void putDroppingOld(Collection<? extends ClientNotificationMessage> notifications) {
-    List<ClientNotificationMessage> droppedNotifications = new ArrayList<>();
-    for (ClientNotificationMessage message : notifications) {
-      boolean inserted = m_notifications.offer(message);
-      while (!inserted) {
-        ClientNotificationMessage removed = m_notifications.poll();
-        if (removed != null) {
-          droppedNotifications.add(removed);
-        }
-        inserted = m_notifications.offer(message);
-      }
-    }
-    if (!droppedNotifications.isEmpty()) {
-      if (LOG.isWarnEnabled()) {
-        Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
-            .map(m -> m.getNotification().getClass().getSimpleName() + " -> " + m.getAddress().prettyPrint())
-            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
-            .entrySet().stream()
-            .sorted(Entry.<String, Long> comparingByValue().reversed())
-            .map(e -> e.getKey() + " (" + e.getValue() + "x)")
-            .collect(Collectors.joining(", ", "[", "]"));
-
-        LOG.warn("Notification queue capacity reached. Added {}, removed oldest {} notification messages. [clientNodeId={}, lastConsumeAccess={}, newNotifications={}, droppedNotifications={}]",
-            notifications.size(), droppedNotifications.size(), getNodeId(), getLastConsumeAccessFormatted(), infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()));
-      }
-      if (LOG.isDebugEnabled()) {
-        Function<Stream<? extends ClientNotificationMessage>, String> infoExtractor = s -> s
-            .map(m -> m.toString())
-            .collect(Collectors.joining("\n    ", "\n    ", ""));
-
-        LOG.debug("Notification queue capacity reached. Details:\n  newNotifications={}\n  droppedNotifications={}",
-            infoExtractor.apply(notifications.stream()), infoExtractor.apply(droppedNotifications.stream()),
-            new Exception("stacktrace for further analysis"));
-      }
-    }
+  public void put(Collection<? extends ClientNotificationMessage> notificationInput) {
+    NodeId nodeId = Assertions.assertNotNull(getNodeId(), "Node id must be set before putting notifications into the queue");
+    getRingBuffer().publishToNode(notificationInput, nodeId);
   }
 
   /**
@@ -143,24 +140,22 @@ public class ClientNotificationNodeQueue {
     return result;
   }
 
+  /**
+   * Blocks until at least one notification is available or the wait time elapses and then drains all available
+   * notifications (at most <code>maxAmount</code>) in one batch.
+   */
   protected List<ClientNotificationMessage> getNotifications(int maxAmount, long maxWaitTime, TimeUnit unit) {
-    List<ClientNotificationMessage> collected = new LinkedList<>();
+    List<ClientNotificationMessage> collected = new ArrayList<>();
+    long deadline = System.nanoTime() + unit.toNanos(maxWaitTime);
     try {
-      //blocking wait to get first message
-      ClientNotificationMessage next = m_notifications.poll(maxWaitTime, unit);
-      if (next != null) {
-        collected.add(next);
-      }
-
-      //add more available notifications
-      //with short wait timeout to not go back with one notification when some are about to pop up.
-      int timeout = 234; // 0 for no reschedule
-      while (next != null && collected.size() < maxAmount) {
-        next = m_notifications.poll(timeout, TimeUnit.MILLISECONDS);
-        if (next != null) {
-          collected.add(next);
+      // loop only required if all available messages were excluded for this node
+      do {
+        if (!getRingBuffer().awaitPublished(m_cursor.get(), deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          break;
         }
+        drainTo(collected, maxAmount);
       }
+      while (collected.isEmpty() && deadline - System.nanoTime() > 0);
     }
     catch (InterruptedException e) {
       LOG.info("Interrupted while waiting for client notification messages", e);
@@ -168,16 +163,43 @@ public class ClientNotificationNodeQueue {
     return collected;
   }
 
-  private List<ClientNotificationMessage> getRelevantNotifications(Collection<? extends ClientNotificationMessage> notificationInput) {
-    return notificationInput.stream()
-        .filter(msg -> isRelevant(msg.getAddress()))
-        .collect(toList());
+  /**
+   * Moves the cursor over all available messages (at most <code>maxAmount</code> visible ones) and adds them to the
+   * given list. Messages which were overwritten before they could be consumed are reported as lost.
+   */
+  protected void drainTo(List<ClientNotificationMessage> collected, int maxAmount) {
+    ClientNotificationRingBuffer ringBuffer = getRingBuffer();
+    NodeId nodeId = getNodeId();
+    long lost = 0;
+    while (collected.size() < maxAmount) {
+      long cursor = m_cursor.get();
+      long published = ringBuffer.getPublishedSequence();
+      if (cursor > published) {
+        break;
+      }
+      long from = Math.max(cursor, ringBuffer.getOldestAvailableSequence());
+      long to = Math.min(published, from + maxAmount - collected.size() - 1);
+      if (!m_cursor.compareAndSet(cursor, to + 1)) {
+        continue; // concurrent consumer of the same node
+      }
+      lost += from - cursor;
+      for (long sequence = from; sequence <= to; sequence++) {
+        Entry entry = ringBuffer.get(sequence);
+        if (entry == null) {
+          lost++; // overwritten while reading
+        }
+        else if (entry.isVisibleFor(nodeId)) {
+          collected.add(entry.getMessage());
+        }
+      }
+    }
+    if (lost > 0) {
+      LOG.warn("Notification queue capacity reached. {} notification messages were dropped before they could be consumed. [clientNodeId={}, capacity={}, lastConsumeAccess={}]",
+          lost, nodeId, ringBuffer.getCapacity(), getLastConsumeAccessFormatted());
+    }
   }
 
   public boolean isRelevant(IClientNotificationAddress address) {
-    return address.isNotifyAllSessions()
-        || address.isNotifyAllNodes()
-        || CollectionUtility.hasElements(address.getSessionIds())
-        || CollectionUtility.hasElements(address.getUserIds());
+    return getRingBuffer().isRelevant(address);
   }
 }
@@ -9,7 +9,9 @@
  */
 package org.eclipse.scout.rt.server.clientnotification;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 
 /**
  * Configuration properties for client notifications
@@ -28,7 +30,7 @@ public final class ClientNotificationProperties {
 
     @Override
     public String description() {
-      return "Capacity of the client notification queue. If maximum capacity is reached, notification messages are dropped. The default value is 200.";
+      return "Capacity of the client notification queue of a node which is not registered in the ClientNotificationRegistry (see 'scout.clientnotification.ringBufferCapacity'). If maximum capacity is reached, notification messages are dropped. The default value is 200.";
     }
 
     @Override
@@ -37,6 +39,27 @@ public final class ClientNotificationProperties {
     }
   }
 
+  public static class RingBufferCapacity extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 10 * CONFIG.getPropertyValue(NodeQueueCapacity.class);
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Capacity of the buffer shared by the client notification queues of all nodes. It holds the notifications for all nodes and the ones for a single node only.\n"
+          + "If maximum capacity is reached, the oldest notification messages are dropped. The default value is ten times the value of '%s'.",
+          BEANS.get(NodeQueueCapacity.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.ringBufferCapacity";
+    }
+  }
+
   public static class MaxNotificationBlockingTimeOut extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -12,14 +12,14 @@ package org.eclipse.scout.rt.server.clientnotification;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -29,6 +29,7 @@ import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NotificationQueueExpireTime;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.RingBufferCapacity;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
@@ -37,7 +38,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The {@link ClientNotificationRegistry} is the registry for all notifications. It keeps a
- * {@link ClientNotificationNodeQueue} for each notification node (usually a client node). The
+ * {@link ClientNotificationNodeQueue} for each notification node (usually a client node). All node queues share one
+ * {@link ClientNotificationRingBuffer}, so that publishing a notification does not depend on the number of nodes. The
  * {@link ClientNotificationService} consumes the notifications per node. The consumption of the notifications waits for
  * a given timeout for notifications. If no notifications are scheduled within this timeout the lock will be released
  * and returns without any notifications. In case a notification gets scheduled during this timeout the request will be
@@ -46,7 +48,11 @@ import org.slf4j.LoggerFactory;
 @ApplicationScoped
 public class ClientNotificationRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationRegistry.class);
-  private final Map<NodeId, ClientNotificationNodeQueue> m_notificationQueues = new HashMap<>();
+  private static final long MAX_EXPIRY_CHECK_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+  private final ConcurrentMap<NodeId, ClientNotificationNodeQueue> m_notificationQueues = new ConcurrentHashMap<>();
+  private final ClientNotificationRingBuffer m_ringBuffer;
+  private final AtomicLong m_nextExpiryCheck = new AtomicLong();
 
   /**
    * If no message is consumed for a certain amount of time [ms], queues are removed to avoid overflows. This may
@@ -60,6 +66,14 @@ public class ClientNotificationRegistry {
 
   public ClientNotificationRegistry(int queueRemoveTimeout) {
     m_queueExpireTime = queueRemoveTimeout;
+    m_ringBuffer = new ClientNotificationRingBuffer(Assertions.assertNotNull(CONFIG.getPropertyValue(RingBufferCapacity.class)));
+  }
+
+  /**
+   * @return the buffer shared by all node queues of this registry
+   */
+  protected ClientNotificationRingBuffer getRingBuffer() {
+    return m_ringBuffer;
   }
 
   /**
@@ -73,10 +87,8 @@ public class ClientNotificationRegistry {
    * This method should only be accessed from {@link ClientNotificationService}
    */
   protected void unregisterNode(NodeId nodeId) {
-    synchronized (m_notificationQueues) {
-      LOG.info("Removing queue of unregistered node [clientNodeId={}]", nodeId);
-      m_notificationQueues.remove(nodeId);
-    }
+    LOG.info("Removing queue of unregistered node [clientNodeId={}]", nodeId);
+    m_notificationQueues.remove(nodeId);
   }
 
   /**
@@ -96,14 +108,13 @@ public class ClientNotificationRegistry {
 
   protected ClientNotificationNodeQueue getOrCreateQueue(NodeId nodeId) {
     Assertions.assertNotNull(nodeId);
-    synchronized (m_notificationQueues) {
-      return m_notificationQueues.computeIfAbsent(nodeId, this::createNewQueue);
-    }
+    return m_notificationQueues.computeIfAbsent(nodeId, this::createNewQueue);
   }
 
   protected ClientNotificationNodeQueue createNewQueue(NodeId nodeId) {
     ClientNotificationNodeQueue queue = BEANS.get(ClientNotificationNodeQueue.class);
     queue.setNodeId(nodeId);
+    queue.setRingBuffer(m_ringBuffer);
     return queue;
   }
 
@@ -111,9 +122,7 @@ public class ClientNotificationRegistry {
    * Nodes that have been registered with {@link #registerNode(NodeId)}
    */
   public Set<NodeId> getRegisteredNodeIds() {
-    synchronized (m_notificationQueues) {
-      return new HashSet<>(m_notificationQueues.keySet());
-    }
+    return new HashSet<>(m_notificationQueues.keySet());
   }
 
   // put methods
@@ -221,19 +230,27 @@ public class ClientNotificationRegistry {
    *          may be <code>null</code>
    */
   public void publishWithoutClusterNotification(Collection<? extends ClientNotificationMessage> messages, NodeId excludedUiNodeId) {
-    synchronized (m_notificationQueues) {
-      Iterator<ClientNotificationNodeQueue> iter = m_notificationQueues.values().iterator();
-      while (iter.hasNext()) {
-        ClientNotificationNodeQueue queue = iter.next();
-        if (!queue.getNodeId().equals(excludedUiNodeId)) {
-          queue.put(messages);
-          if (isQueueExpired(queue)) {
-            LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
-            iter.remove();
-          }
-        }
-      }
+    removeExpiredQueues();
+    m_ringBuffer.publish(messages, excludedUiNodeId);
+  }
+
+  /**
+   * Removes the queues which have not been consumed for longer than the expire time. To keep publishing independent of
+   * the number of nodes, the queues are checked at most once per second.
+   */
+  protected void removeExpiredQueues() {
+    long now = System.currentTimeMillis();
+    long nextCheck = m_nextExpiryCheck.get();
+    if (now < nextCheck || !m_nextExpiryCheck.compareAndSet(nextCheck, now + Math.min(m_queueExpireTime, MAX_EXPIRY_CHECK_INTERVAL))) {
+      return;
     }
+    m_notificationQueues.values().removeIf(queue -> {
+      if (!isQueueExpired(queue)) {
+        return false;
+      }
+      LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
+      return true;
+    });
   }
 
   protected boolean isQueueExpired(ClientNotificationNodeQueue queue) {
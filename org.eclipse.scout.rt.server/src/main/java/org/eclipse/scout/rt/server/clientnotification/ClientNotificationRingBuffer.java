@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationAddress;
+
+/**
+ * Bounded buffer of client notifications shared by all {@link ClientNotificationNodeQueue}s of a
+ * {@link ClientNotificationRegistry}.
+ * <p>
+ * Each published message gets a strictly increasing sequence number and is stored exactly once, regardless of the
+ * number of nodes. The nodes only keep a cursor (the sequence number of the next message to read). Publishers are
+ * serialized, readers never block publishers. If the buffer is full, the oldest messages are overwritten. A reader
+ * detects such an overrun because the sequence number of the stored {@link Entry} does not match its cursor anymore.
+ *
+ * @since 23.2
+ */
+public class ClientNotificationRingBuffer {
+
+  private final int m_capacity;
+  private final AtomicReferenceArray<Entry> m_entries;
+  private final ReentrantLock m_publishLock = new ReentrantLock();
+  private final Condition m_published = m_publishLock.newCondition();
+
+  /**
+   * Sequence number of the last published message, <code>-1</code> if none was published yet.
+   */
+  private volatile long m_publishedSequence = -1;
+
+  public ClientNotificationRingBuffer(int capacity) {
+    Assertions.assertTrue(capacity > 0, "capacity must be positive [capacity={}]", capacity);
+    m_capacity = capacity;
+    m_entries = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * @return maximum number of messages kept in the buffer. Older messages are overwritten.
+   */
+  public int getCapacity() {
+    return m_capacity;
+  }
+
+  /**
+   * @return sequence number of the last published message, <code>-1</code> if none was published yet
+   */
+  public long getPublishedSequence() {
+    return m_publishedSequence;
+  }
+
+  /**
+   * @return sequence number of the oldest message which is still available in the buffer
+   */
+  public long getOldestAvailableSequence() {
+    return Math.max(0, m_publishedSequence - m_capacity + 1);
+  }
+
+  /**
+   * Appends the relevant messages (see {@link #isRelevant(IClientNotificationAddress)}) to the buffer and wakes up all
+   * waiting readers. The costs do not depend on the number of readers.
+   *
+   * @param excludedNodeId
+   *          node which must not receive the messages, may be <code>null</code>
+   * @return sequence number of the last published message
+   */
+  public long publish(Collection<? extends ClientNotificationMessage> messages, NodeId excludedNodeId) {
+    return publish(messages, null, excludedNodeId);
+  }
+
+  /**
+   * Appends the relevant messages (see {@link #isRelevant(IClientNotificationAddress)}) to the buffer, visible only
+   * for the given node.
+   *
+   * @param recipientNodeId
+   *          the only node which receives the messages, not <code>null</code>
+   * @return sequence number of the last published message
+   */
+  public long publishToNode(Collection<? extends ClientNotificationMessage> messages, NodeId recipientNodeId) {
+    return publish(messages, Assertions.assertNotNull(recipientNodeId), null);
+  }
+
+  protected long publish(Collection<? extends ClientNotificationMessage> messages, NodeId recipientNodeId, NodeId excludedNodeId) {
+    m_publishLock.lock();
+    try {
+      long sequence = m_publishedSequence;
+      for (ClientNotificationMessage message : messages) {
+        if (!isRelevant(message.getAddress())) {
+          continue;
+        }
+        sequence++;
+        m_entries.set(index(sequence), new Entry(sequence, message, recipientNodeId, excludedNodeId));
+      }
+      if (sequence != m_publishedSequence) {
+        m_publishedSequence = sequence;
+        m_published.signalAll();
+      }
+      return sequence;
+    }
+    finally {
+      m_publishLock.unlock();
+    }
+  }
+
+  /**
+   * Blocks until the message with the given sequence number is published or the timeout elapses.
+   *
+   * @return <code>true</code> if the message with the given sequence number is published
+   */
+  public boolean awaitPublished(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+    if (m_publishedSequence >= sequence) {
+      return true;
+    }
+    long remainingNanos = unit.toNanos(timeout);
+    m_publishLock.lockInterruptibly();
+    try {
+      while (m_publishedSequence < sequence) {
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        remainingNanos = m_published.awaitNanos(remainingNanos);
+      }
+      return true;
+    }
+    finally {
+      m_publishLock.unlock();
+    }
+  }
+
+  /**
+   * @return the entry with the given sequence number or <code>null</code> if it was already overwritten or is not
+   *         published yet
+   */
+  public Entry get(long sequence) {
+    if (sequence < 0 || sequence > m_publishedSequence) {
+      return null;
+    }
+    Entry entry = m_entries.get(index(sequence));
+    if (entry == null || entry.getSequence() != sequence) {
+      return null;
+    }
+    return entry;
+  }
+
+  public boolean isRelevant(IClientNotificationAddress address) {
+    return address.isNotifyAllSessions()
+        || address.isNotifyAllNodes()
+        || CollectionUtility.hasElements(address.getSessionIds())
+        || CollectionUtility.hasElements(address.getUserIds());
+  }
+
+  protected int index(long sequence) {
+    return (int) (sequence % m_capacity);
+  }
+
+  /**
+   * Immutable slot content of a {@link ClientNotificationRingBuffer}.
+   */
+  public static final class Entry {
+    private final long m_sequence;
+    private final ClientNotificationMessage m_message;
+    private final NodeId m_recipientNodeId;
+    private final NodeId m_excludedNodeId;
+
+    Entry(long sequence, ClientNotificationMessage message, NodeId recipientNodeId, NodeId excludedNodeId) {
+      m_sequence = sequence;
+      m_message = message;
+      m_recipientNodeId = recipientNodeId;
+      m_excludedNodeId = excludedNodeId;
+    }
+
+    public long getSequence() {
+      return m_sequence;
+    }
+
+    public ClientNotificationMessage getMessage() {
+      return m_message;
+    }
+
+    /**
+     * @return <code>true</code> if the message was published for the given node
+     */
+    public boolean isVisibleFor(NodeId nodeId) {
+      if (m_recipientNodeId != null) {
+        return m_recipientNodeId.equals(nodeId);
+      }
+      return m_excludedNodeId == null || !m_excludedNodeId.equals(nodeId);
+    }
+  }
+}
@@ -208,6 +208,46 @@ public class CodeServiceTest {
     assertNull(r);
   }
 
+  @Test
+  public void testFindCodeTypeByIdAfterInvalidate() {
+    ICodeService service = newCodeServiceInstance();
+
+    ICodeType<Long, ?> abcCodeType1 = service.findCodeTypeById(ABC_ID);
+    assertTrue(abcCodeType1 instanceof AbcCodeType);
+
+    service.invalidateCodeType(AbcCodeType.class);
+    ICodeType<Long, ?> abcCodeType2 = service.findCodeTypeById(ABC_ID);
+    assertTrue(abcCodeType2 instanceof AbcCodeType);
+    assertNotSame(abcCodeType1, abcCodeType2);
+    assertSame(abcCodeType2, service.findCodeTypeById(ABC_ID));
+    assertSame(abcCodeType2, service.getCodeType(AbcCodeType.class));
+  }
+
+  @Test
+  public void testFindCodeTypeByIdIndexedOnLoad() {
+    P_TestCodeService service = (P_TestCodeService) newCodeServiceInstance();
+
+    ICodeType<Long, ?> abcCodeType = service.getCodeType(AbcCodeType.class);
+    assertSame(abcCodeType, service.findCodeTypeById(ABC_ID));
+    assertEquals(0, service.m_getAllCodeTypesCount);
+  }
+
+  @Test
+  public void testFindCodeTypeByIdNegativeLookup() {
+    P_TestCodeService service = (P_TestCodeService) newCodeServiceInstance();
+
+    assertNull(service.findCodeTypeById(-1L));
+    assertNull(service.findCodeTypeById(-1L));
+    assertNull(service.findCodeTypeById(-2L));
+    assertEquals(1, service.m_getAllCodeTypesCount);
+    assertTrue(service.findCodeTypeById(ZYX_ID) instanceof ZyxCodeType);
+    assertEquals(1, service.m_getAllCodeTypesCount);
+
+    service.invalidateCodeType(AbcCodeType.class);
+    assertNull(service.findCodeTypeById(-1L));
+    assertEquals(2, service.m_getAllCodeTypesCount);
+  }
+
   @Test
   public void testReplaceLookupUsingCodeService() {
     ICodeService service = newCodeServiceInstance();
@@ -244,6 +284,13 @@ public class CodeServiceTest {
 
   static class P_TestCodeService extends CodeService {
     private boolean m_isFirst = true;
+    private int m_getAllCodeTypesCount;
+
+    @Override
+    public List<ICodeType<?, ?>> getAllCodeTypes() {
+      m_getAllCodeTypesCount++;
+      return super.getAllCodeTypes();
+    }
 
     @Override
     public Set<Class<? extends ICodeType<?, ?>>> getAllCodeTypeClasses() {
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.shared.services.common.code;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.util.List;
 
@@ -103,6 +104,27 @@ public class CodeTypeWithAddRemoveCodeTest {
     assertEquals("{id:10,text:Root10}", dumpCodeType(ct));
   }
 
+  @Test
+  public void testGetCodeAfterAddRemoveChildCode() {
+    TestCodeType ct = new TestCodeType();
+    ICode<Long> root = ct.getCode(10L);
+    assertEquals("Test11", ct.getCode(11L).getText());
+
+    root.addChildCodeInternal(-1, new MutableCode<>(new CodeRow<>(11L, "Test11b")));
+    assertEquals("Test11b", ct.getCode(11L).getText());
+
+    root.getChildCode(12L).addChildCodeInternal(-1, new MutableCode<>(new CodeRow<>(13L, "Test13")));
+    assertEquals("Test13", ct.getCode(13L).getText());
+
+    root.removeChildCodeInternal(12L);
+    assertNull(ct.getCode(12L));
+    assertNull(ct.getCode(13L));
+    assertEquals("Test11b", ct.getCode(11L).getText());
+
+    ct.removeRootCodeInternal(10L);
+    assertNull(ct.getCode(11L));
+  }
+
   private static String dumpCodeType(ICodeType<Long, Long> ct) {
     StringBuilder buf = new StringBuilder();
     List<? extends ICode<Long>> list = ct.getCodes();
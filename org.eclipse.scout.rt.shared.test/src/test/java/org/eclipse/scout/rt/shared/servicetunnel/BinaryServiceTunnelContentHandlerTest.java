@@ -21,6 +21,7 @@ import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.IBeanManager;
 import org.eclipse.scout.rt.platform.config.IConfigProperty;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.CompressServiceTunnelRequestProperty;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
@@ -85,6 +86,24 @@ public class BinaryServiceTunnelContentHandlerTest {
     assertEquals("test", readResponse.getData());
   }
 
+  @Test
+  public void reuseCompression() throws Throwable {
+    BinaryServiceTunnelContentHandler handler = new BinaryServiceTunnelContentHandler();
+    handler.initialize();
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 5; i++) {
+      // data of different size, the (pooled) deflater and inflater must be reset in between
+      sb.append(StringUtility.repeat("abcdefghij" + i, 1000 * (i + 1)));
+      String testValue = sb.toString();
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      handler.writeResponse(bos, new ServiceTunnelResponse(testValue, null));
+      bos.close();
+      assertTrue(bos.size() < testValue.length());
+      ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+      assertEquals(testValue, readResponse.getData());
+    }
+  }
+
   @Test
   public void requestUncompressed() throws Throwable {
     String testValue = "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx";
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureStringId;
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.shared.servicetunnel.fixture.ServiceTunnelFixtureDo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link DataObjectServiceTunnelContentHandler}
+ */
+@RunWith(PlatformTestRunner.class)
+public class DataObjectServiceTunnelContentHandlerTest {
+
+  @Test
+  public void testRequest() throws Exception {
+    ServiceTunnelFixtureDo entity = createEntity(1)
+        .withChildren(createEntity(2), createEntity(3));
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("b", 2L);
+    map.put("a", Arrays.asList("x", "y")); // not a native list type, written with Java serialization
+    Object[] args = {entity, FixtureStringId.of("abc"), new ArrayList<>(Arrays.asList(1, "two", null, 3.0)), map, TimeUnit.SECONDS, new Date(), Locale.GERMANY,
+        new BigDecimal("12.50"), UUID.randomUUID(), 'c', 1.5f, (short) 3, (byte) 4, Boolean.TRUE, int.class};
+    ServiceTunnelRequest request = new ServiceTunnelRequest("org.eclipse.scout.rt.shared.services.ITestService", "test",
+        new Class[]{IDataObject.class, FixtureStringId.class, List.class, Map.class, TimeUnit.class, Date.class, Locale.class,
+            BigDecimal.class, UUID.class, char.class, float.class, short.class, byte.class, Boolean.class, Class.class},
+        args);
+    request.setSessionId("session");
+    request.setUserAgent("userAgent");
+    request.setClientNodeId(NodeId.of("node"));
+
+    ServiceTunnelRequest readRequest = writeAndReadRequest(createHandler(false), request);
+    assertEquals(ServiceTunnelRequest.class, readRequest.getClass());
+    assertEquals(request.getRequestSequence(), readRequest.getRequestSequence());
+    assertEquals("session", readRequest.getSessionId());
+    assertEquals(request.getServiceInterfaceClassName(), readRequest.getServiceInterfaceClassName());
+    assertEquals("test", readRequest.getOperation());
+    assertArrayEquals(request.getParameterTypes(), readRequest.getParameterTypes());
+    assertArrayEquals(args, readRequest.getArgs());
+    assertEquals(ServiceTunnelFixtureDo.class, readRequest.getArgs()[0].getClass());
+    assertEquals(request.getLocale(), readRequest.getLocale());
+    assertEquals("userAgent", readRequest.getUserAgent());
+    assertEquals(NodeId.of("node"), readRequest.getClientNodeId());
+  }
+
+  @Test
+  public void testRequestCompressed() throws Exception {
+    String testValue = StringUtility.repeat("abcdefghij", 1000);
+    ServiceTunnelRequest request = new ServiceTunnelRequest("test", "test", new Class[]{String.class, byte[].class}, new Object[]{testValue, new byte[]{1, 2, 3}});
+    DataObjectServiceTunnelContentHandler handler = createHandler(true);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, request);
+    assertTrue(bos.size() < testValue.length());
+
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals(testValue, readRequest.getArgs()[0]);
+    assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) readRequest.getArgs()[1]);
+  }
+
+  @Test
+  public void testBatchRequest() throws Exception {
+    ServiceTunnelRequest request1 = new ServiceTunnelRequest("test", "op1", null, new Object[]{"a"});
+    ServiceTunnelRequest request2 = new ServiceTunnelRequest("test", "op2", null, new Object[]{createEntity(1)});
+    request1.setSessionId("session");
+    request2.setSessionId("session");
+    ServiceTunnelBatchRequest batch = new ServiceTunnelBatchRequest(Arrays.asList(request1, request2), true);
+
+    ServiceTunnelRequest readRequest = writeAndReadRequest(createHandler(false), batch);
+    assertEquals(ServiceTunnelBatchRequest.class, readRequest.getClass());
+    ServiceTunnelBatchRequest readBatch = (ServiceTunnelBatchRequest) readRequest;
+    assertEquals(batch.getRequestSequence(), readBatch.getRequestSequence());
+    assertEquals("session", readBatch.getSessionId());
+    assertTrue(readBatch.isParallelExecution());
+    assertEquals(2, readBatch.getRequests().size());
+    assertEquals(request1.getRequestSequence(), readBatch.getRequests().get(0).getRequestSequence());
+    assertEquals("op2", readBatch.getRequests().get(1).getOperation());
+    assertEquals(createEntity(1), readBatch.getRequests().get(1).getArgs()[0]);
+  }
+
+  @Test
+  public void testResponse() throws Exception {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(createEntity(1), new ProcessingException("failed"));
+    response.setProcessingDuration(42L);
+
+    ServiceTunnelResponse readResponse = writeAndReadResponse(createHandler(false), response);
+    assertEquals(createEntity(1), readResponse.getData());
+    assertEquals(ProcessingException.class, readResponse.getException().getClass());
+    assertEquals("failed", ((ProcessingException) readResponse.getException()).getDisplayMessage());
+    assertEquals(Long.valueOf(42L), readResponse.getProcessingDuration());
+    assertNull(readResponse.getNotifications());
+  }
+
+  @Test
+  public void testBatchResponse() throws Exception {
+    ServiceTunnelBatchResponse batch = new ServiceTunnelBatchResponse(Arrays.asList(new ServiceTunnelResponse("a"), new ServiceTunnelResponse(new ProcessingException("failed"))));
+
+    ServiceTunnelResponse readResponse = writeAndReadResponse(createHandler(false), batch);
+    assertEquals(ServiceTunnelBatchResponse.class, readResponse.getClass());
+    List<ServiceTunnelResponse> responses = ((ServiceTunnelBatchResponse) readResponse).getResponses();
+    assertEquals(2, responses.size());
+    assertEquals("a", responses.get(0).getData());
+    assertEquals("failed", ((ProcessingException) responses.get(1).getException()).getDisplayMessage());
+  }
+
+  @Test
+  public void testLegacyType() throws Exception {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(new ArrayList<>(Arrays.asList(new P_LegacyValue("a"), new DoEntity())));
+
+    ServiceTunnelResponse readResponse = writeAndReadResponse(createHandler(false), response);
+    assertEquals(response.getData(), readResponse.getData());
+  }
+
+  @Test
+  public void testSubclassedRequest() throws Exception {
+    P_CustomRequest request = new P_CustomRequest("custom");
+
+    ServiceTunnelRequest readRequest = writeAndReadRequest(createHandler(false), request);
+    assertEquals(P_CustomRequest.class, readRequest.getClass());
+    assertEquals("custom", ((P_CustomRequest) readRequest).getCustom());
+  }
+
+  @Test
+  public void testNamesWrittenOnce() throws Exception {
+    List<ServiceTunnelFixtureDo> entities = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      entities.add(createEntity(i));
+    }
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    createHandler(false).writeResponse(bos, new ServiceTunnelResponse(entities));
+
+    String data = new String(bos.toByteArray(), StandardCharsets.ISO_8859_1);
+    assertEquals(data.indexOf("scout.ServiceTunnelFixture"), data.lastIndexOf("scout.ServiceTunnelFixture"));
+    assertEquals(data.indexOf("createDate"), data.lastIndexOf("createDate"));
+  }
+
+  @Test
+  public void testSmallerThanJavaSerialization() throws Exception {
+    List<Object> rows = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      rows.add(new Object[]{(long) i, "Text " + i, new Date(0L), i % 2 == 0});
+    }
+    ServiceTunnelResponse response = new ServiceTunnelResponse(rows);
+
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler() {
+      @Override
+      protected Boolean isSendCompressed() {
+        return false;
+      }
+    };
+    binaryHandler.initialize();
+    ByteArrayOutputStream binary = new ByteArrayOutputStream();
+    binaryHandler.writeResponse(binary, response);
+
+    ByteArrayOutputStream compact = new ByteArrayOutputStream();
+    createHandler(false).writeResponse(compact, response);
+    assertTrue(String.format("compact: %s, binary: %s", compact.size(), binary.size()), compact.size() * 2 < binary.size());
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testClassNotWhitelisted() throws Exception {
+    DataObjectServiceTunnelContentHandler handler = new DataObjectServiceTunnelContentHandler() {
+      @Override
+      protected IObjectSerializer createObjectSerializer() {
+        return super.createObjectSerializer().withWhitelist(c -> !c.startsWith("java.util.concurrent."));
+      }
+    };
+    handler.initialize();
+    writeAndReadResponse(handler, new ServiceTunnelResponse(TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCorruptBytesLength() throws Exception {
+    // response with a byte array of a declared length of ~2 GB, but only 3 bytes
+    byte[] message = message(DataObjectServiceTunnelContentHandler.MESSAGE_RESPONSE, DataObjectServiceTunnelContentHandler.TYPE_BYTES, 0xf7, 0xff, 0xff, 0xff, 0x07, 1, 2, 3);
+    assertThrows(EOFException.class, () -> createHandler(false).readResponse(new ByteArrayInputStream(message)));
+  }
+
+  @Test
+  public void testCorruptNegativeLength() throws Exception {
+    // response with a byte array whose declared length has bit 63 set
+    byte[] message = message(DataObjectServiceTunnelContentHandler.MESSAGE_RESPONSE, DataObjectServiceTunnelContentHandler.TYPE_BYTES, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x01, 1, 2, 3);
+    IOException e = assertThrows(IOException.class, () -> createHandler(false).readResponse(new ByteArrayInputStream(message)));
+    assertFalse(e instanceof EOFException);
+  }
+
+  @Test
+  public void testCorruptArrayLength() throws Exception {
+    // response with a String[] of a declared length of ~2 G elements, but only 2 elements
+    byte[] componentType = "java.lang.String".getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    bos.write(new byte[]{DataObjectServiceTunnelContentHandler.TYPE_ARRAY, 1, (byte) componentType.length});
+    bos.write(componentType);
+    bos.write(new byte[]{(byte) 0xf7, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07, DataObjectServiceTunnelContentHandler.TYPE_NULL, DataObjectServiceTunnelContentHandler.TYPE_NULL});
+    byte[] message = message(DataObjectServiceTunnelContentHandler.MESSAGE_RESPONSE, bos.toByteArray());
+    assertThrows(EOFException.class, () -> createHandler(false).readResponse(new ByteArrayInputStream(message)));
+  }
+
+  @Test
+  public void testCorruptRequestCounts() throws Exception {
+    // request (sequence 0, no session, interface and operation, no parameter types) with ~2 G arguments, but only 1 argument
+    byte[] request = message(DataObjectServiceTunnelContentHandler.MESSAGE_REQUEST, 0, 0, 0, 0, 0, 0xf7, 0xff, 0xff, 0xff, 0x07, DataObjectServiceTunnelContentHandler.TYPE_NULL);
+    assertThrows(EOFException.class, () -> createHandler(false).readRequest(new ByteArrayInputStream(request)));
+
+    // batch request (sequence 0, not parallel, no locale) with ~2 G requests, but none
+    byte[] batchRequest = message(DataObjectServiceTunnelContentHandler.MESSAGE_BATCH_REQUEST, 0, 0, DataObjectServiceTunnelContentHandler.TYPE_NULL, 0xf7, 0xff, 0xff, 0xff, 0x07);
+    assertThrows(EOFException.class, () -> createHandler(false).readRequest(new ByteArrayInputStream(batchRequest)));
+  }
+
+  /**
+   * @return an uncompressed message of the given type with the given content
+   */
+  protected byte[] message(byte messageType, int... content) {
+    byte[] bytes = new byte[content.length];
+    for (int i = 0; i < content.length; i++) {
+      bytes[i] = (byte) content[i];
+    }
+    return message(messageType, bytes);
+  }
+
+  protected byte[] message(byte messageType, byte[] content) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    bos.write(0); // not compressed
+    bos.write(DataObjectServiceTunnelContentHandler.FORMAT_VERSION);
+    bos.write(messageType);
+    bos.writeBytes(content);
+    return bos.toByteArray();
+  }
+
+  protected DataObjectServiceTunnelContentHandler createHandler(boolean compressed) {
+    DataObjectServiceTunnelContentHandler handler = new DataObjectServiceTunnelContentHandler() {
+      @Override
+      protected Boolean isSendCompressed() {
+        return compressed;
+      }
+    };
+    handler.initialize();
+    return handler;
+  }
+
+  protected ServiceTunnelFixtureDo createEntity(int i) {
+    return new ServiceTunnelFixtureDo()
+        .withId(FixtureStringId.of("id-" + i))
+        .withName("Name " + i)
+        .withCreateDate(new Date(1_600_000_000_000L + i))
+        .withAmount(new BigDecimal(i).movePointLeft(2));
+  }
+
+  protected ServiceTunnelRequest writeAndReadRequest(IServiceTunnelContentHandler handler, ServiceTunnelRequest request) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, request);
+    return handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+  }
+
+  protected ServiceTunnelResponse writeAndReadResponse(IServiceTunnelContentHandler handler, ServiceTunnelResponse response) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, response);
+    return handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+  }
+
+  public static class P_LegacyValue implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String m_value;
+
+    public P_LegacyValue(String value) {
+      m_value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof P_LegacyValue && Objects.equals(m_value, ((P_LegacyValue) obj).m_value);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(m_value);
+    }
+  }
+
+  public static class P_CustomRequest extends ServiceTunnelRequest {
+    private static final long serialVersionUID = 1L;
+
+    private final String m_custom;
+
+    public P_CustomRequest(String custom) {
+      super("test", "test", null, null);
+      m_custom = custom;
+    }
+
+    public String getCustom() {
+      return m_custom;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.fixture;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import javax.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.TypeName;
+import org.eclipse.scout.rt.dataobject.fixture.FixtureStringId;
+
+@TypeName("scout.ServiceTunnelFixture")
+public class ServiceTunnelFixtureDo extends DoEntity {
+
+  public DoValue<FixtureStringId> id() {
+    return doValue("id");
+  }
+
+  public DoValue<String> name() {
+    return doValue("name");
+  }
+
+  public DoValue<Date> createDate() {
+    return doValue("createDate");
+  }
+
+  public DoValue<BigDecimal> amount() {
+    return doValue("amount");
+  }
+
+  public DoList<ServiceTunnelFixtureDo> children() {
+    return doList("children");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelFixtureDo withId(FixtureStringId id) {
+    id().set(id);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public FixtureStringId getId() {
+    return id().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelFixtureDo withName(String name) {
+    name().set(name);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getName() {
+    return name().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelFixtureDo withCreateDate(Date createDate) {
+    createDate().set(createDate);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Date getCreateDate() {
+    return createDate().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelFixtureDo withAmount(BigDecimal amount) {
+    amount().set(amount);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BigDecimal getAmount() {
+    return amount().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelFixtureDo withChildren(Collection<? extends ServiceTunnelFixtureDo> children) {
+    children().updateAll(children);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public ServiceTunnelFixtureDo withChildren(ServiceTunnelFixtureDo... children) {
+    children().updateAll(children);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<ServiceTunnelFixtureDo> getChildren() {
+    return children().get();
+  }
+}
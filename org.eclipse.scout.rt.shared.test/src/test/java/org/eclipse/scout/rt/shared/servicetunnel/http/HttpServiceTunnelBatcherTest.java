@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatch;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link HttpServiceTunnelBatcher}
+ */
+@RunWith(PlatformTestRunner.class)
+public class HttpServiceTunnelBatcherTest {
+
+  @Test
+  public void testBatchScope() {
+    P_BatchingTunnel tunnel = new P_BatchingTunnel(0, 20);
+    IFuture<Object> f1;
+    IFuture<Object> f2;
+    IFuture<Object> f3;
+    try (ServiceTunnelBatch batch = ServiceTunnelBatch.create().withMaxWait(30, TimeUnit.SECONDS)) {
+      f1 = batch.schedule(() -> invoke(tunnel, "session", "a"));
+      f2 = batch.schedule(() -> invoke(tunnel, "session", P_BatchingTunnel.FAIL));
+      f3 = batch.schedule(() -> invoke(tunnel, "session", "c"));
+    }
+
+    assertEquals("a", f1.awaitDoneAndGet());
+    assertTrue(f2.awaitDoneAndGet() instanceof ProcessingException);
+    assertEquals("c", f3.awaitDoneAndGet());
+
+    assertEquals(1, tunnel.getSentRequests().size());
+    ServiceTunnelBatchRequest batchRequest = (ServiceTunnelBatchRequest) tunnel.getSentRequests().get(0);
+    assertEquals(3, batchRequest.getRequests().size());
+    assertEquals("session", batchRequest.getSessionId());
+    assertTrue(batchRequest.isParallelExecution());
+  }
+
+  @Test
+  public void testBatchScopeCall() {
+    P_BatchingTunnel tunnel = new P_BatchingTunnel(0, 20);
+    ServiceTunnelBatch batch = ServiceTunnelBatch.create()
+        .withMaxWait(30, TimeUnit.SECONDS)
+        .withParallelExecution(false);
+
+    IFuture<Object> f1 = batch.schedule(() -> invoke(tunnel, "session", "a"));
+    Object result = batch.call(() -> invoke(tunnel, "session", "b"));
+
+    assertEquals("a", f1.awaitDoneAndGet());
+    assertEquals("b", result);
+    assertEquals(1, tunnel.getSentRequests().size());
+    ServiceTunnelBatchRequest batchRequest = (ServiceTunnelBatchRequest) tunnel.getSentRequests().get(0);
+    assertEquals(2, batchRequest.getRequests().size());
+    assertFalse(batchRequest.isParallelExecution());
+  }
+
+  @Test
+  public void testBatchScopeSingleCall() {
+    P_BatchingTunnel tunnel = new P_BatchingTunnel(0, 20);
+    Object result = ServiceTunnelBatch.create()
+        .withMaxWait(30, TimeUnit.SECONDS)
+        .call(() -> invoke(tunnel, "session", "a"));
+
+    assertEquals("a", result);
+    assertEquals(1, tunnel.getSentRequests().size());
+    assertFalse(tunnel.getSentRequests().get(0) instanceof ServiceTunnelBatchRequest);
+  }
+
+  @Test
+  public void testBatchWindowFlushWhenFull() {
+    P_BatchingTunnel tunnel = new P_BatchingTunnel((int) TimeUnit.SECONDS.toMillis(30), 2);
+
+    List<IFuture<Object>> futures = new ArrayList<>();
+    for (String arg : new String[]{"a", "b", "c", "d"}) {
+      futures.add(schedule(() -> invoke(tunnel, "session", arg)));
+    }
+    assertEquals("a", futures.get(0).awaitDoneAndGet());
+    assertEquals("b", futures.get(1).awaitDoneAndGet());
+    assertEquals("c", futures.get(2).awaitDoneAndGet());
+    assertEquals("d", futures.get(3).awaitDoneAndGet());
+
+    assertEquals(2, tunnel.getSentRequests().size());
+    for (ServiceTunnelRequest request : tunnel.getSentRequests()) {
+      assertEquals(2, ((ServiceTunnelBatchRequest) request).getRequests().size());
+    }
+  }
+
+  @Test
+  public void testBatchPerSession() {
+    P_BatchingTunnel tunnel = new P_BatchingTunnel((int) TimeUnit.SECONDS.toMillis(30), 2);
+
+    IFuture<Object> f1 = schedule(() -> invoke(tunnel, "session1", "a"));
+    IFuture<Object> f2 = schedule(() -> invoke(tunnel, "session2", "b"));
+    IFuture<Object> f3 = schedule(() -> invoke(tunnel, "session1", "c"));
+    IFuture<Object> f4 = schedule(() -> invoke(tunnel, "session2", "d"));
+
+    assertEquals("a", f1.awaitDoneAndGet());
+    assertEquals("b", f2.awaitDoneAndGet());
+    assertEquals("c", f3.awaitDoneAndGet());
+    assertEquals("d", f4.awaitDoneAndGet());
+
+    assertEquals(2, tunnel.getSentRequests().size());
+    for (ServiceTunnelRequest request : tunnel.getSentRequests()) {
+      for (ServiceTunnelRequest member : ((ServiceTunnelBatchRequest) request).getRequests()) {
+        assertEquals(request.getSessionId(), member.getSessionId());
+      }
+    }
+  }
+
+  @Test
+  public void testNoBatchWithoutSession() {
+    P_BatchingTunnel tunnel = new P_BatchingTunnel(0, 20);
+    Object result = ServiceTunnelBatch.create().call(() -> invoke(tunnel, null, "a"));
+
+    assertEquals("a", result);
+    assertEquals(1, tunnel.getSentRequests().size());
+    assertFalse(tunnel.getSentRequests().get(0) instanceof ServiceTunnelBatchRequest);
+  }
+
+  protected static Object invoke(HttpServiceTunnel tunnel, String sessionId, String arg) {
+    ServiceTunnelRequest request = new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{arg});
+    request.setSessionId(sessionId);
+    try {
+      return tunnel.invokeService(request);
+    }
+    catch (ProcessingException e) {
+      return e;
+    }
+  }
+
+  protected static <RESULT> IFuture<RESULT> schedule(Callable<RESULT> callable) {
+    return Jobs.schedule(callable, Jobs.newInput().withRunContext(RunContexts.copyCurrent()));
+  }
+
+  /**
+   * Tunnel which answers requests locally instead of sending them to a server.
+   */
+  private static class P_BatchingTunnel extends HttpServiceTunnel {
+
+    static final String FAIL = "fail";
+
+    private final int m_batchWindowMillis;
+    private final int m_batchMaxSize;
+    private final List<ServiceTunnelRequest> m_sentRequests = Collections.synchronizedList(new ArrayList<>());
+
+    P_BatchingTunnel(int batchWindowMillis, int batchMaxSize) {
+      super(null);
+      m_batchWindowMillis = batchWindowMillis;
+      m_batchMaxSize = batchMaxSize;
+      setContentHandler(new BinaryServiceTunnelContentHandler());
+    }
+
+    List<ServiceTunnelRequest> getSentRequests() {
+      return m_sentRequests;
+    }
+
+    @Override
+    public int getBatchWindowMillis() {
+      return m_batchWindowMillis;
+    }
+
+    @Override
+    public int getBatchMaxSize() {
+      return m_batchMaxSize;
+    }
+
+    @Override
+    protected RemoteServiceInvocationCallable createRemoteServiceInvocationCallable(ServiceTunnelRequest serviceRequest) {
+      return new RemoteServiceInvocationCallable(this, serviceRequest) {
+        @Override
+        protected ServiceTunnelResponse send() {
+          m_sentRequests.add(serviceRequest);
+          if (serviceRequest instanceof ServiceTunnelBatchRequest) {
+            List<ServiceTunnelResponse> responses = new ArrayList<>();
+            for (ServiceTunnelRequest request : ((ServiceTunnelBatchRequest) serviceRequest).getRequests()) {
+              responses.add(respond(request));
+            }
+            return new ServiceTunnelBatchResponse(responses);
+          }
+          return respond(serviceRequest);
+        }
+      };
+    }
+
+    private static ServiceTunnelResponse respond(ServiceTunnelRequest request) {
+      Object arg = request.getArgs()[0];
+      if (FAIL.equals(arg)) {
+        return new ServiceTunnelResponse(new ProcessingException("failed"));
+      }
+      return new ServiceTunnelResponse(arg);
+    }
+  }
+}
@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.shared.servicetunnel.http;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -21,6 +23,7 @@ import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrl
 import org.eclipse.scout.rt.shared.http.AbstractHttpTransportManager;
 import org.eclipse.scout.rt.shared.http.IHttpTransportBuilder;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
@@ -32,6 +35,7 @@ import org.junit.runner.RunWith;
 import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
 import com.google.api.client.testing.http.MockLowLevelHttpResponse;
 
 /**
@@ -73,17 +77,81 @@ public class HttpServiceTunnelTest {
     assertEquals(401, ((HttpServiceTunnelException) response.getException()).getHttpStatus());
   }
 
+  @Test
+  public void testTunnelStreamsRequest() throws Exception {
+    when(mockUrl.getValue()).thenReturn("http://localhost");
+    BinaryServiceTunnelContentHandler contentHandler = new BinaryServiceTunnelContentHandler();
+    contentHandler.initialize();
+    ByteArrayOutputStream responseData = new ByteArrayOutputStream();
+    contentHandler.writeResponse(responseData, new ServiceTunnelResponse("testData"));
+
+    MockLowLevelHttpRequest expectedRequest = new MockLowLevelHttpRequest()
+        .setResponse(new MockLowLevelHttpResponse().setContent(responseData.toByteArray()));
+    HttpServiceTunnel tunnel = createHttpServiceTunnel(new MockHttpTransport.Builder()
+        .setLowLevelHttpRequest(expectedRequest)
+        .build(), true);
+    tunnel.setContentHandler(contentHandler);
+    assertTrue(tunnel.isStreamRequest());
+
+    ServiceTunnelRequest request = new ServiceTunnelRequest("IPingService", "ping", null, null);
+    ServiceTunnelResponse response = tunnel.tunnel(request);
+    assertEquals("testData", response.getData());
+
+    // request is streamed with unknown length (chunked)
+    assertEquals(-1, expectedRequest.getContentLength());
+    ByteArrayOutputStream requestData = new ByteArrayOutputStream();
+    expectedRequest.getStreamingContent().writeTo(requestData);
+    ServiceTunnelRequest sentRequest = contentHandler.readRequest(new ByteArrayInputStream(requestData.toByteArray()));
+    assertEquals(request.getRequestSequence(), sentRequest.getRequestSequence());
+    assertEquals("ping", sentRequest.getOperation());
+  }
+
+  @Test
+  public void testTunnelBuffersRequestByDefault() throws Exception {
+    when(mockUrl.getValue()).thenReturn("http://localhost");
+    BinaryServiceTunnelContentHandler contentHandler = new BinaryServiceTunnelContentHandler();
+    contentHandler.initialize();
+    ByteArrayOutputStream responseData = new ByteArrayOutputStream();
+    contentHandler.writeResponse(responseData, new ServiceTunnelResponse("testData"));
+
+    MockLowLevelHttpRequest expectedRequest = new MockLowLevelHttpRequest()
+        .setResponse(new MockLowLevelHttpResponse().setContent(responseData.toByteArray()));
+    HttpServiceTunnel tunnel = createHttpServiceTunnel(new MockHttpTransport.Builder()
+        .setLowLevelHttpRequest(expectedRequest)
+        .build());
+    tunnel.setContentHandler(contentHandler);
+    assertFalse(tunnel.isStreamRequest());
+
+    ServiceTunnelResponse response = tunnel.tunnel(new ServiceTunnelRequest("IPingService", "ping", null, null));
+    assertEquals("testData", response.getData());
+    // request data is buffered, hence the length is known
+    assertTrue(expectedRequest.getContentLength() > 0);
+  }
+
   protected HttpServiceTunnel createHttpServiceTunnel(final MockLowLevelHttpResponse expectedResponse) {
+    return createHttpServiceTunnel(new MockHttpTransport.Builder()
+        .setLowLevelHttpResponse(expectedResponse)
+        .build());
+  }
+
+  protected HttpServiceTunnel createHttpServiceTunnel(final MockHttpTransport transport) {
+    return createHttpServiceTunnel(transport, false);
+  }
+
+  protected HttpServiceTunnel createHttpServiceTunnel(final MockHttpTransport transport, final boolean streamRequest) {
     HttpServiceTunnel tunnel = new HttpServiceTunnel() {
 
+      @Override
+      public boolean isStreamRequest() {
+        return streamRequest;
+      }
+
       @Override
       protected IHttpTransportManager getHttpTransportManager() {
 
         return new AbstractHttpTransportManager() {
 
-          private MockHttpTransport m_transport = new MockHttpTransport.Builder()
-              .setLowLevelHttpResponse(expectedResponse)
-              .build();
+          private MockHttpTransport m_transport = transport;
 
           @Override
           public HttpTransport getHttpTransport() {
@@ -57,6 +57,10 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
   private transient Map<CODE_ID, CODE> m_rootCodeMap = new HashMap<>();
   private List<CODE> m_rootCodeList = new ArrayList<>();
   private transient Map<CODE_ID, Integer> m_codeIndexMap = new HashMap<>();
+  /**
+   * Lazily built index of all non-root codes by id, see {@link #getCode(Object)}
+   */
+  private transient volatile Map<CODE_ID, CODE> m_childCodeMap;
   protected IContributionOwner m_contributionHolder;
   private final ObjectExtensions<AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE>, ICodeTypeExtension<CODE_TYPE_ID, CODE_ID, ? extends AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE>>> m_objectExtensions;
 
@@ -367,15 +371,51 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
   @Override
   public CODE getCode(CODE_ID id) {
     CODE c = m_rootCodeMap.get(id);
-    if (c == null) {
-      for (CODE childCode : m_rootCodeList) {
-        c = (CODE) childCode.getChildCode(id);
-        if (c != null) {
-          return c;
+    if (c != null) {
+      return c;
+    }
+    CODE indexedCode = getChildCodeMap().get(id);
+    if (indexedCode != null && indexedCode.getCodeType() == this) {
+      return indexedCode;
+    }
+    // child codes might have been added or removed directly, hence the index might be outdated
+    for (CODE childCode : m_rootCodeList) {
+      c = (CODE) childCode.getChildCode(id);
+      if (c != null) {
+        if (c != indexedCode) {
+          m_childCodeMap = null;
         }
+        return c;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return index of all non-root codes by id. The first code wins if the same id is used more than once, in the same
+   *         order as {@link ICode#getChildCode(Object)} resolves codes.
+   */
+  protected Map<CODE_ID, CODE> getChildCodeMap() {
+    Map<CODE_ID, CODE> childCodeMap = m_childCodeMap;
+    if (childCodeMap == null) {
+      childCodeMap = new HashMap<>();
+      for (CODE rootCode : m_rootCodeList) {
+        collectChildCodes(rootCode, childCodeMap);
       }
+      m_childCodeMap = childCodeMap;
+    }
+    return childCodeMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void collectChildCodes(ICode<CODE_ID> parentCode, Map<CODE_ID, CODE> childCodeMap) {
+    List<? extends ICode<CODE_ID>> childCodes = parentCode.getChildCodes(false);
+    for (ICode<CODE_ID> childCode : childCodes) {
+      childCodeMap.putIfAbsent(childCode.getId(), (CODE) childCode);
+    }
+    for (ICode<CODE_ID> childCode : childCodes) {
+      collectChildCodes(childCode, childCodeMap);
     }
-    return c;
   }
 
   @SuppressWarnings("unchecked")
@@ -441,6 +481,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
   protected void loadCodes() {
     m_rootCodeMap = new HashMap<>();
     m_rootCodeList = new ArrayList<>();
+    m_childCodeMap = null;
     //
     // 1a create unconnected codes and assign to type
     List<CODE> allCodesOrdered = new ArrayList<>();
@@ -544,6 +585,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
     code.setCodeTypeInternal(this);
     code.setParentCodeInternal(null);
     m_rootCodeMap.put(code.getId(), code);
+    m_childCodeMap = null;
     if (index < 0) {
       m_rootCodeList.add(code);
     }
@@ -579,6 +621,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
     }
     droppedCode.setCodeTypeInternal(null);
     droppedCode.setParentCodeInternal(null);
+    m_childCodeMap = null;
     return index;
   }
 
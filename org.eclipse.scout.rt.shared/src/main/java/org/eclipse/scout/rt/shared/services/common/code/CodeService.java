@@ -18,24 +18,31 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.PostConstruct;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.CreateImmediately;
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.cache.AbstractCacheWrapper;
 import org.eclipse.scout.rt.platform.cache.ICache;
 import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
 import org.eclipse.scout.rt.platform.cache.ICacheValueResolver;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
 import org.eclipse.scout.rt.platform.holders.Holder;
 import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
-import org.eclipse.scout.rt.platform.util.ObjectUtility;
 
 /**
  * Common logic for the {@link ICodeService} implementations. Uses {@link ICache} for caching.
+ * <p>
+ * {@link #findCodeTypeById(Object)} uses a secondary index from locale and code type id to the cache key. The index is
+ * filled whenever code types are loaded through the cache and cleared whenever the cache is invalidated (locally or by
+ * a cluster or client notification), see {@link P_CodeTypeIdIndexCacheWrapper}.
  *
  * @since 4.3.0 (Mars-M5)
  */
@@ -46,6 +53,9 @@ public class CodeService implements ICodeService {
   public static final String CODE_SERVICE_CACHE_ID = CodeService.class.getName();
 
   private volatile ICache<CodeTypeCacheKey, ICodeType<?, ?>> m_cache;
+  private static final Object NULL_LOCALE = new Object();
+
+  private final ConcurrentMap<Object, P_CodeTypeIdIndex> m_codeTypeIdIndex = new ConcurrentHashMap<>();
 
   /**
    * Creates and initializes a new cache. Executed in {@link PostConstruct} to ensure that the cache created exactly
@@ -68,7 +78,8 @@ public class CodeService implements ICodeService {
         .withShared(true)
         .withClusterEnabled(true)
         .withTransactional(true)
-        .withTransactionalFastForward(true);
+        .withTransactionalFastForward(true)
+        .withAdditionalCustomWrapper(P_CodeTypeIdIndexCacheWrapper.class, this);
   }
 
   protected ICacheValueResolver<CodeTypeCacheKey, ICodeType<?, ?>> createCacheValueResolver() {
@@ -109,33 +120,59 @@ public class CodeService implements ICodeService {
     if (id == null) {
       return null;
     }
-    ICodeType<T, ?> ct = findCodeTypeByIdInternal(id);
-    if (ct != null) {
+    P_CodeTypeIdIndex index = getCodeTypeIdIndex(NlsLocale.get());
+    ICodeType<T, ?> ct = findCodeTypeByIdInternal(index, id);
+    if (ct != null || index.isComplete()) {
+      // a miss in a complete index is a negative lookup, no need to load all code types again
       return ct;
     }
-    // populate code type cache
+    // populate code type cache, the loaded code types are added to the index
     getAllCodeTypes();
-    return findCodeTypeByIdInternal(id);
+    index.setComplete();
+    return findCodeTypeByIdInternal(index, id);
   }
 
   /**
-   * @return Returns the code type with the given id or <code>null</code> if it is not found in the cache.
+   * @return Returns the code type with the given id or <code>null</code> if it is not found in the index.
    */
   @SuppressWarnings("unchecked")
-  protected <T> ICodeType<T, ?> findCodeTypeByIdInternal(T id) {
-    Locale locale = NlsLocale.get();
-    for (Entry<CodeTypeCacheKey, ICodeType<?, ?>> entry : getCache().getUnmodifiableMap().entrySet()) {
-      CodeTypeCacheKey key = entry.getKey();
-      if (ObjectUtility.equals(key.getLocale(), locale)) {
-        ICodeType<?, ?> ct = entry.getValue();
-        if (ct != null && id.equals(ct.getId())) {
-          return (ICodeType<T, ?>) ct;
-        }
-      }
+  protected <T> ICodeType<T, ?> findCodeTypeByIdInternal(P_CodeTypeIdIndex index, T id) {
+    CodeTypeCacheKey cacheKey = index.get(id);
+    if (cacheKey == null) {
+      return null;
+    }
+    ICodeType<?, ?> ct = getCache().get(cacheKey);
+    if (ct != null && id.equals(ct.getId())) {
+      return (ICodeType<T, ?>) ct;
     }
     return null;
   }
 
+  /**
+   * @return the code type id index of the given locale, never <code>null</code>
+   */
+  protected P_CodeTypeIdIndex getCodeTypeIdIndex(Locale locale) {
+    return m_codeTypeIdIndex.computeIfAbsent(locale != null ? locale : NULL_LOCALE, k -> new P_CodeTypeIdIndex());
+  }
+
+  /**
+   * Adds a code type loaded through the cache to the code type id index. Invoked by
+   * {@link P_CodeTypeIdIndexCacheWrapper}.
+   */
+  protected void indexCodeType(CodeTypeCacheKey key, ICodeType<?, ?> ct) {
+    if (key == null || ct == null || ct.getId() == null) {
+      return;
+    }
+    getCodeTypeIdIndex(key.getLocale()).put(ct.getId(), key);
+  }
+
+  /**
+   * Clears the code type id index. Invoked whenever the cache is invalidated.
+   */
+  protected void clearCodeTypeIdIndex() {
+    m_codeTypeIdIndex.clear();
+  }
+
   @Override
   public List<ICodeType<?, ?>> getCodeTypes(List<Class<? extends ICodeType<?, ?>>> types) {
     List<ICodeType<?, ?>> result = new ArrayList<>();
@@ -267,4 +304,71 @@ public class CodeService implements ICodeService {
     return getCodeTypes(list);
   }
 
+  /**
+   * Code type id index of one locale.
+   * <p>
+   * Once all code types have been loaded for the locale, the index is marked complete: an id which is not contained is
+   * not found at all and is answered without loading all code types again. The flag is dropped together with the index
+   * on the next invalidation.
+   */
+  protected static class P_CodeTypeIdIndex {
+    private final ConcurrentMap<Object, CodeTypeCacheKey> m_keys = new ConcurrentHashMap<>();
+    private volatile boolean m_complete;
+
+    public CodeTypeCacheKey get(Object id) {
+      return m_keys.get(id);
+    }
+
+    public void put(Object id, CodeTypeCacheKey key) {
+      // read first, the index is updated on every cache access
+      if (!key.equals(m_keys.get(id))) {
+        m_keys.put(id, key);
+      }
+    }
+
+    public boolean isComplete() {
+      return m_complete;
+    }
+
+    public void setComplete() {
+      m_complete = true;
+    }
+  }
+
+  /**
+   * Cache wrapper which adds every code type loaded through the cache to the code type id index of the
+   * {@link CodeService} and clears the index on every invalidation. It is added as custom wrapper, hence it is part of
+   * the registered cache and sees invalidations triggered by notifications too.
+   */
+  public static class P_CodeTypeIdIndexCacheWrapper extends AbstractCacheWrapper<CodeTypeCacheKey, ICodeType<?, ?>> {
+
+    private final CodeService m_codeService;
+
+    public P_CodeTypeIdIndexCacheWrapper(ICache<CodeTypeCacheKey, ICodeType<?, ?>> delegate, CodeService codeService) {
+      super(delegate);
+      m_codeService = codeService;
+    }
+
+    @Override
+    public ICodeType<?, ?> get(CodeTypeCacheKey key) {
+      ICodeType<?, ?> ct = super.get(key);
+      m_codeService.indexCodeType(key, ct);
+      return ct;
+    }
+
+    @Override
+    public Map<CodeTypeCacheKey, ICodeType<?, ?>> getAll(Collection<? extends CodeTypeCacheKey> keys) {
+      Map<CodeTypeCacheKey, ICodeType<?, ?>> result = super.getAll(keys);
+      for (Entry<CodeTypeCacheKey, ICodeType<?, ?>> entry : result.entrySet()) {
+        m_codeService.indexCodeType(entry.getKey(), entry.getValue());
+      }
+      return result;
+    }
+
+    @Override
+    public void invalidate(ICacheEntryFilter<CodeTypeCacheKey, ICodeType<?, ?>> filter, boolean propagate) {
+      super.invalidate(filter, propagate);
+      m_codeService.clearCodeTypeIdIndex();
+    }
+  }
 }
@@ -13,7 +13,6 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -156,9 +155,9 @@ public class RemoteFile implements Serializable {
   public RemoteFile(BinaryResource res) {
     this(null, res.getFilename(), res.getLastModified());
     setContentType(res.getContentType());
-    if (res.getContent() != null) {
-      try {
-        readData(new ByteArrayInputStream(res.getContent()));
+    if (res.hasContent()) {
+      try (InputStream in = res.openContentStream()) {
+        readData(in);
       }
       catch (IOException e) {
         throw new PlatformException("Cannot read binary data", e);
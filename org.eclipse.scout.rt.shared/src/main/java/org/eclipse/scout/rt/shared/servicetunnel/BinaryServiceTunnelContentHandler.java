@@ -13,6 +13,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.NotSerializableException;
 import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
@@ -24,13 +26,20 @@ import org.slf4j.LoggerFactory;
 
 /**
  * "No frills" implementation for client-server communication with optional compression.
+ * <p>
+ * The data is serialized directly into the given stream. {@link Deflater} and {@link Inflater} instances are pooled,
+ * because their native resources are expensive to allocate for every request.
  */
 @Order(5010)
 public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelContentHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(BinaryServiceTunnelContentHandler.class);
   private static final String CONTENT_TYPE = "application/octet-stream";
+  private static final int BUFFER_SIZE = 8192;
+  private static final int POOL_SIZE = 16;
 
+  private final BlockingQueue<Deflater> m_deflaterPool = new ArrayBlockingQueue<>(POOL_SIZE);
+  private final BlockingQueue<Inflater> m_inflaterPool = new ArrayBlockingQueue<>(POOL_SIZE);
   private Boolean m_receivedCompressed;
 
   @Override
@@ -58,6 +67,14 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
     return readData(in, ServiceTunnelResponse.class);
   }
 
+  /**
+   * Batches are serialized like any other request or response.
+   */
+  @Override
+  public boolean isBatchSupported() {
+    return true;
+  }
+
   private void writeData(OutputStream out, Object msg) throws IOException {
     Deflater deflater = null;
     boolean compressed = isUseCompression();
@@ -66,10 +83,10 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
       out.write(compressed ? 1 : 0);
       // build serialized data
       if (compressed) {
-        deflater = new Deflater(Deflater.BEST_SPEED);
-        out = new DeflaterOutputStream(out, deflater);
+        deflater = acquireDeflater();
+        out = new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
       }
-      getObjectSerializer().serialize(out, msg);
+      writeMessage(out, msg);
     }
     catch (NotSerializableException e) {
       LOG.error("Error serializing data '{}'", msg);
@@ -77,11 +94,7 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
     }
     finally {
       if (deflater != null) {
-        try {
-          deflater.end();
-        }
-        catch (Throwable fatal) { // NOSONAR
-        }
+        releaseDeflater(deflater);
       }
     }
   }
@@ -94,20 +107,88 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
       m_receivedCompressed = compressed;
       // decode serial data
       if (compressed) {
-        inflater = new Inflater();
-        in = new InflaterInputStream(in, inflater);
+        inflater = acquireInflater();
+        in = new InflaterInputStream(in, inflater, BUFFER_SIZE);
       }
-      return getObjectSerializer().deserialize(in, clazz);
+      return readMessage(in, clazz);
     }
     finally {
       if (inflater != null) {
-        try {
-          inflater.end();
-        }
-        catch (Throwable fatal) { // NOSONAR
-        }
+        releaseInflater(inflater);
+      }
+    }
+  }
+
+  /**
+   * Writes the message into the given (possibly compressing) stream. The stream is closed afterwards, so that a
+   * compressing stream is finished.
+   *
+   * @since 23.2
+   */
+  protected void writeMessage(OutputStream out, Object msg) throws IOException {
+    getObjectSerializer().serialize(out, msg);
+  }
+
+  /**
+   * Reads a message written by {@link #writeMessage(OutputStream, Object)} from the given (possibly decompressing)
+   * stream.
+   *
+   * @since 23.2
+   */
+  protected <T> T readMessage(InputStream in, Class<T> expectedType) throws IOException, ClassNotFoundException {
+    return getObjectSerializer().deserialize(in, expectedType);
+  }
+
+  /**
+   * @return compression level of the {@link Deflater} used to compress the data. Default is
+   *         {@link Deflater#BEST_SPEED}.
+   */
+  protected int getCompressionLevel() {
+    return Deflater.BEST_SPEED;
+  }
+
+  protected Deflater acquireDeflater() {
+    Deflater deflater = m_deflaterPool.poll();
+    return deflater != null ? deflater : new Deflater(getCompressionLevel());
+  }
+
+  protected void releaseDeflater(Deflater deflater) {
+    try {
+      deflater.reset();
+      if (m_deflaterPool.offer(deflater)) {
+        return;
+      }
+    }
+    catch (RuntimeException e) {
+      LOG.debug("Discard deflater which cannot be reset", e);
+    }
+    try {
+      deflater.end();
+    }
+    catch (Throwable fatal) { // NOSONAR
+    }
+  }
+
+  protected Inflater acquireInflater() {
+    Inflater inflater = m_inflaterPool.poll();
+    return inflater != null ? inflater : new Inflater();
+  }
+
+  protected void releaseInflater(Inflater inflater) {
+    try {
+      inflater.reset();
+      if (m_inflaterPool.offer(inflater)) {
+        return;
       }
     }
+    catch (RuntimeException e) {
+      LOG.debug("Discard inflater which cannot be reset", e);
+    }
+    try {
+      inflater.end();
+    }
+    catch (Throwable fatal) { // NOSONAR
+    }
   }
 
   protected boolean isUseCompression() {
@@ -0,0 +1,814 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import org.eclipse.scout.rt.dataobject.DataObjectInventory;
+import org.eclipse.scout.rt.dataobject.DoCollection;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoNode;
+import org.eclipse.scout.rt.dataobject.DoSet;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.TypeName;
+import org.eclipse.scout.rt.dataobject.id.IId;
+import org.eclipse.scout.rt.dataobject.id.IdCodec;
+import org.eclipse.scout.rt.dataobject.id.IdInventory;
+import org.eclipse.scout.rt.dataobject.id.IdTypeName;
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.platform.util.LazyValue;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+
+/**
+ * Content handler which encodes {@link ServiceTunnelRequest}s and {@link ServiceTunnelResponse}s with a compact binary
+ * format instead of Java serialization.
+ * <p>
+ * Data objects are written by their {@link TypeName} and their attributes, ids by their {@link IdTypeName} and their
+ * unqualified value (see {@link IdCodec}). Common JDK types (strings, numbers, dates, UUIDs, locales, enums, arrays,
+ * lists, sets and maps) are written as a type tag followed by their value. Names (class names, type names, attribute
+ * names, ...) are written once per message and referenced by their index afterwards. Any other object is written with
+ * Java serialization (see {@link #getObjectSerializer()}), so legacy types like form data or exceptions are still
+ * supported.
+ * <p>
+ * Unlike Java serialization, this format does not preserve object identity: an object referenced twice is transferred
+ * twice, and cyclic references of lists, sets or maps are not supported.
+ * <p>
+ * Client and server must use the same content handler. This implementation is not used by default; an application may
+ * use it by subclassing this class with an {@link Order} lower than the one of
+ * {@link BinaryServiceTunnelContentHandler}.
+ *
+ * @since 23.2
+ */
+@Order(5200)
+public class DataObjectServiceTunnelContentHandler extends BinaryServiceTunnelContentHandler {
+
+  protected static final int FORMAT_VERSION = 1;
+
+  protected static final byte MESSAGE_JAVA = 0;
+  protected static final byte MESSAGE_REQUEST = 1;
+  protected static final byte MESSAGE_BATCH_REQUEST = 2;
+  protected static final byte MESSAGE_RESPONSE = 3;
+  protected static final byte MESSAGE_BATCH_RESPONSE = 4;
+
+  protected static final byte TYPE_NULL = 0;
+  protected static final byte TYPE_TRUE = 1;
+  protected static final byte TYPE_FALSE = 2;
+  protected static final byte TYPE_INTEGER = 3;
+  protected static final byte TYPE_LONG = 4;
+  protected static final byte TYPE_SHORT = 5;
+  protected static final byte TYPE_BYTE = 6;
+  protected static final byte TYPE_CHARACTER = 7;
+  protected static final byte TYPE_DOUBLE = 8;
+  protected static final byte TYPE_FLOAT = 9;
+  protected static final byte TYPE_STRING = 10;
+  protected static final byte TYPE_BIG_DECIMAL = 11;
+  protected static final byte TYPE_BIG_INTEGER = 12;
+  protected static final byte TYPE_DATE = 13;
+  protected static final byte TYPE_LOCALE = 14;
+  protected static final byte TYPE_ENUM = 15;
+  protected static final byte TYPE_CLASS = 16;
+  protected static final byte TYPE_BYTES = 17;
+  protected static final byte TYPE_ARRAY = 18;
+  protected static final byte TYPE_LIST = 19;
+  protected static final byte TYPE_SET = 20;
+  protected static final byte TYPE_LINKED_SET = 21;
+  protected static final byte TYPE_MAP = 22;
+  protected static final byte TYPE_LINKED_MAP = 23;
+  protected static final byte TYPE_ID = 24;
+  protected static final byte TYPE_ENTITY = 25;
+  protected static final byte TYPE_UUID = 26;
+  protected static final byte TYPE_JAVA = 27;
+
+  protected static final byte NODE_VALUE = 0;
+  protected static final byte NODE_LIST = 1;
+  protected static final byte NODE_SET = 2;
+  protected static final byte NODE_COLLECTION = 3;
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+  static {
+    for (Class<?> c : new Class[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class}) {
+      PRIMITIVE_TYPES.put(c.getName(), c);
+    }
+  }
+
+  private final LazyValue<DataObjectInventory> m_dataObjectInventory = new LazyValue<>(DataObjectInventory.class);
+  private final LazyValue<IdInventory> m_idInventory = new LazyValue<>(IdInventory.class);
+  private final LazyValue<IdCodec> m_idCodec = new LazyValue<>(IdCodec.class);
+
+  @Override
+  protected void writeMessage(OutputStream out, Object msg) throws IOException {
+    try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE))) {
+      data.writeByte(FORMAT_VERSION);
+      createEncoder(data).writeMessage(msg);
+    }
+  }
+
+  @Override
+  protected <T> T readMessage(InputStream in, Class<T> expectedType) throws IOException, ClassNotFoundException {
+    try (DataInputStream data = new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE))) {
+      int version = data.readUnsignedByte();
+      if (version != FORMAT_VERSION) {
+        throw new IOException("Unsupported format version " + version);
+      }
+      Object msg = createDecoder(data).readMessage();
+      if (expectedType != null && !expectedType.isInstance(msg)) {
+        throw new IOException("decoded message has unexpected type: expected '" + expectedType + "', actual '" + (msg == null ? null : msg.getClass()) + "'.");
+      }
+      @SuppressWarnings("unchecked")
+      T castedMsg = (T) msg;
+      return castedMsg;
+    }
+  }
+
+  protected P_Encoder createEncoder(DataOutputStream out) {
+    return new P_Encoder(out);
+  }
+
+  protected P_Decoder createDecoder(DataInputStream in) {
+    return new P_Decoder(in);
+  }
+
+  /**
+   * Loads a class referenced by a message. The class name is checked against the blacklist and whitelist of the object
+   * serializer, like classes read by Java serialization.
+   */
+  protected Class<?> resolveClass(String className) throws ClassNotFoundException {
+    Class<?> primitiveType = PRIMITIVE_TYPES.get(className);
+    if (primitiveType != null) {
+      return primitiveType;
+    }
+    if (getObjectSerializer().getBlacklist().test(className) || !getObjectSerializer().getWhitelist().test(className)) {
+      throw new PlatformException("Security check: class '{}' is not accepted by the blacklist and whitelist of the service tunnel", className);
+    }
+    return Class.forName(className, false, SerializationUtility.getClassLoader());
+  }
+
+  /**
+   * Writes one message. Names are interned per instance, hence a new encoder is used for every message.
+   */
+  protected class P_Encoder {
+
+    private final DataOutputStream m_out;
+    private final Map<String, Integer> m_names = new HashMap<>();
+    private final Map<Class<?>, String> m_entityTypeNames = new HashMap<>();
+
+    public P_Encoder(DataOutputStream out) {
+      m_out = out;
+    }
+
+    public void writeMessage(Object msg) throws IOException {
+      if (msg != null && msg.getClass() == ServiceTunnelBatchRequest.class) {
+        m_out.writeByte(MESSAGE_BATCH_REQUEST);
+        writeBatchRequest((ServiceTunnelBatchRequest) msg);
+      }
+      else if (msg != null && msg.getClass() == ServiceTunnelRequest.class) {
+        m_out.writeByte(MESSAGE_REQUEST);
+        writeRequest((ServiceTunnelRequest) msg);
+      }
+      else if (msg != null && msg.getClass() == ServiceTunnelBatchResponse.class) {
+        m_out.writeByte(MESSAGE_BATCH_RESPONSE);
+        writeBatchResponse((ServiceTunnelBatchResponse) msg);
+      }
+      else if (msg != null && msg.getClass() == ServiceTunnelResponse.class) {
+        m_out.writeByte(MESSAGE_RESPONSE);
+        writeResponse((ServiceTunnelResponse) msg);
+      }
+      else {
+        // subclasses of requests and responses may have additional state
+        m_out.writeByte(MESSAGE_JAVA);
+        writeBytes(getObjectSerializer().serialize(msg));
+      }
+    }
+
+    protected void writeRequest(ServiceTunnelRequest req) throws IOException {
+      writeVarLong(req.getRequestSequence());
+      writeName(req.getSessionId());
+      writeName(req.getServiceInterfaceClassName());
+      writeName(req.getOperation());
+      Class[] parameterTypes = req.getParameterTypes();
+      writeVarInt(parameterTypes == null ? 0 : parameterTypes.length + 1);
+      if (parameterTypes != null) {
+        for (Class<?> parameterType : parameterTypes) {
+          writeName(parameterType.getName());
+        }
+      }
+      Object[] args = req.getArgs();
+      writeVarInt(args.length);
+      for (Object arg : args) {
+        writeValue(arg);
+      }
+      writeValue(req.getLocale());
+      writeName(req.getUserAgent());
+      writeValue(req.getClientNodeId());
+    }
+
+    protected void writeBatchRequest(ServiceTunnelBatchRequest batch) throws IOException {
+      writeVarLong(batch.getRequestSequence());
+      m_out.writeBoolean(batch.isParallelExecution());
+      writeValue(batch.getLocale());
+      writeVarInt(batch.getRequests().size());
+      for (ServiceTunnelRequest req : batch.getRequests()) {
+        writeMessage(req);
+      }
+    }
+
+    protected void writeResponse(ServiceTunnelResponse resp) throws IOException {
+      writeValue(resp.getData());
+      writeValue(resp.getException());
+      writeValue(resp.getProcessingDuration());
+      writeValue(resp.getNotifications());
+    }
+
+    protected void writeBatchResponse(ServiceTunnelBatchResponse batch) throws IOException {
+      writeValue(batch.getProcessingDuration());
+      writeVarInt(batch.getResponses().size());
+      for (ServiceTunnelResponse resp : batch.getResponses()) {
+        writeMessage(resp);
+      }
+    }
+
+    @SuppressWarnings("squid:S3776")
+    public void writeValue(Object value) throws IOException {
+      if (value == null) {
+        m_out.writeByte(TYPE_NULL);
+      }
+      else if (value instanceof String) {
+        m_out.writeByte(TYPE_STRING);
+        writeString((String) value);
+      }
+      else if (value instanceof Boolean) {
+        m_out.writeByte((Boolean) value ? TYPE_TRUE : TYPE_FALSE);
+      }
+      else if (value instanceof Integer) {
+        m_out.writeByte(TYPE_INTEGER);
+        writeSignedVarLong((Integer) value);
+      }
+      else if (value instanceof Long) {
+        m_out.writeByte(TYPE_LONG);
+        writeSignedVarLong((Long) value);
+      }
+      else if (value instanceof Short) {
+        m_out.writeByte(TYPE_SHORT);
+        writeSignedVarLong((Short) value);
+      }
+      else if (value instanceof Byte) {
+        m_out.writeByte(TYPE_BYTE);
+        m_out.writeByte((Byte) value);
+      }
+      else if (value instanceof Character) {
+        m_out.writeByte(TYPE_CHARACTER);
+        m_out.writeChar((Character) value);
+      }
+      else if (value instanceof Double) {
+        m_out.writeByte(TYPE_DOUBLE);
+        m_out.writeDouble((Double) value);
+      }
+      else if (value instanceof Float) {
+        m_out.writeByte(TYPE_FLOAT);
+        m_out.writeFloat((Float) value);
+      }
+      else if (value.getClass() == BigDecimal.class) {
+        m_out.writeByte(TYPE_BIG_DECIMAL);
+        writeString(value.toString());
+      }
+      else if (value.getClass() == BigInteger.class) {
+        m_out.writeByte(TYPE_BIG_INTEGER);
+        writeBytes(((BigInteger) value).toByteArray());
+      }
+      else if (value.getClass() == Date.class) {
+        // same time zone independent representation as StaticDate used by ServiceTunnelObjectReplacer
+        m_out.writeByte(TYPE_DATE);
+        writeSignedVarLong(new StaticDate((Date) value).getTextAsLong());
+      }
+      else if (value instanceof UUID) {
+        m_out.writeByte(TYPE_UUID);
+        m_out.writeLong(((UUID) value).getMostSignificantBits());
+        m_out.writeLong(((UUID) value).getLeastSignificantBits());
+      }
+      else if (value instanceof Locale) {
+        m_out.writeByte(TYPE_LOCALE);
+        writeName(((Locale) value).toLanguageTag());
+      }
+      else if (value instanceof Enum) {
+        m_out.writeByte(TYPE_ENUM);
+        writeName(((Enum<?>) value).getDeclaringClass().getName());
+        writeName(((Enum<?>) value).name());
+      }
+      else if (value instanceof Class) {
+        m_out.writeByte(TYPE_CLASS);
+        writeName(((Class<?>) value).getName());
+      }
+      else if (value instanceof byte[]) {
+        m_out.writeByte(TYPE_BYTES);
+        writeBytes((byte[]) value);
+      }
+      else if (value instanceof Object[]) {
+        m_out.writeByte(TYPE_ARRAY);
+        writeName(value.getClass().getComponentType().getName());
+        writeValues(value, Array.getLength(value));
+      }
+      else if (value.getClass() == ArrayList.class) {
+        m_out.writeByte(TYPE_LIST);
+        writeCollection((Collection<?>) value);
+      }
+      else if (value.getClass() == HashSet.class) {
+        m_out.writeByte(TYPE_SET);
+        writeCollection((Collection<?>) value);
+      }
+      else if (value.getClass() == LinkedHashSet.class) {
+        m_out.writeByte(TYPE_LINKED_SET);
+        writeCollection((Collection<?>) value);
+      }
+      else if (value.getClass() == HashMap.class) {
+        m_out.writeByte(TYPE_MAP);
+        writeMap((Map<?, ?>) value);
+      }
+      else if (value.getClass() == LinkedHashMap.class) {
+        m_out.writeByte(TYPE_LINKED_MAP);
+        writeMap((Map<?, ?>) value);
+      }
+      else if (!(value instanceof IId && writeId((IId) value)) && !(value instanceof IDoEntity && writeEntity((IDoEntity) value))) {
+        writeJava(value);
+      }
+    }
+
+    /**
+     * @return <code>false</code> if the id cannot be represented by its type name, i.e. must be written with Java
+     *         serialization
+     */
+    protected boolean writeId(IId id) throws IOException {
+      String typeName = m_idInventory.get().getTypeName(id);
+      if (typeName == null) {
+        return false;
+      }
+      String unqualified;
+      try {
+        unqualified = m_idCodec.get().toUnqualified(id);
+      }
+      catch (PlatformException e) { // NOSONAR (no raw type mapper for this id)
+        return false;
+      }
+      m_out.writeByte(TYPE_ID);
+      writeName(typeName);
+      writeString(unqualified);
+      return true;
+    }
+
+    /**
+     * @return <code>false</code> if the entity cannot be represented by its type name and attributes, i.e. must be
+     *         written with Java serialization
+     */
+    protected boolean writeEntity(IDoEntity entity) throws IOException {
+      String typeName = null;
+      if (entity.getClass() != DoEntity.class) {
+        typeName = getEntityTypeName(entity.getClass());
+        if (typeName == null) {
+          return false;
+        }
+      }
+      if (entity.hasContributions()) {
+        return false;
+      }
+      m_out.writeByte(TYPE_ENTITY);
+      writeName(typeName);
+      Map<String, DoNode<?>> nodes = entity.allNodes();
+      writeVarInt(nodes.size());
+      for (Entry<String, DoNode<?>> entry : nodes.entrySet()) {
+        writeName(entry.getKey());
+        DoNode<?> node = entry.getValue();
+        if (node instanceof DoList) {
+          m_out.writeByte(NODE_LIST);
+          writeCollection(((DoList<?>) node).get());
+        }
+        else if (node instanceof DoSet) {
+          m_out.writeByte(NODE_SET);
+          writeCollection(((DoSet<?>) node).get());
+        }
+        else if (node instanceof DoCollection) {
+          m_out.writeByte(NODE_COLLECTION);
+          writeCollection(((DoCollection<?>) node).get());
+        }
+        else {
+          m_out.writeByte(NODE_VALUE);
+          writeValue(node.get());
+        }
+      }
+      return true;
+    }
+
+    /**
+     * @return type name to restore an entity of exactly the given class, <code>null</code> if there is none
+     */
+    protected String getEntityTypeName(Class<?> entityClass) {
+      return m_entityTypeNames.computeIfAbsent(entityClass, c -> {
+        String typeName = m_dataObjectInventory.get().toTypeName(c);
+        // the type name of a super class or a replaced entity class cannot be used
+        return typeName != null && m_dataObjectInventory.get().fromTypeName(typeName) == c ? typeName : null;
+      });
+    }
+
+    protected void writeJava(Object value) throws IOException {
+      m_out.writeByte(TYPE_JAVA);
+      writeBytes(getObjectSerializer().serialize(value));
+    }
+
+    protected void writeValues(Object array, int length) throws IOException {
+      writeVarInt(length);
+      for (int i = 0; i < length; i++) {
+        writeValue(Array.get(array, i));
+      }
+    }
+
+    protected void writeCollection(Collection<?> values) throws IOException {
+      writeVarInt(values.size());
+      for (Object value : values) {
+        writeValue(value);
+      }
+    }
+
+    protected void writeMap(Map<?, ?> map) throws IOException {
+      writeVarInt(map.size());
+      for (Entry<?, ?> entry : map.entrySet()) {
+        writeValue(entry.getKey());
+        writeValue(entry.getValue());
+      }
+    }
+
+    /**
+     * Writes a name (or <code>null</code>) which is likely to be repeated within the same message. The first occurrence
+     * is written as string, subsequent occurrences as reference to the first one.
+     */
+    public void writeName(String name) throws IOException {
+      if (name == null) {
+        writeVarInt(0);
+        return;
+      }
+      Integer index = m_names.get(name);
+      if (index != null) {
+        writeVarInt(index + 2);
+        return;
+      }
+      m_names.put(name, m_names.size());
+      writeVarInt(1);
+      writeString(name);
+    }
+
+    public void writeString(String s) throws IOException {
+      writeBytes(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void writeBytes(byte[] bytes) throws IOException {
+      writeVarInt(bytes.length);
+      m_out.write(bytes);
+    }
+
+    public void writeVarInt(int value) throws IOException {
+      writeVarLong(value & 0xffffffffL);
+    }
+
+    /**
+     * Writes a non-negative number using 7 bits per byte.
+     */
+    public void writeVarLong(long value) throws IOException {
+      long v = value;
+      while ((v & ~0x7fL) != 0) {
+        m_out.writeByte((int) ((v & 0x7f) | 0x80));
+        v >>>= 7;
+      }
+      m_out.writeByte((int) v);
+    }
+
+    /**
+     * Writes a number using zig-zag encoding, i.e. numbers with a small absolute value use few bytes.
+     */
+    public void writeSignedVarLong(long value) throws IOException {
+      writeVarLong((value << 1) ^ (value >> 63));
+    }
+  }
+
+  /**
+   * Reads one message written by {@link P_Encoder}.
+   * <p>
+   * Lengths and element counts read from the input are not trusted: arrays and collections grow with the values
+   * actually read, and byte arrays are read in chunks. Hence, a corrupt or malicious message fails with an
+   * {@link EOFException} instead of allocating memory for contents that are not part of the input.
+   */
+  protected class P_Decoder {
+
+    private final DataInputStream m_in;
+    private final List<String> m_names = new ArrayList<>();
+
+    public P_Decoder(DataInputStream in) {
+      m_in = in;
+    }
+
+    public Object readMessage() throws IOException, ClassNotFoundException {
+      byte type = m_in.readByte();
+      switch (type) {
+        case MESSAGE_REQUEST:
+          return readRequest();
+        case MESSAGE_BATCH_REQUEST:
+          return readBatchRequest();
+        case MESSAGE_RESPONSE:
+          return readResponse();
+        case MESSAGE_BATCH_RESPONSE:
+          return readBatchResponse();
+        case MESSAGE_JAVA:
+          return getObjectSerializer().deserialize(readBytes(), null);
+        default:
+          throw new IOException("Unknown message type " + type);
+      }
+    }
+
+    protected ServiceTunnelRequest readRequest() throws IOException, ClassNotFoundException {
+      long requestSequence = readVarLong();
+      String sessionId = readName();
+      String serviceInterfaceClassName = readName();
+      String operation = readName();
+      Class[] parameterTypes = null;
+      int parameterTypeCount = readVarInt() - 1;
+      if (parameterTypeCount >= 0) {
+        List<Class<?>> parameterTypeList = new ArrayList<>();
+        for (int i = 0; i < parameterTypeCount; i++) {
+          parameterTypeList.add(resolveClass(readName()));
+        }
+        parameterTypes = parameterTypeList.toArray(new Class[0]);
+      }
+      Object[] args = readCollection(new ArrayList<>()).toArray();
+      Locale locale = (Locale) readValue();
+      ServiceTunnelRequest req = new ServiceTunnelRequest(requestSequence, serviceInterfaceClassName, operation, parameterTypes, args, locale);
+      req.setSessionId(sessionId);
+      req.setUserAgent(readName());
+      req.setClientNodeId((NodeId) readValue());
+      return req;
+    }
+
+    protected ServiceTunnelBatchRequest readBatchRequest() throws IOException, ClassNotFoundException {
+      long requestSequence = readVarLong();
+      boolean parallelExecution = m_in.readBoolean();
+      Locale locale = (Locale) readValue();
+      int count = readVarInt();
+      List<ServiceTunnelRequest> requests = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        requests.add((ServiceTunnelRequest) readMessage());
+      }
+      return new ServiceTunnelBatchRequest(requestSequence, requests, parallelExecution, locale);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected ServiceTunnelResponse readResponse() throws IOException, ClassNotFoundException {
+      Object data = readValue();
+      Throwable exception = (Throwable) readValue();
+      ServiceTunnelResponse resp = new ServiceTunnelResponse(data, exception);
+      resp.setProcessingDuration((Long) readValue());
+      resp.setNotifications((List<ClientNotificationMessage>) readValue());
+      return resp;
+    }
+
+    protected ServiceTunnelBatchResponse readBatchResponse() throws IOException, ClassNotFoundException {
+      Long processingDuration = (Long) readValue();
+      int count = readVarInt();
+      List<ServiceTunnelResponse> responses = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        responses.add((ServiceTunnelResponse) readMessage());
+      }
+      ServiceTunnelBatchResponse batch = new ServiceTunnelBatchResponse(responses);
+      batch.setProcessingDuration(processingDuration);
+      return batch;
+    }
+
+    @SuppressWarnings({"unchecked", "squid:S3776"})
+    public Object readValue() throws IOException, ClassNotFoundException {
+      byte type = m_in.readByte();
+      switch (type) {
+        case TYPE_NULL:
+          return null;
+        case TYPE_TRUE:
+          return Boolean.TRUE;
+        case TYPE_FALSE:
+          return Boolean.FALSE;
+        case TYPE_INTEGER:
+          return (int) readSignedVarLong();
+        case TYPE_LONG:
+          return readSignedVarLong();
+        case TYPE_SHORT:
+          return (short) readSignedVarLong();
+        case TYPE_BYTE:
+          return m_in.readByte();
+        case TYPE_CHARACTER:
+          return m_in.readChar();
+        case TYPE_DOUBLE:
+          return m_in.readDouble();
+        case TYPE_FLOAT:
+          return m_in.readFloat();
+        case TYPE_STRING:
+          return readString();
+        case TYPE_BIG_DECIMAL:
+          return new BigDecimal(readString());
+        case TYPE_BIG_INTEGER:
+          return new BigInteger(readBytes());
+        case TYPE_DATE:
+          return new StaticDate(readSignedVarLong()).getDate();
+        case TYPE_UUID:
+          return new UUID(m_in.readLong(), m_in.readLong());
+        case TYPE_LOCALE:
+          return Locale.forLanguageTag(readName());
+        case TYPE_ENUM:
+          return Enum.valueOf(resolveClass(readName()).asSubclass(Enum.class), readName());
+        case TYPE_CLASS:
+          return resolveClass(readName());
+        case TYPE_BYTES:
+          return readBytes();
+        case TYPE_ARRAY:
+          return readArray();
+        case TYPE_LIST:
+          return readCollection(new ArrayList<>());
+        case TYPE_SET:
+          return readCollection(new HashSet<>());
+        case TYPE_LINKED_SET:
+          return readCollection(new LinkedHashSet<>());
+        case TYPE_MAP:
+          return readMap(new HashMap<>());
+        case TYPE_LINKED_MAP:
+          return readMap(new LinkedHashMap<>());
+        case TYPE_ID:
+          return readId();
+        case TYPE_ENTITY:
+          return readEntity();
+        case TYPE_JAVA:
+          return getObjectSerializer().deserialize(readBytes(), null);
+        default:
+          throw new IOException("Unknown value type " + type);
+      }
+    }
+
+    protected Object readArray() throws IOException, ClassNotFoundException {
+      Class<?> componentType = resolveClass(readName());
+      List<Object> values = readCollection(new ArrayList<>());
+      Object array = Array.newInstance(componentType, values.size());
+      for (int i = 0; i < values.size(); i++) {
+        Array.set(array, i, values.get(i));
+      }
+      return array;
+    }
+
+    protected <C extends Collection<Object>> C readCollection(C collection) throws IOException, ClassNotFoundException {
+      int size = readVarInt();
+      for (int i = 0; i < size; i++) {
+        collection.add(readValue());
+      }
+      return collection;
+    }
+
+    protected Map<Object, Object> readMap(Map<Object, Object> map) throws IOException, ClassNotFoundException {
+      int size = readVarInt();
+      for (int i = 0; i < size; i++) {
+        map.put(readValue(), readValue());
+      }
+      return map;
+    }
+
+    protected IId readId() throws IOException {
+      String typeName = readName();
+      String unqualified = readString();
+      Class<? extends IId> idClass = m_idInventory.get().getIdClass(typeName);
+      if (idClass == null) {
+        throw new IOException("Unknown id type name '" + typeName + "'");
+      }
+      return m_idCodec.get().fromUnqualified(idClass, unqualified);
+    }
+
+    protected IDoEntity readEntity() throws IOException, ClassNotFoundException {
+      String typeName = readName();
+      Class<? extends IDoEntity> entityClass = DoEntity.class;
+      if (typeName != null) {
+        entityClass = m_dataObjectInventory.get().fromTypeName(typeName);
+        if (entityClass == null) {
+          throw new IOException("Unknown data object type name '" + typeName + "'");
+        }
+      }
+      IDoEntity entity = BEANS.get(entityClass);
+      int size = readVarInt();
+      for (int i = 0; i < size; i++) {
+        String attributeName = readName();
+        byte nodeType = m_in.readByte();
+        switch (nodeType) {
+          case NODE_VALUE:
+            entity.put(attributeName, readValue());
+            break;
+          case NODE_LIST:
+            entity.putList(attributeName, readCollection(new ArrayList<>()));
+            break;
+          case NODE_SET:
+            entity.putSet(attributeName, readCollection(new LinkedHashSet<>()));
+            break;
+          case NODE_COLLECTION:
+            entity.putCollection(attributeName, readCollection(new ArrayList<>()));
+            break;
+          default:
+            throw new IOException("Unknown node type " + nodeType + " of attribute '" + attributeName + "'");
+        }
+      }
+      return entity;
+    }
+
+    public String readName() throws IOException {
+      int ref = readVarInt();
+      if (ref == 0) {
+        return null;
+      }
+      if (ref == 1) {
+        String name = readString();
+        m_names.add(name);
+        return name;
+      }
+      int index = ref - 2;
+      if (index >= m_names.size()) {
+        throw new IOException("Unknown name reference " + index);
+      }
+      return m_names.get(index);
+    }
+
+    public String readString() throws IOException {
+      return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+
+    public byte[] readBytes() throws IOException {
+      int length = readVarInt();
+      if (length <= BUFFER_SIZE) {
+        byte[] bytes = new byte[length];
+        m_in.readFully(bytes);
+        return bytes;
+      }
+      // larger contents are read in chunks, so that only memory for bytes actually available is allocated
+      byte[] bytes = m_in.readNBytes(length);
+      if (bytes.length < length) {
+        throw new EOFException("Expected " + length + " bytes, but only " + bytes.length + " are available");
+      }
+      return bytes;
+    }
+
+    public int readVarInt() throws IOException {
+      long value = readVarLong();
+      // a varlong with bit 63 set is negative
+      if (value < 0 || value > Integer.MAX_VALUE) {
+        throw new IOException("Invalid length " + value);
+      }
+      return (int) value;
+    }
+
+    public long readVarLong() throws IOException {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        int b = m_in.readUnsignedByte();
+        value |= (long) (b & 0x7f) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IOException("Malformed variable length number");
+    }
+
+    public long readSignedVarLong() throws IOException {
+      long v = readVarLong();
+      return (v >>> 1) ^ -(v & 1);
+    }
+  }
+}
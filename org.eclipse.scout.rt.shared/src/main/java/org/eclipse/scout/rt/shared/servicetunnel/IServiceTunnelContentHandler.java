@@ -34,4 +34,13 @@ public interface IServiceTunnelContentHandler {
   void writeResponse(OutputStream out, ServiceTunnelResponse msg) throws IOException;
 
   ServiceTunnelResponse readResponse(InputStream in) throws IOException, ClassNotFoundException;
+
+  /**
+   * @return <code>true</code> if this content handler is able to transfer {@link ServiceTunnelBatchRequest}s and
+   *         {@link ServiceTunnelBatchResponse}s.
+   * @since 23.2
+   */
+  default boolean isBatchSupported() {
+    return false;
+  }
 }
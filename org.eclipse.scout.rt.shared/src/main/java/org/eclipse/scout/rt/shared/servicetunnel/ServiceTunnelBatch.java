@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Explicit scope to send remote service calls in a single round-trip.
+ * <p>
+ * Service calls issued by the callables of a scope are collected by the service tunnel and sent to the server as one
+ * {@link ServiceTunnelBatchRequest} as soon as every participant of the scope waits for its response (or the maximal
+ * wait time elapsed). Since a thread waits for the result of its service call, only calls of different threads can be
+ * sent together. Therefore, the callables are typically started by {@link #schedule(Callable)}. The thread which
+ * created the scope participates until it {@link #close() closes} the scope or runs its own part by
+ * {@link #call(Callable)}, so that the first callables do not send their calls before the others are started:
+ *
+ * <pre>
+ * try (ServiceTunnelBatch batch = ServiceTunnelBatch.create()) {
+ *   person = batch.schedule(() -&gt; BEANS.get(IPersonService.class).load(personId));
+ *   companies = batch.schedule(() -&gt; BEANS.get(ICompanyService.class).loadAll());
+ * }
+ * </pre>
+ *
+ * A scope is only considered by a service tunnel supporting batches (see
+ * {@link IServiceTunnelContentHandler#isBatchSupported()}). Otherwise, every service call is sent on its own.
+ *
+ * @since 23.2
+ */
+public class ServiceTunnelBatch implements AutoCloseable {
+
+  /**
+   * The {@link ServiceTunnelBatch} which is currently associated with the current thread.
+   */
+  public static final ThreadLocal<ServiceTunnelBatch> CURRENT = new ThreadLocal<>();
+
+  private long m_maxWaitMillis = 50;
+  private boolean m_parallelExecution = true;
+
+  // participants of this scope, i.e. the creating thread until closed and the callables running
+  private int m_activeCount = 1;
+  private boolean m_closed;
+  // service calls of this scope waiting for their response
+  private int m_waitingCount;
+
+  public static ServiceTunnelBatch create() {
+    return new ServiceTunnelBatch();
+  }
+
+  /**
+   * Maximal time a service call of this scope is held back to wait for other calls of this scope. Default is 50
+   * milliseconds.
+   */
+  public ServiceTunnelBatch withMaxWait(long maxWait, TimeUnit unit) {
+    Assertions.assertTrue(maxWait >= 0, "maxWait must not be negative");
+    m_maxWaitMillis = unit.toMillis(maxWait);
+    return this;
+  }
+
+  public long getMaxWaitMillis() {
+    return m_maxWaitMillis;
+  }
+
+  /**
+   * Specifies whether the server may execute the service calls of a batch concurrently (default), or must execute them
+   * one after the other in the order they were issued.
+   */
+  public ServiceTunnelBatch withParallelExecution(boolean parallelExecution) {
+    m_parallelExecution = parallelExecution;
+    return this;
+  }
+
+  public boolean isParallelExecution() {
+    return m_parallelExecution;
+  }
+
+  /**
+   * Runs the given {@link Callable} asynchronously in this scope. The job runs on behalf of a copy of the current
+   * {@link RunContext} and is cancelled along with the current {@link RunMonitor}.
+   */
+  public <RESULT> IFuture<RESULT> schedule(Callable<RESULT> callable) {
+    RunContext runContext = createRunContext();
+    enter(); // count the caller immediately, so that calls issued before the job starts are not sent prematurely
+    try {
+      return Jobs.schedule(() -> {
+        try {
+          return callable.call();
+        }
+        finally {
+          leave();
+        }
+      }, Jobs.newInput()
+          .withRunContext(runContext)
+          .withName("Service tunnel batch"));
+    }
+    catch (RuntimeException | Error e) { // NOSONAR
+      leave();
+      throw e;
+    }
+  }
+
+  /**
+   * Runs the given {@link Callable} in this scope on behalf of the current thread as the last part of the creating
+   * thread, i.e. this scope is {@link #close() closed} afterwards.
+   */
+  public <RESULT> RESULT call(Callable<RESULT> callable) {
+    try {
+      return createRunContext().call(callable);
+    }
+    finally {
+      close();
+    }
+  }
+
+  /**
+   * Ends the participation of the creating thread. Service calls of the remaining callables are sent as soon as all of
+   * them wait for their response.
+   */
+  @Override
+  public synchronized void close() {
+    if (m_closed) {
+      return;
+    }
+    m_closed = true;
+    m_activeCount--;
+    notifyAll();
+  }
+
+  protected RunContext createRunContext() {
+    RunContext current = RunContext.CURRENT.get();
+    if (current == null) {
+      return RunContexts.empty().withThreadLocal(CURRENT, this);
+    }
+    // copy to keep the type of the current context (e.g. the session of a client context)
+    return current.copy()
+        .withRunMonitor(BEANS.get(RunMonitor.class))
+        .withParentRunMonitor(RunMonitor.CURRENT.get())
+        .withThreadLocal(CURRENT, this);
+  }
+
+  protected synchronized void enter() {
+    m_activeCount++;
+    notifyAll();
+  }
+
+  protected synchronized void leave() {
+    m_activeCount--;
+    notifyAll();
+  }
+
+  /**
+   * Invoked by the service tunnel before a service call of this scope starts to wait for its response.
+   */
+  public synchronized void enterTunnel() {
+    m_waitingCount++;
+    notifyAll();
+  }
+
+  /**
+   * Invoked by the service tunnel once a service call of this scope received its response.
+   */
+  public synchronized void leaveTunnel() {
+    m_waitingCount--;
+    notifyAll();
+  }
+
+  /**
+   * Wakes up the service tunnel waiting in {@link #awaitCallersInTunnel(BooleanSupplier, long)}.
+   */
+  public synchronized void signal() {
+    notifyAll();
+  }
+
+  /**
+   * Blocks until every callable of this scope waits for the response of a service call, the given condition is
+   * satisfied or the deadline is reached.
+   *
+   * @param flushCondition
+   *          condition to stop waiting, e.g. the batch is full; must not acquire any locks.
+   * @param deadlineNanos
+   *          deadline as {@link System#nanoTime()}
+   */
+  public synchronized void awaitCallersInTunnel(BooleanSupplier flushCondition, long deadlineNanos) throws InterruptedException {
+    while (m_waitingCount < m_activeCount && !flushCondition.getAsBoolean()) {
+      long remainingNanos = deadlineNanos - System.nanoTime();
+      if (remainingNanos <= 0) {
+        return;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return new ToStringBuilder(this)
+        .attr("closed", m_closed)
+        .attr("active", m_activeCount)
+        .attr("waiting", m_waitingCount)
+        .attr("maxWaitMillis", m_maxWaitMillis)
+        .attr("parallelExecution", m_parallelExecution)
+        .toString();
+  }
+}
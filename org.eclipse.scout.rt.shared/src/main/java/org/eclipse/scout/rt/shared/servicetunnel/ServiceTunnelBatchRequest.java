@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Envelope to transfer several {@link ServiceTunnelRequest}s of the same session in a single round-trip. The server
+ * answers with a {@link ServiceTunnelBatchResponse} containing a response for every request at the same index.
+ *
+ * @since 23.2
+ */
+public class ServiceTunnelBatchRequest extends ServiceTunnelRequest {
+  private static final long serialVersionUID = 1L;
+
+  public static final String OPERATION = "batch";
+
+  private final List<ServiceTunnelRequest> m_requests;
+  private final boolean m_parallelExecution;
+
+  /**
+   * @param requests
+   *          requests of the same session to be executed by the server; must not be empty.
+   * @param parallelExecution
+   *          <code>true</code> if the server may execute the requests concurrently, <code>false</code> to execute them
+   *          one after the other in the given order.
+   */
+  public ServiceTunnelBatchRequest(List<ServiceTunnelRequest> requests, boolean parallelExecution) {
+    super(ServiceTunnelBatchRequest.class.getName(), OPERATION, null, null);
+    m_requests = assertRequests(requests);
+    m_parallelExecution = parallelExecution;
+    initFromFirstRequest();
+  }
+
+  /**
+   * Restores a batch with the sequence and locale of its sender.
+   *
+   * @see ServiceTunnelRequest#ServiceTunnelRequest(long, String, String, Class[], Object[], Locale)
+   */
+  protected ServiceTunnelBatchRequest(long requestSequence, List<ServiceTunnelRequest> requests, boolean parallelExecution, Locale locale) {
+    super(requestSequence, ServiceTunnelBatchRequest.class.getName(), OPERATION, null, null, locale);
+    m_requests = assertRequests(requests);
+    m_parallelExecution = parallelExecution;
+    initFromFirstRequest();
+  }
+
+  private static List<ServiceTunnelRequest> assertRequests(List<ServiceTunnelRequest> requests) {
+    Assertions.assertFalse(requests == null || requests.isEmpty(), "requests must not be empty");
+    return new ArrayList<>(requests);
+  }
+
+  private void initFromFirstRequest() {
+    ServiceTunnelRequest first = m_requests.get(0);
+    setSessionId(first.getSessionId());
+    setUserAgent(first.getUserAgent());
+    setClientNodeId(first.getClientNodeId());
+  }
+
+  public List<ServiceTunnelRequest> getRequests() {
+    return m_requests;
+  }
+
+  public boolean isParallelExecution() {
+    return m_parallelExecution;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder();
+    buf.append("Batch call [");
+    buf.append("requestSequence='").append(getRequestSequence()).append("', ");
+    buf.append("sessionId='").append(getSessionId()).append("', ");
+    buf.append("parallel='").append(m_parallelExecution).append("']");
+    for (ServiceTunnelRequest request : m_requests) {
+      buf.append("\n").append(request);
+    }
+    return buf.toString();
+  }
+}
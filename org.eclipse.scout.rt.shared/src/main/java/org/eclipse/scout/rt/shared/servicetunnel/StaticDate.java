@@ -38,6 +38,23 @@ public class StaticDate implements Serializable {
     m_textAsLong = l;
   }
 
+  /**
+   * @param textAsLong
+   *          value of {@link #getTextAsLong()}
+   * @since 23.2
+   */
+  StaticDate(long textAsLong) {
+    m_textAsLong = textAsLong;
+  }
+
+  /**
+   * @return the local date and time components as long, i.e. <code>yyyyMMddHHmmssSSS</code> (with zero-based month)
+   * @since 23.2
+   */
+  long getTextAsLong() {
+    return m_textAsLong;
+  }
+
   public Date getDate() {
     Calendar cal = new GregorianCalendar();
     long l = m_textAsLong;
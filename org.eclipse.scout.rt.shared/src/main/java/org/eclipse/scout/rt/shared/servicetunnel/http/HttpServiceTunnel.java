@@ -15,26 +15,35 @@ import java.net.URL;
 import java.util.concurrent.Callable;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.UriUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
+import org.eclipse.scout.rt.shared.services.common.context.IRunMonitorCancelService;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatch;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelBatchMaxSizeProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelBatchWindowProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelStreamRequestProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
@@ -52,6 +61,10 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   private final URL m_serverUrl;
   private final GenericUrl m_genericUrl;
   private final boolean m_active;
+  private final int m_batchWindowMillis;
+  private final int m_batchMaxSize;
+  private final boolean m_streamRequest;
+  private final LazyValue<HttpServiceTunnelBatcher> m_batcher = new LazyValue<>(this::createBatcher);
 
   public HttpServiceTunnel() {
     this(getConfiguredServerUrl());
@@ -61,6 +74,9 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     m_serverUrl = url;
     m_genericUrl = url != null ? new GenericUrl(url) : null;
     m_active = url != null;
+    m_batchWindowMillis = CONFIG.getPropertyValue(HttpServiceTunnelBatchWindowProperty.class);
+    m_batchMaxSize = CONFIG.getPropertyValue(HttpServiceTunnelBatchMaxSizeProperty.class);
+    m_streamRequest = CONFIG.getPropertyValue(HttpServiceTunnelStreamRequestProperty.class);
   }
 
   protected static URL getConfiguredServerUrl() {
@@ -100,6 +116,31 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    *           {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}
    */
   protected HttpResponse executeRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    return executeRequest(call, new ByteArrayContentEx(null, callData, false), callData);
+  }
+
+  /**
+   * Execute a {@link ServiceTunnelRequest} whose data is serialized directly into the HTTP request body, returns the
+   * plain {@link HttpResponse} - (executed and) ready to be processed to create a {@link ServiceTunnelResponse}.
+   *
+   * @param call
+   *          the original call
+   * @param content
+   *          the content writing the call, typically a {@link ServiceTunnelRequestContent}
+   * @see #isStreamRequest()
+   * @since 23.2
+   */
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, HttpContent content) throws IOException {
+    return executeRequest(call, content, null);
+  }
+
+  /**
+   * Builds and executes the HTTP POST request with the given content.
+   *
+   * @param callData
+   *          data as byte array; <code>null</code> if the request is streamed
+   */
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, HttpContent content, byte[] callData) throws IOException {
     // fast check of wrong URL's for this tunnel
     if (!"http".equalsIgnoreCase(getServerUrl().getProtocol()) && !"https".equalsIgnoreCase(getServerUrl().getProtocol())) {
       throw new IOException("URL '" + getServerUrl().toString() + "' is not supported by this tunnel ('" + getClass().getName() + "').");
@@ -110,7 +151,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
 
     HttpRequestFactory requestFactory = getHttpTransportManager().getHttpRequestFactory();
-    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), new ByteArrayContentEx(null, callData, false));
+    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), content);
     HttpHeaders headers = request.getHeaders();
     headers.setCacheControl("no-cache");
     headers.setContentType(getContentHandler().getContentType());
@@ -119,6 +160,25 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     return request.execute();
   }
 
+  /**
+   * @return <code>true</code> if service requests are serialized directly into the HTTP request body instead of being
+   *         buffered in memory first. Streamed requests are executed by
+   *         {@link #executeRequest(ServiceTunnelRequest, HttpContent)}, hence an override of
+   *         {@link #executeRequest(ServiceTunnelRequest, byte[])} is not invoked and
+   *         {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])} receives no request data.
+   * @see HttpServiceTunnelStreamRequestProperty
+   */
+  public boolean isStreamRequest() {
+    return m_streamRequest;
+  }
+
+  /**
+   * Creates the HTTP content to stream the given request into the HTTP request body.
+   */
+  protected ServiceTunnelRequestContent createRequestContent(ServiceTunnelRequest call) {
+    return new ServiceTunnelRequestContent(getContentHandler(), call);
+  }
+
   /**
    * @return the {@link IHttpTransportManager}
    */
@@ -134,7 +194,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    * @param call
    *          request information
    * @param callData
-   *          data as byte array
+   *          data as byte array; <code>null</code> if the request is streamed (see {@link #isStreamRequest()})
    * @throws IOException
    * @since 6.0
    */
@@ -237,6 +297,50 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
   }
 
+  /**
+   * @return time window in milliseconds to collect service calls sent in a single batch; a value of 0 or less disables
+   *         batching outside of explicit {@link ServiceTunnelBatch} scopes.
+   * @see HttpServiceTunnelBatchWindowProperty
+   */
+  public int getBatchWindowMillis() {
+    return m_batchWindowMillis;
+  }
+
+  /**
+   * @see HttpServiceTunnelBatchMaxSizeProperty
+   */
+  public int getBatchMaxSize() {
+    return m_batchMaxSize;
+  }
+
+  /**
+   * Returns whether the given service request may be sent to the server along with other requests in a
+   * {@link ServiceTunnelBatchRequest}.
+   *
+   * @param batch
+   *          the {@link ServiceTunnelBatch} scope the request was issued in or <code>null</code>.
+   */
+  protected boolean isBatchable(ServiceTunnelRequest serviceRequest, ServiceTunnelBatch batch) {
+    if (batch == null && getBatchWindowMillis() <= 0) {
+      return false;
+    }
+    if (serviceRequest instanceof ServiceTunnelBatchRequest || serviceRequest.getSessionId() == null) {
+      return false;
+    }
+    if (IRunMonitorCancelService.class.getName().equals(serviceRequest.getServiceInterfaceClassName())) {
+      return false; // cancellation must not wait for other requests
+    }
+    return getContentHandler() != null && getContentHandler().isBatchSupported();
+  }
+
+  protected HttpServiceTunnelBatcher getBatcher() {
+    return m_batcher.get();
+  }
+
+  protected HttpServiceTunnelBatcher createBatcher() {
+    return new HttpServiceTunnelBatcher(this);
+  }
+
   /**
    * This method is called just after the HTTP response is received, but before being processed, and might be used to
    * read and interpret custom HTTP headers.
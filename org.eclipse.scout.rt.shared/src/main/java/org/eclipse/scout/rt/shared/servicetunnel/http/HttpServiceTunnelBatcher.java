@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.ImmutablePair;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatch;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects remote service calls of the same session and sends them to the server in a single
+ * {@link ServiceTunnelBatchRequest}.
+ * <p>
+ * The first call of a batch schedules a job which sends the batch once it is full, the batch window of the tunnel
+ * elapsed or, for calls issued within a {@link ServiceTunnelBatch} scope, every callable of the scope waits for its
+ * response. The responses are then handed over to the waiting callers, i.e. a failed call does not affect the other
+ * calls of the batch.
+ *
+ * @since 23.2
+ */
+public class HttpServiceTunnelBatcher {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HttpServiceTunnelBatcher.class);
+
+  private final HttpServiceTunnel m_tunnel;
+  private final Map<ImmutablePair<String, ServiceTunnelBatch>, P_PendingBatch> m_pendingBatches = new HashMap<>();
+
+  public HttpServiceTunnelBatcher(HttpServiceTunnel tunnel) {
+    m_tunnel = tunnel;
+  }
+
+  /**
+   * Adds the call to a pending batch and waits for its response.
+   *
+   * @param scope
+   *          explicit batch scope of the call or <code>null</code> to use the batch window of the tunnel.
+   * @return {@link ServiceTunnelResponse}; is never <code>null</code>.
+   */
+  public ServiceTunnelResponse invoke(RemoteServiceInvocationCallable callable, ServiceTunnelBatch scope) throws Exception {
+    P_Member member = new P_Member(callable);
+    enqueue(member, scope);
+    // the call counts as waiting only after it was added to the batch, so that the batch is not sent before
+    if (scope != null) {
+      scope.enterTunnel();
+    }
+    try {
+      return member.awaitResponse();
+    }
+    finally {
+      if (scope != null) {
+        scope.leaveTunnel();
+      }
+    }
+  }
+
+  protected void enqueue(P_Member member, ServiceTunnelBatch scope) {
+    ImmutablePair<String, ServiceTunnelBatch> key = ImmutablePair.of(member.getRequest().getSessionId(), scope);
+    while (true) {
+      P_PendingBatch batch;
+      P_PendingBatch createdBatch = null;
+      synchronized (m_pendingBatches) {
+        batch = m_pendingBatches.get(key);
+        if (batch == null) {
+          // the first member is added right away, so that the dispatch of every created batch is scheduled
+          createdBatch = createPendingBatch(key, scope);
+          createdBatch.add(member);
+          m_pendingBatches.put(key, createdBatch);
+        }
+      }
+      if (createdBatch != null) {
+        scheduleDispatch(createdBatch);
+        return;
+      }
+      if (batch.add(member)) {
+        return;
+      }
+      // batch is full or already sent
+      synchronized (m_pendingBatches) {
+        m_pendingBatches.remove(key, batch);
+      }
+    }
+  }
+
+  protected P_PendingBatch createPendingBatch(ImmutablePair<String, ServiceTunnelBatch> key, ServiceTunnelBatch scope) {
+    long maxWaitMillis = scope != null ? scope.getMaxWaitMillis() : m_tunnel.getBatchWindowMillis();
+    boolean parallelExecution = scope == null || scope.isParallelExecution();
+    return new P_PendingBatch(key, scope, Math.max(1, m_tunnel.getBatchMaxSize()), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis), parallelExecution);
+  }
+
+  protected void scheduleDispatch(P_PendingBatch batch) {
+    try {
+      Jobs.schedule(() -> dispatch(batch), Jobs.newInput()
+          .withRunContext(RunContext.CURRENT.get().copy()
+              .withRunMonitor(BEANS.get(RunMonitor.class))) // separate monitor to not abort the batch if a single caller is cancelled.
+          .withName("Sending service tunnel batch [sessionId={}]", batch.getKey().getLeft())
+          .withExceptionHandling(null, false));
+    }
+    catch (RuntimeException e) {
+      synchronized (m_pendingBatches) {
+        m_pendingBatches.remove(batch.getKey(), batch);
+      }
+      batch.close().forEach(member -> member.fail(e));
+      throw e;
+    }
+  }
+
+  /**
+   * Waits until the batch is ready to be sent, sends it and hands over the responses to the waiting callers.
+   */
+  protected void dispatch(P_PendingBatch batch) {
+    try {
+      batch.awaitFlush();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.debug("Interrupted while collecting service calls, send batch now", e);
+    }
+    List<P_Member> members = batch.close();
+    synchronized (m_pendingBatches) {
+      m_pendingBatches.remove(batch.getKey(), batch);
+    }
+    members.removeIf(P_Member::isDone); // cancelled in the meantime
+
+    try {
+      if (members.isEmpty()) {
+        return;
+      }
+      if (members.size() == 1) {
+        P_Member member = members.get(0);
+        member.complete(member.getCallable().send());
+        return;
+      }
+
+      List<ServiceTunnelRequest> requests = members.stream()
+          .map(P_Member::getRequest)
+          .collect(Collectors.toList());
+      ServiceTunnelBatchRequest batchRequest = new ServiceTunnelBatchRequest(requests, batch.isParallelExecution());
+      LOG.debug("Sending batch of {} service calls [requestSequence={}]", requests.size(), batchRequest.getRequestSequence());
+      ServiceTunnelResponse response = m_tunnel.createRemoteServiceInvocationCallable(batchRequest).send();
+      demultiplex(members, response);
+    }
+    catch (Exception | Error e) { // NOSONAR
+      members.forEach(member -> member.fail(e));
+    }
+  }
+
+  protected void demultiplex(List<P_Member> members, ServiceTunnelResponse response) {
+    if (response instanceof ServiceTunnelBatchResponse) {
+      List<ServiceTunnelResponse> responses = ((ServiceTunnelBatchResponse) response).getResponses();
+      for (int i = 0; i < members.size(); i++) {
+        if (i < responses.size() && responses.get(i) != null) {
+          members.get(i).complete(responses.get(i));
+        }
+        else {
+          members.get(i).complete(new ServiceTunnelResponse(new ProcessingException("Batch response contains no response for service call")
+              .withContextInfo("index", i)));
+        }
+      }
+      return;
+    }
+
+    // the batch failed as a whole, e.g. because of an HTTP error
+    Throwable t = response.getException();
+    if (t == null) {
+      t = new ProcessingException("Unexpected response to batch request").withContextInfo("response", response);
+    }
+    for (P_Member member : members) {
+      member.complete(new ServiceTunnelResponse(t));
+    }
+  }
+
+  /**
+   * Service calls of the same session (and {@link ServiceTunnelBatch} scope) to be sent together.
+   */
+  protected static class P_PendingBatch {
+
+    private final ImmutablePair<String, ServiceTunnelBatch> m_key;
+    private final ServiceTunnelBatch m_scope;
+    private final int m_maxSize;
+    private final long m_deadlineNanos;
+    private final boolean m_parallelExecution;
+    private final List<P_Member> m_members = new ArrayList<>();
+    private boolean m_closed;
+    private volatile boolean m_full;
+
+    public P_PendingBatch(ImmutablePair<String, ServiceTunnelBatch> key, ServiceTunnelBatch scope, int maxSize, long deadlineNanos, boolean parallelExecution) {
+      m_key = key;
+      m_scope = scope;
+      m_maxSize = maxSize;
+      m_deadlineNanos = deadlineNanos;
+      m_parallelExecution = parallelExecution;
+    }
+
+    public ImmutablePair<String, ServiceTunnelBatch> getKey() {
+      return m_key;
+    }
+
+    public boolean isParallelExecution() {
+      return m_parallelExecution;
+    }
+
+    public boolean isFull() {
+      return m_full;
+    }
+
+    /**
+     * @return <code>false</code> if the batch is full or already sent
+     */
+    public synchronized boolean add(P_Member member) {
+      if (m_closed || m_full) {
+        return false;
+      }
+      m_members.add(member);
+      if (m_members.size() >= m_maxSize) {
+        m_full = true;
+        notifyAll();
+        if (m_scope != null) {
+          m_scope.signal();
+        }
+      }
+      return true;
+    }
+
+    /**
+     * @return the members of this batch; no more members are accepted afterwards.
+     */
+    public synchronized List<P_Member> close() {
+      m_closed = true;
+      return new ArrayList<>(m_members);
+    }
+
+    public void awaitFlush() throws InterruptedException {
+      if (m_scope != null) {
+        m_scope.awaitCallersInTunnel(this::isFull, m_deadlineNanos);
+        return;
+      }
+      synchronized (this) {
+        while (!m_full) {
+          long remainingNanos = m_deadlineNanos - System.nanoTime();
+          if (remainingNanos <= 0) {
+            return;
+          }
+          TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+        }
+      }
+    }
+  }
+
+  /**
+   * Service call waiting for its response.
+   */
+  protected static class P_Member {
+
+    private final RemoteServiceInvocationCallable m_callable;
+    private final CompletableFuture<ServiceTunnelResponse> m_future = new CompletableFuture<>();
+
+    public P_Member(RemoteServiceInvocationCallable callable) {
+      m_callable = callable;
+    }
+
+    public RemoteServiceInvocationCallable getCallable() {
+      return m_callable;
+    }
+
+    public ServiceTunnelRequest getRequest() {
+      return m_callable.getServiceRequest();
+    }
+
+    public boolean isDone() {
+      return m_future.isDone();
+    }
+
+    public void complete(ServiceTunnelResponse response) {
+      m_future.complete(response);
+    }
+
+    public void fail(Throwable t) {
+      m_future.completeExceptionally(t);
+    }
+
+    public ServiceTunnelResponse awaitResponse() throws Exception {
+      try {
+        return m_future.get();
+      }
+      catch (InterruptedException e) {
+        m_future.cancel(false); // not sent anymore if the batch is still pending
+        Thread.currentThread().interrupt();
+        return new ServiceTunnelResponse(new ThreadInterruptedError("Interrupted while waiting for the batch response", e));
+      }
+      catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Exception) {
+          throw (Exception) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw e;
+      }
+    }
+  }
+}
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsPerRouteProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsTotalProperty;
@@ -69,4 +70,63 @@ public final class HttpServiceTunnelConfigurationProperties {
           BEANS.get(ApacheHttpTransportMaxConnectionsTotalProperty.class).getKey());
     }
   }
+
+  public static class HttpServiceTunnelBatchWindowProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 0;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.batchWindow";
+    }
+
+    @Override
+    public String description() {
+      return "Time window in milliseconds to collect remote service calls of the same session, which are then sent to the server in a single request.\n"
+          + "A value of 0 or less disables batching, except for calls issued within an explicit ServiceTunnelBatch scope.\n"
+          + "The default value is 0.";
+    }
+  }
+
+  public static class HttpServiceTunnelBatchMaxSizeProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 20;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.batchMaxSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximal number of remote service calls sent to the server in a single batch request.\n"
+          + "The default value is 20.";
+    }
+  }
+
+  public static class HttpServiceTunnelStreamRequestProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.streamRequest";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if service requests are serialized directly into the HTTP request body (chunked transfer encoding) instead of being buffered in memory first.\n"
+          + "Only enable it if no intermediate proxy rejects chunked requests and the HttpServiceTunnel in use does not override executeRequest(ServiceTunnelRequest, byte[]) or rely on the request data in addCustomHeaders/addSignatureHeader: streamed requests are not available as byte array.\n"
+          + "The default value is false.";
+    }
+  }
 }
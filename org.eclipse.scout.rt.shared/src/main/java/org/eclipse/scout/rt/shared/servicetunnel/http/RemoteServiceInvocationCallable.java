@@ -26,6 +26,7 @@ import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.ISession;
 import org.eclipse.scout.rt.shared.services.common.context.IRunMonitorCancelService;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatch;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.slf4j.Logger;
@@ -49,32 +50,56 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
 
   private final HttpServiceTunnel m_tunnel;
   private final ServiceTunnelRequest m_serviceRequest;
+  private final ServiceTunnelBatch m_batch;
 
   public RemoteServiceInvocationCallable(final HttpServiceTunnel tunnel, final ServiceTunnelRequest serviceRequest) {
     m_tunnel = tunnel;
     m_serviceRequest = serviceRequest;
+    m_batch = ServiceTunnelBatch.CURRENT.get();
+  }
+
+  public ServiceTunnelRequest getServiceRequest() {
+    return m_serviceRequest;
   }
 
   /**
-   * Invokes the remote service operation.
+   * Invokes the remote service operation, either on its own or as part of a batch.
    *
    * @return {@link ServiceTunnelResponse}; is never <code>null</code>.
    */
   @Override
   public ServiceTunnelResponse call() throws Exception {
+    if (m_tunnel.isBatchable(m_serviceRequest, m_batch)) {
+      return m_tunnel.getBatcher().invoke(this, m_batch);
+    }
+    return send();
+  }
+
+  /**
+   * Sends the service request to the server and waits for its response.
+   *
+   * @return {@link ServiceTunnelResponse}; is never <code>null</code>.
+   */
+  protected ServiceTunnelResponse send() throws Exception {
     long nBytes = 0;
 
     final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
     try {
-      // Create the request.
-      final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
-      m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
-      requestMessage.close();
-      final byte[] requestData = requestMessage.toByteArray();
-      nBytes = requestData.length;
-
       // Send the request to the server.
-      HttpResponse resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      HttpResponse resp;
+      if (m_tunnel.isStreamRequest()) {
+        ServiceTunnelRequestContent content = m_tunnel.createRequestContent(m_serviceRequest);
+        resp = m_tunnel.executeRequest(m_serviceRequest, content);
+        nBytes = content.getBytesWritten();
+      }
+      else {
+        final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
+        m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
+        requestMessage.close();
+        final byte[] requestData = requestMessage.toByteArray();
+        nBytes = requestData.length;
+        resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      }
       try {
         // Receive the response.
         m_tunnel.interceptHttpResponse(resp, m_serviceRequest);
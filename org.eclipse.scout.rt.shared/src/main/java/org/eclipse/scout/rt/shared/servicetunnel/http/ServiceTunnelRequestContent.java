@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+
+import com.google.api.client.http.AbstractHttpContent;
+
+/**
+ * HTTP content which serializes a {@link ServiceTunnelRequest} directly into the request body while it is sent. The
+ * length is unknown in advance, hence the request is sent with chunked transfer encoding.
+ *
+ * @since 23.2
+ */
+public class ServiceTunnelRequestContent extends AbstractHttpContent {
+
+  private final IServiceTunnelContentHandler m_contentHandler;
+  private final ServiceTunnelRequest m_serviceRequest;
+  private volatile long m_bytesWritten;
+
+  public ServiceTunnelRequestContent(IServiceTunnelContentHandler contentHandler, ServiceTunnelRequest serviceRequest) {
+    super(contentHandler.getContentType());
+    m_contentHandler = contentHandler;
+    m_serviceRequest = serviceRequest;
+  }
+
+  @Override
+  public long getLength() {
+    return -1;
+  }
+
+  @Override
+  public boolean retrySupported() {
+    return false;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    P_BodyOutputStream body = new P_BodyOutputStream(out);
+    try {
+      m_contentHandler.writeRequest(body, m_serviceRequest);
+      body.flush();
+    }
+    finally {
+      m_bytesWritten = body.m_count;
+    }
+  }
+
+  /**
+   * @return number of bytes written into the request body (before transfer encoding)
+   */
+  public long getBytesWritten() {
+    return m_bytesWritten;
+  }
+
+  /**
+   * Counts the bytes written and does not close the stream of the HTTP transport, which is closed by the transport
+   * itself.
+   */
+  protected static class P_BodyOutputStream extends FilterOutputStream {
+
+    private long m_count;
+
+    public P_BodyOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      m_count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      m_count += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+}
@@ -14,6 +14,7 @@ import static org.junit.Assert.*;
 
 import java.lang.ref.WeakReference;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpSession;
@@ -38,8 +39,10 @@ import org.eclipse.scout.rt.testing.shared.TestingUtility;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.SessionStoreHousekeepingDelayProperty;
 import org.eclipse.scout.rt.ui.html.fixtures.SessionStoreTestForm;
 import org.eclipse.scout.rt.ui.html.fixtures.SessionStoreTestForm.CloseAction;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest;
 import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
 import org.hamcrest.MatcherAssert;
+import org.json.JSONObject;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -129,6 +132,72 @@ public class UiSessionTest {
     TestingUtility.assertGC(ref);
   }
 
+  @Test
+  public void testAsyncPollingTimeout() throws Exception {
+    UiSession uiSession = (UiSession) JsonTestUtility.createAndInitializeUiSession();
+    JsonTestUtility.endRequest(uiSession);
+    try {
+      CompletableFuture<Boolean> result = new CompletableFuture<>();
+      long start = System.nanoTime();
+      uiSession.waitForBackgroundJobsAsync(createPollRequest(uiSession), 1, result::complete);
+      assertTrue(result.get(10, TimeUnit.SECONDS));
+      assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(900));
+    }
+    finally {
+      uiSession.dispose();
+    }
+  }
+
+  @Test
+  public void testAsyncPollingResumedBySignal() throws Exception {
+    UiSession uiSession = (UiSession) JsonTestUtility.createAndInitializeUiSession();
+    JsonTestUtility.endRequest(uiSession);
+    try {
+      CompletableFuture<Boolean> result = new CompletableFuture<>();
+      uiSession.waitForBackgroundJobsAsync(createPollRequest(uiSession), 60, result::complete);
+
+      // nothing to respond -> request stays suspended
+      uiSession.signalPoller();
+      Thread.sleep(300);
+      assertFalse(result.isDone());
+
+      uiSession.currentJsonResponse().addActionEvent(uiSession.getUiSessionId(), "test");
+      uiSession.signalPoller();
+      assertTrue(result.get(10, TimeUnit.SECONDS));
+    }
+    finally {
+      uiSession.dispose();
+    }
+  }
+
+  @Test
+  public void testAsyncPollingSuperseded() throws Exception {
+    UiSession uiSession = (UiSession) JsonTestUtility.createAndInitializeUiSession();
+    JsonTestUtility.endRequest(uiSession);
+    try {
+      CompletableFuture<Boolean> result1 = new CompletableFuture<>();
+      CompletableFuture<Boolean> result2 = new CompletableFuture<>();
+      uiSession.waitForBackgroundJobsAsync(createPollRequest(uiSession), 60, result1::complete);
+      uiSession.waitForBackgroundJobsAsync(createPollRequest(uiSession), 60, result2::complete);
+      assertFalse(result1.get(10, TimeUnit.SECONDS));
+      assertFalse(result2.isDone());
+
+      // dispose resumes the suspended request immediately
+      uiSession.dispose();
+      assertTrue(result2.get(10, TimeUnit.SECONDS));
+    }
+    finally {
+      uiSession.dispose();
+    }
+  }
+
+  private static JsonRequest createPollRequest(IUiSession uiSession) {
+    JSONObject json = new JSONObject();
+    json.put(JsonRequest.PROP_UI_SESSION_ID, uiSession.getUiSessionId());
+    json.put(JsonRequest.PROP_POLL, true);
+    return new JsonRequest(json);
+  }
+
   @Test
   public void testLogoutWithOpenForm() throws Exception {
     doTestLogoutWithBlockingModelDisposal(CloseAction.DO_NOTHING, true, false);
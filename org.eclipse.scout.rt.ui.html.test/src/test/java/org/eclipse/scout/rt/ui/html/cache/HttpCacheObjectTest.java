@@ -9,10 +9,20 @@
  */
 package org.eclipse.scout.rt.ui.html.cache;
 
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheGzipMinSizeProperty;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.junit.Test;
 
 public class HttpCacheObjectTest {
@@ -36,4 +46,22 @@ public class HttpCacheObjectTest {
   public void testOkOk() {
     new HttpCacheObject(new HttpCacheKey(null), BinaryResources.create().build());
   }
+
+  @Test
+  public void testGzipMinSize() {
+    BinaryResource resource = BinaryResources.create()
+        .withFilename("test.txt")
+        .withContentType("text/plain ; charset=UTF-8")
+        .withContent(StringUtility.repeat("abc", 50).getBytes(StandardCharsets.UTF_8))
+        .build();
+    assertNull(new HttpCacheObject(new HttpCacheKey(null), resource).getGzipContent());
+
+    IBean<?> bean = BEANS.get(BeanTestingHelper.class).mockConfigProperty(HttpResourceCacheGzipMinSizeProperty.class, 100);
+    try {
+      assertNotNull(new HttpCacheObject(new HttpCacheKey(null), resource).getGzipContent());
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(bean);
+    }
+  }
 }
@@ -9,9 +9,17 @@
  */
 package org.eclipse.scout.rt.ui.html.cache;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.resource.FileBinaryContent;
+import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceCache;
@@ -91,4 +99,91 @@ public class HttpResourceCacheTest {
     Assert.assertNull(obj2);
   }
 
+  @Test
+  public void testPutPrecompressed() throws Exception {
+    byte[] content = createHtml(100);
+    HttpCacheObject obj = createCacheObject("/a.html", content);
+    Assert.assertTrue(rc.put(obj));
+
+    byte[] gzipContent = rc.get(new HttpCacheKey("/a.html")).getGzipContent();
+    Assert.assertNotNull(gzipContent);
+    Assert.assertTrue(gzipContent.length < content.length);
+    Assert.assertArrayEquals(content, gunzip(gzipContent));
+    Assert.assertEquals(content.length + gzipContent.length, obj.getWeight());
+  }
+
+  @Test
+  public void testNotPrecompressed() throws Exception {
+    // too small
+    Assert.assertNull(createCacheObject("/a.html", "<html></html>".getBytes(StandardCharsets.UTF_8)).getGzipContent());
+
+    // content type not compressible
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.png")
+        .withContent(createHtml(100))
+        .withCachingAllowed(true)
+        .build();
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/a.png"), res);
+    Assert.assertNull(obj.getGzipContent());
+    Assert.assertEquals(res.getContentLength(), obj.getWeight());
+  }
+
+  @Test
+  public void testWeightOfFileBackedResource() throws Exception {
+    File file = IOUtility.createTempFile("a.html", createHtml(100));
+    try {
+      BinaryResource res = BinaryResources.create()
+          .withFilename("a.html")
+          .withContent(new FileBinaryContent(file))
+          .withCachingAllowed(true)
+          .build();
+      HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/a.html"), res);
+      Assert.assertNull(obj.getGzipContent());
+      Assert.assertTrue(obj.getWeight() > 0);
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testMaxSizeEnforced() throws Exception {
+    HttpResourceCache cache = new HttpResourceCache(10_000);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertTrue(cache.put(createCacheObject("/" + i + ".html", createHtml(20 + i))));
+    }
+    Assert.assertTrue(cache.getSize() <= 10_000);
+
+    int cached = 0;
+    for (int i = 0; i < 100; i++) {
+      if (cache.get(new HttpCacheKey("/" + i + ".html")) != null) {
+        cached++;
+      }
+    }
+    Assert.assertTrue(cached > 0);
+    Assert.assertTrue(cached < 100);
+  }
+
+  protected HttpCacheObject createCacheObject(String path, byte[] content) {
+    BinaryResource res = BinaryResources.create()
+        .withFilename(path.substring(1))
+        .withContent(content)
+        .withCachingAllowed(true)
+        .build();
+    return new HttpCacheObject(new HttpCacheKey(path), res);
+  }
+
+  protected byte[] createHtml(int lines) {
+    StringBuilder sb = new StringBuilder("<html><body>");
+    for (int i = 0; i < lines; i++) {
+      sb.append("<div class=\"line\">Line ").append(i).append("</div>\n");
+    }
+    return sb.append("</body></html>").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  protected byte[] gunzip(byte[] gzipContent) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipContent))) {
+      return IOUtility.readBytes(in);
+    }
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link JsonRequestHelper}
+ *
+ * @since 23.2
+ */
+@RunWith(PlatformTestRunner.class)
+public class JsonRequestHelperTest {
+
+  @Test
+  public void testWriteSmallResponse() throws IOException {
+    JSONObject json = new JSONObject();
+    json.put("text", "ä€");
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse response = mockResponse(out);
+
+    BEANS.get(JsonRequestHelper.class).writeResponse(response, json);
+
+    byte[] expected = json.toString().getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expected, out.getContent());
+    verify(response).setContentLength(expected.length);
+    verify(response).setContentType("application/json");
+  }
+
+  @Test
+  public void testWriteLargeResponseStreamed() throws IOException {
+    JSONObject json = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 5000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", i);
+      row.put("text", "row " + i + " ä€");
+      rows.put(row);
+    }
+    json.put("rows", rows);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse response = mockResponse(out);
+
+    BEANS.get(JsonRequestHelper.class).writeResponse(response, json);
+
+    assertEquals(json.toString(), new String(out.getContent(), StandardCharsets.UTF_8));
+    verify(response, never()).setContentLength(anyInt());
+  }
+
+  @Test
+  public void testWriteLargeResponseSerializationFails() throws IOException {
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 5000; i++) {
+      rows.put("row " + i);
+    }
+    rows.put(new Object() {
+      @Override
+      public String toString() {
+        throw new IllegalStateException("expected JUnit test exception");
+      }
+    });
+    JSONObject json = new JSONObject();
+    json.put("rows", rows);
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    HttpServletResponse response = mockResponse(out);
+    AtomicBoolean committed = new AtomicBoolean();
+    when(response.isCommitted()).thenAnswer(invocation -> committed.get());
+    doAnswer(invocation -> {
+      committed.set(true);
+      return null;
+    }).when(response).flushBuffer();
+
+    JsonRequestHelper helper = BEANS.get(JsonRequestHelper.class);
+    assertThrows(IllegalStateException.class, () -> helper.writeResponse(response, json));
+
+    // parts of the response were sent, the response is committed
+    verify(response).flushBuffer();
+    byte[] partialContent = out.getContent();
+    assertTrue(partialContent.length > JsonRequestHelper.RESPONSE_BUFFER_SIZE);
+
+    // the error response of the caller is not appended to the incomplete response
+    helper.writeResponse(response, helper.createUnrecoverableFailureResponse());
+    assertArrayEquals(partialContent, out.getContent());
+  }
+
+  protected HttpServletResponse mockResponse(BufferedServletOutputStream out) throws IOException {
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    when(response.getOutputStream()).thenReturn(out);
+    return response;
+  }
+}
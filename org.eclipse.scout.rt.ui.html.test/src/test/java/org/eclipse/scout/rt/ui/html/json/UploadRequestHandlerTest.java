@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,6 +32,7 @@ import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.resource.FileBinaryContent;
 import org.eclipse.scout.rt.platform.security.MalwareScanner;
 import org.eclipse.scout.rt.platform.security.RejectedResourceException;
 import org.eclipse.scout.rt.platform.util.HexUtility;
@@ -151,6 +153,81 @@ public class UploadRequestHandlerTest {
     }
   }
 
+  @Test
+  public void testSpillLargeFile() throws IOException, FileUploadException, MessagingException {
+    BeanTestingHelper testingHelper = BEANS.get(BeanTestingHelper.class);
+    List<IBean<?>> mocked = new ArrayList<>();
+    mocked.add(testingHelper.mockConfigProperty(UiHtmlConfigProperties.UploadSpillThresholdProperty.class, 16));
+    IUploadable uploadable = () -> 1000000;
+    Map<String, String> props = new HashMap<>();
+    List<BinaryResource> result = new ArrayList<>();
+    String largeText = "Lorem ipsum dolor sit amet, consectetur adipiscing elit";
+
+    try {
+      new UploadRequestHandler().readUploadData(createUploadRequest("small", largeText), uploadable, props, result);
+    }
+    finally {
+      testingHelper.unregisterBeans(mocked);
+    }
+
+    Assert.assertEquals(2, result.size());
+    Assert.assertTrue(result.get(0).hasContentInMemory());
+    Assert.assertEquals("small", result.get(0).getContentAsString());
+
+    BinaryResource spilled = result.get(1);
+    Assert.assertFalse(spilled.hasContentInMemory());
+    Assert.assertTrue(spilled.getBinaryContent() instanceof FileBinaryContent);
+    Assert.assertEquals(largeText.length(), spilled.getContentLengthLong());
+    Assert.assertEquals(largeText, spilled.getContentAsString());
+    Assert.assertEquals("text/plain", spilled.getContentType());
+    ((FileBinaryContent) spilled.getBinaryContent()).delete();
+  }
+
+  @Test
+  public void testSpilledFileDeletedWhenLaterFileRejected() throws IOException, FileUploadException, MessagingException {
+    BeanTestingHelper testingHelper = BEANS.get(BeanTestingHelper.class);
+    List<IBean<?>> mocked = new ArrayList<>();
+    mocked.add(testingHelper.mockConfigProperty(UiHtmlConfigProperties.UploadSpillThresholdProperty.class, 16));
+    IUploadable uploadable = () -> 1000000;
+    List<BinaryResource> result = new ArrayList<>();
+    String largeText = "Lorem ipsum dolor sit amet, consectetur adipiscing elit";
+    UploadRequestHandler handler = new UploadRequestHandler() {
+      @Override
+      protected void verifyFileName(Set<String> validFileExtensions, String filename, String ext) {
+        if ("file1.txt".equals(filename)) {
+          throw new RejectedResourceException("rejected");
+        }
+      }
+    };
+
+    try {
+      handler.readUploadData(createUploadRequest(largeText, "rejected"), uploadable, new HashMap<>(), result);
+      Assert.fail("must fail");
+    }
+    catch (RejectedResourceException e) {
+      //expected
+    }
+    finally {
+      testingHelper.unregisterBeans(mocked);
+    }
+
+    Assert.assertEquals(1, result.size());
+    File spilledFile = ((FileBinaryContent) result.get(0).getBinaryContent()).getFile();
+    Assert.assertFalse(spilledFile.exists());
+  }
+
+  private static HttpServletRequest createUploadRequest(String... fileContents) throws MessagingException, IOException {
+    MimeMultipart multipart = new MimeMultipart("form-data");
+    for (int i = 0; i < fileContents.length; i++) {
+      MimeBodyPart filePart = new MimeBodyPart();
+      filePart.setDisposition("form-data; name=\"files\"");
+      filePart.setFileName("file" + i + ".txt");
+      filePart.setText(fileContents[i]);
+      multipart.addBodyPart(filePart);
+    }
+    return toRequest(multipart);
+  }
+
   private static HttpServletRequest createUploadRequest(int fileCount) throws MessagingException, IOException {
     MimeMultipart multipart = new MimeMultipart("form-data");
 
@@ -167,6 +244,10 @@ public class UploadRequestHandlerTest {
       multipart.addBodyPart(filePart);
     }
 
+    return toRequest(multipart);
+  }
+
+  private static HttpServletRequest toRequest(MimeMultipart multipart) throws MessagingException, IOException {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
     multipart.writeTo(out);
 
@@ -14,6 +14,7 @@ import static org.junit.Assert.*;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -1621,6 +1622,135 @@ public class JsonTableTest {
         .anyMatch(p -> "columnStructureChanged".equals(p.getType())));
   }
 
+  @Test
+  public void testViewportToJson() throws JSONException {
+    Table table = createTableFixture(1000);
+    table.setViewportEnabled(true);
+    ITableRow selectedRow = table.getRow(500);
+    table.selectRow(selectedRow);
+
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+
+    int initialRowCount = jsonTable.getViewportInitialRowCount();
+    assertEquals(1000, json.getInt(JsonTable.PROP_VIEWPORT_ROW_COUNT));
+    assertEquals(initialRowCount + 1, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    JSONArray rowIndexes = json.getJSONArray(JsonTable.PROP_VIEWPORT_ROW_INDEXES);
+    assertEquals(initialRowCount + 1, rowIndexes.length());
+    assertEquals(0, rowIndexes.getInt(0));
+    assertEquals(500, rowIndexes.getInt(initialRowCount));
+    assertEquals(initialRowCount + 1, jsonTable.tableRowIdsMap().size());
+    assertEquals(jsonTable.getTableRowId(selectedRow), json.getJSONArray(JsonTable.PROP_SELECTED_ROWS).getString(0));
+  }
+
+  @Test
+  public void testViewportRowsRequested() throws JSONException {
+    Table table = createTableFixture(1000);
+    table.setViewportEnabled(true);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+
+    jsonTable.handleUiEvent(createJsonViewportRowsRequestedEvent(200, 250));
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), JsonTable.EVENT_VIEWPORT_ROWS_LOADED);
+    assertEquals(1, responseEvents.size());
+    JSONArray jsonRows = responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+    JSONArray rowIndexes = responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_VIEWPORT_ROW_INDEXES);
+    assertEquals(50, jsonRows.length());
+    assertEquals(200, rowIndexes.getInt(0));
+    assertEquals(249, rowIndexes.getInt(49));
+    assertEquals(jsonTable.getTableRowId(table.getRow(200)), jsonRows.getJSONObject(0).getString("id"));
+
+    // Rows already sent are not sent again
+    JsonTestUtility.endRequest(m_uiSession);
+    jsonTable.handleUiEvent(createJsonViewportRowsRequestedEvent(240, 2000));
+    responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), JsonTable.EVENT_VIEWPORT_ROWS_LOADED);
+    assertEquals(1, responseEvents.size());
+    rowIndexes = responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_VIEWPORT_ROW_INDEXES);
+    assertEquals(750, rowIndexes.length());
+    assertEquals(250, rowIndexes.getInt(0));
+  }
+
+  @Test
+  public void testViewportResetOnRowOrderChanged() throws JSONException {
+    Table table = createTableFixture(1000);
+    table.setViewportEnabled(true);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    jsonTable.handleUiEvent(createJsonViewportRowsRequestedEvent(300, 330));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    ITableRow lastRow = table.getRow(999);
+    List<ITableRow> reversedRows = new ArrayList<>(table.getRows());
+    Collections.reverse(reversedRows);
+    table.sort(reversedRows);
+    table.deleteRow(table.getRow(1));
+    table.selectRow(lastRow);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    JsonResponse response = m_uiSession.currentJsonResponse();
+    assertEquals(0, JsonTestUtility.extractEventsFromResponse(response, "rowOrderChanged").size());
+    assertEquals(0, JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_DELETED).size());
+    assertEquals(0, JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_SELECTED).size());
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_VIEWPORT_RESET);
+    assertEquals(1, responseEvents.size());
+    JSONObject data = responseEvents.get(0).getData();
+    assertEquals(999, data.getInt(JsonTable.PROP_VIEWPORT_ROW_COUNT));
+    // Last requested range and the selected row, which is the first row now
+    JSONArray rowIndexes = data.getJSONArray(JsonTable.PROP_VIEWPORT_ROW_INDEXES);
+    assertEquals(31, rowIndexes.length());
+    assertEquals(300, rowIndexes.getInt(0));
+    assertEquals(0, rowIndexes.getInt(30));
+    assertEquals(jsonTable.getTableRowId(lastRow), data.getJSONArray(JsonTable.PROP_SELECTED_ROWS).getString(0));
+    assertEquals(31, jsonTable.tableRowIdsMap().size());
+  }
+
+  @Test
+  public void testViewportRowsKeptUntilRowStructureChanged() throws JSONException {
+    Table table = createTableFixture(1000);
+    table.setViewportEnabled(true);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    List<ITableRow> viewportRows = jsonTable.getViewportRows();
+
+    jsonTable.handleUiEvent(createJsonViewportRowsRequestedEvent(200, 250));
+    jsonTable.handleUiEvent(createJsonViewportRowsRequestedEvent(500, 550));
+    table.selectRow(table.getRow(800));
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    assertSame(viewportRows, jsonTable.getViewportRows());
+
+    table.deleteRow(table.getRow(1));
+    assertNotSame(viewportRows, jsonTable.getViewportRows());
+    assertEquals(999, jsonTable.getViewportRows().size());
+    assertEquals(Integer.valueOf(998), jsonTable.getViewportRowIndexes().get(table.getRow(998)));
+  }
+
+  @Test
+  public void testViewportRowsUpdated() throws JSONException {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(1000);
+    table.init();
+    table.setViewportEnabled(true);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    ITableRow sentRow = table.getRow(1);
+    ITableRow unsentRow = table.getRow(800);
+    table.getColumnSet().getColumn(0).setValue(sentRow, "updated");
+    table.getColumnSet().getColumn(0).setValue(unsentRow, "updated");
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_UPDATED);
+    assertEquals(1, responseEvents.size());
+    JSONArray jsonRows = responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+    assertEquals(1, jsonRows.length());
+    assertEquals(jsonTable.getTableRowId(sentRow), jsonRows.getJSONObject(0).getString("id"));
+    assertNull(jsonTable.getTableRowId(unsentRow));
+  }
+
   public static Table createTableFixture(int numRows) {
     Table table = new Table();
     table.fill(numRows);
@@ -1660,6 +1790,14 @@ public class JsonTableTest {
     return new JsonEvent(tableId, JsonTable.EVENT_FILTER, data);
   }
 
+  public static JsonEvent createJsonViewportRowsRequestedEvent(int from, int to) throws JSONException {
+    String tableId = "x"; // never used
+    JSONObject data = new JSONObject();
+    data.put(JsonTable.PROP_FROM, from);
+    data.put(JsonTable.PROP_TO, to);
+    return new JsonEvent(tableId, JsonTable.EVENT_VIEWPORT_ROWS_REQUESTED, data);
+  }
+
   public static JsonEvent createJsonColumnMovedEvent(String columnId, int index) throws JSONException {
     String tableId = "x"; // never used
     JSONObject data = new JSONObject();
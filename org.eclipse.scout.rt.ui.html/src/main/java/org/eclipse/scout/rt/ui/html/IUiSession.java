@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import javax.security.auth.Subject;
 import javax.servlet.http.HttpServletRequest;
@@ -205,6 +206,31 @@ public interface IUiSession {
    */
   void waitForBackgroundJobs(JsonRequest jsonRequest, int pollWaitSeconds) throws InterruptedException;
 
+  /**
+   * Non-blocking variant of {@link #waitForBackgroundJobs(JsonRequest, int)}: returns immediately and invokes the given
+   * callback exactly once, when a model job started by a background job has terminated or the wait time elapsed
+   * (argument <code>true</code>), or when the request was superseded by another poll request (argument
+   * <code>false</code>, no response must be sent). The callback is invoked by an arbitrary thread, without the
+   * run context of the caller.
+   * <p>
+   * The default implementation falls back to {@link #waitForBackgroundJobs(JsonRequest, int)} and therefore blocks the
+   * current thread. A request superseded by another poll request is recognized by the interruption of the waiting
+   * thread.
+   *
+   * @since 23.2
+   */
+  default void waitForBackgroundJobsAsync(JsonRequest jsonRequest, int pollWaitSeconds, Consumer<Boolean> callback) {
+    boolean respond;
+    try {
+      waitForBackgroundJobs(jsonRequest, pollWaitSeconds);
+      respond = true;
+    }
+    catch (InterruptedException e) { // NOSONAR
+      respond = false;
+    }
+    callback.accept(respond);
+  }
+
   /**
    * Sends a "localeChanged" event to the UI. All locale-relevant data (number formats, texts map etc.) is sent along.
    */
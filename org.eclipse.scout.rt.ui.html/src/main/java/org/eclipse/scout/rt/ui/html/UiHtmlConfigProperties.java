@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
@@ -119,6 +120,26 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  public static class BackgroundPollingAsyncProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the polling request is suspended (servlet async processing) instead of blocking a container thread while it waits for a background job to complete.\n"
+          + "Requires that the UI servlet and all filters in front of it are registered with async support (<async-supported>true</async-supported> in the web.xml). Otherwise the polling request blocks as before.\n"
+          + "The default value is false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.backgroundPollingAsync";
+    }
+  }
+
   public static class UiModelJobsAwaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
@@ -175,4 +196,42 @@ public final class UiHtmlConfigProperties {
       return "scout.ui.maxUploadFileCount";
     }
   }
+
+  public static class UploadSpillThresholdProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1024 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Uploaded files larger than this number of bytes are written to a temporary file instead of being kept in memory.\n"
+          + "By default this property is set to 1 MB.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.uploadSpillThreshold";
+    }
+  }
+
+  public static class TableViewportRowCountProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 100;
+    }
+
+    @Override
+    public String description() {
+      return "Number of rows sent to the browser when a table in viewport mode is displayed or its rows are reset. Further rows are requested by the browser while scrolling.\n"
+          + "By default this property is set to 100.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.tableViewportRowCount";
+    }
+  }
 }
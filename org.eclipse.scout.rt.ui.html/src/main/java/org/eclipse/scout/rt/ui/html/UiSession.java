@@ -20,8 +20,10 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javax.security.auth.Subject;
@@ -149,6 +151,7 @@ public class UiSession implements IUiSession {
   private volatile IRegistrationHandle m_uiDataAvailableListener;
   private volatile long m_lastAccessedTime;
   private volatile RunMonitor m_pollerMonitor;
+  private volatile P_AsyncPoller m_asyncPoller;
   private volatile boolean m_persistent;
 
   public UiSession() {
@@ -1193,11 +1196,16 @@ public class UiSession implements IUiSession {
     // If another poller is currently blocking, interrupt it. This ensures that max. 1 polling
     // request is waiting for background jobs at the same time (relevant when the UI reconnects
     // after being offline).
+    P_AsyncPoller previousAsyncPoller;
     synchronized (m_pollerQueueLock) {
       if (m_pollerMonitor != null) {
         m_pollerMonitor.cancel(true);
       }
       m_pollerMonitor = RunMonitor.CURRENT.get();
+      previousAsyncPoller = m_asyncPoller;
+    }
+    if (previousAsyncPoller != null) {
+      previousAsyncPoller.resume(false);
     }
 
     if (isAlreadyProcessed(jsonRequest)) {
@@ -1244,17 +1252,66 @@ public class UiSession implements IUiSession {
     LOG.trace("Background job terminated. Continue request processing...");
   }
 
+  @Override
+  public void waitForBackgroundJobsAsync(JsonRequest jsonRequest, int pollWaitSeconds, Consumer<Boolean> callback) {
+    // Same as in waitForBackgroundJobs(): max. 1 polling request is waiting for background jobs at the same time.
+    P_AsyncPoller poller = new P_AsyncPoller(callback, System.currentTimeMillis() + pollWaitSeconds * 1000L);
+    P_AsyncPoller previousAsyncPoller;
+    boolean alreadyProcessed = isAlreadyProcessed(jsonRequest);
+    synchronized (m_pollerQueueLock) {
+      if (m_pollerMonitor != null) {
+        m_pollerMonitor.cancel(true);
+      }
+      previousAsyncPoller = m_asyncPoller;
+      m_asyncPoller = alreadyProcessed ? null : poller;
+    }
+    if (previousAsyncPoller != null) {
+      previousAsyncPoller.resume(false);
+    }
+
+    if (alreadyProcessed) {
+      // Don't wait if request was already processed (simply return the previous response --> processJsonRequest)
+      callback.accept(Boolean.TRUE);
+      return;
+    }
+
+    LOG.trace("Suspend poll request for max. {} seconds until background job terminates or wait timeout occurs...", pollWaitSeconds);
+    poller.scheduleTimeout();
+    // A token put into the queue before the poller was registered must not get lost (see signalPoller)
+    if (m_pollerQueue.poll() != null || m_disposed) {
+      poller.signal();
+    }
+  }
+
   /**
    * Signals the 'poll-request' to return to the UI. This method never blocks.
    * <p>
    * Internally, a notification token is put into the poller-queue. If a thread is waiting, it will wake up. If no
    * thread is waiting, the token remains in the queue, and the next thread that polls the queue will get the token
    * immediately. If the queue is full (i.e. there is already a token in the queue), this method does nothing.
+   * <p>
+   * If a poll-request is suspended (see {@link #waitForBackgroundJobsAsync(JsonRequest, int, Consumer)}), the token is
+   * taken from the queue again and the suspended request is resumed instead.
    */
   @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   protected void signalPoller() {
     //noinspection ResultOfMethodCallIgnored
     m_pollerQueue.offer(m_notificationToken);
+    P_AsyncPoller asyncPoller = m_asyncPoller;
+    if (asyncPoller != null && m_pollerQueue.poll() != null) {
+      asyncPoller.signal();
+    }
+  }
+
+  /**
+   * Schedules the given runnable to resume a suspended poll-request. The runnable is executed by a job manager thread
+   * after the given delay, no thread is blocked while waiting.
+   */
+  protected IFuture<Void> schedulePollerResume(Runnable runnable, long delayMillis) {
+    return Jobs.schedule(runnable::run, Jobs.newInput()
+        .withName("Resuming poll request [uiSessionId={}]", m_uiSessionId)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(Math.max(0, delayMillis), TimeUnit.MILLISECONDS)));
   }
 
   @Override
@@ -1387,6 +1444,69 @@ public class UiSession implements IUiSession {
     return sessionStore.getUiSession(uiSessionId);
   }
 
+  /**
+   * A poll-request which is suspended until a background job terminates or the poll wait time elapses, see
+   * {@link UiSession#waitForBackgroundJobsAsync(JsonRequest, int, Consumer)}.
+   */
+  private final class P_AsyncPoller {
+
+    private final Consumer<Boolean> m_callback;
+    private final long m_deadline;
+    private final AtomicBoolean m_done = new AtomicBoolean();
+    private volatile IFuture<Void> m_timeoutFuture;
+
+    private P_AsyncPoller(Consumer<Boolean> callback, long deadline) {
+      m_callback = callback;
+      m_deadline = deadline;
+    }
+
+    private void scheduleTimeout() {
+      m_timeoutFuture = schedulePollerResume(() -> resume(true), m_deadline - System.currentTimeMillis());
+    }
+
+    /**
+     * Same conditions as the wait loop in {@link UiSession#waitForBackgroundJobs(JsonRequest, int)}.
+     */
+    private void signal() {
+      if (m_done.get()) {
+        return;
+      }
+      if (m_disposed) {
+        resume(true);
+        return;
+      }
+      long pollWait = m_deadline - System.currentTimeMillis();
+      JsonResponse currentJsonResponse = m_currentJsonResponse;
+      if (pollWait >= 100 && (currentJsonResponse == null || currentJsonResponse.isEmpty())) {
+        LOG.trace("Background job terminated, but there is nothing to respond. Keep poll request suspended for max. {} ms.", pollWait);
+        return;
+      }
+      // Wait a short additional time to allow some sort of "coalescing background job result".
+      schedulePollerResume(() -> resume(true), ADDITIONAL_POLLING_DELAY);
+    }
+
+    /**
+     * @param respond
+     *          <code>false</code> if the poll-request was superseded by another one and must not send a response
+     */
+    private void resume(boolean respond) {
+      if (!m_done.compareAndSet(false, true)) {
+        return;
+      }
+      synchronized (m_pollerQueueLock) {
+        if (m_asyncPoller == this) {
+          m_asyncPoller = null;
+        }
+      }
+      IFuture<Void> timeoutFuture = m_timeoutFuture;
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+      LOG.trace("Resume poll request [respond={}]", respond);
+      m_callback.accept(respond);
+    }
+  }
+
   private static class P_RootAdapter extends AbstractJsonAdapter<Object> {
 
     public P_RootAdapter(IUiSession uiSession) {
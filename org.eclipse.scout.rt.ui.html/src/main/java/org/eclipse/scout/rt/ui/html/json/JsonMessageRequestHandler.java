@@ -10,8 +10,13 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -23,6 +28,7 @@ import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationVersionProperty;
+import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.PlatformError;
@@ -34,6 +40,7 @@ import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.HttpSessionHelper;
 import org.eclipse.scout.rt.ui.html.ISessionStore;
 import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingAsyncProperty;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
 import org.eclipse.scout.rt.ui.html.UiServlet;
@@ -50,9 +57,15 @@ import org.slf4j.LoggerFactory;
 @Order(4500)
 public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
   private static final Logger LOG = LoggerFactory.getLogger(JsonMessageRequestHandler.class);
+  /**
+   * Additional time [ms] before the container times out a suspended poll request. Regularly, the UI session resumes it
+   * after the poll wait time.
+   */
+  private static final long ASYNC_POLL_TIMEOUT_GRACE_PERIOD = TimeUnit.SECONDS.toMillis(30);
 
   private final int m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class).intValue();
   private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
+  private final boolean m_asyncPolling = CONFIG.getPropertyValue(BackgroundPollingAsyncProperty.class).booleanValue();
 
   private final HttpSessionHelper m_httpSessionHelper = BEANS.get(HttpSessionHelper.class);
   private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
@@ -170,39 +183,61 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
         throw new IllegalStateException("Unexpected request type: " + jsonRequest.getRequestType());
     }
 
-    // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock"
     if (jsonRequest.getRequestType() == RequestType.POLL_REQUEST) {
+      if (isAsyncPolling(httpServletRequest)) {
+        // Suspend the request instead of blocking the current thread
+        handleAsyncPollRequest(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
+        return;
+      }
       // Block for a certain time
       boolean success = handlePollRequest(uiSession, jsonRequest);
       if (!success) {
         return; // Interrupted while waiting -> return immediately without sending a response
       }
-      // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
-      // by some other thread, there is no reason to wait for it, because the other thread will already send
-      // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
-      // because the poller-induced "heart beat" mechanism would stop. Therefore, if the lock cannot be acquired,
-      // an empty response is sent back to the UI.
-      if (!uiSession.uiSessionLock().tryLock()) {
-        writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createEmptyResponse());
-        return;
-      }
+      handlePollResponse(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
+      return;
     }
-    else {
-      uiSession.uiSessionLock().lock(); // NOSONAR
+
+    // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock"
+    uiSession.uiSessionLock().lock(); // NOSONAR
+    try {
+      handleEventsOrUiSessionDisposed(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
+    }
+    finally {
+      uiSession.uiSessionLock().unlock();
+    }
+  }
+
+  /**
+   * Sends the response of a poll request, after the UI session has waited for background jobs.
+   */
+  protected void handlePollResponse(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws IOException {
+    // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
+    // by some other thread, there is no reason to wait for it, because the other thread will already send
+    // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
+    // because the poller-induced "heart beat" mechanism would stop. Therefore, if the lock cannot be acquired,
+    // an empty response is sent back to the UI.
+    if (!uiSession.uiSessionLock().tryLock()) {
+      writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createEmptyResponse());
+      return;
     }
     try {
-      if (uiSession.isDisposed()) {
-        handleUiSessionDisposed(httpServletResponse, uiSession, jsonRequest);
-      }
-      else {
-        handleEvents(httpServletRequest, httpServletResponse, uiSession, jsonRequest);
-      }
+      handleEventsOrUiSessionDisposed(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
     }
     finally {
       uiSession.uiSessionLock().unlock();
     }
   }
 
+  protected void handleEventsOrUiSessionDisposed(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws IOException {
+    if (uiSession.isDisposed()) {
+      handleUiSessionDisposed(httpServletResponse, uiSession, jsonRequest);
+    }
+    else {
+      handleEvents(httpServletRequest, httpServletResponse, uiSession, jsonRequest);
+    }
+  }
+
   protected void handleEvents(HttpServletRequest req, HttpServletResponse resp, IUiSession uiSession, JsonRequest jsonReq) throws IOException {
     JSONObject jsonResp = uiSession.processJsonRequest(req, resp, jsonReq);
     if (jsonResp == null) {
@@ -286,13 +321,8 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
    * @return <code>true</code> if the request is still valid after polling and response should be sent back to the UI.
    *         <code>false</code> when the polling was interrupted and the processing should be stopped immediately.
    */
-  @SuppressWarnings("UnnecessaryLocalVariable")
   protected boolean handlePollRequest(IUiSession uiSession, JsonRequest jsonRequest) {
-    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
-    int maxIdle = m_maxUserIdleTime;
-    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
-    // because that might trigger many very short polling calls until the ui session is really disposed.
-    int pollWait = Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+    int pollWait = getPollWaitSeconds(uiSession);
     LOG.debug("Polling begin for {} seconds", pollWait);
     // Blocks the current thread until:
     // - a model job terminates
@@ -313,6 +343,103 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
     return true;
   }
 
+  /**
+   * @return number of seconds a poll request waits for background jobs
+   */
+  @SuppressWarnings("UnnecessaryLocalVariable")
+  protected int getPollWaitSeconds(IUiSession uiSession) {
+    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+    int maxIdle = m_maxUserIdleTime;
+    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
+    // because that might trigger many very short polling calls until the ui session is really disposed.
+    return Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+  }
+
+  /**
+   * @return <code>true</code> if poll requests are suspended using servlet async processing, see
+   *         {@link BackgroundPollingAsyncProperty}
+   */
+  protected boolean isAsyncPolling(HttpServletRequest req) {
+    return m_asyncPolling && req.isAsyncSupported();
+  }
+
+  /**
+   * Suspends the poll request until the UI session signals that a model job terminated or the poll wait time elapsed.
+   * No container thread is held while waiting. The response is written by a container thread in the run context of the
+   * current thread (see {@link AsyncContext#start(Runnable)}).
+   */
+  protected void handleAsyncPollRequest(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
+    int pollWait = getPollWaitSeconds(uiSession);
+    LOG.debug("Async polling begin for {} seconds", pollWait);
+    final long startNanos = System.nanoTime();
+    final RunContext runContext = RunContexts.copyCurrent();
+    final AtomicBoolean completed = new AtomicBoolean();
+    final AsyncContext asyncContext = httpServletRequest.startAsync(httpServletRequest, httpServletResponse);
+    asyncContext.setTimeout(TimeUnit.SECONDS.toMillis(pollWait) + ASYNC_POLL_TIMEOUT_GRACE_PERIOD);
+    asyncContext.addListener(new AsyncListener() {
+      @Override
+      public void onTimeout(AsyncEvent event) {
+        if (completed.compareAndSet(false, true)) {
+          LOG.warn("Suspended poll request was not resumed in time, sending empty response [uiSessionId={}]", uiSession.getUiSessionId());
+          try {
+            writeJsonResponse(event.getSuppliedResponse(), m_jsonRequestHelper.createEmptyResponse());
+          }
+          catch (IOException e) {
+            LOG.debug("Failed to write empty response", e);
+          }
+          asyncContext.complete();
+        }
+      }
+
+      @Override
+      public void onError(AsyncEvent event) {
+        // e.g. client closed the connection
+        completed.set(true);
+      }
+
+      @Override
+      public void onComplete(AsyncEvent event) {
+        // NOP
+      }
+
+      @Override
+      public void onStartAsync(AsyncEvent event) {
+        // NOP
+      }
+    });
+
+    uiSession.waitForBackgroundJobsAsync(jsonRequest, pollWait, respond -> {
+      if (completed.get()) {
+        return;
+      }
+      asyncContext.start(() -> {
+        if (!completed.compareAndSet(false, true)) {
+          return;
+        }
+        try {
+          if (LOG.isDebugEnabled()) {
+            LOG.debug("Async polling end after {} ms [respond={}]", StringUtility.formatNanos(System.nanoTime() - startNanos), respond);
+          }
+          if (respond) {
+            runContext.run(() -> handlePollResponse(uiSession, jsonRequest, httpServletRequest, httpServletResponse), DefaultExceptionTranslator.class);
+          }
+        }
+        catch (Exception | PlatformError e) {
+          LOG.error("Unexpected error while processing JSON poll request", e);
+          try {
+            writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createUnrecoverableFailureResponse());
+          }
+          catch (IOException ioe) {
+            LOG.debug("Failed to write error response", ioe);
+          }
+        }
+        finally {
+          asyncContext.complete();
+        }
+      });
+    });
+  }
+
   protected void handleSessionTimeout(HttpServletResponse resp, JsonRequest jsonReq) throws IOException {
     LOG.info("Request cannot be processed due to UI session timeout [id={}]", jsonReq.getUiSessionId());
     writeJsonResponse(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
@@ -10,7 +10,10 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +44,12 @@ public class JsonRequestHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(JsonRequestHelper.class);
 
+  /**
+   * Responses up to this number of bytes are buffered completely, so that the content length can be set. Larger
+   * responses are streamed. This is also the size of the character buffer used for serialization.
+   */
+  protected static final int RESPONSE_BUFFER_SIZE = 8192;
+
   /**
    * @return {@link JSONObject} to indicate that an unrecoverable failure occurred.
    */
@@ -144,11 +153,20 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON is encoded as UTF-8 directly into the output stream of the response, i.e. neither the JSON string nor its
+   * bytes are held in memory as a whole. Only small responses (see {@link #RESPONSE_BUFFER_SIZE}) are buffered
+   * completely in order to set the content length.
+   * <p>
+   * If the serialization of a larger response fails, parts of it may already be sent to the client. In this case the
+   * response is committed and left incomplete, and the exception is thrown. Nothing is written into a committed
+   * response, so that the error response of the caller is not appended to the incomplete response.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
+    if (servletResponse.isCommitted()) {
+      LOG.warn("Response is already committed, JSON response is discarded");
+      return;
+    }
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -157,8 +175,11 @@ public class JsonRequestHelper {
     // Clear the current thread's interruption status before writing the response to the output stream.
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
+    P_ResponseOutputStream out = new P_ResponseOutputStream(servletResponse, RESPONSE_BUFFER_SIZE);
     try {
-      servletResponse.getOutputStream().write(data);
+      Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+      jsonResponse.write(writer, RESPONSE_BUFFER_SIZE);
+      out.close(); // not in finally: a buffered response is discarded if the serialization fails
     }
     catch (final Exception e) {
       if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
@@ -166,13 +187,16 @@ public class JsonRequestHelper {
         LOG.debug("Connection Error: ", e);
         return;
       }
+      if (out.isStreaming()) {
+        abortResponse(servletResponse);
+      }
       throw e;
     }
     finally {
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
@@ -293,4 +317,73 @@ public class JsonRequestHelper {
     }
     return "[" + CollectionUtility.format(types) + "]";
   }
+
+  /**
+   * Commits a response of which parts were already written, so that no other content (e.g. an error response) is
+   * written into it anymore (see {@link #writeResponse(ServletResponse, JSONObject)}).
+   */
+  protected void abortResponse(ServletResponse servletResponse) {
+    try {
+      servletResponse.flushBuffer();
+    }
+    catch (IOException e) {
+      LOG.debug("Failed to commit aborted response", e);
+    }
+  }
+
+  /**
+   * Output stream which buffers the first bytes of a response. If the response fits into the buffer, the content length
+   * is set on {@link #close()}. Otherwise, the buffer and all subsequent bytes are written to the output stream of the
+   * servlet response. The output stream of the servlet response is never closed.
+   */
+  private static class P_ResponseOutputStream extends OutputStream {
+
+    private final ServletResponse m_servletResponse;
+    private byte[] m_buf;
+    private int m_count;
+    private OutputStream m_target;
+
+    P_ResponseOutputStream(ServletResponse servletResponse, int bufferSize) {
+      m_servletResponse = servletResponse;
+      m_buf = new byte[bufferSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (m_target == null) {
+        if (m_count + len <= m_buf.length) {
+          System.arraycopy(b, off, m_buf, m_count, len);
+          m_count += len;
+          return;
+        }
+        // response does not fit into the buffer: stream it without content length
+        m_target = m_servletResponse.getOutputStream();
+        m_target.write(m_buf, 0, m_count);
+        m_buf = null;
+      }
+      m_target.write(b, off, len);
+    }
+
+    /**
+     * @return <code>true</code> if the response did not fit into the buffer and parts of it were already written to the
+     *         servlet response
+     */
+    boolean isStreaming() {
+      return m_target != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (m_target == null && m_buf != null) {
+        m_servletResponse.setContentLength(m_count);
+        m_servletResponse.getOutputStream().write(m_buf, 0, m_count);
+        m_buf = null;
+      }
+    }
+  }
 }
@@ -11,7 +11,10 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -44,18 +47,19 @@ import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.resource.FileBinaryContent;
 import org.eclipse.scout.rt.platform.resource.MimeTypes;
 import org.eclipse.scout.rt.platform.security.MalwareScanner;
 import org.eclipse.scout.rt.platform.security.RejectedResourceException;
 import org.eclipse.scout.rt.platform.security.UnsafeResourceException;
 import org.eclipse.scout.rt.platform.util.FileUtility;
 import org.eclipse.scout.rt.platform.util.HexUtility;
-import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.UploadSpillThresholdProperty;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.UiSession;
 import org.eclipse.scout.rt.ui.html.logging.IUiRunContextDiagnostics;
@@ -78,6 +82,11 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
    */
   private static final String EMPTY_UPLOAD_FILENAME = "*empty*";
 
+  /**
+   * Number of bytes passed to {@link #detectContentType(String, FileItemStream, byte[])}.
+   */
+  protected static final int CONTENT_SNIFF_LENGTH = 4096;
+
   private static final Pattern PATTERN_UPLOAD_ADAPTER_RESOURCE_PATH = Pattern.compile("^/upload/([^/]*)/([^/]*)$");
 
   public static final Set<String> DEFAULT_VALID_FILE_EXTENSIONS = Stream.of("avi", "bmp", "docx", "dotx", "gif", "html", "jpg", "jpeg", "log", "m2v", "mkv", "mov", "mp3", "mp4", "mpg", "m4p", "oga", "ogv", "pdf", "png", "potx", "ppsx",
@@ -179,6 +188,9 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
         //continue
       }
       if (uiSession.isDisposed()) {
+        if (uploadResources != null) {
+          uploadResources.forEach(this::deleteSpilledContent);
+        }
         writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createSessionTimeoutResponse());
         return;
       }
@@ -218,56 +230,105 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
     Set<String> validFileExtensions = getValidFileExtensionsFor(uploadable, uploadProperties);
     ServletFileUpload upload = new ServletFileUpload();
     upload.setHeaderEncoding(StandardCharsets.UTF_8.name());
+    // both limits are enforced while streaming, i.e. before an oversized part is read completely
     upload.setSizeMax(uploadable.getMaximumUploadSize());
+    upload.setFileSizeMax(uploadable.getMaximumUploadSize());
     upload.setFileCountMax(CONFIG.getPropertyValue(UiHtmlConfigProperties.MaxUploadFileCountProperty.class));
-    int fileCount = 0;
-    for (FileItemIterator it = upload.getItemIterator(httpReq); it.hasNext();) {
-      fileCount++;
-      //the first entry in an upload multipart is typically a "rowId" entry. be tolerant with one more file.
-      if (upload.getFileCountMax() > 0 && (fileCount - 1) > upload.getFileCountMax()) {
-        throw new RejectedResourceException("Too many files ({}).", fileCount);
-      }
-      FileItemStream item = it.next();
-      String filename = item.getName();
-      if (StringUtility.hasText(filename)) {
-        String[] parts = StringUtility.split(filename, "[/\\\\]");
-        filename = parts[parts.length - 1];
-      }
-      if (EMPTY_UPLOAD_FILENAME.equals(filename)) {
-        filename = null;
-      }
-      if (StringUtility.hasText(filename)) {
-        String ext = FileUtility.getFileExtension(filename);
-        if (ext != null) {
-          ext = ext.toLowerCase(Locale.ROOT);
+    try {
+      int fileCount = 0;
+      for (FileItemIterator it = upload.getItemIterator(httpReq); it.hasNext();) {
+        fileCount++;
+        //the first entry in an upload multipart is typically a "rowId" entry. be tolerant with one more file.
+        if (upload.getFileCountMax() > 0 && (fileCount - 1) > upload.getFileCountMax()) {
+          throw new RejectedResourceException("Too many files ({}).", fileCount);
+        }
+        FileItemStream item = it.next();
+        String filename = item.getName();
+        if (StringUtility.hasText(filename)) {
+          String[] parts = StringUtility.split(filename, "[/\\\\]");
+          filename = parts[parts.length - 1];
+        }
+        if (EMPTY_UPLOAD_FILENAME.equals(filename)) {
+          filename = null;
+        }
+        if (StringUtility.hasText(filename)) {
+          String ext = FileUtility.getFileExtension(filename);
+          if (ext != null) {
+            ext = ext.toLowerCase(Locale.ROOT);
+          }
+          verifyFileName(validFileExtensions, filename, ext);
+        }
+        BinaryResource res = readUploadItem(item, filename);
+        try {
+          verifyFileSafety(res);
+          verifyFileIntegrity(res);
+        }
+        catch (RuntimeException e) {
+          deleteSpilledContent(res);
+          throw e;
+        }
+
+        if (item.isFormField()) {
+          // Handle non-file fields (interpreted as properties)
+          String name = item.getFieldName();
+          uploadProperties.put(name, res.getContentAsString());
+        }
+        else {
+          // Handle files
+          // Info: we cannot set the charset property for uploaded files here, because we simply don't know it.
+          // the only thing we could do is to guess the charset (encoding) by reading the byte contents of
+          // uploaded text files (for binary file types the encoding is not relevant). However: currently we
+          // do not set the charset at all.
+          uploadResources.add(res);
         }
-        verifyFileName(validFileExtensions, filename, ext);
-      }
-      byte[] content;
-      try (InputStream in = item.openStream()) {
-        content = IOUtility.readBytes(in);
       }
-      BinaryResource res = BinaryResources.create()
+    }
+    catch (FileUploadException | IOException | RuntimeException e) {
+      // the parts read so far are not passed on, thus their temporary files are deleted as well
+      uploadResources.forEach(this::deleteSpilledContent);
+      throw e;
+    }
+  }
+
+  /**
+   * Reads an uploaded part. Up to {@link UploadSpillThresholdProperty} bytes are kept in memory, a larger file is
+   * written to a temporary file while it is received. The temporary file is deleted as soon as the resource is no
+   * longer referenced. Form fields are always kept in memory.
+   */
+  protected BinaryResource readUploadItem(FileItemStream item, String filename) throws IOException {
+    int threshold = CONFIG.getPropertyValue(UploadSpillThresholdProperty.class);
+    try (InputStream in = item.openStream()) {
+      byte[] head = item.isFormField() ? in.readAllBytes() : in.readNBytes(threshold);
+      BinaryResources builder = BinaryResources.create()
           .withFilename(filename)
-          .withContentType(detectContentType(filename, item, content))
-          .withContent(content)
-          .build();
-      verifyFileSafety(res);
-      verifyFileIntegrity(res);
-
-      if (item.isFormField()) {
-        // Handle non-file fields (interpreted as properties)
-        String name = item.getFieldName();
-        uploadProperties.put(name, new String(content, StandardCharsets.UTF_8));
+          .withContentType(detectContentType(filename, item, head.length > CONTENT_SNIFF_LENGTH ? Arrays.copyOf(head, CONTENT_SNIFF_LENGTH) : head));
+
+      int next = item.isFormField() || head.length < threshold ? -1 : in.read();
+      if (next < 0) {
+        return builder.withContent(head).build();
       }
-      else {
-        // Handle files
-        // Info: we cannot set the charset property for uploaded files here, because we simply don't know it.
-        // the only thing we could do is to guess the charset (encoding) by reading the byte contents of
-        // uploaded text files (for binary file types the encoding is not relevant). However: currently we
-        // do not set the charset at all.
-        uploadResources.add(res);
+
+      Path file = Files.createTempFile("scout-upload", ".tmp");
+      FileBinaryContent content = new FileBinaryContent(file.toFile(), true);
+      try (OutputStream out = Files.newOutputStream(file)) {
+        out.write(head);
+        out.write(next);
+        in.transferTo(out);
       }
+      catch (IOException | RuntimeException e) {
+        content.delete();
+        throw e;
+      }
+      return builder.withContent(content).build();
+    }
+  }
+
+  /**
+   * Deletes the temporary file of a rejected or dropped upload immediately.
+   */
+  protected void deleteSpilledContent(BinaryResource res) {
+    if (res.getBinaryContent() instanceof FileBinaryContent) {
+      ((FileBinaryContent) res.getBinaryContent()).delete();
     }
   }
 
@@ -278,7 +339,8 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
    * be derived from the file-extension in the constructor of {@link BinaryResource}. Otherwise, the content type sent
    * with the uploaded file is used.
    * <p>
-   * The content is passed as well to allow for a custom content type detection logic.
+   * The first bytes of the content (at most {@link #CONTENT_SNIFF_LENGTH}) are passed as well to allow for a custom
+   * content type detection logic.
    */
   protected String detectContentType(String filename, FileItemStream item, byte[] content) {
     if (filename != null) {
@@ -376,7 +438,7 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
    */
   protected void verifyFileIntegrity(BinaryResource res) {
     if (!MimeTypes.verifyMagic(res)) {
-      byte[] content = res.getContent();
+      byte[] content = res.getContentPrefix(8);
       String header = (content == null || content.length == 0) ? "" : HexUtility.encode(Arrays.copyOfRange(content, 0, Math.min(8, content.length)));
       String message = "File '{}' has content header '{}' which does not match its extension.";
       LOG.info(message, res.getFilename(), header);
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.ui.html.json.table;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -50,6 +51,7 @@ import org.eclipse.scout.rt.client.ui.dnd.TextTransferObject;
 import org.eclipse.scout.rt.client.ui.dnd.TransferObject;
 import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.status.IStatus;
@@ -61,6 +63,7 @@ import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.security.CopyToClipboardPermission;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableViewportRowCountProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonWidget;
 import org.eclipse.scout.rt.ui.html.json.FilteredJsonAdapterIds;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
@@ -127,6 +130,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_VIEWPORT_ROWS_REQUESTED = "viewportRowsRequested";
+  public static final String EVENT_VIEWPORT_ROWS_LOADED = "viewportRowsLoaded";
+  public static final String EVENT_VIEWPORT_RESET = "viewportReset";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -139,6 +145,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  public static final String PROP_VIEWPORT_ROW_COUNT = "viewportRowCount";
+  public static final String PROP_VIEWPORT_ROW_INDEXES = "viewportRowIndexes";
+  public static final String PROP_FROM = "from";
+  public static final String PROP_TO = "to";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -150,6 +160,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final BinaryResourceMediator m_binaryResourceMediator;
   private final JsonTableListeners m_listeners = new JsonTableListeners();
+  private int m_viewportFrom;
+  private int m_viewportTo;
+  private List<ITableRow> m_viewportRows;
+  private Map<ITableRow, Integer> m_viewportRowIndexes;
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -442,6 +456,12 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
         return getModel().isTextFilterEnabled();
       }
     });
+    putJsonProperty(new JsonProperty<ITable>(ITable.PROP_VIEWPORT_ENABLED, model) {
+      @Override
+      protected Boolean modelValue() {
+        return getModel().isViewportEnabled();
+      }
+    });
   }
 
   @Override
@@ -454,6 +474,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void attachRows() {
+    if (isViewportEnabled()) {
+      // Rows get their id when they are sent to the UI, see viewportRowsToJson
+      return;
+    }
     List<ITableRow> rows = getModel().getRows();
     for (ITableRow row : rows) {
       if (isRowAccepted(row)) {
@@ -550,6 +574,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
     m_tableListener = new P_TableListener();
     getModel().addUITableListener(m_tableListener);
+    // the rows may have changed while detached
+    invalidateViewportRows();
   }
 
   @Override
@@ -567,7 +593,16 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    if (isViewportEnabled()) {
+      List<ITableRow> viewportRows = getViewportRows();
+      JSONObject jsonViewport = viewportRowsToJson(viewportRows, 0, getViewportInitialRowCount(), getModel().getSelectedRows(), new HashSet<>());
+      json.put(PROP_VIEWPORT_ROW_COUNT, viewportRows.size());
+      json.put(PROP_ROWS, jsonViewport.get(PROP_ROWS));
+      json.put(PROP_VIEWPORT_ROW_INDEXES, jsonViewport.get(PROP_VIEWPORT_ROW_INDEXES));
+    }
+    else {
+      json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    }
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
     if (getModel().getUserFilterManager() != null) {
@@ -660,6 +695,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
+    else if (EVENT_VIEWPORT_ROWS_REQUESTED.equals(event.getType())) {
+      handleUiViewportRowsRequested(event);
+    }
     else {
       super.handleUiEvent(event);
     }
@@ -1011,6 +1049,129 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  protected void handleUiViewportRowsRequested(JsonEvent event) {
+    if (!isViewportEnabled()) {
+      return;
+    }
+    List<ITableRow> viewportRows = getViewportRows();
+    int from = Math.max(event.getData().getInt(PROP_FROM), 0);
+    int to = Math.min(event.getData().getInt(PROP_TO), viewportRows.size());
+    if (from >= to) {
+      return;
+    }
+    m_viewportFrom = from;
+    m_viewportTo = to;
+    sendViewportRows(viewportRows, from, to, Collections.emptyList());
+  }
+
+  /**
+   * @return {@code true} if only the rows in the visible range of the UI are sent instead of all rows, see
+   *         {@link ITable#isViewportEnabled()}
+   */
+  protected boolean isViewportEnabled() {
+    return getModel().isViewportEnabled();
+  }
+
+  /**
+   * @return number of rows sent when the table is displayed or its rows are reset in viewport mode
+   */
+  protected int getViewportInitialRowCount() {
+    return CONFIG.getPropertyValue(TableViewportRowCountProperty.class);
+  }
+
+  /**
+   * @return the accepted rows in model order. In viewport mode, the UI addresses the rows by their index in this list.
+   *         The list is kept until the row structure of the model changes, see {@link #invalidateViewportRows()}.
+   */
+  protected List<ITableRow> getViewportRows() {
+    if (m_viewportRows == null) {
+      m_viewportRows = getModel().getRows().stream()
+          .filter(this::isRowAccepted)
+          .collect(Collectors.toList());
+    }
+    return m_viewportRows;
+  }
+
+  /**
+   * @return the index of each row in {@link #getViewportRows()}
+   */
+  protected Map<ITableRow, Integer> getViewportRowIndexes() {
+    if (m_viewportRowIndexes == null) {
+      List<ITableRow> viewportRows = getViewportRows();
+      Map<ITableRow, Integer> viewportRowIndexes = new HashMap<>(viewportRows.size() * 4 / 3 + 1);
+      for (int i = 0; i < viewportRows.size(); i++) {
+        viewportRowIndexes.put(viewportRows.get(i), i);
+      }
+      m_viewportRowIndexes = viewportRowIndexes;
+    }
+    return m_viewportRowIndexes;
+  }
+
+  /**
+   * Drops the cached {@link #getViewportRows()}. Called for every model event changing the row structure, see
+   * {@link #isViewportResetEvent(TableEvent)}.
+   */
+  protected void invalidateViewportRows() {
+    m_viewportRows = null;
+    m_viewportRowIndexes = null;
+  }
+
+  /**
+   * Converts the rows in the range [from, to) and the additional rows to JSON, except the ones already sent to the UI.
+   * Because the UI only knows some of the rows, the index of each row is sent as well (property
+   * {@link #PROP_VIEWPORT_ROW_INDEXES}).
+   */
+  protected JSONObject viewportRowsToJson(List<ITableRow> viewportRows, int from, int to, Collection<ITableRow> additionalRows, Set<ITableRow> sentRows) {
+    JSONArray jsonRows = new JSONArray();
+    JSONArray jsonRowIndexes = new JSONArray();
+    to = Math.min(to, viewportRows.size());
+    for (int i = Math.max(from, 0); i < to; i++) {
+      ITableRow row = viewportRows.get(i);
+      if (getTableRowId(row) == null) {
+        jsonRows.put(tableRowToJson(row));
+        jsonRowIndexes.put(i);
+        sentRows.add(row);
+      }
+    }
+    if (!additionalRows.isEmpty()) {
+      Map<ITableRow, Integer> viewportRowIndexes = getViewportRowIndexes();
+      for (ITableRow row : additionalRows) {
+        Integer index = viewportRowIndexes.get(row);
+        if (index != null && getTableRowId(row) == null && sentRows.add(row)) {
+          jsonRows.put(tableRowToJson(row));
+          jsonRowIndexes.put(index);
+        }
+      }
+    }
+    JSONObject json = new JSONObject();
+    putProperty(json, PROP_ROWS, jsonRows);
+    putProperty(json, PROP_VIEWPORT_ROW_INDEXES, jsonRowIndexes);
+    return json;
+  }
+
+  /**
+   * Sends the rows in the range [from, to) and the additional rows, unless the UI already knows them.
+   */
+  protected void sendViewportRows(List<ITableRow> viewportRows, int from, int to, Collection<ITableRow> additionalRows) {
+    Set<ITableRow> sentRows = new HashSet<>();
+    JSONObject jsonEvent = viewportRowsToJson(viewportRows, from, to, additionalRows, sentRows);
+    if (sentRows.isEmpty()) {
+      return;
+    }
+    addActionEvent(EVENT_VIEWPORT_ROWS_LOADED, jsonEvent);
+    m_listeners.fireEvent(new JsonTableEvent(this, JsonTableEvent.TYPE_ROWS_INSERTED, sentRows));
+  }
+
+  /**
+   * Makes sure the given rows are known to the UI before they are referenced by an event.
+   */
+  protected void ensureViewportRowsSent(Collection<ITableRow> rows) {
+    if (rows.stream().filter(this::isRowAccepted).allMatch(row -> getTableRowId(row) != null)) {
+      return;
+    }
+    sendViewportRows(getViewportRows(), 0, 0, rows);
+  }
+
   protected JSONObject tableRowToJson(ITableRow row) {
     JSONArray jsonCells = new JSONArray();
     for (IColumn<?> column : getModel().getColumnSet().getColumns()) {
@@ -1226,6 +1387,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelTableEvent(TableEvent event) {
+    if (isViewportResetEvent(event)) {
+      invalidateViewportRows();
+    }
     event = m_tableEventFilter.filter(event);
     if (event == null) {
       return;
@@ -1354,6 +1518,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     if (m_eventBuffer.isEmpty()) {
       return;
     }
+    if (isViewportEnabled()) {
+      processBufferedViewportEvents();
+      return;
+    }
     preprocessBufferedEvents();
     List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
     for (TableEvent event : coalescedEvents) {
@@ -1361,6 +1529,100 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * In viewport mode, every change of the row structure (insertion, deletion, order or filter change) resets the rows
+   * of the UI instead of being sent as is. The other row events only reference rows the UI already knows.
+   */
+  protected void processBufferedViewportEvents() {
+    List<TableEvent> bufferInternal = m_eventBuffer.getBufferInternal();
+    boolean reset = bufferInternal.stream().anyMatch(this::isViewportResetEvent);
+    if (reset) {
+      // The reset sends the current state of the rows and the selection
+      bufferInternal.removeIf(event -> isViewportResetEvent(event) || isViewportRowStateEvent(event));
+    }
+    List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
+    if (reset) {
+      // The rows sent by the reset depend on the columns
+      coalescedEvents.stream()
+          .filter(event -> event.getType() == TableEvent.TYPE_COLUMN_STRUCTURE_CHANGED)
+          .forEach(this::processEvent);
+      handleModelViewportReset();
+      coalescedEvents.removeIf(event -> event.getType() == TableEvent.TYPE_COLUMN_STRUCTURE_CHANGED);
+    }
+    for (TableEvent event : coalescedEvents) {
+      processViewportEvent(event);
+    }
+  }
+
+  protected boolean isViewportResetEvent(TableEvent event) {
+    switch (event.getType()) {
+      case TableEvent.TYPE_ROWS_INSERTED:
+      case TableEvent.TYPE_ROWS_DELETED:
+      case TableEvent.TYPE_ALL_ROWS_DELETED:
+      case TableEvent.TYPE_ROW_ORDER_CHANGED:
+      case TableEvent.TYPE_ROW_FILTER_CHANGED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  protected boolean isViewportRowStateEvent(TableEvent event) {
+    switch (event.getType()) {
+      case TableEvent.TYPE_ROWS_UPDATED:
+      case TableEvent.TYPE_ROWS_CHECKED:
+      case TableEvent.TYPE_ROWS_EXPANDED:
+      case TableEvent.TYPE_ROWS_SELECTED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  protected void processViewportEvent(TableEvent event) {
+    switch (event.getType()) {
+      case TableEvent.TYPE_ROWS_UPDATED:
+      case TableEvent.TYPE_ROWS_CHECKED:
+      case TableEvent.TYPE_ROWS_EXPANDED: {
+        // Rows unknown to the UI are sent with their current state once they are requested
+        List<ITableRow> sentRows = event.getRows().stream()
+            .filter(row -> getTableRowId(row) != null)
+            .collect(Collectors.toList());
+        if (!sentRows.isEmpty()) {
+          processEvent(new TableEvent(getModel(), event.getType(), sentRows));
+        }
+        break;
+      }
+      case TableEvent.TYPE_ROWS_SELECTED:
+      case TableEvent.TYPE_REQUEST_FOCUS_IN_CELL:
+        ensureViewportRowsSent(event.getRows());
+        processEvent(event);
+        break;
+      default:
+        processEvent(event);
+    }
+  }
+
+  /**
+   * Replaces the rows of the UI by the rows of the last requested range and the selected rows.
+   */
+  protected void handleModelViewportReset() {
+    Collection<ITableRow> disposedRows = new ArrayList<>(m_tableRows.values());
+    disposeAllRows();
+    m_listeners.fireEvent(new JsonTableEvent(this, JsonTableEvent.TYPE_ROWS_DELETED, disposedRows));
+
+    List<ITableRow> viewportRows = getViewportRows();
+    int from = m_viewportFrom;
+    int to = m_viewportTo > from ? m_viewportTo : from + getViewportInitialRowCount();
+    Set<ITableRow> sentRows = new HashSet<>();
+    List<ITableRow> selectedRows = getModel().getSelectedRows();
+    JSONObject jsonEvent = viewportRowsToJson(viewportRows, from, to, selectedRows, sentRows);
+    putProperty(jsonEvent, PROP_VIEWPORT_ROW_COUNT, viewportRows.size());
+    putProperty(jsonEvent, PROP_SELECTED_ROWS, rowIdsToJson(selectedRows));
+    addActionEvent(EVENT_VIEWPORT_RESET, jsonEvent);
+    m_listeners.fireEvent(new JsonTableEvent(this, JsonTableEvent.TYPE_ROWS_INSERTED, sentRows));
+  }
+
   protected void processEvent(TableEvent event) {
     switch (event.getType()) {
       case TableEvent.TYPE_ROWS_INSERTED:
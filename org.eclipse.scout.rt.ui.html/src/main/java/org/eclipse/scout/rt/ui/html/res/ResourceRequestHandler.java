@@ -27,6 +27,7 @@ import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
@@ -45,6 +46,7 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
 
   public static final String INDEX_HTML = "/index.html";
   public static final String URL_PARAM_CLEAR_CACHE = "clearCache";
+  public static final String HTTP_HEADER_VARY = "Vary";
 
   // Remember bean instances to save lookups on each GET request
   private final List<ResourceLoaders> m_resourceLoaders = Collections.unmodifiableList(BEANS.all(ResourceLoaders.class));
@@ -84,11 +86,31 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
     // Apply response interceptors
     cachedObject.applyHttpResponseInterceptors(req, resp);
 
+    // Serve the precompressed variant if available, the gzip filter passes it through unchanged
+    byte[] gzipContent = UrlHints.isCompressHint(req) ? cachedObject.getGzipContent() : null;
+    if (gzipContent != null) {
+      resp.addHeader(HTTP_HEADER_VARY, GzipServletFilter.ACCEPT_ENCODING);
+      if (acceptsGzipEncoding(req)) {
+        resp.setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+        resp.setContentLength(gzipContent.length);
+        if (!"HEAD".equals(req.getMethod())) {
+          resp.getOutputStream().write(gzipContent);
+        }
+        return;
+      }
+    }
+
     if (!"HEAD".equals(req.getMethod())) {
-      resp.getOutputStream().write(binaryResource.getContent());
+      // streams file backed resources without loading them into memory
+      binaryResource.writeContentTo(resp.getOutputStream());
     }
   }
 
+  protected boolean acceptsGzipEncoding(HttpServletRequest req) {
+    String acceptEncoding = req.getHeader(GzipServletFilter.ACCEPT_ENCODING);
+    return acceptEncoding != null && acceptEncoding.contains(GzipServletFilter.GZIP);
+  }
+
   /**
    * Clear global cache (only allowed in development mode). This allows to work with ?cache=true and clears the cache
    * only when required --> rebuilds script/less files.
@@ -155,7 +177,10 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
    */
   protected void setHttpResponseHeaders(HttpServletResponse resp, BinaryResource resource) {
     // content-length
-    resp.setContentLength(resource.getContentLength());
+    long contentLength = resource.getContentLengthLong();
+    if (contentLength >= 0) {
+      resp.setContentLengthLong(contentLength);
+    }
 
     // charset
     String charset = resource.getCharset();
@@ -74,8 +74,8 @@ public class TextsLoader extends AbstractResourceLoader {
       }
     }
 
-    // Create a binary resource
-    byte[] content = jsonTexts.toString(2).getBytes(StandardCharsets.UTF_8);
+    // Create a binary resource (compact json, the resource is cached and served with a precomputed gzip variant)
+    byte[] content = jsonTexts.toString().getBytes(StandardCharsets.UTF_8);
     return BinaryResources.create()
         .withFilename(pathInfo)
         .withCharset(StandardCharsets.UTF_8)